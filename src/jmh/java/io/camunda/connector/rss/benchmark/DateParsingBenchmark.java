@@ -0,0 +1,84 @@
+package io.camunda.connector.rss.benchmark;
+
+import com.rometools.rome.io.impl.DateParser;
+import io.camunda.connector.rss.date.FeedDateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feed date parsing with the connector's parser versus ROME's DateParser and java.time formatters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    private static final String RFC822 = "Mon, 15 Jan 2024 10:30:00 GMT";
+    private static final String ISO = "2024-01-15T10:30:00.123Z";
+    private static final String BROKEN = "January 15, 2024 10:30 AM";
+    private static final String FEED = "https://example.com/feed.xml";
+
+    private final FeedDateParser parser = new FeedDateParser();
+
+    @Benchmark
+    public long rfc822FeedDateParser() {
+        return parser.parse(RFC822, FEED);
+    }
+
+    @Benchmark
+    public Date rfc822Rome() {
+        return DateParser.parseDate(RFC822, Locale.US);
+    }
+
+    @Benchmark
+    public long rfc822DateTimeFormatter() {
+        return ZonedDateTime.parse(RFC822, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    @Benchmark
+    public long isoFeedDateParser() {
+        return parser.parse(ISO, FEED);
+    }
+
+    @Benchmark
+    public Date isoRome() {
+        return DateParser.parseDate(ISO, Locale.US);
+    }
+
+    @Benchmark
+    public long isoInstantParse() {
+        return Instant.parse(ISO).toEpochMilli();
+    }
+
+    @Benchmark
+    public long brokenFeedDateParserCached() {
+        return parser.parse(BROKEN, "https://example.com/broken.xml");
+    }
+
+    @Benchmark
+    public long brokenFeedDateParserUncached() {
+        return parser.parse(BROKEN);
+    }
+
+    @Benchmark
+    public Date brokenRome() {
+        return DateParser.parseDate(BROKEN, Locale.US);
+    }
+}
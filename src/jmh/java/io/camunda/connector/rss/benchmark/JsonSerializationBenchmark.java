@@ -0,0 +1,105 @@
+package io.camunda.connector.rss.benchmark;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.camunda.connector.rss.dto.RssEnclosure;
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import io.camunda.connector.rss.json.RssItemStreamWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written versus reflective Jackson (de)serialization of the connector DTOs with a 100-item output
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper handWrittenMapper;
+    private ObjectMapper reflectiveMapper;
+    private RssFeedOutput output;
+    private String inputJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        handWrittenMapper = new ObjectMapper();
+        reflectiveMapper = JsonMapper.builder().disable(MapperFeature.USE_ANNOTATIONS).build();
+        output = createOutput(100);
+
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setMaxItems(100);
+        input.setNewerThan("2024-01-01T00:00:00Z");
+        input.setGuidBlacklist(List.of("urn:episode:1", "urn:episode:2", "urn:episode:3"));
+        inputJson = reflectiveMapper.writeValueAsString(input);
+    }
+
+    @Benchmark
+    public byte[] serializeOutputHandWritten() throws IOException {
+        return handWrittenMapper.writeValueAsBytes(output);
+    }
+
+    @Benchmark
+    public byte[] serializeOutputReflective() throws IOException {
+        return reflectiveMapper.writeValueAsBytes(output);
+    }
+
+    @Benchmark
+    public int serializeOutputStreaming() throws IOException {
+        return RssItemStreamWriter.writeOutput(OutputStream.nullOutputStream(), output, output.getItems().iterator());
+    }
+
+    @Benchmark
+    public RssFeedInput bindInputHandWritten() throws IOException {
+        return handWrittenMapper.readValue(inputJson, RssFeedInput.class);
+    }
+
+    @Benchmark
+    public RssFeedInput bindInputReflective() throws IOException {
+        return reflectiveMapper.readValue(inputJson, RssFeedInput.class);
+    }
+
+    private static RssFeedOutput createOutput(int itemCount) {
+        RssFeedOutput output = new RssFeedOutput();
+        output.setFeedTitle("Benchmark Feed");
+        output.setFeedDescription("Feed used for serialization benchmarks");
+        output.setFeedLink("https://example.com");
+        output.setFeedLanguage("en");
+        List<RssItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            RssItem item = new RssItem();
+            item.setTitle("Episode " + i + ": a reasonably long headline for a news item");
+            item.setDescription("Summary of episode " + i + " with a couple of sentences of text. ".repeat(3));
+            item.setLink("https://example.com/episodes/" + i);
+            item.setGuid("urn:episode:" + i);
+            item.setPubDate("2024-01-15T10:30:00Z");
+            item.setAuthor("Jane Doe");
+            item.setCategories(List.of("News", "Technology", "Podcasts"));
+            item.setEnclosures(List.of(new RssEnclosure("https://cdn.example.com/" + i + ".mp3", "audio/mpeg", 12_345_678L)));
+            item.setContent("<p>" + "Full text content paragraph. ".repeat(40) + "</p>");
+            items.add(item);
+        }
+        output.setItems(items);
+        return output;
+    }
+}
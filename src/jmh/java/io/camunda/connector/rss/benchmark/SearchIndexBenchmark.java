@@ -0,0 +1,101 @@
+package io.camunda.connector.rss.benchmark;
+
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import io.camunda.connector.rss.search.FullTextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexing throughput and query latency of the archive search index over synthetic items
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final String FEED = "https://example.com/feed.xml";
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"100000"})
+    private int documents;
+
+    private final List<CompactItem> items = new ArrayList<>();
+    private FullTextIndex searchIndex;
+    private FullTextIndex index = new FullTextIndex();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "w" + Integer.toString(i, 36) + "x";
+        }
+        for (int i = 0; i < documents; i++) {
+            items.add(CompactItem.of(text(random, words, 8), text(random, words, 60), "https://example.com/" + i,
+                    "guid-" + i, i * 60_000L, null, null, null, null, null, StringPool.SHARED));
+        }
+        searchIndex = new FullTextIndex();
+        for (int i = 0; i < documents; i++) {
+            searchIndex.add(i, FEED, items.get(i));
+        }
+    }
+
+    /**
+     * Time to index one item, about 70 words
+     */
+    @Benchmark
+    public FullTextIndex indexItem() {
+        if (next == documents) {
+            index = new FullTextIndex();
+            next = 0;
+        }
+        index.add(next, FEED, items.get(next++));
+        return index;
+    }
+
+    @Benchmark
+    public List<FullTextIndex.Hit> searchRareTerms() {
+        return search("w4fxx w9k2x");
+    }
+
+    @Benchmark
+    public List<FullTextIndex.Hit> searchCommonTerms() {
+        return search("w1x w2x w3x");
+    }
+
+    private List<FullTextIndex.Hit> search(String query) {
+        return searchIndex.search(query, null, 10);
+    }
+
+    /**
+     * Zipf-like word choice, so a few words are common and most are rare
+     */
+    private static String text(Random random, String[] words, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.min(words.length - 1, Math.exp(random.nextDouble() * Math.log(words.length)) - 1);
+            text.append(words[rank]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -1,11 +1,23 @@
 package io.camunda.connector.rss;
 
 import io.camunda.connector.api.annotation.OutboundConnector;
+import io.camunda.connector.api.outbound.JobContext;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.rss.admin.ConnectorAdmin;
 import io.camunda.connector.rss.dto.RssFeedInput;
 import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.schedule.FetchScheduler;
+import io.camunda.connector.rss.service.EnvironmentConfig;
 import io.camunda.connector.rss.service.RssFeedService;
+import io.camunda.connector.rss.service.Tracing;
+import io.camunda.connector.rss.storage.DocumentStores;
+import io.camunda.connector.rss.storage.OutputSpiller;
+import io.camunda.connector.rss.warmup.ConnectorWarmup;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,27 +32,69 @@ import org.slf4j.LoggerFactory;
  * - Configurable maximum items to fetch
  * - Optional authentication (Basic or Bearer)
  * - SSL/TLS configuration
- * - Filtering by timestamp or GUID blacklist
+ * - Filtering by timestamp, GUID blacklist, keywords or categories
  * - Rate limiting and error handling
+ * - Paged and archived feed traversal (RFC 5005)
+ * - Delta output of new, updated and removed items with conditional requests
+ * - Merging of several feeds with cross-feed deduplication
+ * - Parallel fetching of all feeds of an OPML subscription list
+ * - Spilling of large item payloads to a document store
+ * - Local archive of fetched items with time-range queries and full-text search
+ * - Stale-while-revalidate and stale-if-error serving from a feed cache
+ * - Hedged requests for feeds whose responses occasionally stall
+ * - Connect and read timeouts adapted to each host's observed latency
+ * - Adaptive per-host concurrency limits with a bounded wait queue
+ * - Fair, prioritized scheduling of fetches across tenants or processes
+ * - Probing of missing enclosure types and lengths
+ * - Streaming, resumable download of enclosures to local files
+ * - Dedicated RSS 2.0, Atom and JSON Feed readers, with ROME for all other formats
+ * - OpenTelemetry tracing of each job and fetch, continuing the W3C trace context of the process
+ * - Stats snapshot and JMX MBean of the HTTP clients, per-host limits and latencies
  */
 @OutboundConnector(
     name = "RSS Feed Connector",
-    inputVariables = {"feedUrl", "maxItems", "authType", "authToken", "ignoreTls", "newerThan", "guidBlacklist"},
+    inputVariables = {"operation", "feedUrl", "maxItems", "authType", "authToken", "ignoreTls", "newerThan", "guidBlacklist",
+        "outputMode", "spillThresholdBytes", "feedUrls", "deduplicate",
+        "includeKeywords", "excludeKeywords", "includeCategories", "excludeCategories",
+        "archiveFrom", "archiveTo", "query", "followPages", "maxPages",
+        "delta", "includeRemoved", "snapshotKey", "opml", "opmlUrl", "maxConcurrency", "perHostConcurrency",
+        "deadlineSeconds", "cacheMaxAgeSeconds", "staleWhileRevalidateSeconds", "staleIfErrorSeconds",
+        "hedge", "adaptiveTimeouts", "priority", "probeEnclosures", "probeBudgetSeconds",
+        "downloadBytesPerSecond", "traceparent"},
     type = "io.camunda:rss-feed:1"
 )
 public class RssFeedConnector implements OutboundConnectorFunction {
 
     private static final Logger LOG = LoggerFactory.getLogger(RssFeedConnector.class);
     
+    static final String OPERATION_FETCH = "fetch";
+    static final String OPERATION_FETCH_OPML = "fetchOpml";
+    static final String OPERATION_QUERY_ARCHIVE = "queryArchive";
+    static final String OPERATION_SEARCH_ARCHIVE = "searchArchive";
+    static final String OPERATION_DOWNLOAD_ENCLOSURES = "downloadEnclosures";
+    
+    // Fetches are queued fairly per tenant, or per process with RSS_CONNECTOR_SCHEDULING_KEY=process
+    static final String SCHEDULING_KEY = EnvironmentConfig.getString("RSS_CONNECTOR_SCHEDULING_KEY", "tenant");
+    static final String DEFAULT_SCHEDULING_KEY = "<default>";
+    
     private final RssFeedService rssFeedService;
+    private final Tracer tracer;
     
     public RssFeedConnector() {
-        this.rssFeedService = new RssFeedService();
+        this(new RssFeedService());
+        // Instantiated by the runtime at registration: prepare for the first job in the background
+        ConnectorWarmup.startInBackground(rssFeedService);
+        ConnectorAdmin.registerFromEnvironment();
     }
     
     // Constructor for testing
     public RssFeedConnector(RssFeedService rssFeedService) {
+        this(rssFeedService, Tracing.tracer());
+    }
+    
+    public RssFeedConnector(RssFeedService rssFeedService, Tracer tracer) {
         this.rssFeedService = rssFeedService;
+        this.tracer = tracer;
     }
 
     @Override
@@ -50,23 +104,119 @@ public class RssFeedConnector implements OutboundConnectorFunction {
         // Parse input from context using bindVariables for Camunda 8.8.1
         RssFeedInput input = context.bindVariables(RssFeedInput.class);
         
+        // The job's span continues the process's trace and ties the fetch spans and logs to the process instance
+        Span span = tracer.spanBuilder("rss.job").setParent(Tracing.parentContext(input.getTraceparent())).startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            tagJob(span, context.getJobContext(), input);
+            RssFeedOutput output = executeOperation(context, input);
+            span.setAttribute("rss.items", output.getTotalItems());
+            if (output.getError() != null) {
+                span.setStatus(StatusCode.ERROR, output.getError());
+            }
+            return output;
+        } catch (Exception e) {
+            Tracing.recordFailure(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+    
+    private RssFeedOutput executeOperation(OutboundConnectorContext context, RssFeedInput input) throws Exception {
         // Validate input
         validateInput(input);
         
-        // Execute RSS feed fetching
-        RssFeedOutput output = rssFeedService.fetchRssFeed(input);
+        // Execute RSS feed fetching, merging additional feeds if configured, or query or search the local archive
+        RssFeedOutput output;
+        if (OPERATION_QUERY_ARCHIVE.equals(input.getOperation())) {
+            output = rssFeedService.queryArchive(input);
+        } else if (OPERATION_SEARCH_ARCHIVE.equals(input.getOperation())) {
+            output = rssFeedService.searchArchive(input);
+        } else {
+            // Requests to the publishers wait for the tenant's fair share, archive queries are local and run at once
+            String schedulingKey = schedulingKey(context);
+            if (OPERATION_FETCH_OPML.equals(input.getOperation())) {
+                output = rssFeedService.fetchOpml(input, schedulingKey);
+            } else if (OPERATION_DOWNLOAD_ENCLOSURES.equals(input.getOperation())) {
+                output = rssFeedService.downloadEnclosures(input, schedulingKey);
+            } else {
+                output = rssFeedService.fetchMergedFeeds(input, schedulingKey);
+            }
+            if (Boolean.TRUE.equals(input.getProbeEnclosures())) {
+                output = rssFeedService.probeEnclosures(output, input);
+            }
+        }
+        
+        // Move large item payloads out of the process variables if requested
+        output = new OutputSpiller(DocumentStores.fromEnvironment(context)).apply(output, input);
         
-        LOG.info("RSS Feed Connector execution completed successfully. Fetched {} items", 
-                output.getItems() != null ? output.getItems().size() : 0);
+        LOG.info("RSS Feed Connector execution completed successfully. Fetched {} items", output.getTotalItems());
         
         return output;
     }
     
+    private static void tagJob(Span span, JobContext job, RssFeedInput input) {
+        span.setAttribute("rss.operation", input.getOperation() != null ? input.getOperation() : OPERATION_FETCH);
+        if (span.isRecording() && job != null) {
+            span.setAttribute("camunda.process_instance_key", job.getProcessInstanceKey())
+                .setAttribute("camunda.bpmn_process_id", job.getBpmnProcessId())
+                .setAttribute("camunda.element_id", job.getElementId())
+                .setAttribute("camunda.element_instance_key", job.getElementInstanceKey())
+                .setAttribute("camunda.tenant_id", job.getTenantId());
+        }
+    }
+    
+    private static String schedulingKey(OutboundConnectorContext context) {
+        JobContext job = context.getJobContext();
+        if (job == null) {
+            return DEFAULT_SCHEDULING_KEY;
+        }
+        String key = "process".equals(SCHEDULING_KEY) ? job.getBpmnProcessId() : job.getTenantId();
+        return key != null && !key.isEmpty() ? key : DEFAULT_SCHEDULING_KEY;
+    }
+    
     private void validateInput(RssFeedInput input) {
-        if (input.getFeedUrl() == null || input.getFeedUrl().trim().isEmpty()) {
+        if (input.getOperation() != null && !input.getOperation().equals(OPERATION_FETCH) &&
+            !input.getOperation().equals(OPERATION_FETCH_OPML) && !input.getOperation().equals(OPERATION_QUERY_ARCHIVE) &&
+            !input.getOperation().equals(OPERATION_SEARCH_ARCHIVE) && !input.getOperation().equals(OPERATION_DOWNLOAD_ENCLOSURES)) {
+            throw new IllegalArgumentException("operation must be 'fetch', 'fetchOpml', 'queryArchive', 'searchArchive' or 'downloadEnclosures'");
+        }
+        
+        // The archive can be queried across all feeds and OPML lists the feeds, fetching needs a feed
+        boolean feedUrlOptional = OPERATION_QUERY_ARCHIVE.equals(input.getOperation()) ||
+            OPERATION_SEARCH_ARCHIVE.equals(input.getOperation()) || OPERATION_FETCH_OPML.equals(input.getOperation());
+        if (!feedUrlOptional && (input.getFeedUrl() == null || input.getFeedUrl().trim().isEmpty())) {
             throw new IllegalArgumentException("feedUrl is required");
         }
         
+        if (OPERATION_FETCH_OPML.equals(input.getOperation()) &&
+            (input.getOpml() == null || input.getOpml().trim().isEmpty()) &&
+            (input.getOpmlUrl() == null || input.getOpmlUrl().trim().isEmpty())) {
+            throw new IllegalArgumentException("opml or opmlUrl is required for fetchOpml");
+        }
+        
+        if (input.getMaxPages() != null && input.getMaxPages() <= 0) {
+            throw new IllegalArgumentException("maxPages must be a positive number");
+        }
+        
+        if ((input.getMaxConcurrency() != null && input.getMaxConcurrency() <= 0) ||
+            (input.getPerHostConcurrency() != null && input.getPerHostConcurrency() <= 0) ||
+            (input.getDeadlineSeconds() != null && input.getDeadlineSeconds() <= 0) ||
+            (input.getProbeBudgetSeconds() != null && input.getProbeBudgetSeconds() <= 0)) {
+            throw new IllegalArgumentException("maxConcurrency, perHostConcurrency, deadlineSeconds and probeBudgetSeconds must be positive numbers");
+        }
+        
+        if ((input.getCacheMaxAgeSeconds() != null && input.getCacheMaxAgeSeconds() < 0) ||
+            (input.getStaleWhileRevalidateSeconds() != null && input.getStaleWhileRevalidateSeconds() < 0) ||
+            (input.getStaleIfErrorSeconds() != null && input.getStaleIfErrorSeconds() < 0)) {
+            throw new IllegalArgumentException("cacheMaxAgeSeconds, staleWhileRevalidateSeconds and staleIfErrorSeconds must not be negative");
+        }
+        
+        if (OPERATION_SEARCH_ARCHIVE.equals(input.getOperation()) &&
+            (input.getQuery() == null || input.getQuery().trim().isEmpty())) {
+            throw new IllegalArgumentException("query is required for searchArchive");
+        }
+        
         if (input.getMaxItems() != null && input.getMaxItems() < 0) {
             throw new IllegalArgumentException("maxItems must be a positive number");
         }
@@ -80,5 +230,21 @@ public class RssFeedConnector implements OutboundConnectorFunction {
             (input.getAuthToken() == null || input.getAuthToken().trim().isEmpty())) {
             throw new IllegalArgumentException("authToken is required when authType is specified");
         }
+        
+        if (input.getOutputMode() != null && !input.getOutputMode().equals(OutputSpiller.MODE_INLINE) &&
+            !input.getOutputMode().equals(OutputSpiller.MODE_SPILL) && !input.getOutputMode().equals(OutputSpiller.MODE_AUTO)) {
+            throw new IllegalArgumentException("outputMode must be 'inline', 'spill' or 'auto'");
+        }
+        
+        // Throws for unknown priorities
+        FetchScheduler.Priority.of(input.getPriority());
+        
+        if (input.getDownloadBytesPerSecond() != null && input.getDownloadBytesPerSecond() < 0) {
+            throw new IllegalArgumentException("downloadBytesPerSecond must not be negative");
+        }
+        
+        if (input.getSpillThresholdBytes() != null && input.getSpillThresholdBytes() < 0) {
+            throw new IllegalArgumentException("spillThresholdBytes must be a positive number");
+        }
     }
 }
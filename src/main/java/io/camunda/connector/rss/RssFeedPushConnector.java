@@ -0,0 +1,157 @@
+package io.camunda.connector.rss;
+
+import io.camunda.connector.api.annotation.InboundConnector;
+import io.camunda.connector.api.inbound.Health;
+import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.inbound.webhook.MappedHttpRequest;
+import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
+import io.camunda.connector.api.inbound.webhook.WebhookHttpResponse;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.api.inbound.webhook.WebhookResult;
+import io.camunda.connector.api.inbound.webhook.WebhookResultContext;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssFeedPushInput;
+import io.camunda.connector.rss.service.RssFeedService;
+import io.camunda.connector.rss.websub.WebSubResponse;
+import io.camunda.connector.rss.websub.WebSubSignature;
+import io.camunda.connector.rss.websub.WebSubSubscriber;
+import io.camunda.connector.rss.websub.WebSubSubscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * RSS Feed Push Connector: a webhook inbound connector that subscribes its endpoint to the WebSub hub of a
+ * feed and correlates every pushed update, after the same item conversion and filters as polled feeds, to the
+ * process. The runtime serves the webhook endpoint; its public URL is configured as callbackUrl. Verification
+ * requests of the hub, and content distributions that are unsigned or for an inactive subscription, are
+ * answered in {@link #verify}; signed content distributions arrive in {@link #triggerWebhook} and are
+ * correlated with the filtered output as request body.
+ */
+@InboundConnector(name = "RSS Feed Push (WebSub)", type = "io.camunda:rss-feed-push:1")
+public class RssFeedPushConnector implements WebhookConnectorExecutable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RssFeedPushConnector.class);
+
+    private final WebSubSubscriber subscriber;
+    private final RssFeedService feedService;
+
+    // Known before subscribing: hubs may verify the intent while the subscription request is still open
+    private volatile String subscriptionId;
+
+    public RssFeedPushConnector() {
+        this(WebSubSubscriber.shared(), new RssFeedService());
+    }
+
+    // Constructor for testing
+    public RssFeedPushConnector(WebSubSubscriber subscriber, RssFeedService feedService) {
+        this.subscriber = subscriber;
+        this.feedService = feedService;
+    }
+
+    @Override
+    public void activate(InboundConnectorContext context) throws Exception {
+        RssFeedPushInput input = context.bindProperties(RssFeedPushInput.class);
+        if (input.getFeedUrl() == null || input.getFeedUrl().isBlank()) {
+            throw new IllegalArgumentException("Feed URL is required");
+        }
+        if (input.getCallbackUrl() == null || input.getCallbackUrl().isBlank()) {
+            throw new IllegalArgumentException("Callback URL is required");
+        }
+
+        // Without a configured hub, the topic and hub are the ones the feed advertises
+        String hubUrl = input.getHubUrl();
+        String topicUrl = input.getFeedUrl();
+        if (hubUrl == null || hubUrl.isBlank()) {
+            RssFeedOutput discovered = feedService.fetchRssFeed(input.toFilters());
+            if (!discovered.isSuccess()) {
+                throw new IllegalStateException("Failed to fetch feed for WebSub discovery: " + discovered.getError());
+            }
+            if (discovered.getHubUrl() == null) {
+                throw new IllegalArgumentException("Feed " + input.getFeedUrl() + " does not advertise a WebSub hub");
+            }
+            hubUrl = discovered.getHubUrl();
+            topicUrl = discovered.getSelfUrl() != null ? discovered.getSelfUrl() : input.getFeedUrl();
+        }
+
+        int leaseSeconds = input.getLeaseSeconds() != null ? input.getLeaseSeconds() : WebSubSubscriber.DEFAULT_LEASE_SECONDS;
+        subscriptionId = WebSubSubscriber.subscriptionId(input.getCallbackUrl(), topicUrl);
+        WebSubSubscription subscription = subscriber.subscribe(hubUrl, topicUrl, input.getCallbackUrl(),
+                input.toFilters(), leaseSeconds);
+        context.reportHealth(Health.up(Map.of("topicUrl", topicUrl, "hubUrl", hubUrl,
+                "subscription", subscription.getState().name())));
+        LOG.info("Activated RSS Feed Push Connector for topic {}", topicUrl);
+    }
+
+    @Override
+    public void deactivate() {
+        // Runtime shutdowns and undeployments look the same here: the lease is left to run out, so a restarted
+        // runtime resumes the subscription
+        if (subscriptionId != null) {
+            subscriber.release(subscriptionId);
+        }
+    }
+
+    /**
+     * Answer the hub's verification of intent, a GET on the callback URL, and content distributions that are not
+     * to be correlated; other requests are processed by {@link #triggerWebhook}
+     */
+    @Override
+    public WebhookHttpResponse verify(WebhookProcessingPayload payload) {
+        WebSubResponse response;
+        if ("GET".equalsIgnoreCase(payload.method())) {
+            response = subscriber.handleVerification(subscriptionId, payload.params());
+        } else {
+            // Unsigned content is acknowledged with 202 without correlation, as WebSub expects
+            response = subscriber.checkContentDelivery(subscriptionId,
+                    header(payload.headers(), WebSubSignature.HEADER), payload.rawBody());
+            if (response == null) {
+                return null;
+            }
+        }
+        return textResponse(response);
+    }
+
+    @Override
+    public WebhookResult triggerWebhook(WebhookProcessingPayload payload) {
+        WebSubResponse response = subscriber.handleContentDelivery(subscriptionId,
+                header(payload.headers(), WebSubSignature.HEADER), payload.rawBody());
+        RssFeedOutput output = response.output() != null
+                ? response.output() : new RssFeedOutput(false, "WebSub content distribution ignored");
+        MappedHttpRequest request = new MappedHttpRequest(output, payload.headers(), payload.params());
+        if (output.isSuccess()) {
+            return () -> request;
+        }
+        // Content that failed to parse is passed on as unsuccessful output and acknowledged with 202
+        return new WebhookResult() {
+            @Override
+            public MappedHttpRequest request() {
+                return request;
+            }
+
+            @Override
+            public Function<WebhookResultContext, WebhookHttpResponse> response() {
+                return context -> textResponse(response);
+            }
+        };
+    }
+
+    private static WebhookHttpResponse textResponse(WebSubResponse response) {
+        return new WebhookHttpResponse(response.body(), Map.of("Content-Type", "text/plain; charset=utf-8"),
+                response.status());
+    }
+
+    private static String header(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package io.camunda.connector.rss.admin;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exposes {@link ConnectorIntrospection} over JMX. Registered with the platform MBean server when the connector is
+ * instantiated, at most once per JVM, unless RSS_CONNECTOR_JMX=false.
+ */
+public class ConnectorAdmin implements ConnectorAdminMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorAdmin.class);
+
+    public static final String OBJECT_NAME = "io.camunda.connector.rss:type=ConnectorAdmin";
+
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    private final ConnectorIntrospection introspection;
+
+    public ConnectorAdmin(ConnectorIntrospection introspection) {
+        this.introspection = introspection;
+    }
+
+    /**
+     * Register the MBean of the shared components, unless disabled or already registered in this JVM
+     */
+    public static void registerFromEnvironment() {
+        if (!EnvironmentConfig.getBoolean("RSS_CONNECTOR_JMX", true) || !REGISTERED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            new ConnectorAdmin(ConnectorIntrospection.shared())
+                    .register(ManagementFactory.getPlatformMBeanServer(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            LOG.debug("Connector MBean is already registered by another class loader");
+        } catch (JMException | RuntimeException e) {
+            // Management is optional, the connector works without it
+            LOG.warn("Could not register connector MBean: {}", e.getMessage());
+        }
+    }
+
+    public void register(MBeanServer server, ObjectName name) throws JMException {
+        server.registerMBean(this, name);
+        LOG.info("Registered connector MBean {}", name);
+    }
+
+    @Override
+    public int getCachedHttpClients() {
+        return introspection.httpClients().cachedClients();
+    }
+
+    @Override
+    public int getConnections() {
+        return introspection.httpClients().connections();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return introspection.httpClients().activeConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return introspection.httpClients().idleConnections();
+    }
+
+    @Override
+    public int getRunningCalls() {
+        return introspection.httpClients().runningCalls();
+    }
+
+    @Override
+    public int getQueuedCalls() {
+        return introspection.httpClients().queuedCalls();
+    }
+
+    @Override
+    public int getFetchesInFlight() {
+        return introspection.snapshot(false).fetchesInFlight();
+    }
+
+    @Override
+    public int getFetchesQueued() {
+        return introspection.snapshot(false).fetchesQueued();
+    }
+
+    @Override
+    public long getRateLimitRejected() {
+        return introspection.snapshot(false).rateLimitRejected();
+    }
+
+    @Override
+    public long getConcurrencyLimitRejected() {
+        return introspection.snapshot(false).concurrencyLimitRejected();
+    }
+
+    @Override
+    public int getNegativeCacheEntries() {
+        return introspection.snapshot(false).negativeCacheEntries();
+    }
+
+    @Override
+    public long getHedgesSent() {
+        return introspection.snapshot(false).hedgesSent();
+    }
+
+    @Override
+    public String[] getHosts() {
+        return summaries(introspection.hosts());
+    }
+
+    @Override
+    public String flushCaches() {
+        ConnectorIntrospection.FlushResult result = introspection.flushCaches();
+        return "Flushed " + result.httpClients() + " HTTP clients and " + result.negativeCacheEntries()
+                + " negative cache entries";
+    }
+
+    @Override
+    public void resetHost(String host) {
+        introspection.resetHost(host);
+    }
+
+    @Override
+    public String[] slowestHosts(int n) {
+        return summaries(introspection.slowestHosts(n));
+    }
+
+    private static String[] summaries(List<ConnectorStats.HostStats> hosts) {
+        return hosts.stream().map(ConnectorStats.HostStats::summary).toArray(String[]::new);
+    }
+}
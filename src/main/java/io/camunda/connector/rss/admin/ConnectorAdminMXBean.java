@@ -0,0 +1,53 @@
+package io.camunda.connector.rss.admin;
+
+/**
+ * JMX management interface of the connector, registered as {@value ConnectorAdmin#OBJECT_NAME}
+ */
+public interface ConnectorAdminMXBean {
+
+    int getCachedHttpClients();
+
+    int getConnections();
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getRunningCalls();
+
+    int getQueuedCalls();
+
+    int getFetchesInFlight();
+
+    int getFetchesQueued();
+
+    long getRateLimitRejected();
+
+    long getConcurrencyLimitRejected();
+
+    int getNegativeCacheEntries();
+
+    long getHedgesSent();
+
+    /**
+     * One line per known host with its latencies, limits and request counts
+     */
+    String[] getHosts();
+
+    /**
+     * Drop the cached HTTP clients, their idle connections and the negative cache
+     *
+     * @return what was dropped
+     */
+    String flushCaches();
+
+    /**
+     * Start the host's rate limit windows and concurrency limit over
+     */
+    void resetHost(String host);
+
+    /**
+     * The n hosts with the highest p95 time to headers
+     */
+    String[] slowestHosts(int n);
+}
@@ -0,0 +1,168 @@
+package io.camunda.connector.rss.admin;
+
+import io.camunda.connector.rss.cache.NegativeCache;
+import io.camunda.connector.rss.hedge.HedgeBudget;
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.limit.HostRateLimiter;
+import io.camunda.connector.rss.metrics.ConnectorMetrics;
+import io.camunda.connector.rss.schedule.FetchScheduler;
+import io.camunda.connector.rss.service.RssFeedService;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Live view of the shared state of the connector in this runtime: cached HTTP clients and their connections, rate
+ * and concurrency limits, latencies per host, the fetch scheduler, hedging and the negative cache. Also troubleshoots
+ * a running runtime: flushes caches, resets a host's limiters and lists the slowest hosts.
+ */
+public class ConnectorIntrospection {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorIntrospection.class);
+
+    private static final ConnectorIntrospection SHARED = new ConnectorIntrospection(FetchScheduler.shared(),
+            HostRateLimiter.shared(), HostConcurrencyLimiter.shared(), HostLatencyTracker.shared(),
+            HedgeBudget.shared(), NegativeCache.shared(), ConnectorMetrics.shared());
+
+    private final FetchScheduler scheduler;
+    private final HostRateLimiter rateLimiter;
+    private final HostConcurrencyLimiter concurrencyLimiter;
+    private final HostLatencyTracker latencyTracker;
+    private final HedgeBudget hedgeBudget;
+    private final NegativeCache negativeCache;
+    private final ConnectorMetrics metrics;
+
+    public ConnectorIntrospection(FetchScheduler scheduler, HostRateLimiter rateLimiter,
+                                  HostConcurrencyLimiter concurrencyLimiter, HostLatencyTracker latencyTracker,
+                                  HedgeBudget hedgeBudget, NegativeCache negativeCache, ConnectorMetrics metrics) {
+        this.scheduler = scheduler;
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.latencyTracker = latencyTracker;
+        this.hedgeBudget = hedgeBudget;
+        this.negativeCache = negativeCache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Introspection of the components shared by all connector instances of the runtime
+     */
+    public static ConnectorIntrospection shared() {
+        return SHARED;
+    }
+
+    public ConnectorStats snapshot() {
+        return snapshot(true);
+    }
+
+    /**
+     * Snapshot without the per-host stats when only the totals are read
+     */
+    ConnectorStats snapshot(boolean withHosts) {
+        return new ConnectorStats(Instant.now(), httpClients(), scheduler.inFlight(), scheduler.queueDepth(),
+                scheduler.rejected(), rateLimiter.rejected(), concurrencyLimiter.rejected(), negativeCache.size(),
+                metrics.negativeCacheHits(), hedgeBudget.hedgesSent(), hedgeBudget.hedgesWon(),
+                hedgeBudget.hedgesDenied(), withHosts ? hosts() : List.of());
+    }
+
+    /**
+     * The cached HTTP clients, and the connection pool of hedged requests
+     */
+    public ConnectorStats.HttpClientStats httpClients() {
+        List<OkHttpClient> clients = RssFeedService.cachedHttpClients();
+        Set<ConnectionPool> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Dispatcher> dispatchers = Collections.newSetFromMap(new IdentityHashMap<>());
+        pools.add(RssFeedService.hedgeConnectionPool());
+        for (OkHttpClient client : clients) {
+            pools.add(client.connectionPool());
+            dispatchers.add(client.dispatcher());
+        }
+        int connections = 0;
+        int idle = 0;
+        for (ConnectionPool pool : pools) {
+            connections += pool.connectionCount();
+            idle += pool.idleConnectionCount();
+        }
+        int running = 0;
+        int queued = 0;
+        for (Dispatcher dispatcher : dispatchers) {
+            running += dispatcher.runningCallsCount();
+            queued += dispatcher.queuedCallsCount();
+        }
+        return new ConnectorStats.HttpClientStats(clients.size(), connections, idle, running, queued);
+    }
+
+    /**
+     * All hosts the runtime rate limits, limits concurrency for or measures, in no particular order
+     */
+    public List<ConnectorStats.HostStats> hosts() {
+        Set<String> hosts = new LinkedHashSet<>(rateLimiter.hosts());
+        hosts.addAll(concurrencyLimiter.hosts());
+        hosts.addAll(latencyTracker.hosts());
+        List<ConnectorStats.HostStats> stats = new ArrayList<>(hosts.size());
+        for (String host : hosts) {
+            stats.add(host(host));
+        }
+        return stats;
+    }
+
+    public ConnectorStats.HostStats host(String host) {
+        HostRateLimiter.Usage usage = rateLimiter.usage(host);
+        return new ConnectorStats.HostStats(host, usage.requestsThisMinute(), usage.requestsThisHour(),
+                concurrencyLimiter.limit(host), concurrencyLimiter.inFlight(host), concurrencyLimiter.queued(host),
+                latencyTracker.sampleCount(host), latencyTracker.mean(host, HostLatencyTracker.Phase.HEADERS),
+                latencyTracker.percentile(host, 0.5), latencyTracker.percentile(host, 0.95));
+    }
+
+    /**
+     * The measured hosts with the highest p95 time to headers, hosts with too few samples for percentiles ranked
+     * by their mean after them
+     */
+    public List<ConnectorStats.HostStats> slowestHosts(int limit) {
+        List<ConnectorStats.HostStats> stats = new ArrayList<>();
+        for (String host : latencyTracker.hosts()) {
+            stats.add(host(host));
+        }
+        stats.sort(Comparator.comparingLong(ConnectorStats.HostStats::p95Millis)
+                .thenComparingDouble(ConnectorStats.HostStats::meanMillis)
+                .reversed());
+        return new ArrayList<>(stats.subList(0, Math.max(0, Math.min(limit, stats.size()))));
+    }
+
+    /**
+     * Drop the cached HTTP clients with their idle connections and the remembered failures of broken feeds. Feed
+     * copies and delta snapshots live in the shared state store of the cluster and are kept.
+     */
+    public FlushResult flushCaches() {
+        FlushResult result = new FlushResult(RssFeedService.flushHttpClients(), negativeCache.clear());
+        LOG.info("Flushed caches: {}", result);
+        return result;
+    }
+
+    /**
+     * Start the host's rate limit windows over and its concurrency limit at the initial limit
+     */
+    public void resetHost(String host) {
+        rateLimiter.reset(host);
+        concurrencyLimiter.reset(host);
+        LOG.info("Reset rate and concurrency limits of {}", host);
+    }
+
+    /**
+     * What {@link #flushCaches} dropped
+     */
+    public record FlushResult(int httpClients, int negativeCacheEntries) {
+    }
+}
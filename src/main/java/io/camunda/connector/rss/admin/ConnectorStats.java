@@ -0,0 +1,42 @@
+package io.camunda.connector.rss.admin;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Point-in-time view of the connector internals of this runtime
+ */
+public record ConnectorStats(Instant takenAt, HttpClientStats httpClients, int fetchesInFlight, int fetchesQueued,
+                             long fetchesRejected, long rateLimitRejected, long concurrencyLimitRejected,
+                             int negativeCacheEntries, long negativeCacheHits, long hedgesSent, long hedgesWon,
+                             long hedgesDenied, List<HostStats> hosts) {
+
+    /**
+     * Cached HTTP clients with their connection pools and dispatchers; clients sharing a pool or dispatcher are
+     * counted once
+     */
+    public record HttpClientStats(int cachedClients, int connections, int idleConnections, int runningCalls,
+                                  int queuedCalls) {
+
+        public int activeConnections() {
+            return connections - idleConnections;
+        }
+    }
+
+    /**
+     * Limits and latencies of one host. Latencies are times to response headers in millis, -1 while unknown.
+     */
+    public record HostStats(String host, long requestsThisMinute, long requestsThisHour, int concurrencyLimit,
+                            int inFlight, int queued, int samples, double meanMillis, long p50Millis,
+                            long p95Millis) {
+
+        /**
+         * One line for operators, as shown by the MBean
+         */
+        public String summary() {
+            return String.format("%s: p95=%dms p50=%dms mean=%.0fms samples=%d limit=%d inFlight=%d queued=%d"
+                            + " requests/min=%d requests/h=%d", host, p95Millis, p50Millis, meanMillis, samples,
+                    concurrencyLimit, inFlight, queued, requestsThisMinute, requestsThisHour);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package io.camunda.connector.rss.archive;
+
+import io.camunda.connector.rss.model.StringPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * One append-only segment file of the archive with its sparse time index.
+ *
+ * Records are grouped into blocks of roughly {@link #BLOCK_BYTES}; for each block the start
+ * offset and the minimum and maximum record time are kept, so time-range queries only read the
+ * blocks that can contain matching records. When a segment is sealed the index and the GUID hashes
+ * of its records are written to a sidecar file, and the segment is memory-mapped for reads. The active
+ * segment is mapped again only after it grew.
+ */
+final class ArchiveSegment {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ArchiveSegment.class);
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".idx";
+    static final int BLOCK_BYTES = 64 * 1024;
+
+    private static final int INDEX_MAGIC = 0x52535849;
+    private static final int INDEX_VERSION = 2;
+
+    final long sequence;
+    final Path file;
+    private final List<Block> blocks = new ArrayList<>();
+    private long[] guidHashes = new long[64];
+    private long[] guidOffsets = new long[64];
+    private int guidCount;
+    private long minTime = Long.MAX_VALUE;
+    private long maxTime = Long.MIN_VALUE;
+    private long maxArchivedAt = Long.MIN_VALUE;
+    private long size;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    // Mapping of the active segment, valid for its first activeMappedSize bytes
+    private MappedByteBuffer activeMapping;
+    private long activeMappedSize;
+
+    private ArchiveSegment(long sequence, Path file) {
+        this.sequence = sequence;
+        this.file = file;
+    }
+
+    /**
+     * Create an empty, writable segment
+     */
+    static ArchiveSegment create(Path directory, long sequence) throws IOException {
+        ArchiveSegment segment = new ArchiveSegment(sequence, logFile(directory, sequence));
+        segment.channel = FileChannel.open(segment.file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return segment;
+    }
+
+    /**
+     * Open a sealed segment from its index file, rebuilding the index if it is missing or stale
+     */
+    static ArchiveSegment openSealed(Path directory, long sequence, GuidSink guids) throws IOException {
+        ArchiveSegment segment = new ArchiveSegment(sequence, logFile(directory, sequence));
+        if (!segment.loadIndex(guids)) {
+            segment.scan(guids, false);
+            segment.writeIndex();
+        }
+        segment.map();
+        return segment;
+    }
+
+    /**
+     * Open the last segment for appending, truncating a torn record at its end
+     */
+    static ArchiveSegment openActive(Path directory, long sequence, GuidSink guids) throws IOException {
+        ArchiveSegment segment = new ArchiveSegment(sequence, logFile(directory, sequence));
+        segment.scan(guids, true);
+        segment.channel = FileChannel.open(segment.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment.channel.truncate(segment.size);
+        return segment;
+    }
+
+    /**
+     * Append an encoded record and return its offset
+     */
+    long append(byte[] payload, long time, long archivedAt, long guidHash) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(ItemCodec.HEADER_BYTES + payload.length);
+        record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        long offset = size;
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        index(offset, time, guidHash);
+        maxArchivedAt = Math.max(maxArchivedAt, archivedAt);
+        size += record.capacity();
+        return offset;
+    }
+
+    /**
+     * Flush, write the index file and switch the segment to memory-mapped reads
+     */
+    void seal() throws IOException {
+        channel.force(true);
+        channel.close();
+        channel = null;
+        writeIndex();
+        map();
+        synchronized (this) {
+            activeMapping = null;
+        }
+    }
+
+    /**
+     * Read-only view of the segment content
+     */
+    synchronized ByteBuffer readBuffer() throws IOException {
+        if (mapped != null) {
+            return mapped.duplicate();
+        }
+        if (activeMapping == null || activeMappedSize != size) {
+            activeMapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            activeMappedSize = size;
+        }
+        return activeMapping.duplicate();
+    }
+
+    boolean overlaps(long from, long to) {
+        return size > 0 && maxTime >= from && minTime <= to;
+    }
+
+    List<Block> blocks() {
+        return blocks;
+    }
+
+    long blockEnd(int blockIndex) {
+        return blockIndex + 1 < blocks.size() ? blocks.get(blockIndex + 1).offset : size;
+    }
+
+    long maxTime() {
+        return maxTime;
+    }
+
+    /**
+     * Time the newest record of the segment was archived
+     */
+    long maxArchivedAt() {
+        return maxArchivedAt;
+    }
+
+    long size() {
+        return size;
+    }
+
+    int guidCount() {
+        return guidCount;
+    }
+
+    long guidHash(int index) {
+        return guidHashes[index];
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+            channel = null;
+        }
+        mapped = null;
+        synchronized (this) {
+            activeMapping = null;
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(indexFile());
+    }
+
+    private void index(long offset, long time, long guidHash) {
+        Block block = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+        if (block == null || offset - block.offset >= BLOCK_BYTES) {
+            block = new Block(offset);
+            blocks.add(block);
+        }
+        block.minTime = Math.min(block.minTime, time);
+        block.maxTime = Math.max(block.maxTime, time);
+        minTime = Math.min(minTime, time);
+        maxTime = Math.max(maxTime, time);
+        if (guidCount == guidHashes.length) {
+            guidHashes = Arrays.copyOf(guidHashes, guidCount * 2);
+            guidOffsets = Arrays.copyOf(guidOffsets, guidCount * 2);
+        }
+        guidHashes[guidCount] = guidHash;
+        guidOffsets[guidCount] = offset;
+        guidCount++;
+    }
+
+    private void scan(GuidSink guids, boolean truncateTornTail) throws IOException {
+        long fileSize = Files.size(file);
+        if (fileSize == 0) {
+            return;
+        }
+        ByteBuffer buffer;
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+        long position = 0;
+        CRC32 crc = new CRC32();
+        while (position + ItemCodec.HEADER_BYTES <= fileSize) {
+            int length = buffer.getInt((int) position);
+            int checksum = buffer.getInt((int) position + 4);
+            long end = position + ItemCodec.HEADER_BYTES + length;
+            if (length <= 0 || end > fileSize) {
+                break;
+            }
+            ByteBuffer payload = buffer.duplicate().position((int) position + ItemCodec.HEADER_BYTES).limit((int) end);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            ItemCodec.Reader reader = ItemCodec.reader(payload);
+            long time = reader.readTime();
+            maxArchivedAt = Math.max(maxArchivedAt, reader.readArchivedAt());
+            String feedUrl = reader.readString();
+            long guidHash = FeedArchive.itemKey(feedUrl, reader.readItem(time, StringPool.SHARED));
+            index(position, time, guidHash);
+            guids.accept(guidHash, this, position);
+            position = end;
+        }
+        size = position;
+        if (position < fileSize) {
+            if (truncateTornTail) {
+                LOG.warn("Truncating {} bytes of incomplete or corrupt records at the end of {}", fileSize - position, file);
+            } else {
+                LOG.warn("Ignoring {} bytes of corrupt records at the end of sealed segment {}", fileSize - position, file);
+            }
+        }
+    }
+
+    private boolean loadIndex(GuidSink guids) throws IOException {
+        Path indexFile = indexFile();
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                return false;
+            }
+            long indexedSize = in.readLong();
+            if (indexedSize != Files.size(file)) {
+                LOG.warn("Index of segment {} is stale, rebuilding it", file);
+                return false;
+            }
+            maxArchivedAt = in.readLong();
+            int blockCount = in.readInt();
+            for (int i = 0; i < blockCount; i++) {
+                Block block = new Block(in.readLong());
+                block.minTime = in.readLong();
+                block.maxTime = in.readLong();
+                blocks.add(block);
+                minTime = Math.min(minTime, block.minTime);
+                maxTime = Math.max(maxTime, block.maxTime);
+            }
+            int count = in.readInt();
+            guidHashes = new long[Math.max(count, 1)];
+            guidOffsets = new long[Math.max(count, 1)];
+            for (int i = 0; i < count; i++) {
+                guidHashes[i] = in.readLong();
+                guidOffsets[i] = in.readLong();
+                guids.accept(guidHashes[i], this, guidOffsets[i]);
+            }
+            guidCount = count;
+            size = indexedSize;
+            return true;
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        Path indexFile = indexFile();
+        Path partFile = indexFile.resolveSibling(indexFile.getFileName() + ".part");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partFile)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeLong(size);
+            out.writeLong(maxArchivedAt);
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeLong(block.offset);
+                out.writeLong(block.minTime);
+                out.writeLong(block.maxTime);
+            }
+            out.writeInt(guidCount);
+            for (int i = 0; i < guidCount; i++) {
+                out.writeLong(guidHashes[i]);
+                out.writeLong(guidOffsets[i]);
+            }
+        }
+        Files.move(partFile, indexFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void map() throws IOException {
+        if (size == 0) {
+            return;
+        }
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private Path indexFile() {
+        return file.resolveSibling(file.getFileName().toString().replace(LOG_SUFFIX, INDEX_SUFFIX));
+    }
+
+    static Path logFile(Path directory, long sequence) {
+        return directory.resolve(String.format("segment-%020d%s", sequence, LOG_SUFFIX));
+    }
+
+    /**
+     * Start offset and time range of a block of records
+     */
+    static final class Block {
+
+        final long offset;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+
+        Block(long offset) {
+            this.offset = offset;
+        }
+
+        boolean overlaps(long from, long to) {
+            return maxTime >= from && minTime <= to;
+        }
+    }
+
+    /**
+     * Receives the GUID hash and location of each record while a segment is opened
+     */
+    interface GuidSink {
+        void accept(long guidHash, ArchiveSegment segment, long offset);
+    }
+}
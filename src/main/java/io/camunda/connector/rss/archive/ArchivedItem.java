@@ -0,0 +1,15 @@
+package io.camunda.connector.rss.archive;
+
+import io.camunda.connector.rss.model.CompactItem;
+
+import java.time.Instant;
+
+/**
+ * An item read from the archive with the feed it came from and the time it was archived
+ */
+public record ArchivedItem(String feedUrl, long archivedAtMillis, CompactItem item) {
+
+    public Instant archivedAt() {
+        return Instant.ofEpochMilli(archivedAtMillis);
+    }
+}
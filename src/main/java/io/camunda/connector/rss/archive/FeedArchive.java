@@ -0,0 +1,425 @@
+package io.camunda.connector.rss.archive;
+
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Local append-only archive of fetched feed items.
+ *
+ * Items are appended to segment files in a compact binary encoding; a segment is sealed and a new
+ * one started once it reaches the configured size. Each segment keeps a sparse time index over
+ * blocks of records, and a GUID index over all segments skips items that were archived before.
+ * Time-range and per-feed queries read only overlapping blocks through memory-mapped segments.
+ * Segments whose items were all archived longer ago than the retention period are deleted, checked at
+ * most once a minute on append; an active segment that aged out is sealed first. Retention follows the
+ * archive time rather than the publication date, so old items still in a feed are not deleted and archived
+ * again on every fetch.
+ */
+public class FeedArchive implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeedArchive.class);
+
+    public static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    public static final Duration DEFAULT_RETENTION = Duration.ofDays(30);
+
+    private static final long MAX_SEGMENT_BYTES = 1024L * 1024 * 1024;
+    private static final long RETENTION_CHECK_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private static volatile FeedArchive shared;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final Duration retention;
+    private final LongSupplier clock;
+    private final List<ArchiveSegment> segments = new ArrayList<>();
+    private final Map<Long, Location> guidIndex = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Consumer<ArchivedItem>> listeners = new CopyOnWriteArrayList<>();
+    private final List<LongConsumer> deletionListeners = new CopyOnWriteArrayList<>();
+    private ArchiveSegment active;
+    private volatile long nextRetentionCheck;
+
+    public FeedArchive(Path directory, long segmentBytes, Duration retention) throws IOException {
+        this(directory, segmentBytes, retention, System::currentTimeMillis);
+    }
+
+    FeedArchive(Path directory, long segmentBytes, Duration retention, LongSupplier clock) throws IOException {
+        if (segmentBytes <= ItemCodec.HEADER_BYTES || segmentBytes > MAX_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("segmentBytes must be between 9 bytes and 1 GiB");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.retention = retention;
+        this.clock = clock;
+        Files.createDirectories(directory);
+        open();
+    }
+
+    /**
+     * Shared archive configured through environment variables, or null if RSS_CONNECTOR_ARCHIVE_DIR is not set
+     */
+    public static FeedArchive fromEnvironment() {
+        String archiveDirectory = EnvironmentConfig.getString("RSS_CONNECTOR_ARCHIVE_DIR", null);
+        if (archiveDirectory == null) {
+            return null;
+        }
+        FeedArchive archive = shared;
+        if (archive == null) {
+            synchronized (FeedArchive.class) {
+                archive = shared;
+                if (archive == null) {
+                    try {
+                        archive = new FeedArchive(Path.of(archiveDirectory),
+                                EnvironmentConfig.getLong("RSS_CONNECTOR_ARCHIVE_SEGMENT_BYTES", DEFAULT_SEGMENT_BYTES),
+                                Duration.ofDays(EnvironmentConfig.getLong("RSS_CONNECTOR_ARCHIVE_RETENTION_DAYS",
+                                        DEFAULT_RETENTION.toDays())));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to open feed archive in " + archiveDirectory, e);
+                    }
+                    shared = archive;
+                }
+            }
+        }
+        return archive;
+    }
+
+    /**
+     * Append the items that are not yet archived for the feed
+     *
+     * @return number of items appended
+     */
+    public int append(String feedUrl, List<CompactItem> items) throws IOException {
+        long archivedAt = clock.getAsLong();
+        int appended = 0;
+        boolean rolled = false;
+        lock.writeLock().lock();
+        try {
+            for (CompactItem item : items) {
+                long guidHash = itemKey(feedUrl, item);
+                if (guidIndex.containsKey(guidHash)) {
+                    continue;
+                }
+                byte[] payload = ItemCodec.encode(feedUrl, archivedAt, item);
+                if (active.size() > 0 && active.size() + ItemCodec.HEADER_BYTES + payload.length > segmentBytes) {
+                    roll();
+                    rolled = true;
+                }
+                long offset = active.append(payload, ItemCodec.timeOf(item, archivedAt), archivedAt, guidHash);
+                guidIndex.put(guidHash, new Location(active, offset));
+                appended++;
+                if (!listeners.isEmpty()) {
+                    ArchivedItem archivedItem = new ArchivedItem(feedUrl, archivedAt, item);
+                    listeners.forEach(listener -> listener.accept(archivedItem));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (appended > 0) {
+            LOG.debug("Archived {} new items of {}", appended, feedUrl);
+        }
+        if (rolled || archivedAt >= nextRetentionCheck) {
+            applyRetention(Instant.ofEpochMilli(archivedAt));
+        }
+        return appended;
+    }
+
+    /**
+     * Archived items in the time range, newest first
+     *
+     * @param feedUrls feeds to include, or null for all feeds
+     * @param from     inclusive start of the range, or null
+     * @param to       inclusive end of the range, or null
+     * @param limit    maximum number of items returned
+     */
+    public List<ArchivedItem> query(Collection<String> feedUrls, Instant from, Instant to, int limit) throws IOException {
+        long fromMillis = from != null ? from.toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = to != null ? to.toEpochMilli() : Long.MAX_VALUE;
+        Set<String> feeds = feedUrls != null ? new HashSet<>(feedUrls) : null;
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // Bounded min-heap of the newest matches; older records are skipped before they are decoded
+        PriorityQueue<TimedItem> newest = new PriorityQueue<>(Math.min(limit, 1024), Comparator.comparingLong(TimedItem::time));
+        read(fromMillis, toMillis, feeds, time -> newest.size() < limit || time > newest.peek().time(), timedItem -> {
+            newest.add(timedItem);
+            if (newest.size() > limit) {
+                newest.poll();
+            }
+        });
+
+        ArchivedItem[] result = new ArchivedItem[newest.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = newest.poll().item();
+        }
+        return List.of(result);
+    }
+
+    /**
+     * Register a listener for appended items and replay all archived items to it, oldest segment first
+     */
+    public void subscribe(Consumer<ArchivedItem> listener) throws IOException {
+        subscribe(listener, key -> { });
+    }
+
+    /**
+     * Register listeners for appended items and for the keys of items deleted by retention, and replay all
+     * archived items to the first, oldest segment first
+     */
+    public void subscribe(Consumer<ArchivedItem> listener, LongConsumer deletionListener) throws IOException {
+        lock.writeLock().lock();
+        try {
+            read(Long.MIN_VALUE, Long.MAX_VALUE, null, time -> true, timedItem -> listener.accept(timedItem.item()));
+            listeners.add(listener);
+            deletionListeners.add(deletionListener);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Look up an archived item through the GUID index
+     */
+    public Optional<ArchivedItem> findByGuid(String feedUrl, String guid) throws IOException {
+        return findByKey(itemKey(feedUrl, guid));
+    }
+
+    /**
+     * Look up an archived item by the key returned from {@link #itemKey(String, CompactItem)}
+     */
+    public Optional<ArchivedItem> findByKey(long key) throws IOException {
+        lock.readLock().lock();
+        try {
+            Location location = guidIndex.get(key);
+            if (location == null) {
+                return Optional.empty();
+            }
+            ByteBuffer buffer = location.segment().readBuffer();
+            int offset = (int) location.offset();
+            int length = buffer.getInt(offset);
+            ItemCodec.Reader reader = ItemCodec.reader(buffer.position(offset + ItemCodec.HEADER_BYTES)
+                    .limit(offset + ItemCodec.HEADER_BYTES + length));
+            long time = reader.readTime();
+            long archivedAt = reader.readArchivedAt();
+            String archivedFeedUrl = reader.readString();
+            return Optional.of(new ArchivedItem(archivedFeedUrl, archivedAt, reader.readItem(time, StringPool.SHARED)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Delete segments whose newest item was archived longer ago than the retention period, sealing the active
+     * segment first if it aged out
+     *
+     * @return number of deleted segments
+     */
+    public int applyRetention(Instant now) throws IOException {
+        long cutoff = now.minus(retention).toEpochMilli();
+        int deleted = 0;
+        lock.writeLock().lock();
+        try {
+            nextRetentionCheck = now.toEpochMilli() + RETENTION_CHECK_INTERVAL_MILLIS;
+            if (active.size() > 0 && active.maxArchivedAt() < cutoff) {
+                roll();
+            }
+            for (ArchiveSegment segment : new ArrayList<>(segments)) {
+                if (segment != active && segment.maxArchivedAt() < cutoff) {
+                    for (int i = 0; i < segment.guidCount(); i++) {
+                        long key = segment.guidHash(i);
+                        guidIndex.remove(key);
+                        deletionListeners.forEach(listener -> listener.accept(key));
+                    }
+                    segments.remove(segment);
+                    segment.delete();
+                    deleted++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (deleted > 0) {
+            LOG.info("Deleted {} archive segments older than {}", deleted, retention);
+        }
+        return deleted;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return guidIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (ArchiveSegment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+            guidIndex.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void read(long fromMillis, long toMillis, Set<String> feeds, LongPredicate wanted,
+                      Consumer<TimedItem> consumer) throws IOException {
+        lock.readLock().lock();
+        try {
+            for (ArchiveSegment segment : segments) {
+                if (!segment.overlaps(fromMillis, toMillis)) {
+                    continue;
+                }
+                ByteBuffer buffer = segment.readBuffer();
+                List<ArchiveSegment.Block> blocks = segment.blocks();
+                for (int i = 0; i < blocks.size(); i++) {
+                    if (blocks.get(i).overlaps(fromMillis, toMillis)) {
+                        readBlock(buffer, blocks.get(i).offset, segment.blockEnd(i), fromMillis, toMillis, feeds,
+                                wanted, consumer);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void readBlock(ByteBuffer buffer, long start, long end, long fromMillis, long toMillis,
+                           Set<String> feeds, LongPredicate wanted, Consumer<TimedItem> consumer) {
+        int position = (int) start;
+        while (position < end) {
+            int length = buffer.getInt(position);
+            int payloadStart = position + ItemCodec.HEADER_BYTES;
+            position = payloadStart + length;
+            ItemCodec.Reader reader = ItemCodec.reader(buffer.duplicate().position(payloadStart).limit(position));
+            long time = reader.readTime();
+            if (time < fromMillis || time > toMillis || !wanted.test(time)) {
+                continue;
+            }
+            long archivedAt = reader.readArchivedAt();
+            String feedUrl = reader.readString();
+            if (feeds != null && !feeds.contains(feedUrl)) {
+                continue;
+            }
+            consumer.accept(new TimedItem(time, new ArchivedItem(feedUrl, archivedAt, reader.readItem(time, StringPool.SHARED))));
+        }
+    }
+
+    private void open() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-") && name.endsWith(ArchiveSegment.LOG_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring("segment-".length(), name.length() - ArchiveSegment.LOG_SUFFIX.length())))
+                    .sorted()
+                    .forEach(sequences::add);
+        }
+        ArchiveSegment.GuidSink sink = (guidHash, segment, offset) -> guidIndex.put(guidHash, new Location(segment, offset));
+        for (int i = 0; i < sequences.size(); i++) {
+            boolean last = i == sequences.size() - 1;
+            segments.add(last
+                    ? ArchiveSegment.openActive(directory, sequences.get(i), sink)
+                    : ArchiveSegment.openSealed(directory, sequences.get(i), sink));
+        }
+        if (segments.isEmpty()) {
+            segments.add(ArchiveSegment.create(directory, 1));
+        }
+        active = segments.get(segments.size() - 1);
+        LOG.info("Opened feed archive in {} with {} segments and {} items", directory, segments.size(), guidIndex.size());
+        applyRetention(Instant.ofEpochMilli(clock.getAsLong()));
+    }
+
+    private void roll() throws IOException {
+        active.seal();
+        active = ArchiveSegment.create(directory, active.sequence + 1);
+        segments.add(active);
+    }
+
+    /**
+     * Key of an item in the GUID index: a hash of the feed URL and the GUID, link or title
+     */
+    public static long itemKey(String feedUrl, CompactItem item) {
+        String guid = item.guid();
+        if (guid == null) {
+            guid = item.link() != null ? item.link() : item.title();
+        }
+        return itemKey(feedUrl, guid);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of feed URL and GUID with a finalizer
+     */
+    private static long itemKey(String feedUrl, String guid) {
+        long hash = 0xcbf29ce484222325L;
+        hash = fnv(hash, feedUrl);
+        hash = (hash ^ '\n') * 0x100000001b3L;
+        hash = fnv(hash, guid);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long fnv(long hash, String value) {
+        if (value == null) {
+            return hash;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private record Location(ArchiveSegment segment, long offset) {
+    }
+
+    private record TimedItem(long time, ArchivedItem item) {
+    }
+}
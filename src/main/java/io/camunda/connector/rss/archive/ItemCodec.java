@@ -0,0 +1,223 @@
+package io.camunda.connector.rss.archive;
+
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary encoding of archived items.
+ *
+ * A record is framed as {@code int payloadLength, int crc32, payload}. The payload starts with
+ * the fields needed to decide whether a record matches a query (time, archive time, feed URL),
+ * so non-matching records can be skipped without decoding the item. Integers are varints and
+ * strings are length-prefixed UTF-8, with length 0 meaning null.
+ */
+final class ItemCodec {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final byte VERSION = 1;
+    private static final int FLAG_HAS_PUB_DATE = 1;
+    private static final int FLAG_GUID_IS_LINK = 2;
+
+    private ItemCodec() {
+    }
+
+    /**
+     * Encode the payload of a record
+     */
+    static byte[] encode(String feedUrl, long archivedAt, CompactItem item) {
+        Writer writer = new Writer(256);
+        writer.writeByte(VERSION);
+        int flags = (item.hasPubDate() ? FLAG_HAS_PUB_DATE : 0) | (item.guidIsLink() ? FLAG_GUID_IS_LINK : 0);
+        writer.writeByte(flags);
+        writer.writeVarLong(zigZag(timeOf(item, archivedAt)));
+        writer.writeVarLong(zigZag(archivedAt));
+        writer.writeString(feedUrl);
+        writer.writeString(item.title());
+        writer.writeString(item.description());
+        writer.writeString(item.linkPrefix());
+        writer.writeString(item.linkSuffix());
+        writer.writeString(item.guidIsLink() ? null : item.guid());
+        writer.writeString(item.author());
+        writer.writeString(item.content());
+        writer.writeString(item.comments());
+        writer.writeStrings(item.categories());
+        if (item.enclosures() == null) {
+            writer.writeVarLong(0);
+        } else {
+            writer.writeVarLong(item.enclosures().length + 1L);
+            for (CompactEnclosure enclosure : item.enclosures()) {
+                writer.writeString(enclosure.url());
+                writer.writeString(enclosure.type());
+                writer.writeVarLong(zigZag(enclosure.length()));
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Time used to index a record: the publication date, or the archive time for undated items
+     */
+    static long timeOf(CompactItem item, long archivedAt) {
+        return item.hasPubDate() ? item.pubDateMillis() : archivedAt;
+    }
+
+    /**
+     * Reader positioned at the start of a payload
+     */
+    static Reader reader(ByteBuffer buffer) {
+        return new Reader(buffer);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static final class Writer {
+
+        private byte[] bytes;
+        private int size;
+
+        Writer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length + 1L);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        void writeStrings(String[] values) {
+            if (values == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(values.length + 1L);
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+
+    static final class Reader {
+
+        private final ByteBuffer buffer;
+        private int flags;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Read the version and flags, returning the indexed time of the record
+         */
+        long readTime() {
+            buffer.get(); // version
+            flags = buffer.get();
+            return unZigZag(readVarLong());
+        }
+
+        long readArchivedAt() {
+            return unZigZag(readVarLong());
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            byte[] utf8 = new byte[length - 1];
+            buffer.get(utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Read the rest of the item after time, archive time and feed URL
+         */
+        CompactItem readItem(long time, StringPool pool) {
+            String title = readString();
+            String description = readString();
+            String linkPrefix = pool.dedupe(readString());
+            String linkSuffix = readString();
+            String guid = readString();
+            String author = pool.dedupe(readString());
+            String content = readString();
+            String comments = readString();
+            String[] categories = null;
+            int categoryCount = (int) readVarLong();
+            if (categoryCount > 0) {
+                categories = new String[categoryCount - 1];
+                for (int i = 0; i < categories.length; i++) {
+                    categories[i] = pool.dedupe(readString());
+                }
+            }
+            CompactEnclosure[] enclosures = null;
+            int enclosureCount = (int) readVarLong();
+            if (enclosureCount > 0) {
+                List<CompactEnclosure> list = new ArrayList<>(enclosureCount - 1);
+                for (int i = 0; i < enclosureCount - 1; i++) {
+                    list.add(new CompactEnclosure(readString(), pool.dedupe(readString()), unZigZag(readVarLong())));
+                }
+                enclosures = list.toArray(new CompactEnclosure[0]);
+            }
+            boolean hasPubDate = (flags & FLAG_HAS_PUB_DATE) != 0;
+            boolean guidIsLink = (flags & FLAG_GUID_IS_LINK) != 0;
+            return new CompactItem(title, description, linkPrefix, linkSuffix, guid, guidIsLink,
+                    hasPubDate ? time : CompactItem.NO_DATE, author, categories, enclosures, content, comments);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.camunda.connector.rss.cache;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.time.Duration;
+
+/**
+ * Freshness rules of the feed cache, following the Cache-Control semantics of RFC 5861: a cached
+ * feed is fresh up to maxAge, may be served while it is revalidated in the background for a
+ * further staleWhileRevalidate, and may be served on upstream errors for a further staleIfError.
+ */
+public record CachePolicy(long maxAgeMillis, long staleWhileRevalidateMillis, long staleIfErrorMillis) {
+
+    private static final int DEFAULT_MAX_AGE_SECONDS = EnvironmentConfig.getInt("RSS_CONNECTOR_CACHE_MAX_AGE_SECONDS", 0);
+    private static final int DEFAULT_STALE_WHILE_REVALIDATE_SECONDS =
+            EnvironmentConfig.getInt("RSS_CONNECTOR_STALE_WHILE_REVALIDATE_SECONDS", 0);
+    private static final int DEFAULT_STALE_IF_ERROR_SECONDS = EnvironmentConfig.getInt("RSS_CONNECTOR_STALE_IF_ERROR_SECONDS", 0);
+
+    public enum Freshness {
+        FRESH,
+        STALE_WHILE_REVALIDATE,
+        EXPIRED
+    }
+
+    /**
+     * Policy of the input, falling back to the environment defaults
+     */
+    public static CachePolicy of(RssFeedInput input) {
+        return new CachePolicy(
+                seconds(input.getCacheMaxAgeSeconds(), DEFAULT_MAX_AGE_SECONDS),
+                seconds(input.getStaleWhileRevalidateSeconds(), DEFAULT_STALE_WHILE_REVALIDATE_SECONDS),
+                seconds(input.getStaleIfErrorSeconds(), DEFAULT_STALE_IF_ERROR_SECONDS));
+    }
+
+    public boolean enabled() {
+        return maxAgeMillis > 0 || staleWhileRevalidateMillis > 0 || staleIfErrorMillis > 0;
+    }
+
+    public Freshness classify(long ageMillis) {
+        if (ageMillis <= maxAgeMillis) {
+            return Freshness.FRESH;
+        }
+        if (ageMillis <= maxAgeMillis + staleWhileRevalidateMillis) {
+            return Freshness.STALE_WHILE_REVALIDATE;
+        }
+        return Freshness.EXPIRED;
+    }
+
+    /**
+     * Whether a cached feed of this age may be served when fetching it fails
+     */
+    public boolean allowsStaleIfError(long ageMillis) {
+        return ageMillis <= maxAgeMillis + Math.max(staleWhileRevalidateMillis, staleIfErrorMillis);
+    }
+
+    /**
+     * How long a cached copy can be served at all
+     */
+    public Duration retention() {
+        return Duration.ofMillis(maxAgeMillis + Math.max(staleWhileRevalidateMillis, staleIfErrorMillis));
+    }
+
+    private static long seconds(Integer value, int defaultSeconds) {
+        return Math.max(0, value != null ? value : defaultSeconds) * 1000L;
+    }
+}
@@ -0,0 +1,43 @@
+package io.camunda.connector.rss.cache;
+
+import io.camunda.connector.rss.state.StateCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Raw body of the last good response of a feed, with its validators and fetch time
+ */
+public record CachedFeed(String body, String etag, String lastModified, long fetchedAtMillis) {
+
+    static final StateCodec<CachedFeed> CODEC = new StateCodec<>() {
+        @Override
+        public void write(CachedFeed feed, DataOutput out) throws IOException {
+            out.writeLong(feed.fetchedAtMillis);
+            StateCodec.writeString(out, feed.etag);
+            StateCodec.writeString(out, feed.lastModified);
+            StateCodec.writeString(out, feed.body);
+        }
+
+        @Override
+        public CachedFeed read(DataInput in) throws IOException {
+            long fetchedAtMillis = in.readLong();
+            String etag = StateCodec.readString(in);
+            String lastModified = StateCodec.readString(in);
+            return new CachedFeed(StateCodec.readString(in), etag, lastModified, fetchedAtMillis);
+        }
+    };
+
+    public long ageMillis(long nowMillis) {
+        return Math.max(0, nowMillis - fetchedAtMillis);
+    }
+
+    /**
+     * The same body confirmed by a 304 response
+     */
+    public CachedFeed revalidated(String etag, String lastModified, long nowMillis) {
+        return new CachedFeed(body, etag != null ? etag : this.etag,
+                lastModified != null ? lastModified : this.lastModified, nowMillis);
+    }
+}
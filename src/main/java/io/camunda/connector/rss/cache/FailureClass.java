@@ -0,0 +1,113 @@
+package io.camunda.connector.rss.cache;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Kinds of feed failures with how long they are remembered by the negative cache.
+ * Each TTL can be overridden with RSS_CONNECTOR_NEGATIVE_TTL_&lt;NAME&gt;_SECONDS, e.g.
+ * RSS_CONNECTOR_NEGATIVE_TTL_GONE_SECONDS.
+ */
+public enum FailureClass {
+
+    GONE(Duration.ofHours(24), true, false, false),
+    NOT_FOUND(Duration.ofHours(1), true, false, false),
+    INVALID_FEED(Duration.ofMinutes(30), true, false, false),
+    UNKNOWN_HOST(Duration.ofMinutes(10), true, true, false),
+    UNREACHABLE_HOST(Duration.ofMinutes(1), false, true, true),
+    CLIENT_ERROR(Duration.ofMinutes(5), false, false, false),
+    RATE_LIMITED(Duration.ofMinutes(1), false, false, false),
+    SERVER_ERROR(Duration.ofSeconds(30), false, false, false),
+    TIMEOUT(Duration.ofSeconds(30), false, false, true),
+    NETWORK_ERROR(Duration.ofSeconds(10), false, false, true);
+
+    private final Duration ttl;
+    private final boolean permanent;
+    private final boolean hostWide;
+    private final boolean retryable;
+
+    FailureClass(Duration defaultTtl, boolean permanent, boolean hostWide, boolean retryable) {
+        this.ttl = Duration.ofSeconds(EnvironmentConfig.getLong(
+                "RSS_CONNECTOR_NEGATIVE_TTL_" + name() + "_SECONDS", defaultTtl.getSeconds()));
+        this.permanent = permanent;
+        this.hostWide = hostWide;
+        this.retryable = retryable;
+    }
+
+    /**
+     * How long a failure of this class is served from the negative cache
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * Whether the failure usually needs the subscription to be fixed rather than waited out
+     */
+    public boolean permanent() {
+        return permanent;
+    }
+
+    /**
+     * Whether the failure applies to every feed of the host
+     */
+    public boolean hostWide() {
+        return hostWide;
+    }
+
+    /**
+     * Whether another attempt within the same call can succeed
+     */
+    public boolean retryable() {
+        return retryable;
+    }
+
+    /**
+     * Whether the host signals that it is overloaded, so fewer requests should be sent in parallel
+     */
+    public boolean overload() {
+        return this == RATE_LIMITED || this == SERVER_ERROR || this == TIMEOUT;
+    }
+
+    /**
+     * Name used in outputs, metrics and logs, e.g. not-found
+     */
+    public String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static FailureClass ofStatus(int status) {
+        if (status == 410) {
+            return GONE;
+        }
+        if (status == 404) {
+            return NOT_FOUND;
+        }
+        if (status == 429) {
+            return RATE_LIMITED;
+        }
+        if (status >= 500) {
+            return SERVER_ERROR;
+        }
+        return CLIENT_ERROR;
+    }
+
+    public static FailureClass ofException(Throwable e) {
+        if (e instanceof UnknownHostException) {
+            return UNKNOWN_HOST;
+        }
+        if (e instanceof ConnectException || e instanceof NoRouteToHostException) {
+            return UNREACHABLE_HOST;
+        }
+        if (e instanceof InterruptedIOException) {
+            return TIMEOUT;
+        }
+        return NETWORK_ERROR;
+    }
+}
@@ -0,0 +1,134 @@
+package io.camunda.connector.rss.cache;
+
+import io.camunda.connector.rss.state.InMemorySharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStores;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of raw feed bodies used for stale-while-revalidate and stale-if-error serving, kept in the
+ * shared state store so all runtimes of a cluster serve the same copy. Background refreshes run on a
+ * small bounded pool, at most one per feed at a time in this runtime.
+ */
+public class FeedCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeedCache.class);
+
+    public static final String NAMESPACE = "feed-cache";
+    public static final int MAX_BODY_CHARS = 5 * 1024 * 1024;
+
+    private static final int REFRESH_THREADS = 4;
+    private static final int REFRESH_QUEUE = 256;
+
+    private static final FeedCache SHARED = new FeedCache(SharedStateStores.shared(), refreshPool());
+
+    private final SharedStateStore store;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor;
+
+    /**
+     * Cache of at most maxFeeds feeds in memory
+     */
+    public FeedCache(int maxFeeds, ExecutorService refreshExecutor) {
+        this(new InMemorySharedStateStore(maxFeeds, Map.of()), refreshExecutor);
+    }
+
+    public FeedCache(SharedStateStore store, ExecutorService refreshExecutor) {
+        this.store = store;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Cache shared by all connector instances of the runtime
+     */
+    public static FeedCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Cache key of a feed URL; responses fetched with different credentials are cached separately
+     */
+    public static String key(String feedUrl, String authorization) {
+        if (authorization == null) {
+            return feedUrl;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(authorization.getBytes(StandardCharsets.UTF_8));
+            return feedUrl + "#" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public CachedFeed get(String key) {
+        return store.get(NAMESPACE, key, CachedFeed.CODEC);
+    }
+
+    /**
+     * Cache the feed
+     *
+     * @param retention time after which the copy may no longer be served, or null to keep it until evicted
+     */
+    public void put(String key, CachedFeed feed, Duration retention) {
+        if (feed.body().length() > MAX_BODY_CHARS) {
+            store.remove(NAMESPACE, key);
+            return;
+        }
+        store.put(NAMESPACE, key, feed, CachedFeed.CODEC, retention);
+    }
+
+    /**
+     * Run the refresh in the background unless one is already running for the key
+     *
+     * @return whether a refresh was started
+     */
+    public boolean refreshAsync(String key, Runnable refresh) {
+        if (!refreshing.add(key)) {
+            return false;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh.run();
+                } catch (RuntimeException e) {
+                    LOG.warn("Background refresh of {} failed: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            LOG.debug("Background refresh queue is full, not refreshing {}", key);
+            return false;
+        }
+    }
+
+    private static ExecutorService refreshPool() {
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE), runnable -> {
+                    Thread thread = new Thread(runnable, "rss-feed-refresh-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,125 @@
+package io.camunda.connector.rss.cache;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers recent feed failures so calls for broken feeds fail instantly instead of repeating DNS lookups,
+ * retries and backoff. Failures are kept per feed URL, and host-wide failures such as unknown hosts per host,
+ * for the TTL of their {@link FailureClass} or the Retry-After time sent by the server.
+ */
+public class NegativeCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = EnvironmentConfig.getInt("RSS_CONNECTOR_NEGATIVE_CACHE_MAX_ENTRIES", 10000);
+
+    private static final Duration MAX_RETRY_AFTER = Duration.ofHours(1);
+
+    private static final NegativeCache SHARED = new NegativeCache(DEFAULT_MAX_ENTRIES, System::currentTimeMillis);
+
+    private final Map<String, Failure> entries;
+    private final LongSupplier clock;
+
+    public NegativeCache(int maxEntries, LongSupplier clock) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Failure>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Failure> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.clock = clock;
+    }
+
+    /**
+     * Negative cache shared by all connector instances of the runtime
+     */
+    public static NegativeCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * The unexpired failure recorded for the feed or its host, or null
+     */
+    public Failure lookup(String feedUrl) {
+        Failure failure = unexpired(feedUrl);
+        if (failure == null) {
+            String host = hostKey(feedUrl);
+            failure = host != null ? unexpired(host) : null;
+        }
+        return failure;
+    }
+
+    /**
+     * Remember a failure of the feed
+     *
+     * @param retryAfter time the server asked clients to wait, used instead of the TTL when set
+     */
+    public Failure record(String feedUrl, FailureClass failureClass, String message, Duration retryAfter) {
+        long now = clock.getAsLong();
+        Duration ttl = retryAfter != null && !retryAfter.isNegative()
+                ? (retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter)
+                : failureClass.ttl();
+        Failure failure = new Failure(failureClass, message, now, now + ttl.toMillis());
+        String key = failureClass.hostWide() ? hostKey(feedUrl) : feedUrl;
+        entries.put(key != null ? key : feedUrl, failure);
+        return failure;
+    }
+
+    /**
+     * Forget the failure of a feed that was fetched successfully
+     */
+    public void clear(String feedUrl) {
+        entries.remove(feedUrl);
+    }
+
+    /**
+     * Forget all failures
+     *
+     * @return number of forgotten failures
+     */
+    public int clear() {
+        synchronized (entries) {
+            int size = entries.size();
+            entries.clear();
+            return size;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Failure unexpired(String key) {
+        Failure failure = entries.get(key);
+        if (failure != null && failure.expiresAtMillis() <= clock.getAsLong()) {
+            entries.remove(key, failure);
+            return null;
+        }
+        return failure;
+    }
+
+    private static String hostKey(String feedUrl) {
+        try {
+            URI uri = URI.create(feedUrl);
+            return uri.getHost() != null ? uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A remembered failure and until when it is served
+     */
+    public record Failure(FailureClass failureClass, String message, long failedAtMillis, long expiresAtMillis) {
+
+        public Instant expiresAt() {
+            return Instant.ofEpochMilli(expiresAtMillis);
+        }
+    }
+}
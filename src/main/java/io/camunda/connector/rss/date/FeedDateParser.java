@@ -0,0 +1,550 @@
+package io.camunda.connector.rss.date;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fast, lenient parser for feed dates (pubDate, published, updated, dc:date and newerThan).
+ *
+ * Common RFC 822 and ISO 8601 dates are handled by hand-rolled, allocation-free fast paths.
+ * Anything else goes through a lenient chain of {@link DateTimeFormatter} patterns covering
+ * frequently seen broken variants. The strategy that last succeeded for a feed is remembered and
+ * tried first for that feed. Failures are counted and logged at DEBUG without stack traces.
+ */
+public class FeedDateParser {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeedDateParser.class);
+
+    public static final FeedDateParser SHARED = new FeedDateParser();
+
+    /** Returned when a date cannot be parsed */
+    public static final long UNPARSEABLE = Long.MIN_VALUE;
+
+    private static final int MAX_CACHED_FEEDS = 10_000;
+
+    private static final int STRATEGY_ISO = 0;
+    private static final int STRATEGY_RFC822 = 1;
+
+    // Lenient fallback chain, tried in order after the fast paths
+    private static final List<DateTimeFormatter> FALLBACK_FORMATS = List.of(
+            pattern("EEE, d MMM yyyy HH:mm[:ss] zzz"),
+            pattern("EEE MMM d HH:mm:ss zzz yyyy"),
+            pattern("yyyy-MM-dd HH:mm[:ss][.SSS][ XXX][ zzz]"),
+            pattern("yyyy/MM/dd[ HH:mm[:ss]]"),
+            pattern("MMMM d, yyyy[ h:mm[:ss] a][ zzz]"),
+            pattern("MMM d, yyyy[ h:mm[:ss] a][ zzz]"),
+            pattern("[EEEE, ][EEE, ]d MMMM yyyy[ HH:mm[:ss]][ zzz]"),
+            pattern("d MMM yyyy[ HH:mm[:ss]][ zzz]"),
+            pattern("yyyyMMdd'T'HHmmss[X]"),
+            pattern("dd.MM.yyyy[ HH:mm[:ss]]"),
+            DateTimeFormatter.ISO_ZONED_DATE_TIME,
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+    private static final int STRATEGY_COUNT = 2 + FALLBACK_FORMATS.size();
+
+    private final ConcurrentHashMap<String, Integer> formatCache = new ConcurrentHashMap<>();
+    private final LongAdder parsed = new LongAdder();
+    private final LongAdder fallbackParsed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Parse a date without a feed context
+     *
+     * @return epoch millis or {@link #UNPARSEABLE}
+     */
+    public long parse(String text) {
+        return parse(text, null);
+    }
+
+    /**
+     * Parse a date, trying the strategy that last worked for the given feed first
+     *
+     * @param feedKey key of the feed the date belongs to (e.g. its URL), or null
+     * @return epoch millis or {@link #UNPARSEABLE}
+     */
+    public long parse(String text, String feedKey) {
+        if (text == null) {
+            return UNPARSEABLE;
+        }
+        String value = clean(text);
+        if (value.isEmpty()) {
+            return UNPARSEABLE;
+        }
+
+        Integer cached = feedKey != null ? formatCache.get(feedKey) : null;
+        if (cached != null) {
+            long millis = tryStrategy(cached, value);
+            if (millis != UNPARSEABLE) {
+                parsed.increment();
+                return millis;
+            }
+        }
+
+        for (int strategy = 0; strategy < STRATEGY_COUNT; strategy++) {
+            if (cached != null && strategy == cached) {
+                continue;
+            }
+            long millis = tryStrategy(strategy, value);
+            if (millis != UNPARSEABLE) {
+                parsed.increment();
+                if (strategy > STRATEGY_RFC822) {
+                    fallbackParsed.increment();
+                }
+                remember(feedKey, strategy);
+                return millis;
+            }
+        }
+
+        failed.increment();
+        LOG.debug("Unparseable date '{}' (feed: {})", text, feedKey);
+        return UNPARSEABLE;
+    }
+
+    public long getParsedCount() {
+        return parsed.sum();
+    }
+
+    public long getFallbackParsedCount() {
+        return fallbackParsed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public void clearCache() {
+        formatCache.clear();
+    }
+
+    private void remember(String feedKey, int strategy) {
+        if (feedKey == null) {
+            return;
+        }
+        if (formatCache.size() >= MAX_CACHED_FEEDS) {
+            formatCache.clear();
+        }
+        formatCache.put(feedKey, strategy);
+    }
+
+    private static long tryStrategy(int strategy, String value) {
+        switch (strategy) {
+            case STRATEGY_ISO:
+                return parseIso(value);
+            case STRATEGY_RFC822:
+                return parseRfc822(value);
+            default:
+                return parseWithFormatter(FALLBACK_FORMATS.get(strategy - 2), value);
+        }
+    }
+
+    // ---------- ISO 8601 fast path: yyyy-MM-dd[('T'|' ')HH:mm[:ss[.fraction]][Z|+hh[:]mm]] ----------
+
+    static long parseIso(String s) {
+        int len = s.length();
+        if (len < 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return UNPARSEABLE;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return UNPARSEABLE;
+        }
+        if (len == 10) {
+            return toEpochMillis(year, month, day, 0, 0, 0, 0, 0);
+        }
+
+        char separator = s.charAt(10);
+        if ((separator != 'T' && separator != 't' && separator != ' ') || len < 16 || s.charAt(13) != ':') {
+            return UNPARSEABLE;
+        }
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        if (hour < 0 || minute < 0) {
+            return UNPARSEABLE;
+        }
+
+        int pos = 16;
+        int second = 0;
+        int millis = 0;
+        if (pos < len && s.charAt(pos) == ':') {
+            second = pos + 3 <= len ? digits(s, pos + 1, 2) : -1;
+            if (second < 0) {
+                return UNPARSEABLE;
+            }
+            pos += 3;
+            if (pos < len && (s.charAt(pos) == '.' || s.charAt(pos) == ',')) {
+                pos++;
+                int fractionDigits = 0;
+                while (pos < len && isDigit(s.charAt(pos))) {
+                    if (fractionDigits < 3) {
+                        millis = millis * 10 + (s.charAt(pos) - '0');
+                    }
+                    fractionDigits++;
+                    pos++;
+                }
+                if (fractionDigits == 0) {
+                    return UNPARSEABLE;
+                }
+                for (int i = fractionDigits; i < 3; i++) {
+                    millis *= 10;
+                }
+            }
+        }
+
+        int offsetSeconds = 0;
+        if (pos < len) {
+            char zone = s.charAt(pos);
+            if (zone == ' ' && pos + 1 < len) {
+                zone = s.charAt(++pos);
+            }
+            if (zone == 'Z' || zone == 'z') {
+                pos++;
+            } else if (zone == '+' || zone == '-') {
+                int offset = parseNumericOffset(s, pos + 1, len);
+                if (offset < 0) {
+                    return UNPARSEABLE;
+                }
+                offsetSeconds = zone == '-' ? -offset : offset;
+                pos = len;
+            } else {
+                return UNPARSEABLE;
+            }
+        }
+        if (pos != len) {
+            return UNPARSEABLE;
+        }
+        return toEpochMillis(year, month, day, hour, minute, second, millis, offsetSeconds);
+    }
+
+    // ---------- RFC 822 / 1123 fast path: [EEE[,]] d MMM yy[yy] [HH:mm[:ss]] [zone] ----------
+
+    static long parseRfc822(String s) {
+        int len = s.length();
+        int pos = 0;
+
+        // Optional day of week (ignored, broken feeds often get it wrong)
+        if (pos < len && isLetter(s.charAt(pos))) {
+            while (pos < len && isLetter(s.charAt(pos))) {
+                pos++;
+            }
+            if (pos < len && (s.charAt(pos) == ',' || s.charAt(pos) == '.')) {
+                pos++;
+            }
+            pos = skipSpaces(s, pos, len);
+        }
+
+        int dayStart = pos;
+        while (pos < len && isDigit(s.charAt(pos)) && pos - dayStart < 2) {
+            pos++;
+        }
+        if (pos == dayStart) {
+            return UNPARSEABLE;
+        }
+        int day = digits(s, dayStart, pos - dayStart);
+        pos = skipSeparator(s, pos, len);
+
+        int monthStart = pos;
+        while (pos < len && isLetter(s.charAt(pos))) {
+            pos++;
+        }
+        int month = pos - monthStart >= 3 ? monthIndex(s, monthStart) : -1;
+        if (month < 0) {
+            return UNPARSEABLE;
+        }
+        if (pos < len && s.charAt(pos) == '.') {
+            pos++;
+        }
+        pos = skipSeparator(s, pos, len);
+
+        int yearStart = pos;
+        while (pos < len && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        int yearDigits = pos - yearStart;
+        if (yearDigits != 2 && yearDigits != 4) {
+            return UNPARSEABLE;
+        }
+        int year = digits(s, yearStart, yearDigits);
+        if (yearDigits == 2) {
+            year += year < 50 ? 2000 : 1900;
+        }
+
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int offsetSeconds = 0;
+        pos = skipSpaces(s, pos, len);
+        if (pos < len && isDigit(s.charAt(pos))) {
+            int hourStart = pos;
+            while (pos < len && isDigit(s.charAt(pos)) && pos - hourStart < 2) {
+                pos++;
+            }
+            hour = digits(s, hourStart, pos - hourStart);
+            if (pos + 3 > len || s.charAt(pos) != ':') {
+                return UNPARSEABLE;
+            }
+            minute = digits(s, pos + 1, 2);
+            pos += 3;
+            if (pos < len && s.charAt(pos) == ':') {
+                second = pos + 3 <= len ? digits(s, pos + 1, 2) : -1;
+                pos += 3;
+            }
+            if (minute < 0 || second < 0) {
+                return UNPARSEABLE;
+            }
+            pos = skipSpaces(s, pos, len);
+            if (pos < len) {
+                int offset = parseZone(s, pos, len);
+                if (offset == Integer.MIN_VALUE) {
+                    return UNPARSEABLE;
+                }
+                offsetSeconds = offset;
+                pos = len;
+            }
+        }
+        if (pos != len) {
+            return UNPARSEABLE;
+        }
+        return toEpochMillis(year, month, day, hour, minute, second, 0, offsetSeconds);
+    }
+
+    /**
+     * Parse the zone part of an RFC 822 date; returns the offset in seconds or Integer.MIN_VALUE
+     */
+    private static int parseZone(String s, int pos, int len) {
+        char first = s.charAt(pos);
+        if (first == '+' || first == '-') {
+            int offset = parseNumericOffset(s, pos + 1, len);
+            return offset < 0 ? Integer.MIN_VALUE : (first == '-' ? -offset : offset);
+        }
+        String zone = s.substring(pos).toUpperCase(Locale.ROOT);
+        if (zone.startsWith("GMT") || zone.startsWith("UTC")) {
+            if (zone.length() == 3) {
+                return 0;
+            }
+            char sign = zone.charAt(3);
+            if (sign != '+' && sign != '-') {
+                return Integer.MIN_VALUE;
+            }
+            int offset = parseNumericOffset(zone, 4, zone.length());
+            return offset < 0 ? Integer.MIN_VALUE : (sign == '-' ? -offset : offset);
+        }
+        switch (zone) {
+            case "UT":
+            case "Z":
+                return 0;
+            case "EST":
+                return -5 * 3600;
+            case "EDT":
+                return -4 * 3600;
+            case "CST":
+                return -6 * 3600;
+            case "CDT":
+                return -5 * 3600;
+            case "MST":
+                return -7 * 3600;
+            case "MDT":
+                return -6 * 3600;
+            case "PST":
+                return -8 * 3600;
+            case "PDT":
+                return -7 * 3600;
+            default:
+                // Other named zones (CET, BST, ...) are left to the fallback chain
+                return Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Parse hh, hhmm or hh:mm; returns the offset in seconds or -1
+     */
+    private static int parseNumericOffset(String s, int pos, int len) {
+        int remaining = len - pos;
+        int hours;
+        int minutes = 0;
+        if (remaining == 2) {
+            hours = digits(s, pos, 2);
+        } else if (remaining == 4) {
+            hours = digits(s, pos, 2);
+            minutes = digits(s, pos + 2, 2);
+        } else if (remaining == 5 && s.charAt(pos + 2) == ':') {
+            hours = digits(s, pos, 2);
+            minutes = digits(s, pos + 3, 2);
+        } else {
+            return -1;
+        }
+        if (hours < 0 || minutes < 0 || hours > 18 || minutes > 59) {
+            return -1;
+        }
+        return hours * 3600 + minutes * 60;
+    }
+
+    private static int monthIndex(String s, int start) {
+        char a = Character.toLowerCase(s.charAt(start));
+        char b = Character.toLowerCase(s.charAt(start + 1));
+        char c = Character.toLowerCase(s.charAt(start + 2));
+        switch (a) {
+            case 'j':
+                if (b == 'a' && c == 'n') return 1;
+                if (b == 'u' && c == 'n') return 6;
+                if (b == 'u' && c == 'l') return 7;
+                return -1;
+            case 'f':
+                return b == 'e' && c == 'b' ? 2 : -1;
+            case 'm':
+                if (b == 'a' && c == 'r') return 3;
+                if (b == 'a' && c == 'y') return 5;
+                return -1;
+            case 'a':
+                if (b == 'p' && c == 'r') return 4;
+                if (b == 'u' && c == 'g') return 8;
+                return -1;
+            case 's':
+                return b == 'e' && c == 'p' ? 9 : -1;
+            case 'o':
+                return b == 'c' && c == 't' ? 10 : -1;
+            case 'n':
+                return b == 'o' && c == 'v' ? 11 : -1;
+            case 'd':
+                return b == 'e' && c == 'c' ? 12 : -1;
+            default:
+                return -1;
+        }
+    }
+
+    // ---------- Lenient fallback ----------
+
+    private static long parseWithFormatter(DateTimeFormatter formatter, String value) {
+        try {
+            TemporalAccessor parsedValue = formatter.parseBest(value, ZonedDateTime::from, LocalDateTime::from, LocalDate::from);
+            if (parsedValue instanceof ZonedDateTime zoned) {
+                return zoned.toInstant().toEpochMilli();
+            }
+            if (parsedValue instanceof LocalDateTime local) {
+                return local.toInstant(ZoneOffset.UTC).toEpochMilli();
+            }
+            return ((LocalDate) parsedValue).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        } catch (DateTimeParseException | ClassCastException e) {
+            return UNPARSEABLE;
+        }
+    }
+
+    private static DateTimeFormatter pattern(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .parseLenient()
+                .appendPattern(pattern)
+                .toFormatter(Locale.ENGLISH);
+    }
+
+    /**
+     * Trim, collapse whitespace runs and strip trailing comments such as "(Coordinated Universal Time)"
+     */
+    static String clean(String text) {
+        String value = text.trim();
+        int comment = value.indexOf('(');
+        if (comment > 0 && value.endsWith(")")) {
+            value = value.substring(0, comment).trim();
+        }
+        boolean needsCollapse = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c) && (c != ' ' || (i > 0 && value.charAt(i - 1) == ' '))) {
+                needsCollapse = true;
+                break;
+            }
+        }
+        return needsCollapse ? value.replaceAll("\\s+", " ") : value;
+    }
+
+    // ---------- Helpers ----------
+
+    private static long toEpochMillis(int year, int month, int day, int hour, int minute, int second,
+                                      int millis, int offsetSeconds) {
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) ||
+            hour > 23 || minute > 59 || second > 60) {
+            return UNPARSEABLE;
+        }
+        long epochDay = daysFromCivil(year, month, day);
+        long seconds = epochDay * 86400L + hour * 3600L + minute * 60L + Math.min(second, 59) - offsetSeconds;
+        return seconds * 1000L + millis;
+    }
+
+    /**
+     * Days since 1970-01-01 for a proleptic Gregorian date
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int digits(String s, int start, int count) {
+        if (start + count > s.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int skipSpaces(String s, int pos, int len) {
+        while (pos < len && s.charAt(pos) == ' ') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipSeparator(String s, int pos, int len) {
+        while (pos < len && (s.charAt(pos) == ' ' || s.charAt(pos) == '-' || s.charAt(pos) == '/')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
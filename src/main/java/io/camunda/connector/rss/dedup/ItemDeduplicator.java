@@ -0,0 +1,156 @@
+package io.camunda.connector.rss.dedup;
+
+import io.camunda.connector.rss.model.CompactItem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collapses duplicate stories in a batch of items, typically merged from several feeds.
+ *
+ * Items are compared in three stages: canonicalized links, an exact hash of the normalized
+ * title, description and content, and MinHash signatures of title and description for near
+ * duplicates. Signatures are looked up through an LSH index of 20 bands of 5 rows, so only items
+ * sharing a band are compared and a batch is processed in near-linear time. Pairs with a Jaccard
+ * similarity of 0.7 are found with a probability of about 97%. The first occurrence of a story is kept.
+ * Items with fewer than five tokens of text, such as a bare "Daily update" title, are only merged by link.
+ */
+public class ItemDeduplicator {
+
+    public static final double DEFAULT_SIMILARITY = 0.7;
+
+    private static final int BANDS = 20;
+    private static final int ROWS = MinHash.SIGNATURE_LENGTH / BANDS;
+    // Hashes and signatures of very short texts match distinct items too often
+    private static final int MIN_TOKENS = 5;
+
+    private final double similarity;
+
+    public ItemDeduplicator() {
+        this(DEFAULT_SIMILARITY);
+    }
+
+    /**
+     * @param similarity minimum estimated Jaccard similarity of near duplicates
+     */
+    public ItemDeduplicator(double similarity) {
+        if (similarity <= 0 || similarity > 1) {
+            throw new IllegalArgumentException("similarity must be greater than 0 and at most 1");
+        }
+        this.similarity = similarity;
+    }
+
+    public DedupResult deduplicate(List<CompactItem> items) {
+        List<CompactItem> kept = new ArrayList<>(items.size());
+        Set<String> links = new HashSet<>();
+        Set<Long> contentHashes = new HashSet<>();
+        Map<Long, List<int[]>> bands = new HashMap<>();
+        int linkDuplicates = 0;
+        int contentDuplicates = 0;
+        int nearDuplicates = 0;
+
+        for (CompactItem item : items) {
+            String link = LinkCanonicalizer.canonicalize(item.link());
+            if (link != null && links.contains(link)) {
+                linkDuplicates++;
+                continue;
+            }
+
+            List<String> tokens = MinHash.tokenize(join(item.title(), item.description()));
+            List<String> contentTokens = item.content() != null ? MinHash.tokenize(item.content()) : List.of();
+            Long contentHash = tokens.size() + contentTokens.size() < MIN_TOKENS ? null
+                    : contentHash(tokens, contentTokens);
+            if (contentHash != null && contentHashes.contains(contentHash)) {
+                contentDuplicates++;
+                continue;
+            }
+
+            int[] signature = null;
+            long[] bandKeys = null;
+            if (tokens.size() >= MIN_TOKENS) {
+                signature = MinHash.signature(tokens);
+                bandKeys = bandKeys(signature);
+                if (hasNearDuplicate(bands, bandKeys, signature)) {
+                    nearDuplicates++;
+                    continue;
+                }
+            }
+
+            kept.add(item);
+            if (link != null) {
+                links.add(link);
+            }
+            if (contentHash != null) {
+                contentHashes.add(contentHash);
+            }
+            if (signature != null) {
+                for (long bandKey : bandKeys) {
+                    bands.computeIfAbsent(bandKey, key -> new ArrayList<>(1)).add(signature);
+                }
+            }
+        }
+        return new DedupResult(kept, linkDuplicates, contentDuplicates, nearDuplicates);
+    }
+
+    private boolean hasNearDuplicate(Map<Long, List<int[]>> bands, long[] bandKeys, int[] signature) {
+        for (long bandKey : bandKeys) {
+            List<int[]> candidates = bands.get(bandKey);
+            if (candidates != null) {
+                for (int[] candidate : candidates) {
+                    if (MinHash.similarity(signature, candidate) >= similarity) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hash of each band of rows, salted with the band number
+     */
+    private static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                key = key * 0x100000001b3L + signature[row];
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static long contentHash(List<String> tokens, List<String> contentTokens) {
+        long hash = 17;
+        for (String token : tokens) {
+            hash = hash * 31 + MinHash.hash(token);
+        }
+        hash = hash * 31;
+        for (String token : contentTokens) {
+            hash = hash * 31 + MinHash.hash(token);
+        }
+        return hash;
+    }
+
+    private static String join(String title, String description) {
+        if (title == null) {
+            return description;
+        }
+        return description != null ? title + ' ' + description : title;
+    }
+
+    /**
+     * Items left after deduplication with the number of duplicates removed per stage
+     */
+    public record DedupResult(List<CompactItem> items, int linkDuplicates, int contentDuplicates, int nearDuplicates) {
+
+        public int removed() {
+            return linkDuplicates + contentDuplicates + nearDuplicates;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.camunda.connector.rss.dedup;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Canonicalizes item links so the same story linked through different tracking URLs compares equal.
+ * Drops tracking query parameters, the fragment, a leading "www.", default ports and trailing
+ * slashes, and sorts the remaining query parameters.
+ * <p>
+ * Only parameters that are unambiguously trackers are dropped by default, since names like "ref" or
+ * "source" select content on some sites. Further names are added with RSS_CONNECTOR_TRACKING_PARAMETERS
+ * (comma separated).
+ */
+public final class LinkCanonicalizer {
+
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "yclid", "igshid", "mc_cid", "mc_eid", "_ga", "_gl", "ref_src");
+
+    private static final Set<String> EXTRA_TRACKING_PARAMETERS =
+            parseNames(EnvironmentConfig.getString("RSS_CONNECTOR_TRACKING_PARAMETERS", ""));
+
+    private LinkCanonicalizer() {
+    }
+
+    /**
+     * Canonical form of an http(s) link, or the trimmed link itself if it cannot be parsed
+     */
+    public static String canonicalize(String link) {
+        return canonicalize(link, EXTRA_TRACKING_PARAMETERS);
+    }
+
+    static String canonicalize(String link, Set<String> extraTrackingParameters) {
+        if (link == null) {
+            return null;
+        }
+        String trimmed = link.trim();
+        HttpUrl url = HttpUrl.parse(trimmed);
+        if (url == null) {
+            return trimmed;
+        }
+
+        String host = url.host().toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+
+        StringBuilder canonical = new StringBuilder(trimmed.length());
+        // http and https variants of a link point to the same story
+        canonical.append(host);
+        if (url.port() != HttpUrl.defaultPort(url.scheme())) {
+            canonical.append(':').append(url.port());
+        }
+
+        String path = url.encodedPath();
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        canonical.append(path, 0, end);
+
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < url.querySize(); i++) {
+            String name = url.queryParameterName(i);
+            if (!isTrackingParameter(name, extraTrackingParameters)) {
+                String value = url.queryParameterValue(i);
+                parameters.add(value != null ? name + '=' + value : name);
+            }
+        }
+        if (!parameters.isEmpty()) {
+            parameters.sort(null);
+            canonical.append('?').append(String.join("&", parameters));
+        }
+        return canonical.toString();
+    }
+
+    static boolean isTrackingParameter(String name, Set<String> extraTrackingParameters) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return lower.startsWith("utm_") || TRACKING_PARAMETERS.contains(lower) || extraTrackingParameters.contains(lower);
+    }
+
+    static Set<String> parseNames(String names) {
+        return Arrays.stream(names.split(","))
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
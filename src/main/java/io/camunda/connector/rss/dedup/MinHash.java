@@ -0,0 +1,122 @@
+package io.camunda.connector.rss.dedup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MinHash signatures over the words and adjacent word pairs of normalized text. The fraction of
+ * equal signature slots estimates the Jaccard similarity of two texts.
+ */
+public final class MinHash {
+
+    public static final int SIGNATURE_LENGTH = 100;
+
+    private static final long[] SEEDS = new long[SIGNATURE_LENGTH];
+
+    static {
+        long seed = 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seed += 0x9e3779b97f4a7c15L;
+            SEEDS[i] = mix(seed);
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * Lower-case words of the text, ignoring punctuation and markup tags
+     */
+    public static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        boolean inTag = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '<') {
+                inTag = true;
+                flush(token, tokens);
+            } else if (c == '>') {
+                inTag = false;
+            } else if (!inTag && Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (!inTag && c != '\'' && c != '’') {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    /**
+     * Signature over single words and adjacent word pairs
+     */
+    public static int[] signature(List<String> tokens) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        long previous = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            long hash = hash(tokens.get(i));
+            update(signature, hash);
+            if (i > 0) {
+                update(signature, mix(previous * 31 + hash));
+            }
+            previous = hash;
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the texts behind two signatures
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    /**
+     * 64-bit FNV-1a hash followed by a finalizer
+     */
+    static long hash(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static void update(int[] signature, long feature) {
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            int value = (int) (mix(feature ^ SEEDS[i]) >>> 33);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+            token.setLength(0);
+        }
+    }
+}
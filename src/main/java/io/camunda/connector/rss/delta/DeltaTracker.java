@@ -0,0 +1,200 @@
+package io.camunda.connector.rss.delta;
+
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.state.InMemorySharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStores;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Keeps a snapshot per feed and computes which items are new, changed or gone since the previous
+ * call. Snapshots are kept in the shared state store, bounded by feed count and items per feed.
+ */
+public class DeltaTracker {
+
+    public static final String NAMESPACE = "delta-snapshot";
+    public static final int MAX_ITEMS_PER_SNAPSHOT = 10_000;
+
+    private static final DeltaTracker SHARED = new DeltaTracker(SharedStateStores.shared());
+
+    private final SharedStateStore store;
+
+    /**
+     * Tracker keeping at most maxFeeds snapshots in memory
+     */
+    public DeltaTracker(int maxFeeds) {
+        this(new InMemorySharedStateStore(maxFeeds, Map.of()));
+    }
+
+    public DeltaTracker(SharedStateStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Tracker shared by all connector instances of the runtime
+     */
+    public static DeltaTracker shared() {
+        return SHARED;
+    }
+
+    public FeedSnapshot snapshot(String key) {
+        return store.get(NAMESPACE, key, FeedSnapshot.CODEC);
+    }
+
+    /**
+     * Record new validators for a feed whose content did not change
+     */
+    public void touch(String key, String etag, String lastModified) {
+        FeedSnapshot snapshot = snapshot(key);
+        if (snapshot != null) {
+            store.put(NAMESPACE, key, snapshot.withValidators(etag, lastModified), FeedSnapshot.CODEC, null);
+        }
+    }
+
+    /**
+     * Compare the items with the snapshot of the feed and replace the snapshot with them
+     *
+     * @param updatedDates   updated date of each item in epoch millis or {@link CompactItem#NO_DATE}, or null
+     * @param includeRemoved whether to report GUIDs of items no longer in the feed
+     */
+    public DeltaResult diff(String key, List<CompactItem> items, long[] updatedDates, boolean includeRemoved,
+                            String etag, String lastModified, long bodyHash, String feedTitle) {
+        return diff(key, items, updatedDates, item -> true, Integer.MAX_VALUE, includeRemoved, etag, lastModified,
+                bodyHash, feedTitle);
+    }
+
+    /**
+     * Compare all items of the feed with its snapshot and replace the snapshot with them, reporting only changed
+     * items the selection accepts, at most maxChanged of them. Selected changes past that limit keep their previous
+     * state in the snapshot, so they are reported by a later call; changes the selection rejects are recorded
+     * without being reported.
+     *
+     * @param updatedDates   updated date of each item in epoch millis or {@link CompactItem#NO_DATE}, or null
+     * @param includeRemoved whether to report GUIDs of items no longer in the feed
+     */
+    public DeltaResult diff(String key, List<CompactItem> items, long[] updatedDates, Predicate<CompactItem> selection,
+                            int maxChanged, boolean includeRemoved, String etag, String lastModified, long bodyHash,
+                            String feedTitle) {
+        int count = Math.min(items.size(), MAX_ITEMS_PER_SNAPSHOT);
+        long[] keyHashes = new long[count];
+        long[] contentHashes = new long[count];
+        for (int i = 0; i < count; i++) {
+            CompactItem item = items.get(i);
+            keyHashes[i] = keyHash(item);
+            contentHashes[i] = contentHash(item, updatedDates != null ? updatedDates[i] : CompactItem.NO_DATE);
+        }
+
+        FeedSnapshot previous = snapshot(key);
+        List<CompactItem> changed = new ArrayList<>();
+        List<String> updatedGuids = new ArrayList<>();
+        List<Integer> order = new ArrayList<>(count);
+        int newItems = 0;
+        for (int i = 0; i < count; i++) {
+            long previousHash = previous != null ? previous.contentHash(keyHashes[i]) : 0;
+            if (previousHash != contentHashes[i] && selection.test(items.get(i))) {
+                if (changed.size() >= maxChanged) {
+                    // Deferred: new items stay out of the snapshot, updated ones keep their previous content
+                    if (previousHash == 0) {
+                        continue;
+                    }
+                    contentHashes[i] = previousHash;
+                } else if (previousHash == 0) {
+                    changed.add(items.get(i));
+                    newItems++;
+                } else {
+                    changed.add(items.get(i));
+                    updatedGuids.add(identity(items.get(i)));
+                }
+            }
+            order.add(i);
+        }
+
+        // Sort the new snapshot by key hash for binary search lookups
+        order.sort((a, b) -> Long.compare(keyHashes[a], keyHashes[b]));
+        int size = order.size();
+        long[] sortedKeys = new long[size];
+        long[] sortedContent = new long[size];
+        String[] sortedGuids = new String[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keyHashes[order.get(i)];
+            sortedContent[i] = contentHashes[order.get(i)];
+            sortedGuids[i] = identity(items.get(order.get(i)));
+        }
+
+        List<String> removedGuids = null;
+        if (includeRemoved) {
+            removedGuids = new ArrayList<>();
+            if (previous != null) {
+                for (int i = 0; i < previous.keyHashes.length; i++) {
+                    if (Arrays.binarySearch(sortedKeys, previous.keyHashes[i]) < 0) {
+                        removedGuids.add(previous.guids[i]);
+                    }
+                }
+            }
+        }
+
+        store.put(NAMESPACE, key, new FeedSnapshot(sortedKeys, sortedContent, sortedGuids, etag, lastModified, bodyHash, feedTitle),
+                FeedSnapshot.CODEC, null);
+        return new DeltaResult(changed, newItems, updatedGuids, removedGuids, previous == null);
+    }
+
+    /**
+     * 64-bit hash of a response body, used to skip parsing when the body did not change
+     */
+    public static long bodyHash(String body) {
+        return hash(0xcbf29ce484222325L, body);
+    }
+
+    private static String identity(CompactItem item) {
+        if (item.guid() != null) {
+            return item.guid();
+        }
+        return item.link() != null ? item.link() : item.title();
+    }
+
+    private static long keyHash(CompactItem item) {
+        return nonZero(hash(0xcbf29ce484222325L, identity(item)));
+    }
+
+    private static long contentHash(CompactItem item, long updatedMillis) {
+        long hash = 0xcbf29ce484222325L;
+        hash = hash(hash, item.title());
+        hash = hash(hash, item.description());
+        hash = hash(hash, item.content());
+        hash = (hash ^ item.pubDateMillis()) * 0x100000001b3L;
+        hash = (hash ^ updatedMillis) * 0x100000001b3L;
+        return nonZero(hash);
+    }
+
+    /**
+     * FNV-1a over the characters of the value, with a separator so field boundaries count
+     */
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+        hash ^= 0x1F;
+        hash *= 0x100000001b3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long nonZero(long hash) {
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Changed items in feed order (new and updated) with the GUIDs of updated and removed items
+     */
+    public record DeltaResult(List<CompactItem> changed, int newItems, List<String> updatedGuids,
+                              List<String> removedGuids, boolean firstSnapshot) {
+    }
+}
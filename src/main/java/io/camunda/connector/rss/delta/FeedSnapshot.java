@@ -0,0 +1,102 @@
+package io.camunda.connector.rss.delta;
+
+import io.camunda.connector.rss.state.StateCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compact state of a feed as last returned: item key hashes in ascending order with the content
+ * hash and GUID of each item, plus the validators and body hash of the response
+ */
+public final class FeedSnapshot {
+
+    static final StateCodec<FeedSnapshot> CODEC = new StateCodec<>() {
+        @Override
+        public void write(FeedSnapshot snapshot, DataOutput out) throws IOException {
+            out.writeInt(snapshot.keyHashes.length);
+            for (int i = 0; i < snapshot.keyHashes.length; i++) {
+                out.writeLong(snapshot.keyHashes[i]);
+                out.writeLong(snapshot.contentHashes[i]);
+                StateCodec.writeString(out, snapshot.guids[i]);
+            }
+            StateCodec.writeString(out, snapshot.etag);
+            StateCodec.writeString(out, snapshot.lastModified);
+            out.writeLong(snapshot.bodyHash);
+            StateCodec.writeString(out, snapshot.feedTitle);
+        }
+
+        @Override
+        public FeedSnapshot read(DataInput in) throws IOException {
+            int size = in.readInt();
+            long[] keyHashes = new long[size];
+            long[] contentHashes = new long[size];
+            String[] guids = new String[size];
+            for (int i = 0; i < size; i++) {
+                keyHashes[i] = in.readLong();
+                contentHashes[i] = in.readLong();
+                guids[i] = StateCodec.readString(in);
+            }
+            return new FeedSnapshot(keyHashes, contentHashes, guids, StateCodec.readString(in),
+                    StateCodec.readString(in), in.readLong(), StateCodec.readString(in));
+        }
+    };
+
+    final long[] keyHashes;
+    final long[] contentHashes;
+    final String[] guids;
+    private final String etag;
+    private final String lastModified;
+    private final long bodyHash;
+    private final String feedTitle;
+
+    FeedSnapshot(long[] keyHashes, long[] contentHashes, String[] guids, String etag, String lastModified,
+                 long bodyHash, String feedTitle) {
+        this.keyHashes = keyHashes;
+        this.contentHashes = contentHashes;
+        this.guids = guids;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.bodyHash = bodyHash;
+        this.feedTitle = feedTitle;
+    }
+
+    /**
+     * Same items with new response validators, used when the feed did not change
+     */
+    FeedSnapshot withValidators(String etag, String lastModified) {
+        return new FeedSnapshot(keyHashes, contentHashes, guids,
+                etag != null ? etag : this.etag, lastModified != null ? lastModified : this.lastModified,
+                bodyHash, feedTitle);
+    }
+
+    /**
+     * Content hash of the item with the key hash, or 0 if the item is not in the snapshot
+     */
+    long contentHash(long keyHash) {
+        int index = Arrays.binarySearch(keyHashes, keyHash);
+        return index >= 0 ? contentHashes[index] : 0;
+    }
+
+    public int size() {
+        return keyHashes.length;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public long getBodyHash() {
+        return bodyHash;
+    }
+
+    public String getFeedTitle() {
+        return feedTitle;
+    }
+}
@@ -0,0 +1,328 @@
+package io.camunda.connector.rss.download;
+
+import io.camunda.connector.rss.cache.FailureClass;
+import io.camunda.connector.rss.dto.RssEnclosureDownload;
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import io.camunda.connector.rss.service.UrlValidator;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+import okio.Throttler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streams enclosures to files in a download directory. Bodies pass through Okio segments straight into the file
+ * while their SHA-256 is computed, so no file is held in memory. Interrupted downloads stay as .part files and are
+ * resumed with a Range request, unless they exceeded the maximum size; completed ones are kept with their hash and
+ * not downloaded again. At most maxConcurrent downloads run at a time, all of them together limited to the global
+ * bandwidth.
+ * <p>
+ * A download holds a slot of the host's concurrency limit until its body is written, so downloads and feed fetches
+ * together stay within what the host handles. Only the time to the response headers is recorded as the host's
+ * latency, and a download never grows the limit, since its duration depends on the file size; a 429 or 5xx answer
+ * backs the limit off.
+ */
+public class EnclosureDownloader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnclosureDownloader.class);
+
+    public static final String DOWNLOADED = "downloaded";
+    public static final String RESUMED = "resumed";
+    public static final String EXISTING = "existing";
+    public static final String FAILED = "failed";
+
+    static final int DEFAULT_MAX_CONCURRENT = 4;
+    static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024 * 1024;
+
+    private static final long SEGMENT_BYTES = 64 * 1024;
+    private static final Pattern CONTENT_RANGE_START = Pattern.compile("bytes (\\d+)-");
+    private static final Pattern UNSAFE_FILE_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+
+    private static volatile EnclosureDownloader shared;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final Throttler globalThrottler;
+    private final ExecutorService executor;
+    private final Set<Path> inProgress = ConcurrentHashMap.newKeySet();
+    private final HostConcurrencyLimiter concurrencyLimiter;
+    private final HostLatencyTracker latencyTracker;
+
+    public EnclosureDownloader(Path directory, int maxConcurrent, long globalBytesPerSecond, long maxBytes) throws IOException {
+        this(directory, maxConcurrent, globalBytesPerSecond, maxBytes, HostConcurrencyLimiter.shared(),
+                HostLatencyTracker.shared());
+    }
+
+    public EnclosureDownloader(Path directory, int maxConcurrent, long globalBytesPerSecond, long maxBytes,
+                               HostConcurrencyLimiter concurrencyLimiter, HostLatencyTracker latencyTracker)
+            throws IOException {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.latencyTracker = latencyTracker;
+        this.directory = directory.toAbsolutePath();
+        this.maxBytes = maxBytes;
+        this.globalThrottler = globalBytesPerSecond > 0 ? throttler(globalBytesPerSecond) : null;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrent), runnable -> {
+            Thread thread = new Thread(runnable, "rss-enclosure-download");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Files.createDirectories(this.directory);
+    }
+
+    /**
+     * Shared downloader configured through environment variables, or null if RSS_CONNECTOR_DOWNLOAD_DIR is not set
+     */
+    public static EnclosureDownloader fromEnvironment() {
+        String downloadDirectory = EnvironmentConfig.getString("RSS_CONNECTOR_DOWNLOAD_DIR", null);
+        if (downloadDirectory == null) {
+            return null;
+        }
+        EnclosureDownloader downloader = shared;
+        if (downloader == null) {
+            synchronized (EnclosureDownloader.class) {
+                downloader = shared;
+                if (downloader == null) {
+                    try {
+                        downloader = new EnclosureDownloader(Path.of(downloadDirectory),
+                                EnvironmentConfig.getInt("RSS_CONNECTOR_MAX_CONCURRENT_DOWNLOADS", DEFAULT_MAX_CONCURRENT),
+                                EnvironmentConfig.getLong("RSS_CONNECTOR_DOWNLOAD_BYTES_PER_SECOND", 0),
+                                EnvironmentConfig.getLong("RSS_CONNECTOR_DOWNLOAD_MAX_BYTES", DEFAULT_MAX_BYTES));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to create download directory " + downloadDirectory, e);
+                    }
+                    shared = downloader;
+                }
+            }
+        }
+        return downloader;
+    }
+
+    /**
+     * Download the URLs, waiting for all of them
+     *
+     * @param bytesPerSecond bandwidth limit of each download, 0 for none
+     */
+    public List<RssEnclosureDownload> downloadAll(OkHttpClient client, List<String> urls, String userAgent, long bytesPerSecond) {
+        List<Future<RssEnclosureDownload>> futures = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            futures.add(executor.submit(() -> download(client, url, userAgent, bytesPerSecond)));
+        }
+        List<RssEnclosureDownload> downloads = new ArrayList<>(urls.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    downloads.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    downloads.add(failed(urls.get(i), String.valueOf(e.getCause())));
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Download interrupted", e);
+        }
+        return downloads;
+    }
+
+    /**
+     * Download one URL into the download directory, resuming a partial download
+     */
+    public RssEnclosureDownload download(OkHttpClient client, String url, String userAgent, long bytesPerSecond) {
+        Path target;
+        try {
+            UrlValidator.validate(url);
+            target = directory.resolve(fileName(url));
+        } catch (RuntimeException e) {
+            return failed(url, e.getMessage());
+        }
+        if (!inProgress.add(target)) {
+            return failed(url, "Download of the same enclosure already in progress");
+        }
+        try {
+            Path hashFile = target.resolveSibling(target.getFileName() + ".sha256");
+            if (Files.exists(target) && Files.exists(hashFile)) {
+                return completed(url, target, Files.readString(hashFile, StandardCharsets.US_ASCII).trim(), EXISTING);
+            }
+            Path part = target.resolveSibling(target.getFileName() + ".part");
+            long offset = Files.exists(part) ? Files.size(part) : 0;
+            Transfer transfer;
+            try (HostConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(okhttp3.HttpUrl.get(url).host())) {
+                transfer = transfer(client, url, userAgent, bytesPerSecond, part, offset, permit);
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.writeString(hashFile, transfer.sha256(), StandardCharsets.US_ASCII);
+            return completed(url, target, transfer.sha256(), transfer.resumed() ? RESUMED : DOWNLOADED);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Download of enclosure {} failed: {}", url, e.toString());
+            return failed(url, e.getMessage());
+        } finally {
+            inProgress.remove(target);
+        }
+    }
+
+    private record Transfer(String sha256, boolean resumed) {
+    }
+
+    private Transfer transfer(OkHttpClient client, String url, String userAgent, long bytesPerSecond, Path part,
+                              long offset, HostConcurrencyLimiter.Permit permit) throws IOException {
+        Request.Builder request = new Request.Builder().url(url);
+        if (userAgent != null) {
+            request.header("User-Agent", userAgent);
+        }
+        if (offset > 0) {
+            request.header("Range", "bytes=" + offset + "-");
+        }
+        Call call = client.newCall(request.build());
+        // Large files take longer than any call timeout meant for feeds; connect and read timeouts still apply
+        call.timeout().timeout(0, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = call.execute();
+        } catch (IOException e) {
+            if (FailureClass.ofException(e).overload()) {
+                permit.dropped();
+            }
+            throw e;
+        }
+        latencyTracker.record(call.request().url().host(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (FailureClass.ofStatus(response.code()).overload()) {
+            permit.dropped();
+        }
+        try (response) {
+            boolean append = false;
+            if (offset > 0 && response.code() == 206) {
+                append = offset == rangeStart(response.header("Content-Range"));
+                if (!append) {
+                    throw new IOException("Server resumed at an unexpected offset: " + response.header("Content-Range"));
+                }
+            } else if (response.code() == 416 && offset > 0) {
+                // Partial file no longer matches the enclosure; start over on the next attempt
+                Files.delete(part);
+                throw new IOException("Range not satisfiable, partial download discarded");
+            } else if (!response.isSuccessful()) {
+                throw new IOException("HTTP request failed with status " + response.code() + ": " + response.message());
+            }
+
+            MessageDigest digest = sha256();
+            if (append) {
+                hashExisting(part, digest);
+            }
+            Source source = response.body().source();
+            if (bytesPerSecond > 0) {
+                source = throttler(bytesPerSecond).source(source);
+            }
+            if (globalThrottler != null) {
+                source = globalThrottler.source(source);
+            }
+            long written = append ? offset : 0;
+            try (BufferedSink sink = Okio.buffer(Okio.sink(new DigestOutputStream(Files.newOutputStream(part,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING), digest)))) {
+                for (long read; (read = source.read(sink.getBuffer(), SEGMENT_BYTES)) != -1; ) {
+                    written += read;
+                    if (written > maxBytes) {
+                        break;
+                    }
+                    sink.emitCompleteSegments();
+                }
+            }
+            if (written > maxBytes) {
+                // Resuming would only exceed the limit again
+                Files.delete(part);
+                throw new IOException("Enclosure exceeds the maximum download size of " + maxBytes + " bytes");
+            }
+            return new Transfer(HexFormat.of().formatHex(digest.digest()), append);
+        }
+    }
+
+    private static void hashExisting(Path part, MessageDigest digest) throws IOException {
+        byte[] buffer = new byte[(int) SEGMENT_BYTES];
+        try (InputStream in = Files.newInputStream(part)) {
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private static long rangeStart(String contentRange) {
+        Matcher matcher = contentRange != null ? CONTENT_RANGE_START.matcher(contentRange) : null;
+        return matcher != null && matcher.lookingAt() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Stable file name of a URL: a hash prefix keeps URLs apart, the last path segment keeps the name readable
+     */
+    static String fileName(String url) {
+        String path = okhttp3.HttpUrl.get(url).encodedPath();
+        String last = path.substring(path.lastIndexOf('/') + 1);
+        last = UNSAFE_FILE_CHARS.matcher(last).replaceAll("_");
+        if (last.isEmpty() || last.startsWith(".")) {
+            last = "enclosure" + last;
+        }
+        if (last.length() > 100) {
+            last = last.substring(last.length() - 100);
+        }
+        byte[] hash = sha256().digest(url.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash, 0, 8) + "-" + last;
+    }
+
+    private static RssEnclosureDownload completed(String url, Path file, String sha256, String status) throws IOException {
+        RssEnclosureDownload download = new RssEnclosureDownload(url, status);
+        download.setFile(file.toString());
+        download.setSize(Files.size(file));
+        download.setSha256(sha256);
+        return download;
+    }
+
+    private static RssEnclosureDownload failed(String url, String error) {
+        RssEnclosureDownload download = new RssEnclosureDownload(url, FAILED);
+        download.setError(error);
+        return download;
+    }
+
+    private static Throttler throttler(long bytesPerSecond) {
+        Throttler throttler = new Throttler();
+        throttler.bytesPerSecond(bytesPerSecond);
+        return throttler;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.camunda.connector.rss.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO referencing a document that connector output was spilled to
+ */
+public class RssDocumentReference {
+    
+    @JsonProperty("store")
+    private String store; // "local" or "camunda"
+    
+    @JsonProperty("documentId")
+    private String documentId;
+    
+    @JsonProperty("uri")
+    private String uri;
+    
+    @JsonProperty("documentReference")
+    private Object documentReference; // Camunda document reference, if stored in the Camunda document store
+    
+    @JsonProperty("contentType")
+    private String contentType;
+    
+    @JsonProperty("size")
+    private long size;
+    
+    @JsonProperty("sha256")
+    private String sha256;
+    
+    @JsonProperty("itemCount")
+    private int itemCount;
+    
+    // Constructors
+    public RssDocumentReference() {}
+    
+    // Getters and Setters
+    public String getStore() {
+        return store;
+    }
+    
+    public void setStore(String store) {
+        this.store = store;
+    }
+    
+    public String getDocumentId() {
+        return documentId;
+    }
+    
+    public void setDocumentId(String documentId) {
+        this.documentId = documentId;
+    }
+    
+    public String getUri() {
+        return uri;
+    }
+    
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+    
+    public Object getDocumentReference() {
+        return documentReference;
+    }
+    
+    public void setDocumentReference(Object documentReference) {
+        this.documentReference = documentReference;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    public void setSize(long size) {
+        this.size = size;
+    }
+    
+    public String getSha256() {
+        return sha256;
+    }
+    
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+    
+    public int getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "RssDocumentReference{" +
+                "store='" + store + '\'' +
+                ", documentId='" + documentId + '\'' +
+                ", uri='" + uri + '\'' +
+                ", size=" + size +
+                ", itemCount=" + itemCount +
+                '}';
+    }
+}
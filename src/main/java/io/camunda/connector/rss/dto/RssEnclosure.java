@@ -1,10 +1,13 @@
 package io.camunda.connector.rss.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.camunda.connector.rss.json.RssEnclosureSerializer;
 
 /**
  * DTO representing an RSS enclosure (media attachment)
  */
+@JsonSerialize(using = RssEnclosureSerializer.class)
 public class RssEnclosure {
     
     @JsonProperty("url")
@@ -0,0 +1,84 @@
+package io.camunda.connector.rss.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO referencing the local file an enclosure was downloaded to
+ */
+public class RssEnclosureDownload {
+    
+    @JsonProperty("url")
+    private String url;
+    
+    @JsonProperty("file")
+    private String file; // absolute path of the downloaded file
+    
+    @JsonProperty("size")
+    private long size;
+    
+    @JsonProperty("sha256")
+    private String sha256;
+    
+    @JsonProperty("status")
+    private String status; // downloaded, resumed, existing or failed
+    
+    @JsonProperty("error")
+    private String error;
+    
+    // Constructors
+    public RssEnclosureDownload() {}
+    
+    public RssEnclosureDownload(String url, String status) {
+        this.url = url;
+        this.status = status;
+    }
+    
+    // Getters and Setters
+    public String getUrl() {
+        return url;
+    }
+    
+    public void setUrl(String url) {
+        this.url = url;
+    }
+    
+    public String getFile() {
+        return file;
+    }
+    
+    public void setFile(String file) {
+        this.file = file;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    public void setSize(long size) {
+        this.size = size;
+    }
+    
+    public String getSha256() {
+        return sha256;
+    }
+    
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+}
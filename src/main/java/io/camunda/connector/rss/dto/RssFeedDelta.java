@@ -0,0 +1,91 @@
+package io.camunda.connector.rss.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * DTO describing how the returned items differ from the previous snapshot of the feed
+ */
+public class RssFeedDelta {
+    
+    @JsonProperty("newItems")
+    private int newItems;
+    
+    @JsonProperty("updatedItems")
+    private int updatedItems;
+    
+    @JsonProperty("updatedGuids")
+    private List<String> updatedGuids;
+    
+    @JsonProperty("removedGuids")
+    private List<String> removedGuids; // only set when includeRemoved is enabled
+    
+    @JsonProperty("notModified")
+    private boolean notModified; // 304 response or unchanged body, nothing was parsed
+    
+    @JsonProperty("firstSnapshot")
+    private boolean firstSnapshot; // no previous snapshot, all items are reported as new
+    
+    // Constructors
+    public RssFeedDelta() {}
+    
+    // Getters and Setters
+    public int getNewItems() {
+        return newItems;
+    }
+    
+    public void setNewItems(int newItems) {
+        this.newItems = newItems;
+    }
+    
+    public int getUpdatedItems() {
+        return updatedItems;
+    }
+    
+    public void setUpdatedItems(int updatedItems) {
+        this.updatedItems = updatedItems;
+    }
+    
+    public List<String> getUpdatedGuids() {
+        return updatedGuids;
+    }
+    
+    public void setUpdatedGuids(List<String> updatedGuids) {
+        this.updatedGuids = updatedGuids;
+    }
+    
+    public List<String> getRemovedGuids() {
+        return removedGuids;
+    }
+    
+    public void setRemovedGuids(List<String> removedGuids) {
+        this.removedGuids = removedGuids;
+    }
+    
+    public boolean isNotModified() {
+        return notModified;
+    }
+    
+    public void setNotModified(boolean notModified) {
+        this.notModified = notModified;
+    }
+    
+    public boolean isFirstSnapshot() {
+        return firstSnapshot;
+    }
+    
+    public void setFirstSnapshot(boolean firstSnapshot) {
+        this.firstSnapshot = firstSnapshot;
+    }
+    
+    @Override
+    public String toString() {
+        return "RssFeedDelta{" +
+                "newItems=" + newItems +
+                ", updatedItems=" + updatedItems +
+                ", notModified=" + notModified +
+                ", firstSnapshot=" + firstSnapshot +
+                '}';
+    }
+}
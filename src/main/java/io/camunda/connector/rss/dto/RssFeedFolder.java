@@ -0,0 +1,50 @@
+package io.camunda.connector.rss.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO grouping the feeds of one OPML folder
+ */
+public class RssFeedFolder {
+    
+    @JsonProperty("folder")
+    private String folder; // slash-separated folder path, empty for top-level feeds
+    
+    @JsonProperty("feeds")
+    private List<RssFeedStatus> feeds = new ArrayList<>();
+    
+    // Constructors
+    public RssFeedFolder() {}
+    
+    public RssFeedFolder(String folder) {
+        this.folder = folder;
+    }
+    
+    // Getters and Setters
+    public String getFolder() {
+        return folder;
+    }
+    
+    public void setFolder(String folder) {
+        this.folder = folder;
+    }
+    
+    public List<RssFeedStatus> getFeeds() {
+        return feeds;
+    }
+    
+    public void setFeeds(List<RssFeedStatus> feeds) {
+        this.feeds = feeds;
+    }
+    
+    @Override
+    public String toString() {
+        return "RssFeedFolder{" +
+                "folder='" + folder + '\'' +
+                ", feeds=" + feeds.size() +
+                '}';
+    }
+}
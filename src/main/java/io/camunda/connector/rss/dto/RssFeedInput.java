@@ -1,14 +1,20 @@
 package io.camunda.connector.rss.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.camunda.connector.rss.json.RssFeedInputDeserializer;
 
 import java.util.List;
 
 /**
  * Input DTO for RSS Feed Connector
  */
+@JsonDeserialize(using = RssFeedInputDeserializer.class)
 public class RssFeedInput {
     
+    @JsonProperty("operation")
+    private String operation = "fetch"; // "fetch", "fetchOpml", "queryArchive", "searchArchive" or "downloadEnclosures"
+    
     @JsonProperty("feedUrl")
     private String feedUrl;
     
@@ -36,6 +42,99 @@ public class RssFeedInput {
     @JsonProperty("timeoutSeconds")
     private Integer timeoutSeconds = 30;
     
+    @JsonProperty("outputMode")
+    private String outputMode = "inline"; // "inline", "spill" or "auto"
+    
+    @JsonProperty("spillThresholdBytes")
+    private Long spillThresholdBytes; // threshold for "auto" output mode
+    
+    @JsonProperty("feedUrls")
+    private List<String> feedUrls; // additional feeds merged into the output
+    
+    @JsonProperty("deduplicate")
+    private Boolean deduplicate = false;
+    
+    @JsonProperty("includeKeywords")
+    private List<String> includeKeywords; // items must contain any of these words
+    
+    @JsonProperty("excludeKeywords")
+    private List<String> excludeKeywords; // items must contain none of these words
+    
+    @JsonProperty("includeCategories")
+    private List<String> includeCategories;
+    
+    @JsonProperty("excludeCategories")
+    private List<String> excludeCategories;
+    
+    @JsonProperty("archiveFrom")
+    private String archiveFrom; // timestamp or ISO 8601 duration before now, e.g. "P7D"
+    
+    @JsonProperty("archiveTo")
+    private String archiveTo;
+    
+    @JsonProperty("query")
+    private String query; // full-text query for searchArchive
+    
+    @JsonProperty("followPages")
+    private Boolean followPages = false; // follow RFC 5005 "next"/"prev-archive" links
+    
+    @JsonProperty("maxPages")
+    private Integer maxPages;
+    
+    @JsonProperty("delta")
+    private Boolean delta = false; // return only items changed since the previous call
+    
+    @JsonProperty("includeRemoved")
+    private Boolean includeRemoved = false;
+    
+    @JsonProperty("snapshotKey")
+    private String snapshotKey; // separates delta snapshots of consumers of the same feed
+    
+    @JsonProperty("opml")
+    private String opml; // OPML document for fetchOpml
+    
+    @JsonProperty("opmlUrl")
+    private String opmlUrl;
+    
+    @JsonProperty("maxConcurrency")
+    private Integer maxConcurrency; // feeds fetched in parallel by fetchOpml
+    
+    @JsonProperty("perHostConcurrency")
+    private Integer perHostConcurrency;
+    
+    @JsonProperty("deadlineSeconds")
+    private Integer deadlineSeconds; // deadline shared by all feeds of fetchOpml
+    
+    @JsonProperty("cacheMaxAgeSeconds")
+    private Integer cacheMaxAgeSeconds; // serve the cached feed without fetching while younger than this
+    
+    @JsonProperty("staleWhileRevalidateSeconds")
+    private Integer staleWhileRevalidateSeconds;
+    
+    @JsonProperty("staleIfErrorSeconds")
+    private Integer staleIfErrorSeconds;
+    
+    @JsonProperty("hedge")
+    private Boolean hedge = false; // send a second request when the first one stalls
+    
+    @JsonProperty("adaptiveTimeouts")
+    private Boolean adaptiveTimeouts = false; // derive connect and read timeouts from the host's latency
+    
+    @JsonProperty("priority")
+    private String priority; // "high", "normal" or "low"; weights the fetch in the tenant's fair share
+    
+    @JsonProperty("probeEnclosures")
+    private Boolean probeEnclosures = false; // fill in missing enclosure types and lengths from their servers
+    
+    @JsonProperty("probeBudgetSeconds")
+    private Integer probeBudgetSeconds;
+    
+    @JsonProperty("downloadBytesPerSecond")
+    private Long downloadBytesPerSecond; // bandwidth limit of each enclosure download
+    
+    @JsonProperty("traceparent")
+    private String traceparent; // W3C trace context of the calling process
+    
     // Constructors
     public RssFeedInput() {}
     
@@ -44,6 +143,14 @@ public class RssFeedInput {
     }
     
     // Getters and Setters
+    public String getOperation() {
+        return operation;
+    }
+    
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+    
     public String getFeedUrl() {
         return feedUrl;
     }
@@ -116,16 +223,295 @@ public class RssFeedInput {
         this.timeoutSeconds = timeoutSeconds;
     }
     
+    public String getOutputMode() {
+        return outputMode;
+    }
+    
+    public void setOutputMode(String outputMode) {
+        this.outputMode = outputMode;
+    }
+    
+    public Long getSpillThresholdBytes() {
+        return spillThresholdBytes;
+    }
+    
+    public void setSpillThresholdBytes(Long spillThresholdBytes) {
+        this.spillThresholdBytes = spillThresholdBytes;
+    }
+    
+    public List<String> getFeedUrls() {
+        return feedUrls;
+    }
+    
+    public void setFeedUrls(List<String> feedUrls) {
+        this.feedUrls = feedUrls;
+    }
+    
+    public Boolean getDeduplicate() {
+        return deduplicate;
+    }
+    
+    public void setDeduplicate(Boolean deduplicate) {
+        this.deduplicate = deduplicate;
+    }
+    
+    public List<String> getIncludeKeywords() {
+        return includeKeywords;
+    }
+    
+    public void setIncludeKeywords(List<String> includeKeywords) {
+        this.includeKeywords = includeKeywords;
+    }
+    
+    public List<String> getExcludeKeywords() {
+        return excludeKeywords;
+    }
+    
+    public void setExcludeKeywords(List<String> excludeKeywords) {
+        this.excludeKeywords = excludeKeywords;
+    }
+    
+    public List<String> getIncludeCategories() {
+        return includeCategories;
+    }
+    
+    public void setIncludeCategories(List<String> includeCategories) {
+        this.includeCategories = includeCategories;
+    }
+    
+    public List<String> getExcludeCategories() {
+        return excludeCategories;
+    }
+    
+    public void setExcludeCategories(List<String> excludeCategories) {
+        this.excludeCategories = excludeCategories;
+    }
+    
+    public String getArchiveFrom() {
+        return archiveFrom;
+    }
+    
+    public void setArchiveFrom(String archiveFrom) {
+        this.archiveFrom = archiveFrom;
+    }
+    
+    public String getArchiveTo() {
+        return archiveTo;
+    }
+    
+    public void setArchiveTo(String archiveTo) {
+        this.archiveTo = archiveTo;
+    }
+    
+    public String getQuery() {
+        return query;
+    }
+    
+    public void setQuery(String query) {
+        this.query = query;
+    }
+    
+    public Boolean getFollowPages() {
+        return followPages;
+    }
+    
+    public void setFollowPages(Boolean followPages) {
+        this.followPages = followPages;
+    }
+    
+    public Integer getMaxPages() {
+        return maxPages;
+    }
+    
+    public void setMaxPages(Integer maxPages) {
+        this.maxPages = maxPages;
+    }
+    
+    public Boolean getDelta() {
+        return delta;
+    }
+    
+    public void setDelta(Boolean delta) {
+        this.delta = delta;
+    }
+    
+    public Boolean getIncludeRemoved() {
+        return includeRemoved;
+    }
+    
+    public void setIncludeRemoved(Boolean includeRemoved) {
+        this.includeRemoved = includeRemoved;
+    }
+    
+    public String getSnapshotKey() {
+        return snapshotKey;
+    }
+    
+    public void setSnapshotKey(String snapshotKey) {
+        this.snapshotKey = snapshotKey;
+    }
+    
+    public String getOpml() {
+        return opml;
+    }
+    
+    public void setOpml(String opml) {
+        this.opml = opml;
+    }
+    
+    public String getOpmlUrl() {
+        return opmlUrl;
+    }
+    
+    public void setOpmlUrl(String opmlUrl) {
+        this.opmlUrl = opmlUrl;
+    }
+    
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+    
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+    
+    public Integer getPerHostConcurrency() {
+        return perHostConcurrency;
+    }
+    
+    public void setPerHostConcurrency(Integer perHostConcurrency) {
+        this.perHostConcurrency = perHostConcurrency;
+    }
+    
+    public Integer getDeadlineSeconds() {
+        return deadlineSeconds;
+    }
+    
+    public void setDeadlineSeconds(Integer deadlineSeconds) {
+        this.deadlineSeconds = deadlineSeconds;
+    }
+    
+    public Integer getCacheMaxAgeSeconds() {
+        return cacheMaxAgeSeconds;
+    }
+    
+    public void setCacheMaxAgeSeconds(Integer cacheMaxAgeSeconds) {
+        this.cacheMaxAgeSeconds = cacheMaxAgeSeconds;
+    }
+    
+    public Integer getStaleWhileRevalidateSeconds() {
+        return staleWhileRevalidateSeconds;
+    }
+    
+    public void setStaleWhileRevalidateSeconds(Integer staleWhileRevalidateSeconds) {
+        this.staleWhileRevalidateSeconds = staleWhileRevalidateSeconds;
+    }
+    
+    public Integer getStaleIfErrorSeconds() {
+        return staleIfErrorSeconds;
+    }
+    
+    public void setStaleIfErrorSeconds(Integer staleIfErrorSeconds) {
+        this.staleIfErrorSeconds = staleIfErrorSeconds;
+    }
+    
+    public Boolean getHedge() {
+        return hedge;
+    }
+    
+    public void setHedge(Boolean hedge) {
+        this.hedge = hedge;
+    }
+    
+    public Boolean getAdaptiveTimeouts() {
+        return adaptiveTimeouts;
+    }
+    
+    public void setAdaptiveTimeouts(Boolean adaptiveTimeouts) {
+        this.adaptiveTimeouts = adaptiveTimeouts;
+    }
+    
+    public String getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+    
+    public Boolean getProbeEnclosures() {
+        return probeEnclosures;
+    }
+    
+    public void setProbeEnclosures(Boolean probeEnclosures) {
+        this.probeEnclosures = probeEnclosures;
+    }
+    
+    public Integer getProbeBudgetSeconds() {
+        return probeBudgetSeconds;
+    }
+    
+    public void setProbeBudgetSeconds(Integer probeBudgetSeconds) {
+        this.probeBudgetSeconds = probeBudgetSeconds;
+    }
+    
+    public Long getDownloadBytesPerSecond() {
+        return downloadBytesPerSecond;
+    }
+    
+    public void setDownloadBytesPerSecond(Long downloadBytesPerSecond) {
+        this.downloadBytesPerSecond = downloadBytesPerSecond;
+    }
+    
+    public String getTraceparent() {
+        return traceparent;
+    }
+    
+    public void setTraceparent(String traceparent) {
+        this.traceparent = traceparent;
+    }
+    
     @Override
     public String toString() {
         return "RssFeedInput{" +
-                "feedUrl='" + feedUrl + '\'' +
+                "operation='" + operation + '\'' +
+                ", feedUrl='" + feedUrl + '\'' +
                 ", maxItems=" + maxItems +
                 ", authType='" + authType + '\'' +
                 ", ignoreTls=" + ignoreTls +
                 ", newerThan='" + newerThan + '\'' +
                 ", userAgent='" + userAgent + '\'' +
                 ", timeoutSeconds=" + timeoutSeconds +
+                ", outputMode='" + outputMode + '\'' +
+                ", feedUrls=" + feedUrls +
+                ", deduplicate=" + deduplicate +
+                ", includeKeywords=" + includeKeywords +
+                ", excludeKeywords=" + excludeKeywords +
+                ", includeCategories=" + includeCategories +
+                ", excludeCategories=" + excludeCategories +
+                ", archiveFrom='" + archiveFrom + '\'' +
+                ", archiveTo='" + archiveTo + '\'' +
+                ", query='" + query + '\'' +
+                ", followPages=" + followPages +
+                ", maxPages=" + maxPages +
+                ", delta=" + delta +
+                ", includeRemoved=" + includeRemoved +
+                ", snapshotKey='" + snapshotKey + '\'' +
+                ", opml=" + (opml != null ? opml.length() + " chars" : "null") +
+                ", opmlUrl='" + opmlUrl + '\'' +
+                ", maxConcurrency=" + maxConcurrency +
+                ", perHostConcurrency=" + perHostConcurrency +
+                ", deadlineSeconds=" + deadlineSeconds +
+                ", cacheMaxAgeSeconds=" + cacheMaxAgeSeconds +
+                ", staleWhileRevalidateSeconds=" + staleWhileRevalidateSeconds +
+                ", staleIfErrorSeconds=" + staleIfErrorSeconds +
+                ", hedge=" + hedge +
+                ", adaptiveTimeouts=" + adaptiveTimeouts +
+                ", priority='" + priority + '\'' +
+                ", probeEnclosures=" + probeEnclosures +
+                ", probeBudgetSeconds=" + probeBudgetSeconds +
+                ", downloadBytesPerSecond=" + downloadBytesPerSecond +
+                ", traceparent='" + traceparent + '\'' +
                 '}';
     }
     
@@ -134,7 +520,8 @@ public class RssFeedInput {
      */
     public String toSafeString() {
         return "RssFeedInput{" +
-                "feedUrl='" + feedUrl + '\'' +
+                "operation='" + operation + '\'' +
+                ", feedUrl='" + feedUrl + '\'' +
                 ", maxItems=" + maxItems +
                 ", authType='" + authType + '\'' +
                 ", authToken='" + (authToken != null ? "***MASKED***" : "null") + '\'' +
@@ -142,6 +529,36 @@ public class RssFeedInput {
                 ", newerThan='" + newerThan + '\'' +
                 ", userAgent='" + userAgent + '\'' +
                 ", timeoutSeconds=" + timeoutSeconds +
+                ", outputMode='" + outputMode + '\'' +
+                ", feedUrls=" + feedUrls +
+                ", deduplicate=" + deduplicate +
+                ", includeKeywords=" + includeKeywords +
+                ", excludeKeywords=" + excludeKeywords +
+                ", includeCategories=" + includeCategories +
+                ", excludeCategories=" + excludeCategories +
+                ", archiveFrom='" + archiveFrom + '\'' +
+                ", archiveTo='" + archiveTo + '\'' +
+                ", query='" + query + '\'' +
+                ", followPages=" + followPages +
+                ", maxPages=" + maxPages +
+                ", delta=" + delta +
+                ", includeRemoved=" + includeRemoved +
+                ", snapshotKey='" + snapshotKey + '\'' +
+                ", opml=" + (opml != null ? opml.length() + " chars" : "null") +
+                ", opmlUrl='" + opmlUrl + '\'' +
+                ", maxConcurrency=" + maxConcurrency +
+                ", perHostConcurrency=" + perHostConcurrency +
+                ", deadlineSeconds=" + deadlineSeconds +
+                ", cacheMaxAgeSeconds=" + cacheMaxAgeSeconds +
+                ", staleWhileRevalidateSeconds=" + staleWhileRevalidateSeconds +
+                ", staleIfErrorSeconds=" + staleIfErrorSeconds +
+                ", hedge=" + hedge +
+                ", adaptiveTimeouts=" + adaptiveTimeouts +
+                ", priority='" + priority + '\'' +
+                ", probeEnclosures=" + probeEnclosures +
+                ", probeBudgetSeconds=" + probeBudgetSeconds +
+                ", downloadBytesPerSecond=" + downloadBytesPerSecond +
+                ", traceparent='" + traceparent + '\'' +
                 '}';
     }
 }
@@ -1,6 +1,8 @@
 package io.camunda.connector.rss.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.camunda.connector.rss.json.RssFeedOutputSerializer;
 
 import java.time.Instant;
 import java.util.List;
@@ -8,6 +10,7 @@ import java.util.List;
 /**
  * Output DTO for RSS Feed Connector
  */
+@JsonSerialize(using = RssFeedOutputSerializer.class)
 public class RssFeedOutput {
     
     @JsonProperty("success")
@@ -25,12 +28,45 @@ public class RssFeedOutput {
     @JsonProperty("feedLanguage")
     private String feedLanguage;
     
+    @JsonProperty("hubUrl")
+    private String hubUrl; // WebSub hub advertised by the feed
+    
+    @JsonProperty("selfUrl")
+    private String selfUrl; // Canonical topic URL advertised by the feed
+    
     @JsonProperty("items")
     private List<RssItem> items;
     
+    @JsonProperty("itemsDocument")
+    private RssDocumentReference itemsDocument; // set instead of items when the payload was spilled
+    
     @JsonProperty("totalItems")
     private int totalItems;
     
+    @JsonProperty("duplicatesRemoved")
+    private Integer duplicatesRemoved; // set when deduplication ran
+    
+    @JsonProperty("pagesFetched")
+    private Integer pagesFetched; // set when pagination links were followed
+    
+    @JsonProperty("nextPageUrl")
+    private String nextPageUrl; // next unfetched page when traversal stopped at maxPages
+    
+    @JsonProperty("delta")
+    private RssFeedDelta delta; // set in delta mode
+    
+    @JsonProperty("folders")
+    private List<RssFeedFolder> folders; // per-feed results grouped by OPML folder
+    
+    @JsonProperty("downloads")
+    private List<RssEnclosureDownload> downloads; // local files of downloaded enclosures
+    
+    @JsonProperty("cacheStatus")
+    private String cacheStatus; // hit, miss, stale or stale-if-error when the feed cache is enabled
+    
+    @JsonProperty("stale")
+    private Boolean stale; // set when cached content past its max age was served
+    
     @JsonProperty("fetchedAt")
     private String fetchedAt;
     
@@ -90,6 +126,22 @@ public class RssFeedOutput {
         this.feedLanguage = feedLanguage;
     }
     
+    public String getHubUrl() {
+        return hubUrl;
+    }
+    
+    public void setHubUrl(String hubUrl) {
+        this.hubUrl = hubUrl;
+    }
+    
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+    
+    public void setSelfUrl(String selfUrl) {
+        this.selfUrl = selfUrl;
+    }
+    
     public List<RssItem> getItems() {
         return items;
     }
@@ -99,6 +151,14 @@ public class RssFeedOutput {
         this.totalItems = items != null ? items.size() : 0;
     }
     
+    public RssDocumentReference getItemsDocument() {
+        return itemsDocument;
+    }
+    
+    public void setItemsDocument(RssDocumentReference itemsDocument) {
+        this.itemsDocument = itemsDocument;
+    }
+    
     public int getTotalItems() {
         return totalItems;
     }
@@ -107,6 +167,70 @@ public class RssFeedOutput {
         this.totalItems = totalItems;
     }
     
+    public Integer getDuplicatesRemoved() {
+        return duplicatesRemoved;
+    }
+    
+    public void setDuplicatesRemoved(Integer duplicatesRemoved) {
+        this.duplicatesRemoved = duplicatesRemoved;
+    }
+    
+    public Integer getPagesFetched() {
+        return pagesFetched;
+    }
+    
+    public void setPagesFetched(Integer pagesFetched) {
+        this.pagesFetched = pagesFetched;
+    }
+    
+    public String getNextPageUrl() {
+        return nextPageUrl;
+    }
+    
+    public void setNextPageUrl(String nextPageUrl) {
+        this.nextPageUrl = nextPageUrl;
+    }
+    
+    public RssFeedDelta getDelta() {
+        return delta;
+    }
+    
+    public void setDelta(RssFeedDelta delta) {
+        this.delta = delta;
+    }
+    
+    public List<RssFeedFolder> getFolders() {
+        return folders;
+    }
+    
+    public void setFolders(List<RssFeedFolder> folders) {
+        this.folders = folders;
+    }
+    
+    public List<RssEnclosureDownload> getDownloads() {
+        return downloads;
+    }
+    
+    public void setDownloads(List<RssEnclosureDownload> downloads) {
+        this.downloads = downloads;
+    }
+    
+    public String getCacheStatus() {
+        return cacheStatus;
+    }
+    
+    public void setCacheStatus(String cacheStatus) {
+        this.cacheStatus = cacheStatus;
+    }
+    
+    public Boolean getStale() {
+        return stale;
+    }
+    
+    public void setStale(Boolean stale) {
+        this.stale = stale;
+    }
+    
     public String getFetchedAt() {
         return fetchedAt;
     }
@@ -0,0 +1,146 @@
+package io.camunda.connector.rss.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Properties of the RSS Feed Push (WebSub) inbound connector. Unknown properties, such as the
+ * inbound.* properties of the runtime, are ignored.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RssFeedPushInput {
+
+    @JsonProperty("feedUrl")
+    private String feedUrl;
+
+    @JsonProperty("hubUrl")
+    private String hubUrl; // discovered from the feed when not set
+
+    @JsonProperty("callbackUrl")
+    private String callbackUrl; // public URL of this connector's webhook endpoint
+
+    @JsonProperty("leaseSeconds")
+    private Integer leaseSeconds;
+
+    @JsonProperty("maxItems")
+    private Integer maxItems = 10;
+
+    @JsonProperty("includeKeywords")
+    private List<String> includeKeywords;
+
+    @JsonProperty("excludeKeywords")
+    private List<String> excludeKeywords;
+
+    @JsonProperty("includeCategories")
+    private List<String> includeCategories;
+
+    @JsonProperty("excludeCategories")
+    private List<String> excludeCategories;
+
+    // Constructors
+    public RssFeedPushInput() {}
+
+    public RssFeedPushInput(String feedUrl, String callbackUrl) {
+        this.feedUrl = feedUrl;
+        this.callbackUrl = callbackUrl;
+    }
+
+    /**
+     * Input of the item conversion and filters applied to pushed content
+     */
+    public RssFeedInput toFilters() {
+        RssFeedInput filters = new RssFeedInput(feedUrl);
+        filters.setMaxItems(maxItems);
+        filters.setIncludeKeywords(includeKeywords);
+        filters.setExcludeKeywords(excludeKeywords);
+        filters.setIncludeCategories(includeCategories);
+        filters.setExcludeCategories(excludeCategories);
+        return filters;
+    }
+
+    // Getters and Setters
+    public String getFeedUrl() {
+        return feedUrl;
+    }
+
+    public void setFeedUrl(String feedUrl) {
+        this.feedUrl = feedUrl;
+    }
+
+    public String getHubUrl() {
+        return hubUrl;
+    }
+
+    public void setHubUrl(String hubUrl) {
+        this.hubUrl = hubUrl;
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    public void setCallbackUrl(String callbackUrl) {
+        this.callbackUrl = callbackUrl;
+    }
+
+    public Integer getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(Integer leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public Integer getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(Integer maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public List<String> getIncludeKeywords() {
+        return includeKeywords;
+    }
+
+    public void setIncludeKeywords(List<String> includeKeywords) {
+        this.includeKeywords = includeKeywords;
+    }
+
+    public List<String> getExcludeKeywords() {
+        return excludeKeywords;
+    }
+
+    public void setExcludeKeywords(List<String> excludeKeywords) {
+        this.excludeKeywords = excludeKeywords;
+    }
+
+    public List<String> getIncludeCategories() {
+        return includeCategories;
+    }
+
+    public void setIncludeCategories(List<String> includeCategories) {
+        this.includeCategories = includeCategories;
+    }
+
+    public List<String> getExcludeCategories() {
+        return excludeCategories;
+    }
+
+    public void setExcludeCategories(List<String> excludeCategories) {
+        this.excludeCategories = excludeCategories;
+    }
+
+    @Override
+    public String toString() {
+        return "RssFeedPushInput{" +
+                "feedUrl='" + feedUrl + '\'' +
+                ", hubUrl='" + hubUrl + '\'' +
+                ", callbackUrl='" + callbackUrl + '\'' +
+                ", leaseSeconds=" + leaseSeconds +
+                ", maxItems=" + maxItems +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package io.camunda.connector.rss.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO with the fetch result of one feed of a bulk fetch. The items of the feed are
+ * items[itemOffset] to items[itemOffset + itemCount - 1] of the output.
+ */
+public class RssFeedStatus {
+    
+    @JsonProperty("title")
+    private String title;
+    
+    @JsonProperty("feedUrl")
+    private String feedUrl;
+    
+    @JsonProperty("success")
+    private boolean success;
+    
+    @JsonProperty("error")
+    private String error;
+    
+    @JsonProperty("itemOffset")
+    private int itemOffset;
+    
+    @JsonProperty("itemCount")
+    private int itemCount;
+    
+    // Constructors
+    public RssFeedStatus() {}
+    
+    public RssFeedStatus(String title, String feedUrl) {
+        this.title = title;
+        this.feedUrl = feedUrl;
+    }
+    
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getFeedUrl() {
+        return feedUrl;
+    }
+    
+    public void setFeedUrl(String feedUrl) {
+        this.feedUrl = feedUrl;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public int getItemOffset() {
+        return itemOffset;
+    }
+    
+    public void setItemOffset(int itemOffset) {
+        this.itemOffset = itemOffset;
+    }
+    
+    public int getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "RssFeedStatus{" +
+                "feedUrl='" + feedUrl + '\'' +
+                ", success=" + success +
+                ", itemCount=" + itemCount +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
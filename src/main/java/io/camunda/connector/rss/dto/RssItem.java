@@ -1,12 +1,15 @@
 package io.camunda.connector.rss.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.camunda.connector.rss.json.RssItemSerializer;
 
 import java.util.List;
 
 /**
  * DTO representing a single RSS item
  */
+@JsonSerialize(using = RssItemSerializer.class)
 public class RssItem {
     
     @JsonProperty("title")
@@ -0,0 +1,55 @@
+package io.camunda.connector.rss.enclosure;
+
+import io.camunda.connector.rss.state.StateCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Media type and length of an enclosure as reported by its server; null type and -1 length when unknown
+ */
+public record EnclosureMetadata(String type, long length) {
+
+    static final EnclosureMetadata UNKNOWN = new EnclosureMetadata(null, -1);
+
+    private static final Pattern MEDIA_TYPE = Pattern.compile("[\\w.+-]+/[\\w.+-]+");
+
+    static final StateCodec<EnclosureMetadata> CODEC = new StateCodec<>() {
+        @Override
+        public void write(EnclosureMetadata metadata, DataOutput out) throws IOException {
+            StateCodec.writeString(out, metadata.type);
+            out.writeLong(metadata.length);
+        }
+
+        @Override
+        public EnclosureMetadata read(DataInput in) throws IOException {
+            return new EnclosureMetadata(StateCodec.readString(in), in.readLong());
+        }
+    };
+
+    public boolean known() {
+        return type != null || length > 0;
+    }
+
+    /**
+     * Whether the value is a plain type/subtype media type
+     */
+    public static boolean isValidType(String type) {
+        return type != null && MEDIA_TYPE.matcher(type).matches();
+    }
+
+    /**
+     * Media type of a Content-Type header without parameters, or null if invalid
+     */
+    static String mediaType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        int semicolon = contentType.indexOf(';');
+        String type = (semicolon >= 0 ? contentType.substring(0, semicolon) : contentType).trim().toLowerCase(Locale.ROOT);
+        return isValidType(type) ? type : null;
+    }
+}
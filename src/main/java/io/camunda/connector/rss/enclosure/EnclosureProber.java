@@ -0,0 +1,328 @@
+package io.camunda.connector.rss.enclosure;
+
+import io.camunda.connector.rss.cache.FailureClass;
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import io.camunda.connector.rss.service.UrlValidator;
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStores;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills in missing or invalid enclosure types and lengths from the enclosure servers. Each URL is probed with a HEAD
+ * request, and with a GET of its first byte when HEAD is refused or reports no length. Probes run asynchronously
+ * on the connection pool of the given client, at most parallelism at a time, and stop at the time budget. Results,
+ * including failures for a shorter time, are cached in the shared state store.
+ * <p>
+ * Each probe holds a slot of the host's concurrency limit for its requests, waiting for one no longer than the
+ * budget allows, and reports their latency like a feed fetch; a 429 or 5xx answer backs the host's limit off.
+ */
+public class EnclosureProber {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnclosureProber.class);
+
+    public static final String NAMESPACE = "enclosure-metadata";
+    public static final int DEFAULT_PARALLELISM = EnvironmentConfig.getInt("RSS_CONNECTOR_ENCLOSURE_PROBE_PARALLELISM", 8);
+    public static final Duration DEFAULT_TTL =
+            Duration.ofSeconds(EnvironmentConfig.getLong("RSS_CONNECTOR_ENCLOSURE_PROBE_TTL_SECONDS", 86_400));
+    static final Duration FAILURE_TTL = Duration.ofMinutes(10);
+
+    private static final EnclosureProber SHARED = new EnclosureProber(SharedStateStores.shared(), DEFAULT_PARALLELISM, DEFAULT_TTL);
+
+    private final SharedStateStore store;
+    private final int parallelism;
+    private final Duration ttl;
+    private final HostConcurrencyLimiter concurrencyLimiter;
+    private final HostLatencyTracker latencyTracker;
+
+    public EnclosureProber(SharedStateStore store, int parallelism, Duration ttl) {
+        this(store, parallelism, ttl, HostConcurrencyLimiter.shared(), HostLatencyTracker.shared());
+    }
+
+    public EnclosureProber(SharedStateStore store, int parallelism, Duration ttl,
+                           HostConcurrencyLimiter concurrencyLimiter, HostLatencyTracker latencyTracker) {
+        this.store = store;
+        this.parallelism = Math.max(1, parallelism);
+        this.ttl = ttl;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.latencyTracker = latencyTracker;
+    }
+
+    public static EnclosureProber shared() {
+        return SHARED;
+    }
+
+    /**
+     * Whether the enclosure lacks a valid type or a positive length
+     */
+    public static boolean needsProbe(CompactEnclosure enclosure) {
+        return enclosure.url() != null && (enclosure.length() <= 0 || !EnclosureMetadata.isValidType(enclosure.type()));
+    }
+
+    /**
+     * Items with the missing enclosure types and lengths that could be probed within the budget filled in
+     */
+    public List<CompactItem> enrich(OkHttpClient client, List<CompactItem> items, String userAgent, Duration budget) {
+        Set<String> urls = new LinkedHashSet<>();
+        for (CompactItem item : items) {
+            if (item.enclosures() != null) {
+                for (CompactEnclosure enclosure : item.enclosures()) {
+                    if (needsProbe(enclosure)) {
+                        urls.add(enclosure.url());
+                    }
+                }
+            }
+        }
+        if (urls.isEmpty()) {
+            return items;
+        }
+
+        Map<String, EnclosureMetadata> probed = probe(client, urls, userAgent, budget);
+        List<CompactItem> enriched = new ArrayList<>(items.size());
+        for (CompactItem item : items) {
+            enriched.add(enrich(item, probed));
+        }
+        return enriched;
+    }
+
+    private static CompactItem enrich(CompactItem item, Map<String, EnclosureMetadata> probed) {
+        if (item.enclosures() == null) {
+            return item;
+        }
+        CompactEnclosure[] enclosures = null;
+        for (int i = 0; i < item.enclosures().length; i++) {
+            CompactEnclosure enclosure = item.enclosures()[i];
+            EnclosureMetadata metadata = enclosure.url() != null ? probed.get(enclosure.url()) : null;
+            if (metadata == null || !needsProbe(enclosure)) {
+                continue;
+            }
+            String type = EnclosureMetadata.isValidType(enclosure.type()) || metadata.type() == null ?
+                    enclosure.type() : metadata.type();
+            long length = enclosure.length() > 0 || metadata.length() <= 0 ? enclosure.length() : metadata.length();
+            if (enclosures == null) {
+                enclosures = item.enclosures().clone();
+            }
+            enclosures[i] = new CompactEnclosure(enclosure.url(), type, length);
+        }
+        return enclosures != null ? item.withEnclosures(enclosures) : item;
+    }
+
+    /**
+     * Metadata of the URLs that were cached or could be probed within the budget
+     */
+    public Map<String, EnclosureMetadata> probe(OkHttpClient client, Collection<String> urls, String userAgent, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        Map<String, EnclosureMetadata> results = new ConcurrentHashMap<>();
+        List<String> pending = new ArrayList<>();
+        for (String url : new LinkedHashSet<>(urls)) {
+            EnclosureMetadata cached = store.get(NAMESPACE, url, EnclosureMetadata.CODEC);
+            if (cached != null) {
+                results.put(url, cached);
+            } else {
+                pending.add(url);
+            }
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        // Shares the connection pool and dispatcher of the client; calls still running at the deadline are cancelled
+        OkHttpClient probeClient = client.newBuilder().callTimeout(budget).build();
+        Semaphore slots = new Semaphore(parallelism);
+        CountDownLatch done = new CountDownLatch(pending.size());
+        List<Call> calls = Collections.synchronizedList(new ArrayList<>());
+        try {
+            for (String url : pending) {
+                if (!slots.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                Probe probe = new Probe(probeClient, url, userAgent, results, slots, done, calls);
+                probe.start(deadline);
+            }
+            done.await(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (calls) {
+                calls.forEach(Call::cancel);
+            }
+        }
+        LOG.debug("Probed {} of {} enclosures", results.size(), urls.size());
+        return results;
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private void store(String url, EnclosureMetadata metadata) {
+        store.put(NAMESPACE, url, metadata, EnclosureMetadata.CODEC, metadata.known() ? ttl : FAILURE_TTL);
+    }
+
+    private final class Probe implements Callback {
+
+        private final OkHttpClient client;
+        private final String url;
+        private final String userAgent;
+        private final Map<String, EnclosureMetadata> results;
+        private final Semaphore slots;
+        private final CountDownLatch done;
+        private final List<Call> calls;
+        private String headType;
+        private boolean rangeRequested;
+        private HostConcurrencyLimiter.Permit permit;
+        private long sentNanos;
+
+        private Probe(OkHttpClient client, String url, String userAgent, Map<String, EnclosureMetadata> results,
+                      Semaphore slots, CountDownLatch done, List<Call> calls) {
+            this.client = client;
+            this.url = url;
+            this.userAgent = userAgent;
+            this.results = results;
+            this.slots = slots;
+            this.done = done;
+            this.calls = calls;
+        }
+
+        void start(long deadline) {
+            try {
+                // Enclosure URLs come from the feed and are checked like feed URLs
+                UrlValidator.validate(url);
+                Request head = request().head().build();
+                permit = concurrencyLimiter.acquire(head.url().host(), TimeUnit.NANOSECONDS.toMillis(remaining(deadline)));
+                send(head);
+            } catch (RuntimeException e) {
+                LOG.debug("Not probing enclosure {}: {}", url, e.getMessage());
+                finish(null);
+            }
+        }
+
+        private Request.Builder request() {
+            Request.Builder builder = new Request.Builder().url(url);
+            if (userAgent != null) {
+                builder.header("User-Agent", userAgent);
+            }
+            return builder;
+        }
+
+        private void send(Request request) {
+            Call call = client.newCall(request);
+            calls.add(call);
+            sentNanos = System.nanoTime();
+            call.enqueue(this);
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) {
+            latencyTracker.record(call.request().url().host(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentNanos));
+            if (FailureClass.ofStatus(response.code()).overload()) {
+                permit.dropped();
+            }
+            try (response) {
+                if (!rangeRequested) {
+                    long length = response.isSuccessful() ? parseLength(response.header("Content-Length")) : -1;
+                    headType = response.isSuccessful() ? EnclosureMetadata.mediaType(response.header("Content-Type")) : null;
+                    if (length > 0 && headType != null) {
+                        finish(new EnclosureMetadata(headType, length));
+                        return;
+                    }
+                    if (response.code() == 404 || response.code() == 410) {
+                        finish(EnclosureMetadata.UNKNOWN);
+                        return;
+                    }
+                    // HEAD refused or incomplete: ask for the first byte, whose response carries the total length
+                    rangeRequested = true;
+                    send(request().header("Range", "bytes=0-0").build());
+                    return;
+                }
+                long length = -1;
+                if (response.code() == 206) {
+                    length = totalLength(response.header("Content-Range"));
+                } else if (response.isSuccessful()) {
+                    length = parseLength(response.header("Content-Length"));
+                }
+                String type = response.isSuccessful() ? EnclosureMetadata.mediaType(response.header("Content-Type")) : null;
+                finish(new EnclosureMetadata(type != null ? type : headType, length));
+            } catch (RuntimeException e) {
+                LOG.debug("Probing enclosure {} failed: {}", url, e.getMessage());
+                finish(EnclosureMetadata.UNKNOWN);
+            }
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            if (call.isCanceled()) {
+                // Out of budget, not a property of the enclosure
+                permit.close();
+                finish(null);
+                return;
+            }
+            LOG.debug("Probing enclosure {} failed: {}", url, e.toString());
+            if (FailureClass.ofException(e).overload()) {
+                permit.dropped();
+            }
+            finish(headType != null ? new EnclosureMetadata(headType, -1) : EnclosureMetadata.UNKNOWN);
+        }
+
+        private void finish(EnclosureMetadata metadata) {
+            if (permit != null) {
+                // A single answer that did not back the limit off feeds its latency into the limit
+                if (rangeRequested) {
+                    permit.close();
+                } else {
+                    permit.success();
+                }
+            }
+            if (metadata != null) {
+                store(url, metadata);
+                if (metadata.known()) {
+                    results.put(url, metadata);
+                }
+            }
+            slots.release();
+            done.countDown();
+        }
+    }
+
+    private static long parseLength(String value) {
+        try {
+            return value != null ? Long.parseLong(value.trim()) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Total length of a Content-Range header such as bytes 0-0/12345
+     */
+    private static long totalLength(String contentRange) {
+        if (contentRange == null) {
+            return -1;
+        }
+        int slash = contentRange.lastIndexOf('/');
+        return slash >= 0 ? parseLength(contentRange.substring(slash + 1)) : -1;
+    }
+}
@@ -0,0 +1,172 @@
+package io.camunda.connector.rss.filter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton matching many keywords in a single pass over the text.
+ *
+ * Matching is case-insensitive and on word boundaries: a keyword only matches when it is not
+ * directly preceded or followed by a letter or digit, so "ai" matches "AI news" but not "said".
+ * The automaton is immutable and can be shared between threads.
+ */
+public final class AhoCorasick {
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] failure;
+    // Lengths of the keywords ending in each state, including those reachable through failure links
+    private final int[][] outputs;
+
+    private AhoCorasick(char[][] keys, int[][] targets, int[] failure, int[][] outputs) {
+        this.keys = keys;
+        this.targets = targets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Compile the keywords; blank keywords are ignored
+     */
+    public static AhoCorasick compile(Collection<String> keywords) {
+        List<StringBuilder> transitionKeys = new ArrayList<>();
+        List<List<Integer>> transitionTargets = new ArrayList<>();
+        List<int[]> stateOutputs = new ArrayList<>();
+        addState(transitionKeys, transitionTargets, stateOutputs);
+
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.trim().isEmpty()) {
+                continue;
+            }
+            String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+            int state = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = normalized.charAt(i);
+                int next = find(transitionKeys.get(state), transitionTargets.get(state), c);
+                if (next < 0) {
+                    next = addState(transitionKeys, transitionTargets, stateOutputs);
+                    transitionKeys.get(state).append(c);
+                    transitionTargets.get(state).add(next);
+                }
+                state = next;
+            }
+            stateOutputs.set(state, append(stateOutputs.get(state), normalized.length()));
+        }
+
+        int stateCount = transitionKeys.size();
+        char[][] keys = new char[stateCount][];
+        int[][] targets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            sortTransitions(transitionKeys.get(state), transitionTargets.get(state), keys, targets, state);
+        }
+
+        // Breadth-first construction of failure links
+        int[] failure = new int[stateCount];
+        int[][] outputs = stateOutputs.toArray(new int[0][]);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                int child = targets[state][i];
+                int fallback = failure[state];
+                int next;
+                while ((next = transition(keys, targets, fallback, keys[state][i])) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next >= 0 && next != child ? next : 0;
+                for (int length : outputs[failure[child]]) {
+                    outputs[child] = append(outputs[child], length);
+                }
+                queue.add(child);
+            }
+        }
+        return new AhoCorasick(keys, targets, failure, outputs);
+    }
+
+    /**
+     * Whether any keyword occurs in the text as a whole word
+     */
+    public boolean matches(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = transition(keys, targets, state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = Math.max(next, 0);
+            for (int length : outputs[state]) {
+                if (isBoundary(text, i - length) && isBoundary(text, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return keys[0].length == 0;
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static int transition(char[][] keys, int[][] targets, int state, char c) {
+        int index = Arrays.binarySearch(keys[state], c);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+
+    private static int find(StringBuilder keys, List<Integer> targets, char c) {
+        for (int i = 0; i < keys.length(); i++) {
+            if (keys.charAt(i) == c) {
+                return targets.get(i);
+            }
+        }
+        return -1;
+    }
+
+    private static int addState(List<StringBuilder> keys, List<List<Integer>> targets, List<int[]> outputs) {
+        keys.add(new StringBuilder(1));
+        targets.add(new ArrayList<>(1));
+        outputs.add(new int[0]);
+        return keys.size() - 1;
+    }
+
+    private static void sortTransitions(StringBuilder stateKeys, List<Integer> stateTargets,
+                                        char[][] keys, int[][] targets, int state) {
+        Integer[] order = new Integer[stateKeys.length()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Character.compare(stateKeys.charAt(a), stateKeys.charAt(b)));
+        keys[state] = new char[order.length];
+        targets[state] = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keys[state][i] = stateKeys.charAt(order[i]);
+            targets[state][i] = stateTargets.get(order[i]);
+        }
+    }
+
+    private static int[] append(int[] values, int value) {
+        for (int existing : values) {
+            if (existing == value) {
+                return values;
+            }
+        }
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+package io.camunda.connector.rss.filter;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyword and category filter compiled from the filter inputs of {@link RssFeedInput}.
+ *
+ * Keywords are matched with an {@link AhoCorasick} automaton against title, description and
+ * content; categories are compared case-insensitively through a hash set. An item is accepted
+ * if it matches any include keyword and any include category (when given) and none of the
+ * exclude keywords or categories. Compiled filters are cached, so repeated calls with the same
+ * filter inputs do not rebuild the automaton.
+ */
+public final class ItemFilter {
+
+    private static final int MAX_CACHED_FILTERS = 256;
+    private static final ConcurrentHashMap<FilterKey, ItemFilter> CACHE = new ConcurrentHashMap<>();
+
+    private final AhoCorasick includeKeywords;
+    private final AhoCorasick excludeKeywords;
+    private final Set<String> includeCategories;
+    private final Set<String> excludeCategories;
+
+    private ItemFilter(AhoCorasick includeKeywords, AhoCorasick excludeKeywords,
+                       Set<String> includeCategories, Set<String> excludeCategories) {
+        this.includeKeywords = includeKeywords;
+        this.excludeKeywords = excludeKeywords;
+        this.includeCategories = includeCategories;
+        this.excludeCategories = excludeCategories;
+    }
+
+    /**
+     * Compiled filter for the input, or null if the input has no keyword or category filters
+     */
+    public static ItemFilter of(RssFeedInput input) {
+        if (isBlank(input.getIncludeKeywords()) && isBlank(input.getExcludeKeywords()) &&
+            isBlank(input.getIncludeCategories()) && isBlank(input.getExcludeCategories())) {
+            return null;
+        }
+        FilterKey key = new FilterKey(copy(input.getIncludeKeywords()), copy(input.getExcludeKeywords()),
+                copy(input.getIncludeCategories()), copy(input.getExcludeCategories()));
+        ItemFilter filter = CACHE.get(key);
+        if (filter == null) {
+            filter = compile(key);
+            if (CACHE.size() >= MAX_CACHED_FILTERS) {
+                CACHE.clear();
+            }
+            CACHE.put(key, filter);
+        }
+        return filter;
+    }
+
+    private static ItemFilter compile(FilterKey key) {
+        return new ItemFilter(
+                keywords(key.includeKeywords()),
+                keywords(key.excludeKeywords()),
+                categories(key.includeCategories()),
+                categories(key.excludeCategories()));
+    }
+
+    /**
+     * Whether an item with the given text fields and categories passes the filter
+     */
+    public boolean accept(String title, String description, String content, Collection<String> categories) {
+        if (excludeCategories != null && hasCategory(categories, excludeCategories)) {
+            return false;
+        }
+        if (includeCategories != null && !hasCategory(categories, includeCategories)) {
+            return false;
+        }
+        if (excludeKeywords != null &&
+            (excludeKeywords.matches(title) || excludeKeywords.matches(description) || excludeKeywords.matches(content))) {
+            return false;
+        }
+        return includeKeywords == null ||
+               includeKeywords.matches(title) || includeKeywords.matches(description) || includeKeywords.matches(content);
+    }
+
+    private static boolean hasCategory(Collection<String> categories, Set<String> wanted) {
+        if (categories == null) {
+            return false;
+        }
+        for (String category : categories) {
+            if (category != null && wanted.contains(category.trim().toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AhoCorasick keywords(List<String> keywords) {
+        if (keywords == null) {
+            return null;
+        }
+        AhoCorasick automaton = AhoCorasick.compile(keywords);
+        return automaton.isEmpty() ? null : automaton;
+    }
+
+    private static Set<String> categories(List<String> categories) {
+        if (categories == null) {
+            return null;
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String category : categories) {
+            if (category != null && !category.trim().isEmpty()) {
+                normalized.add(category.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values != null ? new ArrayList<>(values) : null;
+    }
+
+    private static boolean isBlank(List<String> values) {
+        if (values == null) {
+            return true;
+        }
+        for (String value : values) {
+            if (value != null && !value.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record FilterKey(List<String> includeKeywords, List<String> excludeKeywords,
+                             List<String> includeCategories, List<String> excludeCategories) {
+    }
+}
@@ -0,0 +1,75 @@
+package io.camunda.connector.rss.hedge;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket capping the extra load of hedging: every hedged-mode request earns percent/100 of a token and
+ * every hedge spends one, so hedges add at most that percentage of requests, with a small burst allowance.
+ * During an outage, when all requests stall, hedging therefore cannot double the load on the host.
+ */
+public class HedgeBudget {
+
+    public static final int DEFAULT_PERCENT = EnvironmentConfig.getInt("RSS_CONNECTOR_HEDGE_BUDGET_PERCENT", 10);
+    static final double MAX_BALANCE = 10;
+
+    private static final HedgeBudget SHARED = new HedgeBudget(DEFAULT_PERCENT, MAX_BALANCE);
+
+    private final double tokensPerRequest;
+    private final double maxBalance;
+    private double balance;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public HedgeBudget(int percent, double maxBalance) {
+        this.tokensPerRequest = Math.max(0, percent) / 100.0;
+        this.maxBalance = maxBalance;
+        this.balance = Math.min(1, maxBalance);
+    }
+
+    /**
+     * Budget shared by all connector instances of the runtime
+     */
+    public static HedgeBudget shared() {
+        return SHARED;
+    }
+
+    public synchronized void onRequest() {
+        balance = Math.min(maxBalance, balance + tokensPerRequest);
+    }
+
+    /**
+     * Spend a token for a hedge
+     *
+     * @return whether the hedge may be sent
+     */
+    public boolean tryAcquire() {
+        synchronized (this) {
+            if (balance >= 1) {
+                balance -= 1;
+                sent.increment();
+                return true;
+            }
+        }
+        denied.increment();
+        return false;
+    }
+
+    void onHedgeWon() {
+        won.increment();
+    }
+
+    public long hedgesSent() {
+        return sent.sum();
+    }
+
+    public long hedgesWon() {
+        return won.sum();
+    }
+
+    public long hedgesDenied() {
+        return denied.sum();
+    }
+}
@@ -0,0 +1,167 @@
+package io.camunda.connector.rss.hedge;
+
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes a request with hedging: when no response headers arrived after the hedge delay, and the budget
+ * allows it, the same request is sent again on a client with its own connection pool, so it cannot queue
+ * behind the stalled connection. The first attempt to deliver a handled response wins and the other one is
+ * cancelled. When one attempt fails, the result of the other one is awaited; the call fails when both did.
+ * <p>
+ * Both attempts are enqueued on a dispatcher of their own rather than the client's, whose per-host limit
+ * (5 by default) would otherwise hold them back behind stalled calls to the same host. The number of hedged
+ * calls per host is already bounded by the host's concurrency limit and the hedge budget. The derived clients
+ * are built once per client.
+ */
+public final class HedgedCall {
+
+    private static final ConnectionPool HEDGE_CONNECTION_POOL = new ConnectionPool();
+    private static final Dispatcher DISPATCHER = createDispatcher();
+    private static final Map<OkHttpClient, Clients> CLIENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Reads the response on the OkHttp dispatcher thread of the attempt
+     */
+    public interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
+
+    private HedgedCall() {
+    }
+
+    public static <T> T execute(OkHttpClient client, Request request, Duration hedgeDelay, HedgeBudget budget,
+                                HostLatencyTracker latencies, ResponseHandler<T> handler) throws IOException {
+        Clients clients = CLIENTS.computeIfAbsent(client, HedgedCall::derive);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicBoolean decided = new AtomicBoolean();
+        CountDownLatch settled = new CountDownLatch(1);
+        String host = request.url().host();
+        budget.onRequest();
+
+        Call primary = clients.primary().newCall(request);
+        primary.enqueue(new Attempt<>(result, decided, pending, settled, handler, latencies, host, false, budget));
+        Call hedge = null;
+        try {
+            boolean answered = settled.await(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS);
+            if (!answered && !result.isDone() && budget.tryAcquire()) {
+                pending.incrementAndGet();
+                hedge = clients.hedge().newCall(request);
+                hedge.enqueue(new Attempt<>(result, decided, pending, new CountDownLatch(1), handler, latencies, host, true, budget));
+            }
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + request.url());
+        } finally {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+        }
+    }
+
+    /**
+     * Connection pool of hedges, for introspection
+     */
+    public static ConnectionPool hedgeConnectionPool() {
+        return HEDGE_CONNECTION_POOL;
+    }
+
+    private static Clients derive(OkHttpClient client) {
+        OkHttpClient primary = client.newBuilder().dispatcher(DISPATCHER).build();
+        return new Clients(primary, primary.newBuilder().connectionPool(HEDGE_CONNECTION_POOL).build());
+    }
+
+    private static Dispatcher createDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(HostConcurrencyLimiter.DEFAULT_MAX_LIMIT * 16);
+        dispatcher.setMaxRequestsPerHost(HostConcurrencyLimiter.DEFAULT_MAX_LIMIT * 2);
+        return dispatcher;
+    }
+
+    private record Clients(OkHttpClient primary, OkHttpClient hedge) {
+    }
+
+    private static final class Attempt<T> implements Callback {
+
+        private final CompletableFuture<T> result;
+        private final AtomicBoolean decided;
+        private final AtomicInteger pending;
+        private final CountDownLatch settled;
+        private final ResponseHandler<T> handler;
+        private final HostLatencyTracker latencies;
+        private final String host;
+        private final boolean hedge;
+        private final HedgeBudget budget;
+        private final long startNanos = System.nanoTime();
+
+        private Attempt(CompletableFuture<T> result, AtomicBoolean decided, AtomicInteger pending,
+                        CountDownLatch settled, ResponseHandler<T> handler, HostLatencyTracker latencies, String host,
+                        boolean hedge, HedgeBudget budget) {
+            this.result = result;
+            this.decided = decided;
+            this.pending = pending;
+            this.settled = settled;
+            this.handler = handler;
+            this.latencies = latencies;
+            this.host = host;
+            this.hedge = hedge;
+            this.budget = budget;
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) {
+            settled.countDown();
+            latencies.record(host, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            try (response) {
+                T value = handler.handle(response);
+                // The winner is counted before the caller sees the result
+                if (decided.compareAndSet(false, true)) {
+                    if (hedge) {
+                        budget.onHedgeWon();
+                    }
+                    result.complete(value);
+                }
+            } catch (IOException e) {
+                onFailure(call, e);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            settled.countDown();
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
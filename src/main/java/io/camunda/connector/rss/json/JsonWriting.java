@@ -0,0 +1,38 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Small helpers shared by the hand-written serializers. Null values are written as JSON null,
+ * matching the default bean serialization of the DTOs.
+ */
+final class JsonWriting {
+
+    private JsonWriting() {
+    }
+
+    static void writeNumberField(JsonGenerator generator, String name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    static void writeStringArrayField(JsonGenerator generator, String name, List<String> values) throws IOException {
+        generator.writeFieldName(name);
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,31 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.camunda.connector.rss.dto.RssEnclosure;
+
+import java.io.IOException;
+
+/**
+ * Hand-written serializer for {@link RssEnclosure} avoiding reflective bean serialization
+ */
+public class RssEnclosureSerializer extends StdSerializer<RssEnclosure> {
+
+    public RssEnclosureSerializer() {
+        super(RssEnclosure.class);
+    }
+
+    @Override
+    public void serialize(RssEnclosure enclosure, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(enclosure, generator);
+    }
+
+    static void write(RssEnclosure enclosure, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("url", enclosure.getUrl());
+        generator.writeStringField("type", enclosure.getType());
+        JsonWriting.writeNumberField(generator, "length", enclosure.getLength());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,253 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.camunda.connector.rss.dto.RssFeedInput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written deserializer for {@link RssFeedInput} used by {@code context.bindVariables}.
+ * Reads the input in a single streaming pass instead of reflective bean binding; unknown
+ * variables are skipped and absent ones keep the defaults of {@link RssFeedInput}.
+ * Every new input field has to be added to {@link #readField}.
+ */
+public class RssFeedInputDeserializer extends StdDeserializer<RssFeedInput> {
+
+    public RssFeedInputDeserializer() {
+        super(RssFeedInput.class);
+    }
+
+    @Override
+    public RssFeedInput deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (RssFeedInput) context.handleUnexpectedToken(RssFeedInput.class, parser);
+        }
+
+        RssFeedInput input = new RssFeedInput();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            parser.nextToken();
+            readField(field, input, parser, context);
+        }
+        return input;
+    }
+
+    private void readField(String field, RssFeedInput input, JsonParser parser, DeserializationContext context) throws IOException {
+        switch (field) {
+            case "operation":
+                input.setOperation(readString(parser, context));
+                break;
+            case "feedUrl":
+                input.setFeedUrl(readString(parser, context));
+                break;
+            case "maxItems":
+                input.setMaxItems(readInteger(parser, context));
+                break;
+            case "authType":
+                input.setAuthType(readString(parser, context));
+                break;
+            case "authToken":
+                input.setAuthToken(readString(parser, context));
+                break;
+            case "ignoreTls":
+                input.setIgnoreTls(readBoolean(parser, context));
+                break;
+            case "newerThan":
+                input.setNewerThan(readString(parser, context));
+                break;
+            case "guidBlacklist":
+                input.setGuidBlacklist(readStringList(parser, context));
+                break;
+            case "userAgent":
+                input.setUserAgent(readString(parser, context));
+                break;
+            case "timeoutSeconds":
+                input.setTimeoutSeconds(readInteger(parser, context));
+                break;
+            case "outputMode":
+                input.setOutputMode(readString(parser, context));
+                break;
+            case "spillThresholdBytes":
+                input.setSpillThresholdBytes(readLong(parser, context));
+                break;
+            case "feedUrls":
+                input.setFeedUrls(readStringList(parser, context));
+                break;
+            case "deduplicate":
+                input.setDeduplicate(readBoolean(parser, context));
+                break;
+            case "includeKeywords":
+                input.setIncludeKeywords(readStringList(parser, context));
+                break;
+            case "excludeKeywords":
+                input.setExcludeKeywords(readStringList(parser, context));
+                break;
+            case "includeCategories":
+                input.setIncludeCategories(readStringList(parser, context));
+                break;
+            case "excludeCategories":
+                input.setExcludeCategories(readStringList(parser, context));
+                break;
+            case "archiveFrom":
+                input.setArchiveFrom(readString(parser, context));
+                break;
+            case "archiveTo":
+                input.setArchiveTo(readString(parser, context));
+                break;
+            case "query":
+                input.setQuery(readString(parser, context));
+                break;
+            case "followPages":
+                input.setFollowPages(readBoolean(parser, context));
+                break;
+            case "maxPages":
+                input.setMaxPages(readInteger(parser, context));
+                break;
+            case "delta":
+                input.setDelta(readBoolean(parser, context));
+                break;
+            case "includeRemoved":
+                input.setIncludeRemoved(readBoolean(parser, context));
+                break;
+            case "snapshotKey":
+                input.setSnapshotKey(readString(parser, context));
+                break;
+            case "opml":
+                input.setOpml(readString(parser, context));
+                break;
+            case "opmlUrl":
+                input.setOpmlUrl(readString(parser, context));
+                break;
+            case "maxConcurrency":
+                input.setMaxConcurrency(readInteger(parser, context));
+                break;
+            case "perHostConcurrency":
+                input.setPerHostConcurrency(readInteger(parser, context));
+                break;
+            case "deadlineSeconds":
+                input.setDeadlineSeconds(readInteger(parser, context));
+                break;
+            case "cacheMaxAgeSeconds":
+                input.setCacheMaxAgeSeconds(readInteger(parser, context));
+                break;
+            case "staleWhileRevalidateSeconds":
+                input.setStaleWhileRevalidateSeconds(readInteger(parser, context));
+                break;
+            case "staleIfErrorSeconds":
+                input.setStaleIfErrorSeconds(readInteger(parser, context));
+                break;
+            case "hedge":
+                input.setHedge(readBoolean(parser, context));
+                break;
+            case "adaptiveTimeouts":
+                input.setAdaptiveTimeouts(readBoolean(parser, context));
+                break;
+            case "priority":
+                input.setPriority(readString(parser, context));
+                break;
+            case "probeEnclosures":
+                input.setProbeEnclosures(readBoolean(parser, context));
+                break;
+            case "probeBudgetSeconds":
+                input.setProbeBudgetSeconds(readInteger(parser, context));
+                break;
+            case "downloadBytesPerSecond":
+                input.setDownloadBytesPerSecond(readLong(parser, context));
+                break;
+            case "traceparent":
+                input.setTraceparent(readString(parser, context));
+                break;
+            default:
+                parser.skipChildren();
+        }
+    }
+
+    static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        return (String) context.handleUnexpectedToken(String.class, parser);
+    }
+
+    static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return (int) parser.getDoubleValue();
+        }
+        String text = blankToNull(readString(parser, context));
+        try {
+            return text != null ? Integer.valueOf(text) : null;
+        } catch (NumberFormatException e) {
+            return (Integer) context.handleWeirdStringValue(Integer.class, text, "not a valid Integer value");
+        }
+    }
+
+    static Long readLong(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return (long) parser.getDoubleValue();
+        }
+        String text = blankToNull(readString(parser, context));
+        try {
+            return text != null ? Long.valueOf(text) : null;
+        } catch (NumberFormatException e) {
+            return (Long) context.handleWeirdStringValue(Long.class, text, "not a valid Long value");
+        }
+    }
+
+    static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        String text = blankToNull(readString(parser, context));
+        if (text == null) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+            return Boolean.valueOf(text);
+        }
+        return (Boolean) context.handleWeirdStringValue(Boolean.class, text, "not a valid Boolean value");
+    }
+
+    static List<String> readStringList(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            // Accept a single value where a list is expected
+            List<String> single = new ArrayList<>(1);
+            single.add(readString(parser, context));
+            return single;
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(parser, context));
+        }
+        return values;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+}
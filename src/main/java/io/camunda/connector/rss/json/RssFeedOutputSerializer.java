@@ -0,0 +1,133 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.CompactItemList;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Hand-written serializer for {@link RssFeedOutput} avoiding reflective bean serialization
+ */
+public class RssFeedOutputSerializer extends StdSerializer<RssFeedOutput> {
+
+    public RssFeedOutputSerializer() {
+        super(RssFeedOutput.class);
+    }
+
+    @Override
+    public void serialize(RssFeedOutput output, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        writeHeader(output, generator, provider);
+        generator.writeFieldName("items");
+        if (output.getItems() == null) {
+            generator.writeNull();
+        } else if (output.getItems() instanceof CompactItemList compactItems) {
+            writeCompactItemArray(compactItems, generator);
+        } else {
+            writeItemArray(output.getItems().iterator(), generator);
+        }
+        writeTrailer(output, output.getTotalItems(), generator, provider);
+    }
+
+    /**
+     * Write the feed metadata fields that precede the items
+     */
+    static void writeHeader(RssFeedOutput output, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeBooleanField("success", output.isSuccess());
+        generator.writeStringField("feedTitle", output.getFeedTitle());
+        generator.writeStringField("feedDescription", output.getFeedDescription());
+        generator.writeStringField("feedLink", output.getFeedLink());
+        generator.writeStringField("feedLanguage", output.getFeedLanguage());
+        generator.writeStringField("hubUrl", output.getHubUrl());
+        generator.writeStringField("selfUrl", output.getSelfUrl());
+    }
+
+    /**
+     * Write the fields that follow the items and close the object
+     */
+    static void writeTrailer(RssFeedOutput output, int totalItems, JsonGenerator generator,
+                             SerializerProvider provider) throws IOException {
+        generator.writeFieldName("itemsDocument");
+        if (output.getItemsDocument() == null) {
+            generator.writeNull();
+        } else if (provider != null) {
+            provider.defaultSerializeValue(output.getItemsDocument(), generator);
+        } else {
+            generator.writeObject(output.getItemsDocument());
+        }
+        generator.writeNumberField("totalItems", totalItems);
+        generator.writeFieldName("duplicatesRemoved");
+        if (output.getDuplicatesRemoved() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(output.getDuplicatesRemoved());
+        }
+        generator.writeFieldName("pagesFetched");
+        if (output.getPagesFetched() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(output.getPagesFetched());
+        }
+        generator.writeStringField("nextPageUrl", output.getNextPageUrl());
+        generator.writeFieldName("delta");
+        if (output.getDelta() == null) {
+            generator.writeNull();
+        } else if (provider != null) {
+            provider.defaultSerializeValue(output.getDelta(), generator);
+        } else {
+            generator.writeObject(output.getDelta());
+        }
+        generator.writeFieldName("folders");
+        if (output.getFolders() == null) {
+            generator.writeNull();
+        } else if (provider != null) {
+            provider.defaultSerializeValue(output.getFolders(), generator);
+        } else {
+            generator.writeObject(output.getFolders());
+        }
+        generator.writeFieldName("downloads");
+        if (output.getDownloads() == null) {
+            generator.writeNull();
+        } else if (provider != null) {
+            provider.defaultSerializeValue(output.getDownloads(), generator);
+        } else {
+            generator.writeObject(output.getDownloads());
+        }
+        generator.writeStringField("cacheStatus", output.getCacheStatus());
+        generator.writeFieldName("stale");
+        if (output.getStale() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(output.getStale());
+        }
+        generator.writeStringField("fetchedAt", output.getFetchedAt());
+        generator.writeStringField("error", output.getError());
+        generator.writeEndObject();
+    }
+
+    static int writeCompactItemArray(CompactItemList items, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (CompactItem item : items.compactItems()) {
+            RssItemSerializer.write(item, generator);
+        }
+        generator.writeEndArray();
+        return items.size();
+    }
+
+    static int writeItemArray(Iterator<RssItem> items, JsonGenerator generator) throws IOException {
+        int count = 0;
+        generator.writeStartArray();
+        while (items.hasNext()) {
+            RssItemSerializer.write(items.next(), generator);
+            count++;
+        }
+        generator.writeEndArray();
+        return count;
+    }
+}
@@ -0,0 +1,86 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.camunda.connector.rss.dto.RssEnclosure;
+import io.camunda.connector.rss.dto.RssItem;
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+
+import java.io.IOException;
+
+/**
+ * Hand-written serializer for {@link RssItem} avoiding reflective bean serialization
+ */
+public class RssItemSerializer extends StdSerializer<RssItem> {
+
+    public RssItemSerializer() {
+        super(RssItem.class);
+    }
+
+    @Override
+    public void serialize(RssItem item, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(item, generator);
+    }
+
+    static void write(RssItem item, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", item.getTitle());
+        generator.writeStringField("description", item.getDescription());
+        generator.writeStringField("link", item.getLink());
+        generator.writeStringField("guid", item.getGuid());
+        generator.writeStringField("pubDate", item.getPubDate());
+        generator.writeStringField("author", item.getAuthor());
+        JsonWriting.writeStringArrayField(generator, "categories", item.getCategories());
+        generator.writeFieldName("enclosures");
+        if (item.getEnclosures() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (RssEnclosure enclosure : item.getEnclosures()) {
+                RssEnclosureSerializer.write(enclosure, generator);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeStringField("content", item.getContent());
+        generator.writeStringField("comments", item.getComments());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write a compact item in the public item shape without building an {@link RssItem}
+     */
+    static void write(CompactItem item, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", item.title());
+        generator.writeStringField("description", item.description());
+        generator.writeStringField("link", item.link());
+        generator.writeStringField("guid", item.guid());
+        generator.writeStringField("pubDate", item.pubDate());
+        generator.writeStringField("author", item.author());
+        generator.writeFieldName("categories");
+        if (item.categories() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeArray(item.categories(), 0, item.categories().length);
+        }
+        generator.writeFieldName("enclosures");
+        if (item.enclosures() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (CompactEnclosure enclosure : item.enclosures()) {
+                generator.writeStartObject();
+                generator.writeStringField("url", enclosure.url());
+                generator.writeStringField("type", enclosure.type());
+                JsonWriting.writeNumberField(generator, "length", enclosure.lengthOrNull());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeStringField("content", item.content());
+        generator.writeStringField("comments", item.comments());
+        generator.writeEndObject();
+    }
+}
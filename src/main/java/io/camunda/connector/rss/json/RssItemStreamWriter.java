@@ -0,0 +1,71 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import io.camunda.connector.rss.model.CompactItemList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Writes RSS items as JSON item by item using the hand-written serializers. Items are pulled from
+ * an iterator, so producers can convert and emit them one at a time without building the full list.
+ */
+public final class RssItemStreamWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private RssItemStreamWriter() {
+    }
+
+    /**
+     * Write the items as a JSON array to the stream. The stream is flushed but not closed.
+     *
+     * @return number of items written
+     */
+    public static int writeItems(OutputStream out, Iterable<RssItem> items) throws IOException {
+        if (items instanceof CompactItemList compactItems) {
+            try (JsonGenerator generator = createGenerator(out)) {
+                return RssFeedOutputSerializer.writeCompactItemArray(compactItems, generator);
+            }
+        }
+        return writeItems(out, items.iterator());
+    }
+
+    /**
+     * Write the items as a JSON array to the stream. The stream is flushed but not closed.
+     *
+     * @return number of items written
+     */
+    public static int writeItems(OutputStream out, Iterator<RssItem> items) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            return RssFeedOutputSerializer.writeItemArray(items, generator);
+        }
+    }
+
+    /**
+     * Write a complete output document whose items are pulled from the iterator instead of
+     * {@link RssFeedOutput#getItems()}. {@code totalItems} reflects the number of items written.
+     *
+     * @return number of items written
+     */
+    public static int writeOutput(OutputStream out, RssFeedOutput metadata, Iterator<RssItem> items) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            RssFeedOutputSerializer.writeHeader(metadata, generator, null);
+            generator.writeFieldName("items");
+            int count = RssFeedOutputSerializer.writeItemArray(items, generator);
+            RssFeedOutputSerializer.writeTrailer(metadata, count, generator, null);
+            return count;
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+}
@@ -0,0 +1,150 @@
+package io.camunda.connector.rss.latency;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derives connect and read timeouts per host from its latency history. A timeout is the larger of
+ * mean + 4 deviations (as TCP computes its retransmission timeout) and a multiple of the p99, kept between
+ * the configured minimum and the client's own timeout, which acts as the ceiling. Hosts without enough
+ * samples get the ceiling.
+ * <p>
+ * A call that times out leaves no response time, only the lower bound that it took longer than the timeout. That
+ * elapsed time is recorded as a censored sample, and each consecutive timeout of a host doubles its timeouts
+ * towards the ceiling until a response arrives, so a host that became slower than its derived timeout is not
+ * cut off for good.
+ */
+public class AdaptiveTimeouts {
+
+    public static final long DEFAULT_MIN_CONNECT_MILLIS = EnvironmentConfig.getLong("RSS_CONNECTOR_ADAPTIVE_MIN_CONNECT_MS", 1000);
+    public static final long DEFAULT_MIN_READ_MILLIS = EnvironmentConfig.getLong("RSS_CONNECTOR_ADAPTIVE_MIN_READ_MS", 2000);
+
+    static final int DEVIATIONS = 4;
+    static final int CONNECT_P99_FACTOR = 3;
+    static final int READ_P99_FACTOR = 2;
+    static final int MAX_BACKOFF_DOUBLINGS = 10;
+
+    private static final AdaptiveTimeouts SHARED =
+            new AdaptiveTimeouts(HostLatencyTracker.shared(), DEFAULT_MIN_CONNECT_MILLIS, DEFAULT_MIN_READ_MILLIS);
+
+    private final HostLatencyTracker latencies;
+    private final long minConnectMillis;
+    private final long minReadMillis;
+    // Consecutive timeouts per host, removed on the host's next response
+    private final Map<String, Integer> consecutiveTimeouts = new ConcurrentHashMap<>();
+
+    public AdaptiveTimeouts(HostLatencyTracker latencies, long minConnectMillis, long minReadMillis) {
+        this.latencies = latencies;
+        this.minConnectMillis = minConnectMillis;
+        this.minReadMillis = minReadMillis;
+    }
+
+    public static AdaptiveTimeouts shared() {
+        return SHARED;
+    }
+
+    /**
+     * Connect timeout for the host in millis, at most ceilingMillis
+     */
+    public long connectTimeout(String host, long ceilingMillis) {
+        return timeout(host, HostLatencyTracker.Phase.CONNECT, CONNECT_P99_FACTOR, minConnectMillis, ceilingMillis);
+    }
+
+    /**
+     * Read timeout for the host in millis, at most ceilingMillis
+     */
+    public long readTimeout(String host, long ceilingMillis) {
+        return timeout(host, HostLatencyTracker.Phase.HEADERS, READ_P99_FACTOR, minReadMillis, ceilingMillis);
+    }
+
+    /**
+     * Application interceptor applying the host's timeouts to each call, below the client's timeouts
+     */
+    public Interceptor interceptor() {
+        return chain -> {
+            String host = chain.request().url().host();
+            long start = System.nanoTime();
+            try {
+                Response response = chain
+                        .withConnectTimeout((int) connectTimeout(host, chain.connectTimeoutMillis()), TimeUnit.MILLISECONDS)
+                        .withReadTimeout((int) readTimeout(host, chain.readTimeoutMillis()), TimeUnit.MILLISECONDS)
+                        .proceed(chain.request());
+                consecutiveTimeouts.remove(host);
+                return response;
+            } catch (SocketTimeoutException e) {
+                onTimeout(host, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Event listener recording the connect time of new connections
+     */
+    public EventListener.Factory eventListenerFactory() {
+        return call -> new ConnectTimer(latencies);
+    }
+
+    /**
+     * Number of consecutive timeouts of the host since its last response
+     */
+    public int consecutiveTimeouts(String host) {
+        return consecutiveTimeouts.getOrDefault(host, 0);
+    }
+
+    /**
+     * Record a call to the host that timed out after elapsedMillis, a censored sample of its time to headers
+     */
+    void onTimeout(String host, long elapsedMillis) {
+        latencies.record(host, HostLatencyTracker.Phase.HEADERS, elapsedMillis);
+        consecutiveTimeouts.merge(host, 1, (count, one) -> Math.min(MAX_BACKOFF_DOUBLINGS, count + one));
+    }
+
+    private long timeout(String host, HostLatencyTracker.Phase phase, int p99Factor, long minMillis, long ceilingMillis) {
+        if (ceilingMillis <= 0) {
+            // No client timeout, nothing to adapt below
+            return 0;
+        }
+        long p99 = latencies.percentile(host, phase, 0.99);
+        if (p99 < 0) {
+            return ceilingMillis;
+        }
+        double rto = latencies.mean(host, phase) + DEVIATIONS * latencies.deviation(host, phase);
+        long timeout = Math.max(Math.max((long) Math.ceil(rto), p99Factor * p99), Math.min(minMillis, ceilingMillis));
+        // Back off towards the ceiling while the host keeps timing out
+        int backoff = consecutiveTimeouts(host);
+        return Math.min(ceilingMillis, backoff > 0 ? timeout << backoff : timeout);
+    }
+
+    private static final class ConnectTimer extends EventListener {
+
+        private final HostLatencyTracker latencies;
+        private long connectStart;
+
+        private ConnectTimer(HostLatencyTracker latencies) {
+            this.latencies = latencies;
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress address, Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol) {
+            latencies.record(call.request().url().host(), HostLatencyTracker.Phase.CONNECT,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.camunda.connector.rss.latency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Observed connect times and times until response headers per host. Each phase keeps an exponentially
+ * weighted mean and mean deviation, as TCP does for round-trip times, and a log-scale histogram with buckets
+ * about 10% wide as percentile sketch. The histogram keeps the current and the previous window of
+ * {@link #WINDOW_SAMPLES} samples, so percentiles follow changes in latency while memory stays fixed per host.
+ */
+public class HostLatencyTracker {
+
+    public static final int MIN_SAMPLES = 20;
+    static final int WINDOW_SAMPLES = 1000;
+    static final int MAX_HOSTS = 1000;
+
+    private static final int BUCKETS = 128;
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final double MEAN_GAIN = 1.0 / 8;
+    private static final double DEVIATION_GAIN = 1.0 / 4;
+
+    private static final HostLatencyTracker SHARED = new HostLatencyTracker();
+
+    /**
+     * Measured part of a request
+     */
+    public enum Phase {
+        CONNECT,
+        HEADERS
+    }
+
+    private final Map<String, Stats[]> hosts = Collections.synchronizedMap(
+            new LinkedHashMap<String, Stats[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Stats[]> eldest) {
+                    return size() > MAX_HOSTS;
+                }
+            });
+
+    /**
+     * Tracker shared by all connector instances of the runtime
+     */
+    public static HostLatencyTracker shared() {
+        return SHARED;
+    }
+
+    /**
+     * Record the time until response headers arrived
+     */
+    public void record(String host, long millis) {
+        record(host, Phase.HEADERS, millis);
+    }
+
+    public void record(String host, Phase phase, long millis) {
+        hosts.computeIfAbsent(host, h -> new Stats[]{new Stats(), new Stats()})[phase.ordinal()].record(millis);
+    }
+
+    /**
+     * Time to headers in millis below which the given fraction of the host's samples fall, or -1 with fewer than
+     * {@link #MIN_SAMPLES} samples
+     */
+    public long percentile(String host, double quantile) {
+        return percentile(host, Phase.HEADERS, quantile);
+    }
+
+    public long percentile(String host, Phase phase, double quantile) {
+        Stats stats = stats(host, phase);
+        return stats != null ? stats.percentile(quantile) : -1;
+    }
+
+    /**
+     * Weighted mean in millis, or -1 without samples
+     */
+    public double mean(String host, Phase phase) {
+        Stats stats = stats(host, phase);
+        return stats != null ? stats.mean() : -1;
+    }
+
+    /**
+     * Weighted mean deviation in millis, or -1 without samples
+     */
+    public double deviation(String host, Phase phase) {
+        Stats stats = stats(host, phase);
+        return stats != null ? stats.deviation() : -1;
+    }
+
+    public int sampleCount(String host) {
+        return sampleCount(host, Phase.HEADERS);
+    }
+
+    public int sampleCount(String host, Phase phase) {
+        Stats stats = stats(host, phase);
+        return stats != null ? stats.count() : 0;
+    }
+
+    /**
+     * Hosts with samples, most recently measured last
+     */
+    public List<String> hosts() {
+        synchronized (hosts) {
+            return new ArrayList<>(hosts.keySet());
+        }
+    }
+
+    private Stats stats(String host, Phase phase) {
+        Stats[] stats = hosts.get(host);
+        return stats != null ? stats[phase.ordinal()] : null;
+    }
+
+    private static int bucket(long millis) {
+        if (millis <= 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, (int) (Math.log(millis) / LOG_GROWTH));
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) Math.ceil(Math.pow(GROWTH, bucket + 1));
+    }
+
+    private static final class Stats {
+
+        private int[] current = new int[BUCKETS];
+        private int[] previous = new int[BUCKETS];
+        private int currentCount;
+        private int previousCount;
+        private double mean = -1;
+        private double deviation = -1;
+
+        synchronized void record(long millis) {
+            if (mean < 0) {
+                mean = millis;
+                deviation = millis / 2.0;
+            } else {
+                deviation += DEVIATION_GAIN * (Math.abs(mean - millis) - deviation);
+                mean += MEAN_GAIN * (millis - mean);
+            }
+            if (currentCount == WINDOW_SAMPLES) {
+                int[] recycled = previous;
+                Arrays.fill(recycled, 0);
+                previous = current;
+                previousCount = currentCount;
+                current = recycled;
+                currentCount = 0;
+            }
+            current[bucket(millis)]++;
+            currentCount++;
+        }
+
+        synchronized int count() {
+            return currentCount + previousCount;
+        }
+
+        synchronized double mean() {
+            return mean;
+        }
+
+        synchronized double deviation() {
+            return deviation;
+        }
+
+        synchronized long percentile(double quantile) {
+            int total = currentCount + previousCount;
+            if (total < MIN_SAMPLES) {
+                return -1;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += current[i] + previous[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(BUCKETS - 1);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package io.camunda.connector.rss.limit;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulkhead limiting the requests in flight per host, with a limit found by AIMD: while responses arrive without
+ * queueing delay and the limit is in use, it grows by one per limit's worth of responses. It halves when the host
+ * answers 429, 5xx or times out, at most once for the requests already in flight, and shrinks by 10% when a
+ * response takes more than twice the host's long-term average latency. Requests over the limit wait in a bounded FIFO
+ * queue for up to the queue timeout.
+ */
+public class HostConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = EnvironmentConfig.getInt("RSS_CONNECTOR_HOST_INITIAL_CONCURRENCY", 4);
+    public static final int DEFAULT_MAX_LIMIT = EnvironmentConfig.getInt("RSS_CONNECTOR_HOST_MAX_CONCURRENCY", 32);
+    public static final int DEFAULT_MAX_QUEUE = EnvironmentConfig.getInt("RSS_CONNECTOR_HOST_QUEUE_SIZE", 100);
+    public static final long DEFAULT_QUEUE_TIMEOUT_MS = EnvironmentConfig.getLong("RSS_CONNECTOR_HOST_QUEUE_TIMEOUT_MS", 10_000);
+
+    static final int MAX_HOSTS = 1000;
+    static final double LATENCY_TOLERANCE = 2.0;
+    static final double BACKOFF_RATIO = 0.5;
+    static final double LATENCY_BACKOFF_RATIO = 0.9;
+    static final long MIN_LATENCY_INCREASE_MS = 50;
+    private static final double BASELINE_GAIN = 1.0 / 64;
+
+    private static final HostConcurrencyLimiter SHARED = new HostConcurrencyLimiter(
+            DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_MAX_QUEUE, DEFAULT_QUEUE_TIMEOUT_MS);
+
+    private final int initialLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long queueTimeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+    private final Map<String, HostLimit> hosts = Collections.synchronizedMap(
+            new LinkedHashMap<String, HostLimit>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, HostLimit> eldest) {
+                    return size() > MAX_HOSTS;
+                }
+            });
+
+    public HostConcurrencyLimiter(int initialLimit, int maxLimit, int maxQueue, long queueTimeoutMillis) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.initialLimit = Math.max(1, Math.min(initialLimit, this.maxLimit));
+        this.maxQueue = Math.max(0, maxQueue);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    /**
+     * Limiter shared by all connector instances of the runtime
+     */
+    public static HostConcurrencyLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * Wait for a free slot of the host
+     *
+     * @throws SecurityException if the queue is full or no slot became free within the queue timeout
+     */
+    public Permit acquire(String host) {
+        return acquire(host, queueTimeoutMillis);
+    }
+
+    /**
+     * Wait for a free slot of the host, for at most timeoutMillis or the queue timeout, whichever is shorter
+     *
+     * @throws SecurityException if the queue is full or no slot became free in time
+     */
+    public Permit acquire(String host, long timeoutMillis) {
+        HostLimit limit = hosts.computeIfAbsent(host, h -> new HostLimit(initialLimit));
+        try {
+            return limit.acquire(host, Math.min(timeoutMillis, queueTimeoutMillis));
+        } catch (SecurityException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * A free slot of the host without waiting, or null if the host is at its limit
+     */
+    public Permit tryAcquire(String host) {
+        return hosts.computeIfAbsent(host, h -> new HostLimit(initialLimit)).tryAcquire();
+    }
+
+    public int limit(String host) {
+        HostLimit limit = hosts.get(host);
+        return limit != null ? limit.limit() : initialLimit;
+    }
+
+    public int inFlight(String host) {
+        HostLimit limit = hosts.get(host);
+        return limit != null ? limit.inFlight() : 0;
+    }
+
+    public int queued(String host) {
+        HostLimit limit = hosts.get(host);
+        return limit != null ? limit.queued() : 0;
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Hosts with a limit, most recently used last
+     */
+    public List<String> hosts() {
+        synchronized (hosts) {
+            return new ArrayList<>(hosts.keySet());
+        }
+    }
+
+    /**
+     * Start the host over at the initial limit. Requests already in flight or queued finish under the old limit.
+     */
+    public void reset(String host) {
+        hosts.remove(host);
+    }
+
+    /**
+     * Slot of a request in flight; report exactly one outcome, {@link #close} releases an unreported slot
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final HostLimit limit;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(HostLimit limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * The host answered; its latency feeds the limit
+         */
+        public void success() {
+            release(Outcome.SUCCESS);
+        }
+
+        /**
+         * The host signalled overload
+         */
+        public void dropped() {
+            release(Outcome.DROPPED);
+        }
+
+        @Override
+        public void close() {
+            release(Outcome.IGNORED);
+        }
+
+        private void release(Outcome outcome) {
+            if (!released) {
+                released = true;
+                limit.release(startNanos, outcome);
+            }
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    private final class HostLimit {
+
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final Condition slotFree = lock.newCondition();
+        private double limit;
+        private int inFlight;
+        private int queued;
+        private double baselineMillis = -1;
+        private long lastBackoffNanos = System.nanoTime();
+
+        private HostLimit(int initialLimit) {
+            this.limit = initialLimit;
+        }
+
+        Permit tryAcquire() {
+            lock.lock();
+            try {
+                // Queued requests go first
+                if (queued > 0 || inFlight >= (int) limit) {
+                    return null;
+                }
+                inFlight++;
+                return new Permit(this);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Permit acquire(String host, long timeoutMillis) {
+            lock.lock();
+            try {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    return new Permit(this);
+                }
+                if (queued >= maxQueue) {
+                    throw new SecurityException("Concurrency limit exceeded: too many concurrent requests to " + host +
+                            " (" + inFlight + " in flight, " + queued + " queued, limit: " + (int) limit + ")");
+                }
+                queued++;
+                try {
+                    long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+                    while (inFlight >= (int) limit) {
+                        if (remaining <= 0) {
+                            throw new SecurityException("Concurrency limit exceeded: no free slot for " + host +
+                                    " within " + timeoutMillis + "ms (limit: " + (int) limit + ")");
+                        }
+                        remaining = slotFree.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Request interrupted", e);
+                } finally {
+                    queued--;
+                }
+                inFlight++;
+                return new Permit(this);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release(long startNanos, Outcome outcome) {
+            lock.lock();
+            try {
+                int wasInFlight = inFlight;
+                inFlight--;
+                if (outcome == Outcome.DROPPED) {
+                    // One backoff per window: requests sent before the last backoff report the same overload
+                    if (startNanos - lastBackoffNanos > 0) {
+                        limit = Math.max(1, limit * BACKOFF_RATIO);
+                        lastBackoffNanos = System.nanoTime();
+                    }
+                } else if (outcome == Outcome.SUCCESS) {
+                    onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), wasInFlight);
+                }
+                for (int free = (int) limit - inFlight; free > 0; free--) {
+                    slotFree.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onSuccess(long millis, int wasInFlight) {
+            if (baselineMillis < 0) {
+                baselineMillis = millis;
+            } else {
+                baselineMillis += BASELINE_GAIN * (millis - baselineMillis);
+            }
+            if (millis > LATENCY_TOLERANCE * baselineMillis && millis - baselineMillis > MIN_LATENCY_INCREASE_MS) {
+                limit = Math.max(1, limit * LATENCY_BACKOFF_RATIO);
+            } else if (wasInFlight * 2 >= (int) limit) {
+                // Only grow a limit that is used, otherwise idle hosts drift to the maximum
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+
+        int limit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int inFlight() {
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int queued() {
+            lock.lock();
+            try {
+                return queued;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.camunda.connector.rss.limit;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStores;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-window request limits per host, per minute and per hour. The counters are kept in the shared state store,
+ * so the limits hold across all runtimes of a cluster; the counts this runtime saw last are kept per host for
+ * introspection. Each host has one counter per window length that expires at the end of the current window, so
+ * the next window reuses the same key instead of leaving a new entry behind in the store.
+ */
+public class HostRateLimiter {
+
+    public static final int DEFAULT_MAX_PER_MINUTE = EnvironmentConfig.getInt("RSS_CONNECTOR_MAX_REQUESTS_PER_MINUTE", 60);
+    public static final int DEFAULT_MAX_PER_HOUR = EnvironmentConfig.getInt("RSS_CONNECTOR_MAX_REQUESTS_PER_HOUR", 1000);
+
+    static final String NAMESPACE = "rate-limit";
+    static final int MAX_HOSTS = 1000;
+    private static final long MINUTE_MILLIS = 60_000;
+    private static final long HOUR_MILLIS = 3_600_000;
+
+    private static final HostRateLimiter SHARED = new HostRateLimiter(
+            SharedStateStores.shared(), DEFAULT_MAX_PER_MINUTE, DEFAULT_MAX_PER_HOUR);
+
+    private final SharedStateStore store;
+    private final int maxPerMinute;
+    private final int maxPerHour;
+    private final LongSupplier clock;
+    private final LongAdder rejected = new LongAdder();
+    private final Map<String, Counts> hosts = Collections.synchronizedMap(
+            new LinkedHashMap<String, Counts>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Counts> eldest) {
+                    return size() > MAX_HOSTS;
+                }
+            });
+
+    public HostRateLimiter(SharedStateStore store, int maxPerMinute, int maxPerHour) {
+        this(store, maxPerMinute, maxPerHour, System::currentTimeMillis);
+    }
+
+    HostRateLimiter(SharedStateStore store, int maxPerMinute, int maxPerHour, LongSupplier clock) {
+        this.store = store;
+        this.maxPerMinute = maxPerMinute;
+        this.maxPerHour = maxPerHour;
+        this.clock = clock;
+    }
+
+    /**
+     * Limiter shared by all connector instances of the runtime
+     */
+    public static HostRateLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * Count a request to the host
+     *
+     * @throws SecurityException if the host's per-minute or per-hour limit is exceeded
+     */
+    public void acquire(String host) {
+        long now = clock.getAsLong();
+        long minute = now / MINUTE_MILLIS;
+        long hour = now / HOUR_MILLIS;
+
+        long countMinute = store.increment(NAMESPACE, minuteKey(host), untilWindowEnd(now, MINUTE_MILLIS));
+        Counts previous = hosts.get(host);
+        long seenHour = previous != null && previous.hour() == hour ? previous.perHour() : 0;
+        hosts.put(host, new Counts(minute, countMinute, hour, seenHour));
+        if (countMinute > maxPerMinute) {
+            rejected.increment();
+            throw new SecurityException("Rate limit exceeded: too many requests to " + host +
+                    " (" + countMinute + " requests per minute, max: " + maxPerMinute + ")");
+        }
+
+        long countHour = store.increment(NAMESPACE, hourKey(host), untilWindowEnd(now, HOUR_MILLIS));
+        hosts.put(host, new Counts(minute, countMinute, hour, countHour));
+        if (countHour > maxPerHour) {
+            rejected.increment();
+            throw new SecurityException("Rate limit exceeded: too many requests to " + host +
+                    " (" + countHour + " requests per hour, max: " + maxPerHour + ")");
+        }
+    }
+
+    /**
+     * Requests to the host in the current minute and hour, as last counted by this runtime
+     */
+    public Usage usage(String host) {
+        Counts counts = hosts.get(host);
+        if (counts == null) {
+            return new Usage(0, 0);
+        }
+        long now = clock.getAsLong();
+        return new Usage(counts.minute() == now / MINUTE_MILLIS ? counts.perMinute() : 0,
+                counts.hour() == now / HOUR_MILLIS ? counts.perHour() : 0);
+    }
+
+    /**
+     * Whether the host's per-minute or per-hour limit was reached, as last counted by this runtime
+     */
+    public boolean isExhausted(String host) {
+        Usage usage = usage(host);
+        return usage.requestsThisMinute() >= maxPerMinute || usage.requestsThisHour() >= maxPerHour;
+    }
+
+    /**
+     * Hosts this runtime sent requests to, most recent last
+     */
+    public List<String> hosts() {
+        synchronized (hosts) {
+            return new ArrayList<>(hosts.keySet());
+        }
+    }
+
+    /**
+     * Start the host's current windows over, in all runtimes sharing the state store
+     */
+    public void reset(String host) {
+        store.remove(NAMESPACE, minuteKey(host));
+        store.remove(NAMESPACE, hourKey(host));
+        hosts.remove(host);
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private static String minuteKey(String host) {
+        return host + "|minute";
+    }
+
+    private static String hourKey(String host) {
+        return host + "|hour";
+    }
+
+    private static Duration untilWindowEnd(long now, long windowMillis) {
+        return Duration.ofMillis(windowMillis - now % windowMillis);
+    }
+
+    /**
+     * Requests counted in the current windows of a host
+     */
+    public record Usage(long requestsThisMinute, long requestsThisHour) {
+    }
+
+    private record Counts(long minute, long perMinute, long hour, long perHour) {
+    }
+}
@@ -0,0 +1,101 @@
+package io.camunda.connector.rss.metrics;
+
+import io.camunda.connector.rss.cache.FailureClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process counters of the connector. Feeds that fail permanently (gone, not found, not a feed, unknown host)
+ * are listed with their last error until they are fetched successfully, so broken subscriptions can be cleaned up.
+ */
+public class ConnectorMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorMetrics.class);
+
+    static final int MAX_PERMANENT_FAILURES = 1000;
+
+    private static final ConnectorMetrics SHARED = new ConnectorMetrics();
+
+    private final Map<FailureClass, LongAdder> failures = new EnumMap<>(FailureClass.class);
+    private final LongAdder negativeCacheHits = new LongAdder();
+    private final Map<String, PermanentFailure> permanentFailures = Collections.synchronizedMap(
+            new LinkedHashMap<String, PermanentFailure>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PermanentFailure> eldest) {
+                    return size() > MAX_PERMANENT_FAILURES;
+                }
+            });
+
+    public ConnectorMetrics() {
+        for (FailureClass failureClass : FailureClass.values()) {
+            failures.put(failureClass, new LongAdder());
+        }
+    }
+
+    /**
+     * Metrics shared by all connector instances of the runtime
+     */
+    public static ConnectorMetrics shared() {
+        return SHARED;
+    }
+
+    public void recordFailure(String feedUrl, FailureClass failureClass, String message) {
+        failures.get(failureClass).increment();
+        if (!failureClass.permanent()) {
+            return;
+        }
+        Instant now = Instant.now();
+        PermanentFailure previous = permanentFailures.get(feedUrl);
+        permanentFailures.put(feedUrl, new PermanentFailure(feedUrl, failureClass.label(), message,
+                previous != null ? previous.firstFailedAt() : now, now, previous != null ? previous.failures() + 1 : 1));
+        if (previous == null) {
+            LOG.warn("Feed {} is failing permanently ({}), consider removing the subscription: {}",
+                    feedUrl, failureClass.label(), message);
+        }
+    }
+
+    public void recordNegativeCacheHit() {
+        negativeCacheHits.increment();
+    }
+
+    public void recordSuccess(String feedUrl) {
+        permanentFailures.remove(feedUrl);
+    }
+
+    public long failureCount(FailureClass failureClass) {
+        return failures.get(failureClass).sum();
+    }
+
+    public long negativeCacheHits() {
+        return negativeCacheHits.sum();
+    }
+
+    /**
+     * Permanently failing feeds, most failures first
+     */
+    public List<PermanentFailure> permanentFailures() {
+        List<PermanentFailure> snapshot;
+        synchronized (permanentFailures) {
+            snapshot = new ArrayList<>(permanentFailures.values());
+        }
+        snapshot.sort(Comparator.comparingInt(PermanentFailure::failures).reversed());
+        return snapshot;
+    }
+
+    /**
+     * A feed whose last fetches failed permanently
+     */
+    public record PermanentFailure(String feedUrl, String failureClass, String lastError,
+                                   Instant firstFailedAt, Instant lastFailedAt, int failures) {
+    }
+}
@@ -0,0 +1,23 @@
+package io.camunda.connector.rss.model;
+
+import io.camunda.connector.rss.dto.RssEnclosure;
+
+/**
+ * Immutable enclosure; the MIME type is pooled and a missing length is stored as -1
+ */
+public record CompactEnclosure(String url, String type, long length) {
+
+    public static final long NO_LENGTH = -1;
+
+    public static CompactEnclosure of(String url, String type, Long length, StringPool pool) {
+        return new CompactEnclosure(url, pool.dedupe(type), length != null ? length : NO_LENGTH);
+    }
+
+    public Long lengthOrNull() {
+        return length != NO_LENGTH ? length : null;
+    }
+
+    public RssEnclosure toRssEnclosure() {
+        return new RssEnclosure(url, type, lengthOrNull());
+    }
+}
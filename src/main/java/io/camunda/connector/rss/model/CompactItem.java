@@ -0,0 +1,181 @@
+package io.camunda.connector.rss.model;
+
+import io.camunda.connector.rss.date.FeedDateParser;
+import io.camunda.connector.rss.dto.RssEnclosure;
+import io.camunda.connector.rss.dto.RssItem;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact, immutable internal representation of a feed item.
+ *
+ * Compared to {@link RssItem} it keeps the publication date as epoch millis, pools repeated
+ * small-vocabulary strings (author, categories, enclosure types, link prefix), stores the link
+ * split into a pooled prefix and a suffix, and does not repeat the GUID when it equals the link.
+ * It is converted to the public {@link RssItem} shape only when serialized or read.
+ * Array components must not be modified after construction.
+ */
+public record CompactItem(
+        String title,
+        String description,
+        String linkPrefix,
+        String linkSuffix,
+        String guid,
+        boolean guidIsLink,
+        long pubDateMillis,
+        String author,
+        String[] categories,
+        CompactEnclosure[] enclosures,
+        String content,
+        String comments) {
+
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final String[] NO_CATEGORIES = new String[0];
+    private static final CompactEnclosure[] NO_ENCLOSURES = new CompactEnclosure[0];
+
+    /**
+     * Create a compact item, pooling small-vocabulary strings
+     */
+    public static CompactItem of(String title, String description, String link, String guid, long pubDateMillis,
+                                 String author, List<String> categories, List<CompactEnclosure> enclosures,
+                                 String content, String comments, StringPool pool) {
+        String linkPrefix = null;
+        String linkSuffix = link;
+        if (link != null) {
+            int split = linkPrefixLength(link);
+            if (split > 0) {
+                linkPrefix = pool.dedupe(link.substring(0, split));
+                linkSuffix = link.substring(split);
+            }
+        }
+        boolean guidIsLink = guid != null && guid.equals(link);
+
+        String[] pooledCategories = null;
+        if (categories != null) {
+            pooledCategories = categories.isEmpty() ? NO_CATEGORIES : new String[categories.size()];
+            for (int i = 0; i < pooledCategories.length; i++) {
+                pooledCategories[i] = pool.dedupe(categories.get(i));
+            }
+        }
+
+        CompactEnclosure[] enclosureArray = null;
+        if (enclosures != null) {
+            enclosureArray = enclosures.isEmpty() ? NO_ENCLOSURES : enclosures.toArray(new CompactEnclosure[0]);
+        }
+
+        return new CompactItem(title, description, linkPrefix, linkSuffix, guidIsLink ? null : guid, guidIsLink,
+                pubDateMillis, pool.dedupe(author), pooledCategories, enclosureArray, content, comments);
+    }
+
+    /**
+     * Create a compact item from the public item shape
+     */
+    public static CompactItem from(RssItem item, StringPool pool) {
+        long pubDateMillis = FeedDateParser.SHARED.parse(item.getPubDate());
+        List<CompactEnclosure> enclosures = null;
+        if (item.getEnclosures() != null) {
+            enclosures = new ArrayList<>(item.getEnclosures().size());
+            for (RssEnclosure enclosure : item.getEnclosures()) {
+                enclosures.add(CompactEnclosure.of(enclosure.getUrl(), enclosure.getType(), enclosure.getLength(), pool));
+            }
+        }
+        return of(item.getTitle(), item.getDescription(), item.getLink(), item.getGuid(),
+                pubDateMillis == FeedDateParser.UNPARSEABLE ? NO_DATE : pubDateMillis, item.getAuthor(),
+                item.getCategories(), enclosures, item.getContent(), item.getComments(), pool);
+    }
+
+    public String link() {
+        if (linkPrefix == null) {
+            return linkSuffix;
+        }
+        return linkSuffix != null ? linkPrefix.concat(linkSuffix) : linkPrefix;
+    }
+
+    /**
+     * The GUID of the item, which may be shared with the link
+     */
+    public String guid() {
+        return guidIsLink ? link() : guid;
+    }
+
+    public boolean hasPubDate() {
+        return pubDateMillis != NO_DATE;
+    }
+
+    /**
+     * Publication date in the ISO 8601 form of the public item shape, or null
+     */
+    public String pubDate() {
+        return hasPubDate() ? Instant.ofEpochMilli(pubDateMillis).toString() : null;
+    }
+
+    /**
+     * Lazily built, unmodifiable view of the categories, or null
+     */
+    public List<String> categoryList() {
+        return categories != null ? Collections.unmodifiableList(Arrays.asList(categories)) : null;
+    }
+
+    /**
+     * The same item with other enclosures
+     */
+    public CompactItem withEnclosures(CompactEnclosure[] enclosures) {
+        return new CompactItem(title, description, linkPrefix, linkSuffix, guid, guidIsLink, pubDateMillis, author,
+                categories, enclosures, content, comments);
+    }
+
+    /**
+     * Build the public JSON shape of this item
+     */
+    public RssItem toRssItem() {
+        RssItem item = new RssItem();
+        item.setTitle(title);
+        item.setDescription(description);
+        item.setLink(link());
+        item.setGuid(guid());
+        item.setPubDate(pubDate());
+        item.setAuthor(author);
+        if (categories != null) {
+            item.setCategories(new ArrayList<>(categoryList()));
+        }
+        if (enclosures != null) {
+            List<RssEnclosure> rssEnclosures = new ArrayList<>(enclosures.length);
+            for (CompactEnclosure enclosure : enclosures) {
+                rssEnclosures.add(enclosure.toRssEnclosure());
+            }
+            item.setEnclosures(rssEnclosures);
+        }
+        item.setContent(content);
+        item.setComments(comments);
+        return item;
+    }
+
+    /**
+     * Length of the shared prefix of a link: scheme, host and path up to the last slash
+     */
+    private static int linkPrefixLength(String link) {
+        int schemeEnd = link.indexOf("://");
+        if (schemeEnd < 0) {
+            return 0;
+        }
+        int query = link.indexOf('?');
+        int searchEnd = query >= 0 ? query : link.length();
+        int lastSlash = link.lastIndexOf('/', searchEnd - 1);
+        return lastSlash > schemeEnd + 2 ? lastSlash + 1 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactItem{" +
+                "title='" + title + '\'' +
+                ", link='" + link() + '\'' +
+                ", guid='" + guid() + '\'' +
+                ", pubDate='" + pubDate() + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package io.camunda.connector.rss.model;
+
+import io.camunda.connector.rss.dto.RssItem;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@code List<RssItem>} view over compact items. Public items are built on access,
+ * so changes made to a returned {@link RssItem} are not reflected in the list. Serializers write
+ * the compact items directly without building {@link RssItem} instances.
+ */
+public class CompactItemList extends AbstractList<RssItem> implements RandomAccess {
+
+    private final List<CompactItem> items;
+
+    public CompactItemList(List<CompactItem> items) {
+        this.items = List.copyOf(items);
+    }
+
+    @Override
+    public RssItem get(int index) {
+        return items.get(index).toRssItem();
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    public List<CompactItem> compactItems() {
+        return items;
+    }
+
+    /**
+     * Compact items of any item list, converting public items if the list is not a compact view
+     */
+    public static List<CompactItem> compactItemsOf(List<RssItem> items) {
+        if (items instanceof CompactItemList compactItemList) {
+            return compactItemList.items;
+        }
+        List<CompactItem> compactItems = new ArrayList<>(items.size());
+        for (RssItem item : items) {
+            compactItems.add(CompactItem.from(item, StringPool.SHARED));
+        }
+        return compactItems;
+    }
+}
@@ -0,0 +1,48 @@
+package io.camunda.connector.rss.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded pool deduplicating small-vocabulary strings such as authors, category names,
+ * enclosure MIME types and link prefixes. Unlike {@link String#intern()} the pool is
+ * size-limited: once full, new values are returned as-is instead of being pooled.
+ */
+public final class StringPool {
+
+    public static final StringPool SHARED = new StringPool(20_000, 256);
+
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final int maxLength;
+
+    public StringPool(int maxEntries, int maxLength) {
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Return the canonical instance of the value, or the value itself if it cannot be pooled
+     */
+    public String dedupe(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maxEntries) {
+            return value;
+        }
+        pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public void clear() {
+        pool.clear();
+    }
+}
@@ -0,0 +1,159 @@
+package io.camunda.connector.rss.opml;
+
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import okhttp3.HttpUrl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fetches many feeds on a bounded number of worker threads with a per-host concurrency limit and a
+ * deadline shared by all feeds.
+ *
+ * The calling thread schedules the work: a feed is only handed to a worker when both the global
+ * and its host's limit have room, so workers never block waiting for a busy host. Feeds that are
+ * not finished when the deadline passes are cancelled and reported as failed.
+ */
+public class BulkFeedFetcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkFeedFetcher.class);
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+    public static final int MAX_CONCURRENCY = 64;
+    public static final int DEFAULT_PER_HOST_CONCURRENCY = 2;
+    public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(120);
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final Function<String, RssFeedOutput> fetcher;
+    private final int maxConcurrency;
+    private final int perHostConcurrency;
+    private final Duration deadline;
+
+    public BulkFeedFetcher(Function<String, RssFeedOutput> fetcher, int maxConcurrency, int perHostConcurrency,
+                           Duration deadline) {
+        this.fetcher = fetcher;
+        this.maxConcurrency = Math.max(1, Math.min(maxConcurrency, MAX_CONCURRENCY));
+        this.perHostConcurrency = Math.max(1, perHostConcurrency);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Fetch all feed URLs and return their outputs in the same order
+     */
+    public List<RssFeedOutput> fetchAll(List<String> feedUrls) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        RssFeedOutput[] results = new RssFeedOutput[feedUrls.size()];
+        Map<String, Deque<Integer>> pendingByHost = new LinkedHashMap<>();
+        for (int i = 0; i < feedUrls.size(); i++) {
+            pendingByHost.computeIfAbsent(hostOf(feedUrls.get(i)), host -> new ArrayDeque<>()).add(i);
+        }
+        Map<String, Integer> inFlightByHost = new HashMap<>();
+        Map<Future<RssFeedOutput>, Integer> inFlight = new HashMap<>();
+
+        int threads = Math.min(maxConcurrency, Math.max(feedUrls.size(), 1));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, workerThreads());
+        CompletionService<RssFeedOutput> completion = new ExecutorCompletionService<>(executor);
+        try {
+            while (true) {
+                schedule(feedUrls, pendingByHost, inFlightByHost, inFlight, completion);
+                if (inFlight.isEmpty()) {
+                    break;
+                }
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<RssFeedOutput> done = remaining > 0 ? completion.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (done == null) {
+                    break;
+                }
+                int index = inFlight.remove(done);
+                inFlightByHost.merge(hostOf(feedUrls.get(index)), -1, Integer::sum);
+                results[index] = resultOf(done, feedUrls.get(index));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int timedOut = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = new RssFeedOutput(false, "Deadline of " + deadline.toSeconds() + "s exceeded before the feed was fetched");
+                timedOut++;
+            }
+        }
+        if (timedOut > 0) {
+            LOG.warn("{} of {} feeds were not fetched before the deadline of {}s", timedOut, feedUrls.size(), deadline.toSeconds());
+        }
+        return List.of(results);
+    }
+
+    private void schedule(List<String> feedUrls, Map<String, Deque<Integer>> pendingByHost,
+                          Map<String, Integer> inFlightByHost, Map<Future<RssFeedOutput>, Integer> inFlight,
+                          CompletionService<RssFeedOutput> completion) {
+        // Round-robin over hosts, so one large host does not delay all others
+        boolean submitted = true;
+        while (submitted && inFlight.size() < maxConcurrency) {
+            submitted = false;
+            for (var iterator = pendingByHost.entrySet().iterator(); iterator.hasNext() && inFlight.size() < maxConcurrency; ) {
+                Map.Entry<String, Deque<Integer>> entry = iterator.next();
+                if (inFlightByHost.getOrDefault(entry.getKey(), 0) >= perHostConcurrency) {
+                    continue;
+                }
+                int index = entry.getValue().poll();
+                if (entry.getValue().isEmpty()) {
+                    iterator.remove();
+                }
+                String feedUrl = feedUrls.get(index);
+                inFlight.put(completion.submit(() -> fetcher.apply(feedUrl)), index);
+                inFlightByHost.merge(entry.getKey(), 1, Integer::sum);
+                submitted = true;
+            }
+        }
+    }
+
+    private static RssFeedOutput resultOf(Future<RssFeedOutput> future, String feedUrl) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            LOG.error("Failed to fetch {}", feedUrl, e.getCause());
+            return new RssFeedOutput(false, "Failed to fetch RSS feed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new RssFeedOutput(false, "Interrupted while fetching the feed");
+        }
+    }
+
+    private static String hostOf(String feedUrl) {
+        HttpUrl url = HttpUrl.parse(feedUrl);
+        return url != null ? url.host() : feedUrl;
+    }
+
+    private static ThreadFactory workerThreads() {
+        int pool = POOL_NUMBER.incrementAndGet();
+        AtomicInteger thread = new AtomicInteger();
+        return runnable -> {
+            Thread worker = new Thread(runnable, "rss-bulk-fetch-" + pool + "-" + thread.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        };
+    }
+}
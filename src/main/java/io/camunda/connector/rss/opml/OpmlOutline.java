@@ -0,0 +1,9 @@
+package io.camunda.connector.rss.opml;
+
+/**
+ * A feed subscription read from an OPML document
+ *
+ * @param folder slash-separated titles of the enclosing folder outlines, empty for top-level feeds
+ */
+public record OpmlOutline(String title, String feedUrl, String folder) {
+}
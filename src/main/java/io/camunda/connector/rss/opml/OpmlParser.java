@@ -0,0 +1,116 @@
+package io.camunda.connector.rss.opml;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming OPML parser. Outlines with an xmlUrl are feeds; outlines without one are folders whose
+ * titles form the folder path of the feeds nested in them. DTDs and external entities are rejected.
+ */
+public final class OpmlParser {
+
+    public static final int MAX_OUTLINES = 10_000;
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private OpmlParser() {
+    }
+
+    /**
+     * Feed outlines in document order, without repeated feed URLs
+     */
+    public static List<OpmlOutline> parse(Reader reader) {
+        List<OpmlOutline> outlines = new ArrayList<>();
+        Set<String> feedUrls = new HashSet<>();
+        Deque<String> folders = new ArrayDeque<>();
+        XMLStreamReader xml = null;
+        try {
+            xml = FACTORY.createXMLStreamReader(reader);
+            boolean inBody = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("body".equals(name)) {
+                        inBody = true;
+                    } else if (inBody && "outline".equals(name)) {
+                        String feedUrl = trimToNull(xml.getAttributeValue(null, "xmlUrl"));
+                        String title = trimToNull(xml.getAttributeValue(null, "title"));
+                        if (title == null) {
+                            title = trimToNull(xml.getAttributeValue(null, "text"));
+                        }
+                        if (feedUrl == null) {
+                            folders.addLast(title != null ? title.replace('/', '-') : "");
+                        } else {
+                            // A feed outline does not open a folder, even if it has children
+                            folders.addLast("\0");
+                            if (feedUrls.add(feedUrl)) {
+                                if (outlines.size() == MAX_OUTLINES) {
+                                    throw new IllegalArgumentException("OPML document has more than " + MAX_OUTLINES + " feeds");
+                                }
+                                outlines.add(new OpmlOutline(title, feedUrl, folderPath(folders)));
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("body".equals(name)) {
+                        inBody = false;
+                    } else if (inBody && "outline".equals(name)) {
+                        folders.pollLast();
+                    }
+                }
+            }
+            return outlines;
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Invalid OPML document: " + e.getMessage(), e);
+        } finally {
+            if (xml != null) {
+                try {
+                    xml.close();
+                } catch (XMLStreamException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+
+    private static String folderPath(Deque<String> folders) {
+        StringBuilder path = new StringBuilder();
+        for (String folder : folders) {
+            if (folder.equals("\0") || folder.isEmpty()) {
+                continue;
+            }
+            if (path.length() > 0) {
+                path.append('/');
+            }
+            path.append(folder);
+        }
+        return path.toString();
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
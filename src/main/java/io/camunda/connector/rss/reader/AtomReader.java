@@ -0,0 +1,184 @@
+package io.camunda.connector.rss.reader;
+
+import io.camunda.connector.rss.model.CompactEnclosure;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dedicated reader for Atom 1.0 feeds. XHTML and out-of-line text constructs, xml:base and
+ * relative link targets need ROME's resolution rules and make the document fall back to ROME.
+ */
+public final class AtomReader extends XmlFeedReader {
+
+    public static final String NAMESPACE = "http://www.w3.org/2005/Atom";
+
+    private AtomReader() {
+    }
+
+    public static ParsedFeed read(String content, String feedKey) throws XMLStreamException {
+        XMLStreamReader xml = open(content);
+        try {
+            if (!is(xml, NAMESPACE, "feed")) {
+                throw new UnsupportedFeedException("Not an Atom 1.0 document: " + xml.getLocalName());
+            }
+            requireNoBase(xml);
+            String title = null;
+            String description = null;
+            String self = null;
+            String alternate = null;
+            List<ParsedFeed.Link> alternateLinks = new ArrayList<>();
+            List<ParsedFeed.Link> otherLinks = new ArrayList<>();
+            List<FeedEntry> entries = new ArrayList<>();
+            while (nextChild(xml)) {
+                if (is(xml, NAMESPACE, "entry")) {
+                    entries.add(readEntry(xml, feedKey));
+                } else if (is(xml, NAMESPACE, "title") && title == null) {
+                    title = textConstruct(xml);
+                } else if (is(xml, NAMESPACE, "subtitle") && description == null) {
+                    description = textConstruct(xml);
+                } else if (is(xml, NAMESPACE, "link")) {
+                    ParsedFeed.Link feedLink = readLink(xml);
+                    if ("alternate".equals(feedLink.rel())) {
+                        alternate = alternate != null ? alternate : feedLink.href();
+                        alternateLinks.add(feedLink);
+                    } else {
+                        self = self != null || !"self".equals(feedLink.rel()) ? self : feedLink.href();
+                        otherLinks.add(feedLink);
+                    }
+                } else if (DC_NAMESPACE.equals(xml.getNamespaceURI())) {
+                    throw new UnsupportedFeedException("Dublin Core feed element " + xml.getLocalName());
+                } else {
+                    skip(xml);
+                }
+            }
+            // Like ROME: the self link is the feed link, alternate links come first, xml:lang is not the language
+            List<ParsedFeed.Link> links = new ArrayList<>(alternateLinks);
+            links.addAll(otherLinks);
+            return new ParsedFeed(title, description, self != null ? self : alternate, null, links, entries);
+        } finally {
+            close(xml);
+        }
+    }
+
+    private static FeedEntry readEntry(XMLStreamReader xml, String feedKey) throws XMLStreamException {
+        requireNoBase(xml);
+        String id = null;
+        String title = null;
+        String link = null;
+        String published = null;
+        String updated = null;
+        String summary = null;
+        String content = null;
+        String author = null;
+        List<String> categories = null;
+        List<CompactEnclosure> enclosures = null;
+        while (nextChild(xml)) {
+            if (is(xml, NAMESPACE, "id") && id == null) {
+                id = text(xml);
+            } else if (is(xml, NAMESPACE, "title") && title == null) {
+                title = textConstruct(xml);
+            } else if (is(xml, NAMESPACE, "link")) {
+                String length = xml.getAttributeValue(null, "length");
+                String type = xml.getAttributeValue(null, "type");
+                ParsedFeed.Link entryLink = readLink(xml);
+                if ("enclosure".equals(entryLink.rel())) {
+                    if (enclosures == null) {
+                        enclosures = new ArrayList<>();
+                    }
+                    enclosures.add(enclosure(entryLink.href(), type, length));
+                } else if (link == null && "alternate".equals(entryLink.rel())) {
+                    link = entryLink.href();
+                }
+            } else if (is(xml, NAMESPACE, "published") && published == null) {
+                published = text(xml);
+            } else if (is(xml, NAMESPACE, "updated") && updated == null) {
+                updated = text(xml);
+            } else if (is(xml, NAMESPACE, "summary") && summary == null) {
+                summary = textConstruct(xml);
+            } else if (is(xml, NAMESPACE, "content") && content == null) {
+                if (xml.getAttributeValue(null, "src") != null) {
+                    throw new UnsupportedFeedException("Out-of-line content");
+                }
+                content = textConstruct(xml);
+            } else if (is(xml, NAMESPACE, "author")) {
+                String name = readPersonName(xml);
+                if (author == null) {
+                    author = name;
+                }
+            } else if (is(xml, NAMESPACE, "category")) {
+                if (categories == null) {
+                    categories = new ArrayList<>();
+                }
+                categories.add(xml.getAttributeValue(null, "term"));
+                skip(xml);
+            } else if (DC_NAMESPACE.equals(xml.getNamespaceURI())) {
+                throw new UnsupportedFeedException("Dublin Core entry element " + xml.getLocalName());
+            } else {
+                skip(xml);
+            }
+        }
+        return new FeedEntry(title, summary, link, id, date(published, feedKey), date(updated, feedKey),
+            author != null ? author : "",
+            categories, enclosures, content, null);
+    }
+
+    /**
+     * A link with its relation, which defaults to alternate; targets must be absolute
+     */
+    private static ParsedFeed.Link readLink(XMLStreamReader xml) throws XMLStreamException {
+        requireNoBase(xml);
+        String rel = xml.getAttributeValue(null, "rel");
+        String href = xml.getAttributeValue(null, "href");
+        if (href != null && !isAbsolute(href.trim())) {
+            throw new UnsupportedFeedException("Relative link " + href);
+        }
+        skip(xml);
+        return new ParsedFeed.Link(rel != null ? rel : "alternate", href);
+    }
+
+    private static String readPersonName(XMLStreamReader xml) throws XMLStreamException {
+        String name = null;
+        while (nextChild(xml)) {
+            if (is(xml, NAMESPACE, "name") && name == null) {
+                name = text(xml);
+            } else {
+                skip(xml);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Text or escaped HTML; XHTML with its nested markup is left to ROME
+     */
+    private static String textConstruct(XMLStreamReader xml) throws XMLStreamException {
+        if ("xhtml".equals(xml.getAttributeValue(null, "type"))) {
+            throw new UnsupportedFeedException("XHTML text construct " + xml.getLocalName());
+        }
+        return text(xml);
+    }
+
+    private static void requireNoBase(XMLStreamReader xml) throws UnsupportedFeedException {
+        if (xml.getAttributeValue(XMLConstants.XML_NS_URI, "base") != null) {
+            throw new UnsupportedFeedException("xml:base on " + xml.getLocalName());
+        }
+    }
+
+    private static boolean isAbsolute(String href) {
+        int colon = href.indexOf(':');
+        if (colon <= 0) {
+            return false;
+        }
+        for (int i = 0; i < colon; i++) {
+            char c = href.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package io.camunda.connector.rss.reader;
+
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+
+import java.util.List;
+
+/**
+ * Entry of a parsed feed, independent of the reader that produced it. Missing dates are
+ * {@link CompactItem#NO_DATE}; the updated date is kept apart for delta output.
+ */
+public record FeedEntry(
+        String title,
+        String description,
+        String link,
+        String guid,
+        long publishedMillis,
+        long updatedMillis,
+        String author,
+        List<String> categories,
+        List<CompactEnclosure> enclosures,
+        String content,
+        String comments) {
+
+    /**
+     * The compact item, dated by its published date or else its updated date
+     */
+    public CompactItem toItem(StringPool pool) {
+        long pubDateMillis = publishedMillis != CompactItem.NO_DATE ? publishedMillis : updatedMillis;
+        return CompactItem.of(title, description, link, guid, pubDateMillis, author, categories, enclosures,
+                content, comments, pool);
+    }
+}
@@ -0,0 +1,72 @@
+package io.camunda.connector.rss.reader;
+
+/**
+ * Feed format sniffed from the first bytes of a document. Only RSS 2.0, Atom 1.0 and JSON Feed
+ * documents have a dedicated reader; everything else, including documents with a DTD, is left to ROME.
+ */
+public enum FeedFormat {
+    RSS2,
+    ATOM,
+    JSON_FEED,
+    OTHER;
+
+    // The root element is expected within the first few kilobytes
+    private static final int SNIFF_LIMIT = 4096;
+
+    /**
+     * Look at the start of the document, skipping a byte order mark, the XML declaration, comments and
+     * processing instructions, and classify it by the first JSON token or the root element
+     */
+    public static FeedFormat sniff(String content) {
+        if (content == null) {
+            return OTHER;
+        }
+        int limit = Math.min(content.length(), SNIFF_LIMIT);
+        int i = 0;
+        while (i < limit) {
+            char c = content.charAt(i);
+            if (c == '\uFEFF' || Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '{') {
+                return JSON_FEED;
+            } else if (c != '<' || i + 1 >= limit) {
+                return OTHER;
+            } else if (content.startsWith("<?", i)) {
+                i = skipPast(content, i, "?>", limit);
+            } else if (content.startsWith("<!--", i)) {
+                i = skipPast(content, i, "-->", limit);
+            } else if (content.charAt(i + 1) == '!') {
+                // DOCTYPE: entities may be declared, which only the ROME path handles
+                return OTHER;
+            } else {
+                return rootFormat(content, i, limit);
+            }
+        }
+        return OTHER;
+    }
+
+    private static FeedFormat rootFormat(String content, int start, int limit) {
+        int end = content.indexOf('>', start);
+        if (end < 0 || end >= limit) {
+            return OTHER;
+        }
+        String tag = content.substring(start + 1, end);
+        if (isElement(tag, "rss")) {
+            return tag.contains("version=\"2.0\"") || tag.contains("version='2.0'") ? RSS2 : OTHER;
+        }
+        if (isElement(tag, "feed")) {
+            return tag.contains("xmlns=\"" + AtomReader.NAMESPACE + "\"")
+                || tag.contains("xmlns='" + AtomReader.NAMESPACE + "'") ? ATOM : OTHER;
+        }
+        return OTHER;
+    }
+
+    private static boolean isElement(String tag, String name) {
+        return tag.startsWith(name) && (tag.length() == name.length() || Character.isWhitespace(tag.charAt(name.length())));
+    }
+
+    private static int skipPast(String content, int start, String terminator, int limit) {
+        int end = content.indexOf(terminator, start);
+        return end < 0 || end >= limit ? limit : end + terminator.length();
+    }
+}
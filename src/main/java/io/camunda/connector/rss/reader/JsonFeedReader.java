@@ -0,0 +1,327 @@
+package io.camunda.connector.rss.reader;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.StringPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for JSON Feed 1.0 and 1.1 documents, which ROME does not support. Items are
+ * mapped onto the RSS item fields: summary becomes the description, content_html (or else
+ * content_text) the content, tags the categories and attachments the enclosures. Items without
+ * authors inherit the feed's, and the next_url, feed_url and WebSub hubs become feed links.
+ */
+public final class JsonFeedReader {
+
+    public static final String VERSION_PREFIX = "https://jsonfeed.org/version/";
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private JsonFeedReader() {
+    }
+
+    public static ParsedFeed read(String content, String feedKey) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("JSON Feed must be an object");
+            }
+            String version = null;
+            String title = null;
+            String description = null;
+            String link = null;
+            String language = null;
+            String author = null;
+            List<ParsedFeed.Link> links = new ArrayList<>();
+            List<FeedEntry> entries = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "version":
+                        version = string(parser);
+                        break;
+                    case "title":
+                        title = string(parser);
+                        break;
+                    case "description":
+                        description = string(parser);
+                        break;
+                    case "home_page_url":
+                        link = string(parser);
+                        break;
+                    case "language":
+                        language = string(parser);
+                        break;
+                    case "feed_url":
+                        addLink(links, "self", string(parser));
+                        break;
+                    case "next_url":
+                        addLink(links, "next", string(parser));
+                        break;
+                    case "hubs":
+                        readHubs(parser, links);
+                        break;
+                    case "author":
+                        author = personName(parser);
+                        break;
+                    case "authors":
+                        author = firstPersonName(parser);
+                        break;
+                    case "items":
+                        entries = readItems(parser, feedKey);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (version == null || !version.startsWith(VERSION_PREFIX)) {
+                throw new IOException("Unsupported JSON Feed version: " + version);
+            }
+            if (entries == null) {
+                throw new IOException("JSON Feed without items");
+            }
+            if (author != null) {
+                entries = inheritAuthor(entries, author);
+            }
+            return new ParsedFeed(title, description, link, language, links, entries);
+        }
+    }
+
+    private static List<FeedEntry> readItems(JsonParser parser, String feedKey) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("JSON Feed items must be an array");
+        }
+        List<FeedEntry> entries = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            entries.add(readItem(parser, feedKey));
+        }
+        return entries;
+    }
+
+    private static FeedEntry readItem(JsonParser parser, String feedKey) throws IOException {
+        String id = null;
+        String url = null;
+        String externalUrl = null;
+        String title = null;
+        String summary = null;
+        String html = null;
+        String text = null;
+        String published = null;
+        String modified = null;
+        String author = null;
+        List<String> tags = null;
+        List<CompactEnclosure> attachments = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    id = string(parser);
+                    break;
+                case "url":
+                    url = string(parser);
+                    break;
+                case "external_url":
+                    externalUrl = string(parser);
+                    break;
+                case "title":
+                    title = string(parser);
+                    break;
+                case "summary":
+                    summary = string(parser);
+                    break;
+                case "content_html":
+                    html = string(parser);
+                    break;
+                case "content_text":
+                    text = string(parser);
+                    break;
+                case "date_published":
+                    published = string(parser);
+                    break;
+                case "date_modified":
+                    modified = string(parser);
+                    break;
+                case "author":
+                    author = personName(parser);
+                    break;
+                case "authors":
+                    author = firstPersonName(parser);
+                    break;
+                case "tags":
+                    tags = readTags(parser);
+                    break;
+                case "attachments":
+                    attachments = readAttachments(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        String link = url != null ? url : externalUrl;
+        return new FeedEntry(title, summary, link, id != null ? id : link, XmlFeedReader.date(published, feedKey),
+            XmlFeedReader.date(modified, feedKey), author, tags, attachments, html != null ? html : text, null);
+    }
+
+    private static List<String> readTags(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> tags = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String tag = string(parser);
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    private static List<CompactEnclosure> readAttachments(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<CompactEnclosure> attachments = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String url = null;
+            String type = null;
+            Long size = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "url":
+                        url = string(parser);
+                        break;
+                    case "mime_type":
+                        type = string(parser);
+                        break;
+                    case "size_in_bytes":
+                        size = number(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (url != null) {
+                attachments.add(CompactEnclosure.of(url, type, size, StringPool.SHARED));
+            }
+        }
+        return attachments;
+    }
+
+    /**
+     * The WebSub hubs of the feed; other hub types are ignored
+     */
+    private static void readHubs(JsonParser parser, List<ParsedFeed.Link> links) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String type = null;
+            String url = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "type":
+                        type = string(parser);
+                        break;
+                    case "url":
+                        url = string(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if ("WebSub".equalsIgnoreCase(type)) {
+                addLink(links, "hub", url);
+            }
+        }
+    }
+
+    private static String firstPersonName(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String personName = personName(parser);
+            if (name == null) {
+                name = personName;
+            }
+        }
+        return name;
+    }
+
+    private static String personName(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = string(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static List<FeedEntry> inheritAuthor(List<FeedEntry> entries, String author) {
+        List<FeedEntry> inherited = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            inherited.add(entry.author() != null ? entry : new FeedEntry(entry.title(), entry.description(),
+                entry.link(), entry.guid(), entry.publishedMillis(), entry.updatedMillis(), author,
+                entry.categories(), entry.enclosures(), entry.content(), entry.comments()));
+        }
+        return inherited;
+    }
+
+    private static void addLink(List<ParsedFeed.Link> links, String rel, String href) {
+        if (href != null) {
+            links.add(new ParsedFeed.Link(rel, href));
+        }
+    }
+
+    private static Long number(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Scalar values as text, null for JSON null; objects and arrays are skipped
+     */
+    private static String string(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            return parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
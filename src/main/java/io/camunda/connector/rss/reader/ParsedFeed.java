@@ -0,0 +1,21 @@
+package io.camunda.connector.rss.reader;
+
+import java.util.List;
+
+/**
+ * Channel metadata, links and entries of a parsed feed in document order
+ */
+public record ParsedFeed(
+        String title,
+        String description,
+        String link,
+        String language,
+        List<Link> links,
+        List<FeedEntry> entries) {
+
+    /**
+     * Feed-level link such as hub, self, next or prev-archive
+     */
+    public record Link(String rel, String href) {
+    }
+}
@@ -0,0 +1,145 @@
+package io.camunda.connector.rss.reader;
+
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dedicated reader for RSS 2.0 channels, mapping elements the way ROME does: dc:creator takes
+ * precedence over author and dc:date over pubDate, and an item without a guid is
+ * identified by its link. Other Dublin Core elements are left to ROME.
+ */
+public final class Rss2Reader extends XmlFeedReader {
+
+    static final String CONTENT_NAMESPACE = "http://purl.org/rss/1.0/modules/content/";
+
+    private Rss2Reader() {
+    }
+
+    public static ParsedFeed read(String content, String feedKey) throws XMLStreamException {
+        XMLStreamReader xml = open(content);
+        try {
+            if (!is(xml, null, "rss")) {
+                throw new UnsupportedFeedException("Not an RSS 2.0 document: " + xml.getLocalName());
+            }
+            ParsedFeed feed = null;
+            while (nextChild(xml)) {
+                if (is(xml, null, "channel") && feed == null) {
+                    feed = readChannel(xml, feedKey);
+                } else {
+                    skip(xml);
+                }
+            }
+            if (feed == null) {
+                throw new UnsupportedFeedException("RSS document without channel");
+            }
+            return feed;
+        } finally {
+            close(xml);
+        }
+    }
+
+    private static ParsedFeed readChannel(XMLStreamReader xml, String feedKey) throws XMLStreamException {
+        String title = null;
+        String description = null;
+        String link = null;
+        String language = null;
+        List<ParsedFeed.Link> links = new ArrayList<>();
+        List<FeedEntry> entries = new ArrayList<>();
+        while (nextChild(xml)) {
+            if (is(xml, null, "item")) {
+                entries.add(readItem(xml, feedKey));
+            } else if (is(xml, null, "title") && title == null) {
+                title = text(xml);
+            } else if (is(xml, null, "description") && description == null) {
+                description = text(xml);
+            } else if (is(xml, null, "link") && link == null) {
+                link = text(xml);
+            } else if (is(xml, null, "language") && language == null) {
+                language = text(xml);
+            } else if (is(xml, AtomReader.NAMESPACE, "link")) {
+                links.add(new ParsedFeed.Link(xml.getAttributeValue(null, "rel"), xml.getAttributeValue(null, "href")));
+                skip(xml);
+            } else if (DC_NAMESPACE.equals(xml.getNamespaceURI())) {
+                throw new UnsupportedFeedException("Dublin Core channel element " + xml.getLocalName());
+            } else {
+                skip(xml);
+            }
+        }
+        return new ParsedFeed(title, description, link, language, links, entries);
+    }
+
+    private static FeedEntry readItem(XMLStreamReader xml, String feedKey) throws XMLStreamException {
+        String title = null;
+        String description = null;
+        String link = null;
+        String guid = null;
+        boolean permaLink = false;
+        boolean hasGuid = false;
+        String pubDate = null;
+        String dcDate = null;
+        String author = null;
+        String creator = null;
+        List<String> categories = null;
+        List<CompactEnclosure> enclosures = null;
+        String content = null;
+        String comments = null;
+        while (nextChild(xml)) {
+            if (is(xml, null, "title") && title == null) {
+                title = text(xml);
+            } else if (is(xml, null, "link") && link == null) {
+                link = text(xml);
+            } else if (is(xml, null, "description") && description == null) {
+                description = text(xml);
+            } else if (is(xml, null, "guid") && !hasGuid) {
+                hasGuid = true;
+                String isPermaLink = xml.getAttributeValue(null, "isPermaLink");
+                permaLink = isPermaLink == null || "true".equalsIgnoreCase(isPermaLink.trim());
+                guid = text(xml);
+            } else if (is(xml, null, "pubDate") && pubDate == null) {
+                pubDate = text(xml);
+            } else if (is(xml, null, "author") && author == null) {
+                author = text(xml);
+            } else if (is(xml, null, "comments") && comments == null) {
+                comments = text(xml);
+            } else if (is(xml, null, "category")) {
+                if (categories == null) {
+                    categories = new ArrayList<>();
+                }
+                categories.add(text(xml));
+            } else if (is(xml, null, "enclosure")) {
+                if (enclosures == null) {
+                    enclosures = new ArrayList<>();
+                }
+                enclosures.add(enclosure(xml.getAttributeValue(null, "url"), xml.getAttributeValue(null, "type"),
+                    xml.getAttributeValue(null, "length")));
+                skip(xml);
+            } else if (is(xml, CONTENT_NAMESPACE, "encoded") && content == null) {
+                content = text(xml);
+            } else if (is(xml, DC_NAMESPACE, "creator")) {
+                String value = text(xml);
+                creator = creator != null ? creator : value;
+            } else if (is(xml, DC_NAMESPACE, "date")) {
+                String value = text(xml);
+                dcDate = dcDate != null ? dcDate : value;
+            } else if (DC_NAMESPACE.equals(xml.getNamespaceURI())) {
+                throw new UnsupportedFeedException("Dublin Core item element " + xml.getLocalName());
+            } else {
+                skip(xml);
+            }
+        }
+        if (hasGuid && link == null && permaLink) {
+            link = guid;
+        }
+        long published = date(dcDate, feedKey);
+        if (published == CompactItem.NO_DATE) {
+            published = date(pubDate, feedKey);
+        }
+        return new FeedEntry(title, description, link, hasGuid ? guid : link, published, CompactItem.NO_DATE,
+            creator != null ? creator : author != null ? author : "", categories, enclosures, content, comments);
+    }
+}
@@ -0,0 +1,14 @@
+package io.camunda.connector.rss.reader;
+
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Thrown by a dedicated reader for a well-formed document using constructs it does not map the way
+ * ROME does; the document is then parsed by ROME instead
+ */
+public class UnsupportedFeedException extends XMLStreamException {
+
+    public UnsupportedFeedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,97 @@
+package io.camunda.connector.rss.reader;
+
+import io.camunda.connector.rss.date.FeedDateParser;
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+/**
+ * StAX helpers of the dedicated XML readers. DTDs and external entities are rejected, and text
+ * with nested markup fails with an {@link XMLStreamException} so that ROME takes over.
+ */
+abstract class XmlFeedReader {
+
+    static final String DC_NAMESPACE = "http://purl.org/dc/elements/1.1/";
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    static XMLStreamReader open(String content) throws XMLStreamException {
+        XMLStreamReader xml = FACTORY.createXMLStreamReader(new StringReader(content));
+        xml.nextTag();
+        return xml;
+    }
+
+    static void close(XMLStreamReader xml) {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            // Nothing left to release
+        }
+    }
+
+    /**
+     * Advance to the next child element of the current element, or return false at its end tag
+     */
+    static boolean nextChild(XMLStreamReader xml) throws XMLStreamException {
+        return xml.nextTag() == XMLStreamConstants.START_ELEMENT;
+    }
+
+    /**
+     * Skip the current element including its children, leaving the reader at its end tag
+     */
+    static void skip(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    static boolean is(XMLStreamReader xml, String namespace, String localName) {
+        String elementNamespace = xml.getNamespaceURI();
+        boolean namespaceMatches = namespace == null
+            ? elementNamespace == null || elementNamespace.isEmpty()
+            : namespace.equals(elementNamespace);
+        return namespaceMatches && localName.equals(xml.getLocalName());
+    }
+
+    static String text(XMLStreamReader xml) throws XMLStreamException {
+        return xml.getElementText();
+    }
+
+    static long date(String text, String feedKey) {
+        long millis = FeedDateParser.SHARED.parse(text, feedKey);
+        return millis != FeedDateParser.UNPARSEABLE ? millis : CompactItem.NO_DATE;
+    }
+
+    static CompactEnclosure enclosure(String url, String type, String length) {
+        Long parsedLength = 0L;
+        if (length != null) {
+            try {
+                parsedLength = Long.parseLong(length.trim());
+            } catch (NumberFormatException e) {
+                // Unparseable lengths are reported as 0, like ROME does
+            }
+        }
+        return CompactEnclosure.of(url, type, parsedLength, StringPool.SHARED);
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
@@ -0,0 +1,349 @@
+package io.camunda.connector.rss.schedule;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission of fetches with weighted fair queuing across tenants. Every tenant has one queue per priority, weighted
+ * by the priority, and waiting fetches are started in order of their virtual start time (start-time fair queuing),
+ * so a tenant with thousands of queued fetches gets the same share as one with a single fetch. Fetches run at most
+ * maxInFlight at a time overall and tenantMaxInFlight per tenant. Queues are bounded per tenant and overall, and a
+ * fetch waits at most the queue timeout. A quarter of the overall queue is reserved for tenants without waiting
+ * fetches, so bursting tenants cannot lock everyone else out of it.
+ * <p>
+ * A queued fetch holds the job worker thread it was called on, so at most the worker's max-active-jobs fetches can
+ * wait at a time; the default overall queue size matches the job worker's default of 32.
+ */
+public class FetchScheduler {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = EnvironmentConfig.getInt("RSS_CONNECTOR_MAX_CONCURRENT_FETCHES", 64);
+    public static final int DEFAULT_TENANT_MAX_IN_FLIGHT = EnvironmentConfig.getInt("RSS_CONNECTOR_TENANT_MAX_IN_FLIGHT", 16);
+    public static final int DEFAULT_MAX_QUEUE = EnvironmentConfig.getInt("RSS_CONNECTOR_SCHEDULER_QUEUE_SIZE", 32);
+    public static final int DEFAULT_TENANT_MAX_QUEUE = EnvironmentConfig.getInt("RSS_CONNECTOR_TENANT_QUEUE_SIZE", 8);
+    public static final long DEFAULT_QUEUE_TIMEOUT_MS = EnvironmentConfig.getLong("RSS_CONNECTOR_SCHEDULER_QUEUE_TIMEOUT_MS", 60_000);
+
+    private static final FetchScheduler SHARED = new FetchScheduler(DEFAULT_MAX_IN_FLIGHT, DEFAULT_TENANT_MAX_IN_FLIGHT,
+            DEFAULT_MAX_QUEUE, DEFAULT_TENANT_MAX_QUEUE, DEFAULT_QUEUE_TIMEOUT_MS);
+
+    /**
+     * Priority hint of a fetch, weighting its queue
+     */
+    public enum Priority {
+        LOW(1),
+        NORMAL(2),
+        HIGH(4);
+
+        private final int weight;
+
+        Priority(int weight) {
+            this.weight = weight;
+        }
+
+        /**
+         * Priority named by an input value, NORMAL for null
+         *
+         * @throws IllegalArgumentException for unknown names
+         */
+        public static Priority of(String name) {
+            if (name == null || name.trim().isEmpty()) {
+                return NORMAL;
+            }
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("priority must be 'high', 'normal' or 'low'");
+            }
+        }
+    }
+
+    private final int maxInFlight;
+    private final int tenantMaxInFlight;
+    private final int maxQueue;
+    private final int tenantMaxQueue;
+    private final int reservedQueue;
+    private final long queueTimeoutMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Tenant> tenants = new HashMap<>();
+    private final TreeSet<Ticket> heads = new TreeSet<>(
+            Comparator.comparingDouble((Ticket t) -> t.start).thenComparingLong(t -> t.sequence));
+    private final LongAdder rejected = new LongAdder();
+    private double virtualTime;
+    private long sequence;
+    private int inFlight;
+    private int queued;
+
+    public FetchScheduler(int maxInFlight, int tenantMaxInFlight, int maxQueue, int tenantMaxQueue, long queueTimeoutMillis) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.tenantMaxInFlight = Math.max(1, tenantMaxInFlight);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.tenantMaxQueue = Math.max(0, Math.min(tenantMaxQueue, this.maxQueue));
+        this.reservedQueue = this.maxQueue / 4;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    /**
+     * Scheduler shared by all connector instances of the runtime
+     */
+    public static FetchScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Wait until the tenant may start a fetch
+     *
+     * @throws SecurityException if the queues are full or the fetch did not start within the queue timeout
+     */
+    public Slot acquire(String tenantId, Priority priority) {
+        lock.lock();
+        try {
+            Tenant tenant = tenants.computeIfAbsent(tenantId, Tenant::new);
+            Flow flow = tenant.flows.computeIfAbsent(priority, p -> new Flow(tenant, p.weight));
+            double previousFinish = flow.lastFinish;
+            double start = Math.max(virtualTime, previousFinish);
+            flow.lastFinish = start + 1.0 / flow.weight;
+
+            if (inFlight < maxInFlight && tenant.inFlight < tenantMaxInFlight && tenant.queued == 0) {
+                virtualTime = start;
+                tenant.inFlight++;
+                inFlight++;
+                return new Slot(tenant);
+            }
+            if (queued >= maxQueue || tenant.queued >= tenantMaxQueue
+                    || (tenant.queued > 0 && queued >= maxQueue - reservedQueue)) {
+                flow.lastFinish = previousFinish;
+                removeIfIdle(tenant);
+                rejected.increment();
+                throw new SecurityException("Fetch queue full: " + tenant.queued + " fetches of " + tenantId +
+                        " and " + queued + " in total are waiting");
+            }
+
+            Ticket ticket = new Ticket(flow, start, sequence++, lock.newCondition());
+            flow.queue.add(ticket);
+            if (flow.queue.size() == 1) {
+                heads.add(ticket);
+            }
+            tenant.queued++;
+            queued++;
+            return await(ticket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Slot await(Ticket ticket) {
+        Tenant tenant = ticket.flow.tenant;
+        long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        try {
+            while (!ticket.granted) {
+                if (remaining <= 0) {
+                    cancel(ticket);
+                    throw new SecurityException("Fetch queue timeout: fetch of " + tenant.id +
+                            " did not start within " + queueTimeoutMillis + "ms");
+                }
+                remaining = ticket.signal.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            cancel(ticket);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Fetch interrupted", e);
+        }
+        return new Slot(tenant);
+    }
+
+    private void cancel(Ticket ticket) {
+        if (ticket.granted) {
+            // Granted while timing out: hand the slot on
+            release(ticket.flow.tenant);
+            return;
+        }
+        Flow flow = ticket.flow;
+        if (flow.queue.peekFirst() == ticket) {
+            heads.remove(ticket);
+            flow.queue.pollFirst();
+            if (!flow.queue.isEmpty()) {
+                heads.add(flow.queue.peekFirst());
+            }
+        } else {
+            flow.queue.remove(ticket);
+        }
+        flow.tenant.queued--;
+        queued--;
+        removeIfIdle(flow.tenant);
+        dispatch();
+    }
+
+    private void release(Tenant tenant) {
+        tenant.inFlight--;
+        inFlight--;
+        removeIfIdle(tenant);
+        dispatch();
+    }
+
+    /**
+     * Start waiting fetches with the lowest virtual start times whose tenant is below its cap
+     */
+    private void dispatch() {
+        while (inFlight < maxInFlight) {
+            Ticket next = null;
+            for (Ticket head : heads) {
+                if (head.flow.tenant.inFlight < tenantMaxInFlight) {
+                    next = head;
+                    break;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            Flow flow = next.flow;
+            heads.remove(next);
+            flow.queue.pollFirst();
+            if (!flow.queue.isEmpty()) {
+                heads.add(flow.queue.peekFirst());
+            }
+            virtualTime = Math.max(virtualTime, next.start);
+            flow.tenant.queued--;
+            queued--;
+            flow.tenant.inFlight++;
+            inFlight++;
+            next.granted = true;
+            next.signal.signal();
+        }
+    }
+
+    private void removeIfIdle(Tenant tenant) {
+        // Idle tenants are dropped to bound memory; they get no credit for idle time in fair queuing anyway
+        if (tenant.inFlight == 0 && tenant.queued == 0) {
+            tenants.remove(tenant.id);
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waiting fetches per tenant, for tenants with waiting fetches
+     */
+    public Map<String, Integer> queueDepths() {
+        lock.lock();
+        try {
+            Map<String, Integer> depths = new TreeMap<>();
+            for (Tenant tenant : tenants.values()) {
+                if (tenant.queued > 0) {
+                    depths.put(tenant.id, tenant.queued);
+                }
+            }
+            return depths;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight(String tenantId) {
+        lock.lock();
+        try {
+            Tenant tenant = tenants.get(tenantId);
+            return tenant != null ? tenant.inFlight : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Permission to run one fetch, to be closed when it completes
+     */
+    public final class Slot implements AutoCloseable {
+
+        private final Tenant tenant;
+        private boolean closed;
+
+        private Slot(Tenant tenant) {
+            this.tenant = tenant;
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    release(tenant);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Tenant {
+
+        private final String id;
+        private final Map<Priority, Flow> flows = new EnumMap<>(Priority.class);
+        private int inFlight;
+        private int queued;
+
+        private Tenant(String id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Flow {
+
+        private final Tenant tenant;
+        private final int weight;
+        private final ArrayDeque<Ticket> queue = new ArrayDeque<>();
+        private double lastFinish;
+
+        private Flow(Tenant tenant, int weight) {
+            this.tenant = tenant;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Ticket {
+
+        private final Flow flow;
+        private final double start;
+        private final long sequence;
+        private final Condition signal;
+        private boolean granted;
+
+        private Ticket(Flow flow, double start, long sequence, Condition signal) {
+            this.flow = flow;
+            this.start = start;
+            this.sequence = sequence;
+            this.signal = signal;
+        }
+    }
+}
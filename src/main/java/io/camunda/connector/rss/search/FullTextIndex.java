@@ -0,0 +1,319 @@
+package io.camunda.connector.rss.search;
+
+import io.camunda.connector.rss.archive.FeedArchive;
+import io.camunda.connector.rss.model.CompactItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Embedded inverted index over the title, description and content of archived items.
+ *
+ * Documents get increasing ids as they are added, so each posting list is an append-only sequence
+ * of id deltas and term frequencies in variable-length encoding. Queries are ranked with BM25 and
+ * return the archive keys of the top documents; the items themselves stay in the archive. Title
+ * terms count {@link #TITLE_WEIGHT} times, so matches in titles rank higher.
+ *
+ * Items deleted from the archive are tombstoned in a deleted-document bitset that is checked while
+ * scoring and left out of the document frequencies; once more than half of the documents are deleted,
+ * the posting lists are rewritten without them.
+ */
+public class FullTextIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FullTextIndex.class);
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int TITLE_WEIGHT = 2;
+
+    private static final Map<FeedArchive, FullTextIndex> ARCHIVE_INDEXES = new WeakHashMap<>();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> feedIds = new HashMap<>();
+    private final List<String> feeds = new ArrayList<>();
+    private final Map<Long, Integer> documentsByKey = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] keys = new long[1024];
+    private int[] documentFeeds = new int[1024];
+    private int[] documentLengths = new int[1024];
+    private int documentCount;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * Index of the archive, built from its content on first use and updated as items are appended and deleted
+     */
+    public static FullTextIndex forArchive(FeedArchive archive) {
+        synchronized (ARCHIVE_INDEXES) {
+            FullTextIndex index = ARCHIVE_INDEXES.get(archive);
+            if (index == null) {
+                index = new FullTextIndex();
+                FullTextIndex target = index;
+                long start = System.nanoTime();
+                try {
+                    archive.subscribe(archived -> target.add(FeedArchive.itemKey(archived.feedUrl(), archived.item()),
+                            archived.feedUrl(), archived.item()), target::remove);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to build the search index of the feed archive", e);
+                }
+                LOG.info("Indexed {} archived items with {} terms in {} ms", index.documentCount(), index.termCount(),
+                        (System.nanoTime() - start) / 1_000_000);
+                ARCHIVE_INDEXES.put(archive, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Add an item under its archive key
+     */
+    public void add(long key, String feedUrl, CompactItem item) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        Tokenizer.tokenize(item.title(), term -> frequencies.computeIfAbsent(term, t -> new int[1])[0] += TITLE_WEIGHT);
+        Tokenizer.tokenize(item.description(), term -> frequencies.computeIfAbsent(term, t -> new int[1])[0]++);
+        Tokenizer.tokenize(item.content(), term -> frequencies.computeIfAbsent(term, t -> new int[1])[0]++);
+        int length = 0;
+        for (int[] frequency : frequencies.values()) {
+            length += frequency[0];
+        }
+
+        lock.writeLock().lock();
+        try {
+            int document = documentCount;
+            if (document == keys.length) {
+                keys = Arrays.copyOf(keys, document * 2);
+                documentFeeds = Arrays.copyOf(documentFeeds, document * 2);
+                documentLengths = Arrays.copyOf(documentLengths, document * 2);
+            }
+            keys[document] = key;
+            documentFeeds[document] = feedIds.computeIfAbsent(feedUrl, url -> {
+                feeds.add(url);
+                return feeds.size() - 1;
+            });
+            documentLengths[document] = length;
+            documentsByKey.put(key, document);
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(document, entry.getValue()[0]);
+            }
+            documentCount++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tombstone the document stored under the archive key
+     */
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            Integer document = documentsByKey.remove(key);
+            if (document == null) {
+                return;
+            }
+            deleted.set(document);
+            deletedCount++;
+            totalLength -= documentLengths[document];
+            if (deletedCount * 2 > documentCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching any query term, best BM25 score first
+     *
+     * @param feedUrls feeds to include, or null for all feeds
+     * @param limit    maximum number of hits returned
+     */
+    public List<Hit> search(String query, Collection<String> feedUrls, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        Tokenizer.tokenize(query, terms::add);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = documentCount - deletedCount;
+            if (liveCount == 0) {
+                return List.of();
+            }
+            boolean[] allowedFeeds = allowedFeeds(feedUrls);
+            double averageLength = Math.max(1.0, (double) totalLength / liveCount);
+            float[] scores = new float[documentCount];
+            int[] matched = new int[16];
+            int matchedCount = 0;
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                int documentFrequency = liveDocumentFrequency(list);
+                if (documentFrequency == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    int document = cursor.document();
+                    if (deleted.get(document) || (allowedFeeds != null && !allowedFeeds[documentFeeds[document]])) {
+                        continue;
+                    }
+                    double frequency = cursor.frequency();
+                    double norm = K1 * (1 - B + B * documentLengths[document] / averageLength);
+                    if (scores[document] == 0) {
+                        if (matchedCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchedCount * 2);
+                        }
+                        matched[matchedCount++] = document;
+                    }
+                    scores[document] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                }
+            }
+
+            Comparator<Hit> byScore = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::key);
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, Math.max(matchedCount, 1)) + 1, byScore);
+            for (int i = 0; i < matchedCount; i++) {
+                int document = matched[i];
+                if (top.size() < limit || scores[document] > top.peek().score()) {
+                    top.add(new Hit(keys[document], feeds.get(documentFeeds[document]), scores[document]));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(byScore.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Encoded size of all posting lists
+     */
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Renumber the live documents and rewrite the posting lists without the deleted ones
+     */
+    private void compact() {
+        int[] renumbered = new int[documentCount];
+        int live = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+                continue;
+            }
+            renumbered[document] = live;
+            keys[live] = keys[document];
+            documentFeeds[live] = documentFeeds[document];
+            documentLengths[live] = documentLengths[document];
+            documentsByKey.put(keys[live], live);
+            live++;
+        }
+        postings.entrySet().removeIf(entry -> {
+            PostingList rewritten = new PostingList();
+            PostingList.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) {
+                int document = renumbered[cursor.document()];
+                if (document >= 0) {
+                    rewritten.add(document, cursor.frequency());
+                }
+            }
+            entry.setValue(rewritten);
+            return rewritten.documentCount() == 0;
+        });
+        documentCount = live;
+        deletedCount = 0;
+        deleted.clear();
+    }
+
+    /**
+     * Documents of the posting list that are not tombstoned, so that the idf never exceeds the live collection
+     */
+    private int liveDocumentFrequency(PostingList list) {
+        if (deletedCount == 0) {
+            return list.documentCount();
+        }
+        int frequency = 0;
+        PostingList.Cursor cursor = list.cursor();
+        while (cursor.next()) {
+            if (!deleted.get(cursor.document())) {
+                frequency++;
+            }
+        }
+        return frequency;
+    }
+
+    private boolean[] allowedFeeds(Collection<String> feedUrls) {
+        if (feedUrls == null) {
+            return null;
+        }
+        boolean[] allowed = new boolean[feeds.size()];
+        for (String feedUrl : feedUrls) {
+            Integer id = feedIds.get(feedUrl);
+            if (id != null) {
+                allowed[id] = true;
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Archive key, feed and BM25 score of a matching document
+     */
+    public record Hit(long key, String feedUrl, double score) {
+    }
+}
@@ -0,0 +1,96 @@
+package io.camunda.connector.rss.search;
+
+import java.util.Arrays;
+
+/**
+ * Append-only posting list of one term: increasing document ids with the term frequency in each
+ * document, stored as variable-length deltas
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int documentCount;
+    private int lastDocument = -1;
+
+    /**
+     * Append a posting; documents must be added in increasing id order
+     */
+    void add(int document, int frequency) {
+        if (document <= lastDocument) {
+            throw new IllegalArgumentException("Documents must be added in increasing order");
+        }
+        ensureCapacity(10);
+        writeVarInt(document - lastDocument);
+        writeVarInt(frequency);
+        lastDocument = document;
+        documentCount++;
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    /**
+     * Forward-only iterator over the postings present when it was created
+     */
+    final class Cursor {
+
+        private final byte[] data = bytes;
+        private final int end = length;
+        private int position;
+        private int document = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            document += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int document() {
+            return document;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
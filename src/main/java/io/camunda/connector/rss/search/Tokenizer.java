@@ -0,0 +1,65 @@
+package io.camunda.connector.rss.search;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits item text into lower-case index terms, skipping markup tags, HTML entities, stop words
+ * and terms that are too short or too long to be useful
+ */
+public final class Tokenizer {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "he",
+            "her", "his", "if", "in", "into", "is", "it", "its", "not", "of", "on", "or", "our", "she",
+            "so", "that", "the", "their", "them", "then", "there", "these", "they", "this", "to", "was",
+            "we", "were", "will", "with", "you", "your");
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Pass each index term of the text to the consumer, in order of occurrence
+     */
+    public static void tokenize(CharSequence text, Consumer<String> terms) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder term = new StringBuilder();
+        boolean inTag = false;
+        boolean inEntity = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inTag) {
+                inTag = c != '>';
+            } else if (inEntity) {
+                inEntity = c != ';' && Character.isLetterOrDigit(c) || c == '#';
+            } else if (c == '<') {
+                inTag = true;
+                emit(term, terms);
+            } else if (c == '&') {
+                inEntity = true;
+                emit(term, terms);
+            } else if (Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(c));
+            } else if (c != '\'' && c != '’') {
+                emit(term, terms);
+            }
+        }
+        emit(term, terms);
+    }
+
+    private static void emit(StringBuilder term, Consumer<String> terms) {
+        int length = term.length();
+        if (length >= MIN_TERM_LENGTH && length <= MAX_TERM_LENGTH) {
+            String value = term.toString();
+            if (!STOP_WORDS.contains(value)) {
+                terms.accept(value);
+            }
+        }
+        term.setLength(0);
+    }
+}
@@ -0,0 +1,61 @@
+package io.camunda.connector.rss.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helpers for reading connector settings from environment variables with defaults
+ */
+public final class EnvironmentConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnvironmentConfig.class);
+
+    private EnvironmentConfig() {
+    }
+
+    /**
+     * Helper method to read integer from environment variable with default value
+     */
+    public static int getInt(String envVar, int defaultValue) {
+        String value = System.getenv(envVar);
+        if (value != null && !value.trim().isEmpty()) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid integer value for {}: {}, using default: {}", envVar, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Helper method to read long from environment variable with default value
+     */
+    public static long getLong(String envVar, long defaultValue) {
+        String value = System.getenv(envVar);
+        if (value != null && !value.trim().isEmpty()) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid long value for {}: {}, using default: {}", envVar, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Helper method to read string from environment variable with default value
+     */
+    public static String getString(String envVar, String defaultValue) {
+        String value = System.getenv(envVar);
+        return value != null && !value.trim().isEmpty() ? value.trim() : defaultValue;
+    }
+
+    /**
+     * Helper method to read boolean from environment variable with default value
+     */
+    public static boolean getBoolean(String envVar, boolean defaultValue) {
+        String value = System.getenv(envVar);
+        return value != null && !value.trim().isEmpty() ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+}
@@ -0,0 +1,88 @@
+package io.camunda.connector.rss.service;
+
+import okhttp3.HttpUrl;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+/**
+ * Pagination links of paged and archived feeds (RFC 5005): "next" for paged feeds and
+ * "prev-archive" for archived feeds, as Atom links or atom:link elements in RSS channels
+ */
+final class FeedPageLinks {
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private FeedPageLinks() {
+    }
+
+    static boolean isPageLink(String rel) {
+        return "next".equalsIgnoreCase(rel) || "prev-archive".equalsIgnoreCase(rel);
+    }
+
+    /**
+     * Resolve a pagination link against the URL of the page it was found on
+     */
+    static String resolve(String pageUrl, String href) {
+        if (href == null || href.trim().isEmpty()) {
+            return null;
+        }
+        HttpUrl base = HttpUrl.parse(pageUrl);
+        HttpUrl resolved = base != null ? base.resolve(href.trim()) : HttpUrl.parse(href.trim());
+        return resolved != null ? resolved.toString() : null;
+    }
+
+    /**
+     * Cheap scan of the feed header for the next page, stopping at the first entry. Returns null if
+     * the link is not found before the entries or the document cannot be scanned; the full parse
+     * still finds links placed after the entries.
+     */
+    static String scanNextPage(String xml, String pageUrl) {
+        String prevArchive = null;
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(new StringReader(xml));
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String name = reader.getLocalName();
+                if ("entry".equals(name) || "item".equals(name)) {
+                    break;
+                }
+                if ("link".equals(name) && ATOM_NAMESPACE.equals(reader.getNamespaceURI())) {
+                    String rel = reader.getAttributeValue(null, "rel");
+                    if ("next".equalsIgnoreCase(rel)) {
+                        return resolve(pageUrl, reader.getAttributeValue(null, "href"));
+                    }
+                    if ("prev-archive".equalsIgnoreCase(rel) && prevArchive == null) {
+                        prevArchive = reader.getAttributeValue(null, "href");
+                    }
+                }
+            }
+            return resolve(pageUrl, prevArchive);
+        } catch (XMLStreamException | RuntimeException e) {
+            return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -1,15 +1,68 @@
 package io.camunda.connector.rss.service;
 
+import com.rometools.rome.feed.synd.SyndCategory;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.feed.synd.SyndEnclosure;
+import com.rometools.rome.feed.synd.SyndLink;
 import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.WireFeedInput;
 import com.rometools.rome.io.XmlReader;
-import io.camunda.connector.rss.dto.RssEnclosure;
+import com.rometools.rome.io.impl.XmlFixerReader;
+import io.camunda.connector.rss.archive.ArchivedItem;
+import io.camunda.connector.rss.archive.FeedArchive;
+import io.camunda.connector.rss.cache.CachePolicy;
+import io.camunda.connector.rss.cache.CachedFeed;
+import io.camunda.connector.rss.cache.FailureClass;
+import io.camunda.connector.rss.cache.FeedCache;
+import io.camunda.connector.rss.cache.NegativeCache;
+import io.camunda.connector.rss.date.FeedDateParser;
+import io.camunda.connector.rss.delta.DeltaTracker;
+import io.camunda.connector.rss.delta.FeedSnapshot;
+import io.camunda.connector.rss.dedup.ItemDeduplicator;
+import io.camunda.connector.rss.filter.ItemFilter;
+import io.camunda.connector.rss.download.EnclosureDownloader;
+import io.camunda.connector.rss.enclosure.EnclosureProber;
+import io.camunda.connector.rss.hedge.HedgeBudget;
+import io.camunda.connector.rss.hedge.HedgedCall;
+import io.camunda.connector.rss.latency.AdaptiveTimeouts;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.limit.HostRateLimiter;
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.metrics.ConnectorMetrics;
+import io.camunda.connector.rss.dto.RssFeedDelta;
+import io.camunda.connector.rss.dto.RssFeedFolder;
 import io.camunda.connector.rss.dto.RssFeedInput;
 import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssFeedStatus;
 import io.camunda.connector.rss.dto.RssItem;
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.CompactItemList;
+import io.camunda.connector.rss.model.StringPool;
+import io.camunda.connector.rss.opml.BulkFeedFetcher;
+import io.camunda.connector.rss.opml.OpmlOutline;
+import io.camunda.connector.rss.opml.OpmlParser;
+import io.camunda.connector.rss.reader.AtomReader;
+import io.camunda.connector.rss.reader.FeedEntry;
+import io.camunda.connector.rss.reader.FeedFormat;
+import io.camunda.connector.rss.reader.JsonFeedReader;
+import io.camunda.connector.rss.reader.ParsedFeed;
+import io.camunda.connector.rss.reader.Rss2Reader;
+import io.camunda.connector.rss.schedule.FetchScheduler;
+import io.camunda.connector.rss.search.FullTextIndex;
+import io.camunda.connector.rss.state.FeedOwnership;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import okhttp3.*;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,19 +70,29 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import javax.xml.stream.XMLStreamException;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service class for fetching and parsing RSS feeds
@@ -38,67 +101,183 @@ public class RssFeedService {
     
     private static final Logger LOG = LoggerFactory.getLogger(RssFeedService.class);
 
-    // Rate limiting configuration - configurable via environment variables
-    private static final int MAX_REQUESTS_PER_MINUTE = getEnvInt("RSS_CONNECTOR_MAX_REQUESTS_PER_MINUTE", 60);
-    private static final int MAX_REQUESTS_PER_HOUR = getEnvInt("RSS_CONNECTOR_MAX_REQUESTS_PER_HOUR", 1000);
-    private static final ConcurrentHashMap<String, AtomicInteger> requestCountsMinute = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, AtomicInteger> requestCountsHour = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, AtomicLong> lastRequestTimeMinute = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, AtomicLong> lastRequestTimeHour = new ConcurrentHashMap<>();
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    // Raw date elements of RSS 0.9x/1.0/2.0 (dc:date first, as ROME does), Atom 1.0 and Atom 0.3, in precedence order
+    private static final List<String> PUBLISHED_DATE_ELEMENTS = List.of("date", "pubDate", "published", "issued");
+    private static final List<String> UPDATED_DATE_ELEMENTS = List.of("updated", "modified");
+    
+    // RSS 2.0 and Atom documents are read without ROME unless disabled with RSS_CONNECTOR_DEDICATED_READERS=false
+    private static final boolean DEDICATED_READERS = EnvironmentConfig.getBoolean("RSS_CONNECTOR_DEDICATED_READERS", true);
 
-    // HTTP client cache for reuse with LRU eviction policy
+    // HTTP client cache for reuse with LRU eviction policy, shared by parallel bulk fetches
     private static final int MAX_CLIENT_CACHE_SIZE = 100;
-    private static final Map<String, OkHttpClient> clientCache = new LinkedHashMap<String, OkHttpClient>(16, 0.75f, true) {
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<String, OkHttpClient> eldest) {
-            return size() > MAX_CLIENT_CACHE_SIZE;
-        }
-    };
+    private static final Map<String, OkHttpClient> clientCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, OkHttpClient>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OkHttpClient> eldest) {
+                return size() > MAX_CLIENT_CACHE_SIZE;
+            }
+        });
+    
+    private static final long MAX_OPML_BYTES = 10L * 1024 * 1024;
+    
+    // Hedging waits for the host's p95 time to headers, or this delay until enough samples were observed
+    private static final long DEFAULT_HEDGE_DELAY_MS = EnvironmentConfig.getLong("RSS_CONNECTOR_HEDGE_DELAY_MS", 1000);
+    private static final long MIN_HEDGE_DELAY_MS = 50;
+    private static final long MAX_HEDGE_DELAY_MS = 10_000;
+    
+    private static final int DEFAULT_MAX_PAGES = 10;
+    private static final int DEFAULT_PROBE_BUDGET_SECONDS = 10;
+
+    // Optional injected HTTP client that replaces the per-configuration client cache
+    private final OkHttpClient httpClient;
+    
+    // Optional local archive of fetched items, enabled through RSS_CONNECTOR_ARCHIVE_DIR
+    private final FeedArchive archive;
+    
+    // Per-feed snapshots for delta output
+    private final DeltaTracker deltaTracker = DeltaTracker.shared();
+    
+    // Last good response per feed for stale-while-revalidate and stale-if-error serving
+    private final FeedCache feedCache = FeedCache.shared();
+    
+    // Recent failures of broken feeds and hosts, served without fetching
+    private final NegativeCache negativeCache = NegativeCache.shared();
+    private final ConnectorMetrics metrics = ConnectorMetrics.shared();
+    
+    // Rate limit counters shared by the runtimes of a cluster, and the runtime refreshing each cached feed
+    private final HostRateLimiter rateLimiter = HostRateLimiter.shared();
+    private final FeedOwnership feedOwnership = FeedOwnership.shared();
+    
+    // Per-host response latencies and the cap on extra requests sent by hedging
+    private final HostLatencyTracker latencyTracker = HostLatencyTracker.shared();
+    private final HedgeBudget hedgeBudget = HedgeBudget.shared();
+    
+    // Adaptive cap on the requests in flight per host
+    private final HostConcurrencyLimiter concurrencyLimiter = HostConcurrencyLimiter.shared();
+    
+    // Fair admission of the fetches of each tenant
+    private final FetchScheduler scheduler = FetchScheduler.shared();
+    
+    // Cached HEAD and range probes of enclosure URLs
+    private final EnclosureProber enclosureProber = EnclosureProber.shared();
+    
+    // Optional streaming download of enclosures, enabled through RSS_CONNECTOR_DOWNLOAD_DIR
+    private final EnclosureDownloader enclosureDownloader = EnclosureDownloader.fromEnvironment();
+    
+    // Spans of each fetch, recorded when the runtime registers an OpenTelemetry SDK or agent
+    private final Tracer tracer;
 
     public RssFeedService() {
+        this(null, FeedArchive.fromEnvironment());
     }
 
     public RssFeedService(OkHttpClient httpClient) {
         // Constructor for testing with custom HTTP client
-        // The httpClient parameter is used for test injection
+        this(httpClient, FeedArchive.fromEnvironment());
+    }
+
+    public RssFeedService(OkHttpClient httpClient, FeedArchive archive) {
+        this(httpClient, archive, Tracing.tracer());
+    }
+
+    public RssFeedService(OkHttpClient httpClient, FeedArchive archive, Tracer tracer) {
+        this.httpClient = httpClient;
+        this.archive = archive;
+        this.tracer = tracer;
     }
 
     /**
-     * Helper method to read integer from environment variable with default value
+     * Fetch RSS feed from the specified URL
      */
-    private static int getEnvInt(String envVar, int defaultValue) {
-        String value = System.getenv(envVar);
-        if (value != null && !value.trim().isEmpty()) {
-            try {
-                return Integer.parseInt(value.trim());
-            } catch (NumberFormatException e) {
-                LOG.warn("Invalid integer value for {}: {}, using default: {}", envVar, value, defaultValue);
-            }
-        }
-        return defaultValue;
+    public RssFeedOutput fetchRssFeed(RssFeedInput input) {
+        return fetchRssFeed(input.getFeedUrl(), input);
     }
     
     /**
-     * Fetch RSS feed from the specified URL
+     * Fetch the RSS feed at feedUrl using the remaining settings of the input
      */
-    public RssFeedOutput fetchRssFeed(RssFeedInput input) {
-        LOG.info("Fetching RSS feed from: {}", input.getFeedUrl());
+    public RssFeedOutput fetchRssFeed(String feedUrl, RssFeedInput input) {
+        return fetchRssFeed(feedUrl, input, null);
+    }
+    
+    private RssFeedOutput fetchRssFeed(String feedUrl, RssFeedInput input, String schedulingKey) {
+        // Child of the job's span, or of the caller's trace context for direct calls
+        Span span = tracer.spanBuilder("rss.fetch").setParent(Tracing.parentContext(input.getTraceparent())).startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            span.setAttribute("url.full", feedUrl).setAttribute("server.address", UrlValidator.hostOf(feedUrl));
+            RssFeedOutput output = fetchFeed(feedUrl, input, schedulingKey);
+            span.setAttribute("rss.items", output.getTotalItems()).setAttribute("rss.cache.outcome", output.getCacheStatus());
+            if (!output.isSuccess()) {
+                span.setStatus(StatusCode.ERROR, output.getError());
+            }
+            return output;
+        } finally {
+            span.end();
+        }
+    }
+    
+    private RssFeedOutput fetchFeed(String feedUrl, RssFeedInput input, String schedulingKey) {
+        LOG.info("Fetching RSS feed from: {}", feedUrl);
         
         try {
             // Validate URL to prevent SSRF attacks
-            validateUrl(input.getFeedUrl());
-            
-            // Check rate limiting
-            checkRateLimit(input.getFeedUrl());
+            Span validation = tracer.spanBuilder("rss.validate_url").startSpan();
+            try {
+                UrlValidator.validate(feedUrl);
+            } catch (RuntimeException e) {
+                Tracing.recordFailure(validation, e);
+                throw e;
+            } finally {
+                validation.end();
+            }
             
             // Get or create HTTP client with proper configuration (reuse for performance)
             OkHttpClient client = getOrCreateHttpClient(input);
             
+            // Recent failures and, when enabled, cached copies are served without fetching;
+            // delta and paged fetches track their own state
+            NegativeCache.Failure recentFailure = negativeCache.lookup(failureKey(feedUrl, authorization(input)));
+            CachePolicy cachePolicy = CachePolicy.of(input);
+            if (cachePolicy.enabled() && !Boolean.TRUE.equals(input.getDelta()) &&
+                !Boolean.TRUE.equals(input.getFollowPages())) {
+                RssFeedOutput output = fetchCached(client, feedUrl, input, cachePolicy, recentFailure, schedulingKey);
+                recordOutcome(feedUrl, input, output);
+                archiveItems(feedUrl, output);
+                return output;
+            }
+            if (recentFailure != null) {
+                return negativeCacheHit(feedUrl, recentFailure);
+            }
+            
+            // Check rate limiting
+            Span rateLimit = tracer.spanBuilder("rss.rate_limit").startSpan();
+            try {
+                checkRateLimit(feedUrl);
+            } catch (RuntimeException e) {
+                Tracing.recordFailure(rateLimit, e);
+                throw e;
+            } finally {
+                rateLimit.end();
+            }
+            
             // Create HTTP request
-            Request request = createHttpRequest(input);
+            Request request = createHttpRequest(feedUrl, input);
             
-            // Execute HTTP request with retry logic
-            return executeWithRetry(client, request, input, 3);
+            // Execute HTTP request with retry logic, following pagination links if requested
+            RssFeedOutput output;
+            try (FetchScheduler.Slot slot = schedule(schedulingKey, input)) {
+                if (Boolean.TRUE.equals(input.getDelta())) {
+                    output = fetchDelta(client, request, input);
+                } else if (Boolean.TRUE.equals(input.getFollowPages())) {
+                    output = fetchPages(client, request, input, null);
+                } else {
+                    output = executeWithRetry(client, request, input, 3);
+                }
+            }
+            recordOutcome(feedUrl, input, output);
+            archiveItems(feedUrl, output);
+            return output;
             
         } catch (Exception e) {
             String errorMsg = "Failed to fetch RSS feed: " + e.getMessage();
@@ -107,53 +286,468 @@ public class RssFeedService {
         }
     }
     
-    private Request createHttpRequest(RssFeedInput input) {
-        Request.Builder requestBuilder = new Request.Builder()
-                .url(input.getFeedUrl())
-                .addHeader("User-Agent", input.getUserAgent());
+    /**
+     * Fetch feedUrl and the additional feedUrls, merge their items in feed order and, if requested,
+     * collapse duplicate stories. Feed metadata is taken from the first feed fetched successfully.
+     */
+    public RssFeedOutput fetchMergedFeeds(RssFeedInput input) {
+        return fetchMergedFeeds(input, null);
+    }
+    
+    /**
+     * Fetch the feeds like {@link #fetchMergedFeeds(RssFeedInput)}; requests to the publishers wait for the fair share
+     * of schedulingKey in the fetch scheduler, while cached copies and recent failures are served at once
+     *
+     * @param schedulingKey tenant or process whose fetches share a queue, null to fetch without waiting
+     */
+    public RssFeedOutput fetchMergedFeeds(RssFeedInput input, String schedulingKey) {
+        boolean deduplicate = Boolean.TRUE.equals(input.getDeduplicate());
+        if ((input.getFeedUrls() == null || input.getFeedUrls().isEmpty()) && !deduplicate) {
+            return fetchRssFeed(input.getFeedUrl(), input, schedulingKey);
+        }
         
-        // Add authentication if specified
-        if (input.getAuthType() != null && !input.getAuthType().isEmpty() && 
-            input.getAuthToken() != null && !input.getAuthToken().isEmpty()) {
+        Set<String> feedUrls = new LinkedHashSet<>();
+        feedUrls.add(input.getFeedUrl());
+        if (input.getFeedUrls() != null) {
+            for (String feedUrl : input.getFeedUrls()) {
+                if (feedUrl != null && !feedUrl.trim().isEmpty()) {
+                    feedUrls.add(feedUrl.trim());
+                }
+            }
+        }
+        
+        RssFeedOutput merged = null;
+        List<CompactItem> items = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        RssFeedDelta delta = null;
+        for (String feedUrl : feedUrls) {
+            RssFeedOutput output = fetchRssFeed(feedUrl, input, schedulingKey);
+            if (!output.isSuccess()) {
+                errors.add(feedUrl + ": " + output.getError());
+                continue;
+            }
+            if (merged == null) {
+                merged = output;
+            }
+            items.addAll(CompactItemList.compactItemsOf(output.getItems()));
+            if (output.getDelta() != null) {
+                delta = mergeDelta(delta, output.getDelta());
+            }
+        }
+        if (merged != null) {
+            merged.setDelta(delta);
+        }
+        
+        if (merged == null) {
+            return new RssFeedOutput(false, "Failed to fetch all feeds: " + String.join("; ", errors));
+        }
+        if (!errors.isEmpty()) {
+            LOG.warn("{} of {} feeds failed", errors.size(), feedUrls.size());
+            merged.setError("Some feeds failed: " + String.join("; ", errors));
+        }
+        
+        if (deduplicate) {
+            ItemDeduplicator.DedupResult result = new ItemDeduplicator().deduplicate(items);
+            LOG.info("Removed {} duplicate items ({} by link, {} by content, {} near duplicates)",
+                result.removed(), result.linkDuplicates(), result.contentDuplicates(), result.nearDuplicates());
+            items = result.items();
+            merged.setDuplicatesRemoved(result.removed());
+        }
+        merged.setItems(new CompactItemList(items));
+        return merged;
+    }
+    
+    /**
+     * Fetch all feeds of an OPML document (given inline or by URL) in parallel. The items of all feeds
+     * are returned in document order, and the result of each feed is reported in its OPML folder.
+     */
+    public RssFeedOutput fetchOpml(RssFeedInput input) {
+        return fetchOpml(input, null);
+    }
+    
+    /**
+     * Fetch the feeds of an OPML document like {@link #fetchOpml(RssFeedInput)}, taking one slot of schedulingKey
+     * in the fetch scheduler for the whole list
+     *
+     * @param schedulingKey tenant or process whose fetches share a queue, null to fetch without waiting
+     */
+    public RssFeedOutput fetchOpml(RssFeedInput input, String schedulingKey) {
+        try (FetchScheduler.Slot slot = schedule(schedulingKey, input)) {
+            List<OpmlOutline> outlines = readOpml(input);
+            List<String> feedUrls = new ArrayList<>(outlines.size());
+            for (OpmlOutline outline : outlines) {
+                feedUrls.add(outline.feedUrl());
+            }
+            
+            // Feeds are fetched on pool threads, which continue the trace of the job
+            BulkFeedFetcher fetcher = new BulkFeedFetcher(Context.current().wrapFunction(feedUrl -> fetchRssFeed(feedUrl, input)),
+                input.getMaxConcurrency() != null ? input.getMaxConcurrency() : BulkFeedFetcher.DEFAULT_MAX_CONCURRENCY,
+                input.getPerHostConcurrency() != null ? input.getPerHostConcurrency() : BulkFeedFetcher.DEFAULT_PER_HOST_CONCURRENCY,
+                input.getDeadlineSeconds() != null ? Duration.ofSeconds(input.getDeadlineSeconds()) : BulkFeedFetcher.DEFAULT_DEADLINE);
+            List<RssFeedOutput> outputs = fetcher.fetchAll(feedUrls);
             
-            if ("basic".equalsIgnoreCase(input.getAuthType())) {
-                // Basic authentication - split username:password from authToken
-                String[] parts = input.getAuthToken().split(":", 2);
-                String username = parts.length > 0 ? parts[0] : "";
-                String password = parts.length > 1 ? parts[1] : "";
-                String credentials = okhttp3.Credentials.basic(username, password);
-                requestBuilder.addHeader("Authorization", credentials);
-            } else if ("bearer".equalsIgnoreCase(input.getAuthType())) {
-                // Bearer token authentication
-                requestBuilder.addHeader("Authorization", "Bearer " + input.getAuthToken());
+            Map<String, RssFeedFolder> folders = new LinkedHashMap<>();
+            List<CompactItem> items = new ArrayList<>();
+            int failed = 0;
+            for (int i = 0; i < outlines.size(); i++) {
+                OpmlOutline outline = outlines.get(i);
+                RssFeedOutput output = outputs.get(i);
+                RssFeedStatus status = new RssFeedStatus(
+                    outline.title() != null ? outline.title() : output.getFeedTitle(), outline.feedUrl());
+                status.setSuccess(output.isSuccess());
+                status.setError(output.getError());
+                status.setItemOffset(items.size());
+                if (output.isSuccess() && output.getItems() != null) {
+                    items.addAll(CompactItemList.compactItemsOf(output.getItems()));
+                } else {
+                    failed++;
+                }
+                status.setItemCount(items.size() - status.getItemOffset());
+                folders.computeIfAbsent(outline.folder(), RssFeedFolder::new).getFeeds().add(status);
             }
+            
+            RssFeedOutput result = new RssFeedOutput();
+            result.setItems(new CompactItemList(items));
+            result.setFolders(new ArrayList<>(folders.values()));
+            if (failed > 0) {
+                result.setError(failed + " of " + outlines.size() + " feeds failed");
+            }
+            LOG.info("Fetched {} items from {} OPML feeds in {} folders, {} feeds failed",
+                items.size(), outlines.size(), folders.size(), failed);
+            return result;
+            
+        } catch (Exception e) {
+            String errorMsg = "Failed to fetch OPML feeds: " + e.getMessage();
+            LOG.error(errorMsg, e);
+            return new RssFeedOutput(false, errorMsg);
+        }
+    }
+    
+    private List<OpmlOutline> readOpml(RssFeedInput input) throws IOException {
+        if (input.getOpml() != null && !input.getOpml().trim().isEmpty()) {
+            return OpmlParser.parse(new StringReader(input.getOpml()));
         }
         
-        return requestBuilder.build();
+        String opmlUrl = input.getOpmlUrl().trim();
+        UrlValidator.validate(opmlUrl);
+        checkRateLimit(opmlUrl);
+        Request request = createHttpRequest(opmlUrl, input);
+        String host = request.url().host();
+        Span span = startAttemptSpan("rss.opml_fetch", request, 0);
+        try (HostConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(host)) {
+            long start = System.nanoTime();
+            try (Response response = getOrCreateHttpClient(input).newCall(Tracing.withTraceContext(request, span)).execute()) {
+                latencyTracker.record(host, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                span.setAttribute("http.response.status_code", response.code());
+                if (!response.isSuccessful() || response.body() == null) {
+                    release(permit, FailureClass.ofStatus(response.code()));
+                    throw new IOException("HTTP request for the OPML document failed with status " + response.code());
+                }
+                if (response.body().contentLength() > MAX_OPML_BYTES) {
+                    throw new IOException("OPML document exceeds " + MAX_OPML_BYTES + " bytes");
+                }
+                // Stream-parse the body; the outline limit bounds documents without a content length
+                List<OpmlOutline> outlines = OpmlParser.parse(new InputStreamReader(response.body().byteStream(),
+                    response.body().contentType() != null && response.body().contentType().charset() != null
+                        ? response.body().contentType().charset() : StandardCharsets.UTF_8));
+                permit.success();
+                return outlines;
+            } catch (IOException e) {
+                Tracing.recordFailure(span, e);
+                release(permit, FailureClass.ofException(e));
+                throw e;
+            }
+        } finally {
+            span.end();
+        }
+    }
+    
+    private static RssFeedDelta mergeDelta(RssFeedDelta merged, RssFeedDelta delta) {
+        if (merged == null) {
+            merged = new RssFeedDelta();
+            merged.setUpdatedGuids(new ArrayList<>());
+            merged.setNotModified(true);
+            merged.setFirstSnapshot(true);
+        }
+        merged.setNewItems(merged.getNewItems() + delta.getNewItems());
+        merged.setUpdatedItems(merged.getUpdatedItems() + delta.getUpdatedItems());
+        merged.getUpdatedGuids().addAll(delta.getUpdatedGuids());
+        if (delta.getRemovedGuids() != null) {
+            if (merged.getRemovedGuids() == null) {
+                merged.setRemovedGuids(new ArrayList<>());
+            }
+            merged.getRemovedGuids().addAll(delta.getRemovedGuids());
+        }
+        merged.setNotModified(merged.isNotModified() && delta.isNotModified());
+        merged.setFirstSnapshot(merged.isFirstSnapshot() && delta.isFirstSnapshot());
+        return merged;
     }
     
-    private RssFeedOutput parseRssFeed(String xmlContent, RssFeedInput input) {
+    /**
+     * Fill in missing enclosure types and lengths of the output's items from the enclosure servers,
+     * within probeBudgetSeconds
+     */
+    public RssFeedOutput probeEnclosures(RssFeedOutput output, RssFeedInput input) {
+        if (!output.isSuccess() || output.getItems() == null || output.getItems().isEmpty()) {
+            return output;
+        }
+        int budgetSeconds = input.getProbeBudgetSeconds() != null ? input.getProbeBudgetSeconds() : DEFAULT_PROBE_BUDGET_SECONDS;
+        List<CompactItem> items = CompactItemList.compactItemsOf(output.getItems());
+        List<CompactItem> enriched;
+        Span span = tracer.spanBuilder("rss.enclosure_probe").setAttribute("rss.probe.budget_s", budgetSeconds).startSpan();
         try {
-            // Set XXE protection system properties
-            System.setProperty("javax.xml.accessExternalDTD", "none");
-            System.setProperty("javax.xml.accessExternalSchema", "none");
+            enriched = enclosureProber.enrich(getOrCreateHttpClient(input), items, input.getUserAgent(),
+                Duration.ofSeconds(budgetSeconds));
+        } finally {
+            span.end();
+        }
+        if (enriched != items) {
+            output.setItems(new CompactItemList(enriched));
+        }
+        return output;
+    }
+    
+    /**
+     * Fetch the feeds like {@link #fetchMergedFeeds} and download the enclosures of the resulting items
+     * to the download directory
+     */
+    public RssFeedOutput downloadEnclosures(RssFeedInput input) {
+        return downloadEnclosures(input, null);
+    }
+    
+    /**
+     * Fetch the feeds like {@link #fetchMergedFeeds(RssFeedInput, String)} and download the enclosures of the
+     * resulting items; the downloads do not wait in the fetch scheduler
+     */
+    public RssFeedOutput downloadEnclosures(RssFeedInput input, String schedulingKey) {
+        if (enclosureDownloader == null) {
+            return new RssFeedOutput(false, "Enclosure downloads are disabled, set RSS_CONNECTOR_DOWNLOAD_DIR to enable them");
+        }
+        RssFeedOutput output = fetchMergedFeeds(input, schedulingKey);
+        if (!output.isSuccess()) {
+            return output;
+        }
+        Set<String> urls = new LinkedHashSet<>();
+        for (CompactItem item : CompactItemList.compactItemsOf(output.getItems())) {
+            if (item.enclosures() != null) {
+                for (CompactEnclosure enclosure : item.enclosures()) {
+                    if (enclosure.url() != null) {
+                        urls.add(enclosure.url());
+                    }
+                }
+            }
+        }
+        long bytesPerSecond = input.getDownloadBytesPerSecond() != null ? input.getDownloadBytesPerSecond() : 0;
+        Span span = tracer.spanBuilder("rss.enclosure_download").setAttribute("rss.download.count", urls.size()).startSpan();
+        try {
+            output.setDownloads(enclosureDownloader.downloadAll(getOrCreateHttpClient(input), new ArrayList<>(urls),
+                input.getUserAgent(), bytesPerSecond));
+        } finally {
+            span.end();
+        }
+        return output;
+    }
+    
+    /**
+     * Query the local archive for items of feedUrl and feedUrls (or all feeds if no URL is given)
+     * in the range archiveFrom to archiveTo, newest first and limited to maxItems
+     */
+    public RssFeedOutput queryArchive(RssFeedInput input) {
+        if (archive == null) {
+            return new RssFeedOutput(false, "Feed archive is not enabled, set RSS_CONNECTOR_ARCHIVE_DIR");
+        }
+        
+        try {
+            Instant from = parseArchiveBound(input.getArchiveFrom(), "archiveFrom");
+            Instant to = parseArchiveBound(input.getArchiveTo(), "archiveTo");
+            
+            List<String> feedUrls = archiveFeeds(input);
+            int limit = input.getMaxItems() != null ? input.getMaxItems() : Integer.MAX_VALUE;
             
-            SyndFeedInput syndFeedInput = new SyndFeedInput();
-            InputStream inputStream = new ByteArrayInputStream(xmlContent.getBytes(StandardCharsets.UTF_8));
+            List<ArchivedItem> archivedItems = archive.query(feedUrls, from, to, limit);
+            List<CompactItem> items = new ArrayList<>(archivedItems.size());
+            for (ArchivedItem archivedItem : archivedItems) {
+                items.add(archivedItem.item());
+            }
             
-            // Create XML reader with XXE protection
-            XmlReader xmlReader = new XmlReader(inputStream);
+            RssFeedOutput output = new RssFeedOutput();
+            output.setItems(new CompactItemList(items));
+            LOG.info("Archive query returned {} items", items.size());
+            return output;
             
-            SyndFeed syndFeed = syndFeedInput.build(xmlReader);
+        } catch (Exception e) {
+            String errorMsg = "Failed to query feed archive: " + e.getMessage();
+            LOG.error(errorMsg, e);
+            return new RssFeedOutput(false, errorMsg);
+        }
+    }
+    
+    /**
+     * Search the full-text index of the local archive for items of feedUrl and feedUrls (or all feeds
+     * if no URL is given) matching the query, best match first and limited to maxItems (default 10)
+     */
+    public RssFeedOutput searchArchive(RssFeedInput input) {
+        if (archive == null) {
+            return new RssFeedOutput(false, "Feed archive is not enabled, set RSS_CONNECTOR_ARCHIVE_DIR");
+        }
+        
+        try {
+            int limit = input.getMaxItems() != null ? input.getMaxItems() : 10;
+            // Items deleted by retention are removed from the index, so every hit is still archived
+            List<FullTextIndex.Hit> hits = FullTextIndex.forArchive(archive)
+                .search(input.getQuery(), archiveFeeds(input), limit);
+            List<CompactItem> items = new ArrayList<>(hits.size());
+            for (FullTextIndex.Hit hit : hits) {
+                archive.findByKey(hit.key()).ifPresent(archivedItem -> items.add(archivedItem.item()));
+            }
+            
+            RssFeedOutput output = new RssFeedOutput();
+            output.setItems(new CompactItemList(items));
+            LOG.info("Archive search returned {} items", items.size());
+            return output;
+            
+        } catch (Exception e) {
+            String errorMsg = "Failed to search feed archive: " + e.getMessage();
+            LOG.error(errorMsg, e);
+            return new RssFeedOutput(false, errorMsg);
+        }
+    }
+    
+    private static List<String> archiveFeeds(RssFeedInput input) {
+        if (input.getFeedUrl() == null || input.getFeedUrl().trim().isEmpty()) {
+            return null;
+        }
+        List<String> feedUrls = new ArrayList<>();
+        feedUrls.add(input.getFeedUrl().trim());
+        if (input.getFeedUrls() != null) {
+            feedUrls.addAll(input.getFeedUrls());
+        }
+        return feedUrls;
+    }
+    
+    /**
+     * Parse an absolute timestamp or an ISO 8601 duration such as P7D relative to now
+     */
+    private Instant parseArchiveBound(String value, String name) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.startsWith("P") || trimmed.startsWith("p")) {
+            try {
+                return Instant.now().minus(Duration.parse(trimmed));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(name + " is not a valid duration: " + value);
+            }
+        }
+        long millis = FeedDateParser.SHARED.parse(trimmed);
+        if (millis == FeedDateParser.UNPARSEABLE) {
+            throw new IllegalArgumentException(name + " is not a valid timestamp: " + value);
+        }
+        return Instant.ofEpochMilli(millis);
+    }
+    
+    private void archiveItems(String feedUrl, RssFeedOutput output) {
+        if (archive == null || !output.isSuccess() || output.getItems() == null) {
+            return;
+        }
+        try {
+            archive.append(feedUrl, CompactItemList.compactItemsOf(output.getItems()));
+        } catch (Exception e) {
+            // The archive is best effort and must not fail the fetch
+            LOG.warn("Failed to archive items of {}: {}", feedUrl, e.getMessage());
+        }
+    }
+    
+    private Request createHttpRequest(String feedUrl, RssFeedInput input) {
+        Request.Builder requestBuilder = new Request.Builder()
+                .url(feedUrl)
+                .addHeader("User-Agent", input.getUserAgent());
+        if (Boolean.TRUE.equals(input.getHedge())) {
+            requestBuilder.tag(Hedging.class, Hedging.ENABLED);
+        }
+        
+        // Add authentication if specified
+        String authorization = authorization(input);
+        if (authorization != null) {
+            requestBuilder.addHeader("Authorization", authorization);
+        }
+        
+        return requestBuilder.build();
+    }
+    
+    /**
+     * Authorization header value for the input's credentials, or null without authentication
+     */
+    private static String authorization(RssFeedInput input) {
+        if (input.getAuthType() == null || input.getAuthType().isEmpty() ||
+            input.getAuthToken() == null || input.getAuthToken().isEmpty()) {
+            return null;
+        }
+        if ("basic".equalsIgnoreCase(input.getAuthType())) {
+            // Basic authentication - split username:password from authToken
+            String[] parts = input.getAuthToken().split(":", 2);
+            String username = parts.length > 0 ? parts[0] : "";
+            String password = parts.length > 1 ? parts[1] : "";
+            return okhttp3.Credentials.basic(username, password);
+        }
+        if ("bearer".equalsIgnoreCase(input.getAuthType())) {
+            // Bearer token authentication
+            return "Bearer " + input.getAuthToken();
+        }
+        return null;
+    }
+    
+    /**
+     * Parse an already retrieved feed document through the regular item conversion and filter pipeline.
+     * Used for fetched responses as well as for content pushed by a WebSub hub.
+     */
+    public RssFeedOutput parseRssFeed(String content, RssFeedInput input) {
+        return parseRssFeed(content, input.getFeedUrl(), input);
+    }
+    
+    private RssFeedOutput parseRssFeed(String content, String feedUrl, RssFeedInput input) {
+        return parseRssFeed(content, feedUrl, input, null);
+    }
+    
+    private RssFeedOutput parseRssFeed(String content, String feedUrl, RssFeedInput input, ParseState page) {
+        try {
+            ParsedFeed feed;
+            Span parse = tracer.spanBuilder("rss.parse").startSpan();
+            try {
+                if (content != null) {
+                    parse.setAttribute("rss.document.length", content.length());
+                }
+                feed = readFeed(content, feedUrl, parse);
+                parse.setAttribute("rss.entries", feed.entries().size());
+            } catch (Exception e) {
+                Tracing.recordFailure(parse, e);
+                throw e;
+            } finally {
+                parse.end();
+            }
             
             RssFeedOutput output = new RssFeedOutput();
-            output.setFeedTitle(syndFeed.getTitle());
-            output.setFeedDescription(syndFeed.getDescription());
-            output.setFeedLink(syndFeed.getLink());
-            output.setFeedLanguage(syndFeed.getLanguage());
+            output.setFeedTitle(feed.title());
+            output.setFeedDescription(feed.description());
+            output.setFeedLink(feed.link());
+            output.setFeedLanguage(feed.language());
+            for (ParsedFeed.Link link : feed.links()) {
+                applyFeedLink(output, link.rel(), link.href());
+            }
+            if (page != null) {
+                page.nextUrl = findNextPage(feed.links(), feedUrl);
+            }
             
             // Parse and filter items
-            List<RssItem> items = parseRssItems(syndFeed.getEntries(), input);
+            List<RssItem> items;
+            Span filter = tracer.spanBuilder("rss.filter").startSpan();
+            try {
+                items = parseRssItems(feed.entries(), input, page);
+                filter.setAttribute("rss.entries", feed.entries().size()).setAttribute("rss.items", items.size());
+            } finally {
+                filter.end();
+            }
             output.setItems(items);
             
             LOG.info("Successfully parsed RSS feed with {} items", items.size());
@@ -161,93 +755,263 @@ public class RssFeedService {
             
         } catch (Exception e) {
             String errorMsg = "Failed to parse RSS feed: " + e.getMessage();
-            LOG.error(errorMsg, e);
+            LOG.warn(errorMsg);
+            LOG.debug("Parse failure of {}", feedUrl, e);
             return new RssFeedOutput(false, errorMsg);
         }
     }
     
-    private List<RssItem> parseRssItems(List<SyndEntry> entries, RssFeedInput input) {
-        List<RssItem> items = new ArrayList<>();
+    /**
+     * Read RSS 2.0 and Atom documents with the dedicated readers, JSON Feeds with the JSON Feed reader
+     * and anything else, or anything the dedicated readers do not support, with ROME
+     */
+    private ParsedFeed readFeed(String content, String feedUrl, Span span) throws Exception {
+        FeedFormat format = FeedFormat.sniff(content);
+        span.setAttribute("rss.format", format.name());
+        if (format == FeedFormat.JSON_FEED) {
+            span.setAttribute("rss.reader", "json");
+            return JsonFeedReader.read(content, feedUrl);
+        }
+        if (DEDICATED_READERS && format != FeedFormat.OTHER) {
+            try {
+                span.setAttribute("rss.reader", "dedicated");
+                return format == FeedFormat.RSS2 ? Rss2Reader.read(content, feedUrl) : AtomReader.read(content, feedUrl);
+            } catch (XMLStreamException e) {
+                LOG.debug("Parsing {} with ROME: {}", feedUrl, e.getMessage());
+            }
+        }
+        span.setAttribute("rss.reader", "rome");
+        return readWithRome(content, feedUrl);
+    }
+    
+    private ParsedFeed readWithRome(String xmlContent, String feedUrl) throws Exception {
+        // Set XXE protection system properties
+        System.setProperty("javax.xml.accessExternalDTD", "none");
+        System.setProperty("javax.xml.accessExternalSchema", "none");
+        
+        SyndFeedInput syndFeedInput = new SyndFeedInput();
+        InputStream inputStream = new ByteArrayInputStream(xmlContent.getBytes(StandardCharsets.UTF_8));
+        
+        // Create XML reader with XXE protection
+        XmlReader xmlReader = new XmlReader(inputStream);
+        
+        // Keep the document so item dates are parsed from the raw text rather than by ROME
+        Document document = new SecureDocumentInput().buildDocument(xmlReader);
+        SyndFeed syndFeed = syndFeedInput.build(document);
+        
+        List<SyndEntry> syndEntries = syndFeed.getEntries();
+        List<Element> entryElements = findEntryElements(document);
+        // Raw elements can only be matched to entries by position if ROME kept all of them
+        boolean rawDatesAvailable = entryElements.size() == syndEntries.size();
+        List<FeedEntry> entries = new ArrayList<>(syndEntries.size());
+        for (int i = 0; i < syndEntries.size(); i++) {
+            entries.add(toFeedEntry(syndEntries.get(i), rawDatesAvailable ? entryElements.get(i) : null, feedUrl));
+        }
+        return new ParsedFeed(syndFeed.getTitle(), syndFeed.getDescription(), syndFeed.getLink(),
+            syndFeed.getLanguage(), feedLinks(syndFeed), entries);
+    }
+    
+    /**
+     * Feed links, either as Atom feed links or as atom:link elements in RSS channels
+     */
+    private List<ParsedFeed.Link> feedLinks(SyndFeed syndFeed) {
+        List<ParsedFeed.Link> links = new ArrayList<>();
+        if (syndFeed.getLinks() != null) {
+            for (SyndLink link : syndFeed.getLinks()) {
+                links.add(new ParsedFeed.Link(link.getRel(), link.getHref()));
+            }
+        }
+        if (syndFeed.getForeignMarkup() != null) {
+            for (Element element : syndFeed.getForeignMarkup()) {
+                if ("link".equals(element.getName()) && ATOM_NAMESPACE.equals(element.getNamespaceURI())) {
+                    links.add(new ParsedFeed.Link(element.getAttributeValue("rel"), element.getAttributeValue("href")));
+                }
+            }
+        }
+        return links;
+    }
+
+    /**
+     * The "next" link of a paged feed, or else the "prev-archive" link of an archived feed
+     */
+    private String findNextPage(List<ParsedFeed.Link> links, String pageUrl) {
+        String prevArchive = null;
+        for (ParsedFeed.Link link : links) {
+            if ("next".equalsIgnoreCase(link.rel())) {
+                return FeedPageLinks.resolve(pageUrl, link.href());
+            }
+            if ("prev-archive".equalsIgnoreCase(link.rel()) && prevArchive == null) {
+                prevArchive = link.href();
+            }
+        }
+        return FeedPageLinks.resolve(pageUrl, prevArchive);
+    }
+
+    /**
+     * Detect WebSub hub and self links
+     */
+    private void applyFeedLink(RssFeedOutput output, String rel, String href) {
+        if (rel == null || href == null || href.trim().isEmpty()) {
+            return;
+        }
+        if ("hub".equalsIgnoreCase(rel) && output.getHubUrl() == null) {
+            output.setHubUrl(href.trim());
+        } else if ("self".equalsIgnoreCase(rel) && output.getSelfUrl() == null) {
+            output.setSelfUrl(href.trim());
+        }
+    }
+    
+    private List<RssItem> parseRssItems(List<FeedEntry> entries, RssFeedInput input, ParseState page) {
+        Integer maxItems = page != null ? Integer.valueOf(page.remainingItems) : input.getMaxItems();
+        List<CompactItem> items = new ArrayList<>();
         Instant newerThanInstant = parseNewerThanTimestamp(input.getNewerThan());
+        ItemFilter filter = ItemFilter.of(input);
+        
+        DeltaItems delta = page != null ? page.delta : null;
+        int taken = 0;
         
-        for (SyndEntry entry : entries) {
-            // Apply max items limit
-            if (input.getMaxItems() != null && items.size() >= input.getMaxItems()) {
+        for (FeedEntry entry : entries) {
+            // Apply max items limit; in delta mode it bounds the items of the snapshot instead
+            if (maxItems != null && (delta != null ? taken : items.size()) >= maxItems) {
                 break;
             }
             
-            RssItem item = convertToRssItem(entry);
+            // In delta mode every item is compared with the snapshot, the filters only select the reported ones
+            CompactItem item = null;
+            if (delta != null) {
+                item = entry.toItem(StringPool.SHARED);
+                delta.items.add(item);
+                delta.updatedDates.add(entry.updatedMillis());
+                taken++;
+            }
+            
+            // Apply keyword and category filters before the item is converted
+            if (filter != null && !filter.accept(entry.title(), entry.description(), entry.content(), entry.categories())) {
+                continue;
+            }
+            
+            if (item == null) {
+                item = entry.toItem(StringPool.SHARED);
+            }
             
             // Apply GUID blacklist filter
             if (input.getGuidBlacklist() != null && 
-                input.getGuidBlacklist().contains(item.getGuid())) {
+                input.getGuidBlacklist().contains(item.guid())) {
+                if (page != null) {
+                    page.boundaryReached = true;
+                }
                 continue;
             }
             
             // Apply newer-than filter
-            if (newerThanInstant != null && item.getPubDate() != null) {
-                try {
-                    Instant itemInstant = Instant.parse(item.getPubDate());
-                    if (itemInstant.isBefore(newerThanInstant)) {
-                        continue;
-                    }
-                } catch (Exception e) {
-                    LOG.warn("Failed to parse item pubDate: {}", item.getPubDate(), e);
+            if (newerThanInstant != null && item.hasPubDate() &&
+                item.pubDateMillis() < newerThanInstant.toEpochMilli()) {
+                if (page != null) {
+                    page.boundaryReached = true;
                 }
+                continue;
             }
             
             items.add(item);
         }
         
-        return items;
+        return new CompactItemList(items);
     }
     
-    private RssItem convertToRssItem(SyndEntry entry) {
-        RssItem item = new RssItem();
-        
-        item.setTitle(entry.getTitle());
-        item.setDescription(entry.getDescription() != null ? entry.getDescription().getValue() : null);
-        item.setLink(entry.getLink());
-        item.setGuid(entry.getUri());
-        item.setAuthor(entry.getAuthor());
-        item.setComments(entry.getComments());
-        
-        // Handle publication date
-        if (entry.getPublishedDate() != null) {
-            item.setPubDate(entry.getPublishedDate().toInstant().toString());
-        } else if (entry.getUpdatedDate() != null) {
-            item.setPubDate(entry.getUpdatedDate().toInstant().toString());
+    private FeedEntry toFeedEntry(SyndEntry entry, Element entryElement, String feedKey) {
+        // Dates are parsed from the raw text like in the dedicated readers; ROME's dates are only used when the
+        // raw elements could not be matched or parsed
+        long publishedMillis = entryElement != null
+                ? parseRawDate(entryElement, PUBLISHED_DATE_ELEMENTS, feedKey) : CompactItem.NO_DATE;
+        if (publishedMillis == CompactItem.NO_DATE && entry.getPublishedDate() != null) {
+            publishedMillis = entry.getPublishedDate().getTime();
         }
-        
-        // Handle categories
-        if (entry.getCategories() != null && !entry.getCategories().isEmpty()) {
-            List<String> categories = new ArrayList<>();
-            entry.getCategories().forEach(category -> categories.add(category.getName()));
-            item.setCategories(categories);
+        long updatedMillis = entryElement != null
+                ? parseRawDate(entryElement, UPDATED_DATE_ELEMENTS, feedKey) : CompactItem.NO_DATE;
+        if (updatedMillis == CompactItem.NO_DATE && entry.getUpdatedDate() != null) {
+            updatedMillis = entry.getUpdatedDate().getTime();
         }
         
         // Handle enclosures
+        List<CompactEnclosure> enclosures = null;
         if (entry.getEnclosures() != null && !entry.getEnclosures().isEmpty()) {
-            List<RssEnclosure> enclosures = new ArrayList<>();
+            enclosures = new ArrayList<>(entry.getEnclosures().size());
             for (SyndEnclosure enclosure : entry.getEnclosures()) {
-                RssEnclosure rssEnclosure = new RssEnclosure(
-                    enclosure.getUrl(),
-                    enclosure.getType(),
-                    enclosure.getLength()
-                );
-                enclosures.add(rssEnclosure);
+                enclosures.add(CompactEnclosure.of(enclosure.getUrl(), enclosure.getType(), enclosure.getLength(), StringPool.SHARED));
             }
-            item.setEnclosures(enclosures);
         }
         
-        // Handle content
-        if (entry.getContents() != null && !entry.getContents().isEmpty()) {
-            StringBuilder contentBuilder = new StringBuilder();
-            entry.getContents().forEach(content -> contentBuilder.append(content.getValue()));
-            item.setContent(contentBuilder.toString());
+        return new FeedEntry(
+            entry.getTitle(),
+            entry.getDescription() != null ? entry.getDescription().getValue() : null,
+            entry.getLink(),
+            entry.getUri(),
+            publishedMillis,
+            updatedMillis,
+            entry.getAuthor(),
+            categoryNames(entry),
+            enclosures,
+            joinContents(entry),
+            entry.getComments());
+    }
+    
+    private List<String> categoryNames(SyndEntry entry) {
+        if (entry.getCategories() == null || entry.getCategories().isEmpty()) {
+            return null;
         }
-        
-        return item;
+        List<String> categories = new ArrayList<>(entry.getCategories().size());
+        for (SyndCategory category : entry.getCategories()) {
+            categories.add(category.getName());
+        }
+        return categories;
+    }
+    
+    private String joinContents(SyndEntry entry) {
+        if (entry.getContents() == null || entry.getContents().isEmpty()) {
+            return null;
+        }
+        StringBuilder contentBuilder = new StringBuilder();
+        entry.getContents().forEach(syndContent -> contentBuilder.append(syndContent.getValue()));
+        return contentBuilder.toString();
+    }
+    
+    /**
+     * Parse the first of the named date elements of an entry whose raw text FeedDateParser can parse
+     */
+    private long parseRawDate(Element entryElement, List<String> names, String feedKey) {
+        for (String name : names) {
+            for (Element child : entryElement.getChildren()) {
+                if (name.equals(child.getName())) {
+                    long millis = FeedDateParser.SHARED.parse(child.getTextTrim(), feedKey);
+                    if (millis != FeedDateParser.UNPARSEABLE) {
+                        return millis;
+                    }
+                }
+            }
+        }
+        return CompactItem.NO_DATE;
+    }
+    
+    /**
+     * Find the item or entry elements of an RSS 0.9x/2.0, RSS 1.0 or Atom document in document order
+     */
+    private List<Element> findEntryElements(Document document) {
+        Element root = document.getRootElement();
+        Element channel = root.getChild("channel", root.getNamespace());
+        List<Element> elements = new ArrayList<>();
+        for (Element child : root.getChildren()) {
+            if ("item".equals(child.getName()) || "entry".equals(child.getName())) {
+                elements.add(child);
+            }
+        }
+        if (channel != null) {
+            for (Element child : channel.getChildren()) {
+                if ("item".equals(child.getName())) {
+                    elements.add(child);
+                }
+            }
+        }
+        return elements;
     }
     
     private Instant parseNewerThanTimestamp(String newerThan) {
@@ -255,12 +1019,83 @@ public class RssFeedService {
             return null;
         }
         
-        try {
-            return Instant.parse(newerThan);
-        } catch (Exception e) {
-            LOG.warn("Failed to parse newerThan timestamp: {}", newerThan, e);
+        long millis = FeedDateParser.SHARED.parse(newerThan);
+        if (millis == FeedDateParser.UNPARSEABLE) {
+            LOG.warn("Failed to parse newerThan timestamp: {}", newerThan);
             return null;
         }
+        return Instant.ofEpochMilli(millis);
+    }
+    
+    /**
+     * Item budget and traversal state of one parsed page, and the unfiltered items collected in delta mode
+     */
+    private static final class ParseState {
+        
+        private final int remainingItems;
+        private final DeltaItems delta;
+        private String nextUrl;
+        private boolean boundaryReached;
+        
+        private ParseState(int remainingItems, DeltaItems delta) {
+            this.remainingItems = remainingItems;
+            this.delta = delta;
+        }
+    }
+    
+    /**
+     * All items of a feed in delta mode, before filters and the item limit, with their updated dates
+     */
+    private static final class DeltaItems {
+        
+        private final List<CompactItem> items = new ArrayList<>();
+        private final List<Long> updatedDates = new ArrayList<>();
+        
+        private int remaining() {
+            return DeltaTracker.MAX_ITEMS_PER_SNAPSHOT - items.size();
+        }
+    }
+    
+    /**
+     * Request tag enabling hedged execution in {@link #fetchResponse}
+     */
+    private enum Hedging {
+        ENABLED
+    }
+    
+    /**
+     * Response body with its cache validators; notModified responses have no body
+     */
+    private record FetchedResponse(String body, String etag, String lastModified, boolean notModified) {
+    }
+    
+    /**
+     * Fetch failure whose message is reported as the error of the output
+     */
+    private static final class FetchFailedException extends IOException {
+        
+        private final FailureClass failureClass;
+        private final Duration retryAfter;
+        
+        private FetchFailedException(String message) {
+            this(message, null, null);
+        }
+        
+        private FetchFailedException(String message, FailureClass failureClass, Duration retryAfter) {
+            super(message);
+            this.failureClass = failureClass;
+            this.retryAfter = retryAfter;
+        }
+    }
+    
+    /**
+     * Builds the JDOM document with ROME's hardened SAX builder and XML healer
+     */
+    private static final class SecureDocumentInput extends WireFeedInput {
+        
+        Document buildDocument(Reader reader) throws JDOMException, IOException {
+            return createSAXBuilder().build(new XmlFixerReader(reader));
+        }
     }
     
     /**
@@ -276,7 +1111,15 @@ public class RssFeedService {
             throw new SecurityException("SSL certificate validation cannot be disabled in production environments");
         }
 
-        return createHttpClientWithTimeout(timeoutSeconds, ignoreTls);
+        OkHttpClient client = createHttpClientWithTimeout(timeoutSeconds, ignoreTls);
+        if (Boolean.TRUE.equals(input.getAdaptiveTimeouts())) {
+            // Connect and read timeouts follow the host's latency, timeoutSeconds bounds them and the whole call
+            client = client.newBuilder()
+                    .callTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                    .addInterceptor(AdaptiveTimeouts.shared().interceptor())
+                    .build();
+        }
+        return client;
     }
 
     /**
@@ -287,7 +1130,8 @@ public class RssFeedService {
         OkHttpClient.Builder builder = new OkHttpClient.Builder()
                 .connectTimeout(timeoutSeconds, TimeUnit.SECONDS)
                 .readTimeout(timeoutSeconds, TimeUnit.SECONDS)
-                .writeTimeout(timeoutSeconds, TimeUnit.SECONDS);
+                .writeTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .eventListenerFactory(AdaptiveTimeouts.shared().eventListenerFactory());
 
         if (ignoreTls) {
             configureTrustAllSsl(builder);
@@ -344,124 +1188,90 @@ public class RssFeedService {
     }
     
     /**
-     * Validate URL to prevent SSRF attacks
-     */
-    private void validateUrl(String url) {
-        try {
-            java.net.URL parsedUrl = new java.net.URL(url);
-            String protocol = parsedUrl.getProtocol().toLowerCase();
-            String host = parsedUrl.getHost().toLowerCase();
-            
-            // Only allow HTTP and HTTPS protocols
-            if (!"http".equals(protocol) && !"https".equals(protocol)) {
-                throw new SecurityException("Only HTTP and HTTPS protocols are allowed");
-            }
-            
-            // Block private/internal IP addresses
-            if (isPrivateOrLocalAddress(host)) {
-                throw new SecurityException("Access to private/internal networks is not allowed");
-            }
-            
-            // Block localhost variations (IPv4 and IPv6)
-            if (host.equals("localhost") || host.equals("127.0.0.1") || host.startsWith("127.") ||
-                host.equals("::1") || host.equals("0:0:0:0:0:0:0:1") ||
-                host.startsWith("192.168.") || host.startsWith("10.") ||
-                host.startsWith("169.254.") || // Link-local
-                isPrivateIpv4Range(host) ||
-                isPrivateIpv6Range(host)) {
-                throw new SecurityException("Access to private/internal networks is not allowed");
-            }
-            
-        } catch (java.net.MalformedURLException e) {
-            throw new IllegalArgumentException("Invalid URL format", e);
-        }
-    }
-    
-    /**
-     * Check if host is a private or local address
+     * Execute HTTP request with retry logic and exponential backoff
      */
-    private boolean isPrivateOrLocalAddress(String host) {
+    private RssFeedOutput executeWithRetry(OkHttpClient client, Request request, RssFeedInput input, int maxRetries) {
+        String responseBody;
         try {
-            java.net.InetAddress address = java.net.InetAddress.getByName(host);
-            return address.isLoopbackAddress() || address.isLinkLocalAddress() ||
-                   address.isSiteLocalAddress() || address.isAnyLocalAddress();
-        } catch (java.net.UnknownHostException e) {
-            // If we can't resolve, allow it (might be a valid external host)
-            return false;
+            responseBody = fetchBody(client, request, maxRetries);
+        } catch (FetchFailedException e) {
+            return new RssFeedOutput(false, e.getMessage());
         }
-    }
-
-    /**
-     * Check if host is in private IPv4 range (172.16.0.0/12)
-     */
-    private boolean isPrivateIpv4Range(String host) {
-        // Check 172.16.0.0 to 172.31.255.255 range
-        if (host.startsWith("172.")) {
-            String[] parts = host.split("\\.");
-            if (parts.length >= 2) {
-                try {
-                    int secondOctet = Integer.parseInt(parts[1]);
-                    return secondOctet >= 16 && secondOctet <= 31;
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-            }
+        RssFeedOutput output = parseRssFeed(responseBody, request.url().toString(), input);
+        if (!output.isSuccess()) {
+            recordFailure(request, FailureClass.INVALID_FEED, output.getError(), null);
         }
-        return false;
+        return output;
     }
-
+    
     /**
-     * Check if host is in private IPv6 range
+     * Read the response body, retrying failed requests with exponential backoff. Error status codes are not retried.
      */
-    private boolean isPrivateIpv6Range(String host) {
-        String lowerHost = host.toLowerCase();
-        // fc00::/7 - Unique Local Addresses
-        if (lowerHost.startsWith("fc") || lowerHost.startsWith("fd")) {
-            return true;
-        }
-        // fe80::/10 - Link-Local addresses
-        if (lowerHost.startsWith("fe80:") || lowerHost.startsWith("fe8") ||
-            lowerHost.startsWith("fe9") || lowerHost.startsWith("fea") ||
-            lowerHost.startsWith("feb")) {
-            return true;
-        }
-        // ::1 - loopback (already checked above but adding for completeness)
-        return false;
+    private String fetchBody(OkHttpClient client, Request request, int maxRetries) throws FetchFailedException {
+        return fetchResponse(client, request, maxRetries).body();
     }
     
-    /**
-     * Execute HTTP request with retry logic and exponential backoff
-     */
-    private RssFeedOutput executeWithRetry(OkHttpClient client, Request request, RssFeedInput input, int maxRetries) {
+    private FetchedResponse fetchResponse(OkHttpClient client, Request request, int maxRetries) throws FetchFailedException {
         Exception lastException = null;
+        int attempts = 0;
         
         for (int attempt = 0; attempt < maxRetries; attempt++) {
+            // One span per attempt, including the wait for a host slot and the backoff after a failure
+            Span span = startAttemptSpan(request, attempt);
+            Request attemptRequest = Tracing.withTraceContext(request, span);
+            
+            // Waits for a slot of the host; a full queue fails the fetch like an exceeded rate limit
+            long waitStart = System.nanoTime();
+            HostConcurrencyLimiter.Permit permit;
             try {
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        String errorMsg = String.format("HTTP request failed with status %d: %s",
-                                response.code(), response.message());
-                        LOG.error(errorMsg);
-                        return new RssFeedOutput(false, errorMsg);
-                    }
-
-                    // Parse response body with null check
-                    if (response.body() == null) {
-                        String errorMsg = "HTTP response body is null";
-                        LOG.error(errorMsg);
-                        return new RssFeedOutput(false, errorMsg);
+                permit = concurrencyLimiter.acquire(request.url().host());
+            } catch (RuntimeException e) {
+                Tracing.recordFailure(span, e).end();
+                throw e;
+            }
+            span.setAttribute("rss.queue.wait_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart));
+            try {
+                FetchedResponse fetched;
+                if (request.tag(Hedging.class) != null) {
+                    fetched = HedgedCall.execute(client, attemptRequest, hedgeDelay(request.url().host()),
+                        hedgeBudget, latencyTracker, response -> {
+                            span.setAttribute("http.response.status_code", response.code());
+                            return toFetchedResponse(response);
+                        });
+                } else {
+                    long start = System.nanoTime();
+                    try (Response response = client.newCall(attemptRequest).execute()) {
+                        latencyTracker.record(request.url().host(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        span.setAttribute("http.response.status_code", response.code());
+                        fetched = toFetchedResponse(response);
                     }
-
-                    String responseBody = response.body().string();
-                    return parseRssFeed(responseBody, input);
                 }
+                permit.success();
+                if (span.isRecording() && fetched.body() != null) {
+                    span.setAttribute("http.response.body.size", fetched.body().getBytes(StandardCharsets.UTF_8).length);
+                }
+                return fetched;
+            } catch (FetchFailedException e) {
+                span.setStatus(StatusCode.ERROR, e.getMessage());
+                release(permit, e.failureClass);
+                throw recordFailure(request, e);
             } catch (Exception e) {
+                Tracing.recordFailure(span, e);
+                // Release the slot before backing off
+                release(permit, FailureClass.ofException(e));
                 lastException = e;
+                attempts = attempt + 1;
                 
+                // Unknown hosts do not resolve on the next attempt either
+                if (!FailureClass.ofException(e).retryable()) {
+                    LOG.warn("Request to {} failed: {}", request.url(), e.toString());
+                    break;
+                }
                 if (attempt < maxRetries - 1) {
                     // Calculate exponential backoff delay
                     long delay = (long) Math.pow(2, attempt) * 1000; // 1s, 2s, 4s, etc.
                     LOG.warn("Request attempt {} failed, retrying in {}ms: {}", attempt + 1, delay, e.getMessage());
+                    span.setAttribute("rss.retry.backoff_ms", delay);
                     
                     try {
                         Thread.sleep(delay);
@@ -470,24 +1280,570 @@ public class RssFeedService {
                         throw new RuntimeException("Request interrupted", ie);
                     }
                 } else {
-                    LOG.error("All {} retry attempts failed", maxRetries, e);
+                    LOG.warn("All {} retry attempts to {} failed: {}", maxRetries, request.url(), e.toString());
+                }
+            } finally {
+                permit.close();
+                span.end();
+            }
+        }
+        
+        throw recordFailure(request, new FetchFailedException("Failed to fetch RSS feed after " + attempts + " attempts: " + 
+                         (lastException != null ? lastException.getMessage() : "Unknown error"),
+                         lastException != null ? FailureClass.ofException(lastException) : null, null));
+    }
+    
+    private Span startAttemptSpan(Request request, int attempt) {
+        return startAttemptSpan("rss.http_attempt", request, attempt);
+    }
+    
+    private Span startAttemptSpan(String name, Request request, int attempt) {
+        SpanBuilder span = tracer.spanBuilder(name)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute("http.request.method", request.method())
+            .setAttribute("server.address", request.url().host());
+        if (attempt > 0) {
+            span.setAttribute("http.request.resend_count", attempt);
+        }
+        return span.startSpan();
+    }
+    
+    private static void release(HostConcurrencyLimiter.Permit permit, FailureClass failureClass) {
+        if (failureClass != null && failureClass.overload()) {
+            permit.dropped();
+        } else {
+            permit.close();
+        }
+    }
+    
+    private static FetchedResponse toFetchedResponse(Response response) throws IOException {
+        if (response.code() == 304) {
+            return new FetchedResponse(null, response.header("ETag"), response.header("Last-Modified"), true);
+        }
+        return new FetchedResponse(readBody(response), response.header("ETag"), response.header("Last-Modified"), false);
+    }
+    
+    /**
+     * Time to wait for response headers before a hedge is sent: the p95 observed for the host
+     */
+    private Duration hedgeDelay(String host) {
+        long p95 = latencyTracker.percentile(host, 0.95);
+        long delay = p95 > 0 ? p95 : DEFAULT_HEDGE_DELAY_MS;
+        return Duration.ofMillis(Math.max(MIN_HEDGE_DELAY_MS, Math.min(MAX_HEDGE_DELAY_MS, delay)));
+    }
+    
+    private static String readBody(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            String errorMsg = String.format("HTTP request failed with status %d: %s",
+                    response.code(), response.message());
+            LOG.warn(errorMsg);
+            throw new FetchFailedException(errorMsg, FailureClass.ofStatus(response.code()), retryAfter(response));
+        }
+        
+        // Parse response body with null check
+        if (response.body() == null) {
+            String errorMsg = "HTTP response body is null";
+            LOG.error(errorMsg);
+            throw new FetchFailedException(errorMsg);
+        }
+        
+        return response.body().string();
+    }
+    
+    /**
+     * Fetch a paged or archived feed (RFC 5005) page by page, up to maxPages pages and maxItems items in total.
+     * Traversal stops at the first item excluded by newerThan or the GUID blacklist, since older pages only
+     * hold items that are older or already known. The next page is requested as soon as its link is found
+     * in the feed header, so it downloads while the current page is parsed.
+     */
+    private RssFeedOutput fetchPages(OkHttpClient client, Request firstRequest, RssFeedInput input, DeltaItems delta) {
+        int maxPages = input.getMaxPages() != null ? input.getMaxPages() : DEFAULT_MAX_PAGES;
+        Set<String> visited = new LinkedHashSet<>();
+        List<CompactItem> items = new ArrayList<>();
+        RssFeedOutput result = null;
+        Request request = firstRequest;
+        String prefetchedUrl = null;
+        CompletableFuture<String> prefetched = null;
+        String nextUrl = null;
+        
+        try {
+            while (request != null) {
+                String pageUrl = request.url().toString();
+                visited.add(pageUrl);
+                
+                String body;
+                try {
+                    body = pageUrl.equals(prefetchedUrl) ? awaitPrefetch(prefetched, client, request) : fetchBody(client, request, 3);
+                } catch (FetchFailedException e) {
+                    if (result == null) {
+                        return new RssFeedOutput(false, e.getMessage());
+                    }
+                    result.setError("Stopped after " + visited.size() + " pages: " + e.getMessage());
+                    nextUrl = pageUrl;
+                    break;
+                }
+                prefetched = null;
+                prefetchedUrl = null;
+                
+                // Start downloading the next page while this one is parsed
+                if (visited.size() < maxPages) {
+                    String hint = FeedPageLinks.scanNextPage(body, pageUrl);
+                    if (hint != null && !visited.contains(hint) && mayPrefetchPage(hint)) {
+                        prefetched = prefetch(client, createHttpRequest(hint, input));
+                        prefetchedUrl = prefetched != null ? hint : null;
+                    }
+                }
+                
+                int remainingItems = delta != null ? delta.remaining()
+                    : input.getMaxItems() != null ? input.getMaxItems() - items.size() : Integer.MAX_VALUE;
+                ParseState page = new ParseState(remainingItems, delta);
+                RssFeedOutput output = parseRssFeed(body, pageUrl, input, page);
+                if (!output.isSuccess()) {
+                    if (result == null) {
+                        return output;
+                    }
+                    result.setError("Stopped after " + visited.size() + " pages: " + output.getError());
+                    nextUrl = null;
+                    break;
+                }
+                if (result == null) {
+                    result = output;
+                }
+                items.addAll(CompactItemList.compactItemsOf(output.getItems()));
+                
+                nextUrl = page.nextUrl;
+                boolean itemsComplete = delta != null ? delta.remaining() <= 0
+                    : input.getMaxItems() != null && items.size() >= input.getMaxItems();
+                if (nextUrl == null || page.boundaryReached || itemsComplete || visited.contains(nextUrl)) {
+                    nextUrl = null;
+                    break;
+                }
+                if (visited.size() >= maxPages) {
+                    LOG.info("Stopping pagination of {} at the limit of {} pages", firstRequest.url(), maxPages);
+                    break;
+                }
+                // A prefetched page passed the URL checks when its download started and is counted now that it is used
+                if (nextUrl.equals(prefetchedUrl) ? !isWithinRateLimit(nextUrl) : !isAllowedPage(nextUrl)) {
+                    result.setError("Stopped pagination at disallowed page URL: " + nextUrl);
+                    nextUrl = null;
+                    break;
+                }
+                request = createHttpRequest(nextUrl, input);
+            }
+        } finally {
+            if (prefetched != null) {
+                prefetched.cancel(true);
+            }
+        }
+        
+        LOG.info("Fetched {} items from {} pages of {}", items.size(), visited.size(), firstRequest.url());
+        result.setItems(new CompactItemList(items));
+        result.setPagesFetched(visited.size());
+        result.setNextPageUrl(nextUrl);
+        return result;
+    }
+    
+    /**
+     * Fetch the feed and return only the items that are new or changed since the previous call for the same
+     * feed and snapshotKey. Conditional request headers and a hash of the raw body skip parsing unchanged feeds.
+     */
+    private RssFeedOutput fetchDelta(OkHttpClient client, Request request, RssFeedInput input) {
+        String feedUrl = request.url().toString();
+        String key = input.getSnapshotKey() != null ? input.getSnapshotKey() + "|" + feedUrl : feedUrl;
+        FeedSnapshot previous = deltaTracker.snapshot(key);
+        DeltaItems all = new DeltaItems();
+        String etag = null;
+        String lastModified = null;
+        long bodyHash = 0;
+        
+        RssFeedOutput output;
+        if (Boolean.TRUE.equals(input.getFollowPages())) {
+            output = fetchPages(client, request, input, all);
+        } else {
+            Request.Builder conditional = request.newBuilder();
+            if (previous != null && previous.getEtag() != null) {
+                conditional.header("If-None-Match", previous.getEtag());
+            }
+            if (previous != null && previous.getLastModified() != null) {
+                conditional.header("If-Modified-Since", previous.getLastModified());
+            }
+            FetchedResponse response;
+            try {
+                response = fetchResponse(client, conditional.build(), 3);
+            } catch (FetchFailedException e) {
+                return new RssFeedOutput(false, e.getMessage());
+            }
+            etag = response.etag();
+            lastModified = response.lastModified();
+            if (previous != null && response.notModified()) {
+                return notModified(key, previous, etag, lastModified);
+            }
+            if (response.notModified()) {
+                return new RssFeedOutput(false, "Feed returned 304 Not Modified without a previous snapshot");
+            }
+            bodyHash = DeltaTracker.bodyHash(response.body());
+            if (previous != null && previous.getBodyHash() == bodyHash) {
+                return notModified(key, previous, etag, lastModified);
+            }
+            ParseState state = new ParseState(all.remaining(), all);
+            output = parseRssFeed(response.body(), feedUrl, input, state);
+            if (!output.isSuccess()) {
+                recordFailure(request, FailureClass.INVALID_FEED, output.getError(), null);
+            }
+        }
+        if (!output.isSuccess()) {
+            return output;
+        }
+        
+        // The snapshot covers all items of the feed; the filters and maxItems apply to the reported changes only
+        long[] updated = new long[all.items.size()];
+        for (int i = 0; i < updated.length; i++) {
+            updated[i] = all.updatedDates.get(i);
+        }
+        Set<CompactItem> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        selected.addAll(CompactItemList.compactItemsOf(output.getItems()));
+        DeltaTracker.DeltaResult result = deltaTracker.diff(key, all.items, updated, selected::contains,
+            input.getMaxItems() != null ? input.getMaxItems() : Integer.MAX_VALUE,
+            Boolean.TRUE.equals(input.getIncludeRemoved()), etag, lastModified, bodyHash, output.getFeedTitle());
+        
+        RssFeedDelta delta = new RssFeedDelta();
+        delta.setNewItems(result.newItems());
+        delta.setUpdatedItems(result.updatedGuids().size());
+        delta.setUpdatedGuids(result.updatedGuids());
+        delta.setRemovedGuids(result.removedGuids());
+        delta.setFirstSnapshot(result.firstSnapshot());
+        output.setItems(new CompactItemList(result.changed()));
+        output.setDelta(delta);
+        LOG.info("Delta of {}: {} new, {} updated items", feedUrl, delta.getNewItems(), delta.getUpdatedItems());
+        return output;
+    }
+    
+    private RssFeedOutput notModified(String key, FeedSnapshot previous, String etag, String lastModified) {
+        deltaTracker.touch(key, etag, lastModified);
+        RssFeedOutput output = new RssFeedOutput();
+        output.setFeedTitle(previous.getFeedTitle());
+        output.setItems(new CompactItemList(List.of()));
+        RssFeedDelta delta = new RssFeedDelta();
+        delta.setNotModified(true);
+        delta.setUpdatedGuids(List.of());
+        output.setDelta(delta);
+        LOG.debug("Feed snapshot {} is unchanged", key);
+        return output;
+    }
+    
+    /**
+     * Serve the feed from the cache according to the policy: fresh copies without a request, copies within the
+     * stale-while-revalidate window at once while a background refresh runs, and copies within the stale-if-error
+     * window when fetching or parsing fails. A stale copy to fall back on replaces the retries.
+     */
+    private RssFeedOutput fetchCached(OkHttpClient client, String feedUrl, RssFeedInput input, CachePolicy policy,
+                                      NegativeCache.Failure recentFailure, String schedulingKey) {
+        Request request = createHttpRequest(feedUrl, input);
+        String key = FeedCache.key(feedUrl, request.header("Authorization"));
+        CachedFeed cached = feedCache.get(key);
+        long age = cached != null ? cached.ageMillis(System.currentTimeMillis()) : 0;
+        
+        if (cached != null) {
+            switch (policy.classify(age)) {
+                case FRESH:
+                    return fromCache(cached, feedUrl, input, "hit", false);
+                case STALE_WHILE_REVALIDATE:
+                    // In a cluster only the owner of the feed refreshes the shared copy
+                    if (feedOwnership.isLocal(feedUrl)) {
+                        feedCache.refreshAsync(key, () -> revalidate(client, request, input, key, cached, policy.retention()));
+                    }
+                    return fromCache(cached, feedUrl, input, "stale", true);
+                default:
+                    break;
+            }
+        }
+        
+        boolean staleIfError = cached != null && policy.allowsStaleIfError(age);
+        if (recentFailure != null && !staleIfError) {
+            return negativeCacheHit(feedUrl, recentFailure);
+        }
+        String error;
+        if (recentFailure != null) {
+            metrics.recordNegativeCacheHit();
+            error = recentFailure.message();
+        } else {
+            try (FetchScheduler.Slot slot = schedule(schedulingKey, input)) {
+                checkRateLimit(feedUrl);
+                CachedFeed fetched = fetchForCache(client, request, cached, staleIfError ? 1 : 3);
+                RssFeedOutput output = parseRssFeed(fetched.body(), feedUrl, input);
+                if (output.isSuccess()) {
+                    feedCache.put(key, fetched, policy.retention());
+                    output.setFetchedAt(Instant.ofEpochMilli(fetched.fetchedAtMillis()).toString());
+                    output.setCacheStatus("miss");
+                    return output;
                 }
+                recordFailure(request, FailureClass.INVALID_FEED, output.getError(), null);
+                error = output.getError();
+            } catch (FetchFailedException | SecurityException e) {
+                error = e.getMessage();
             }
         }
         
-        String errorMsg = "Failed to fetch RSS feed after " + maxRetries + " attempts: " + 
-                         (lastException != null ? lastException.getMessage() : "Unknown error");
-        return new RssFeedOutput(false, errorMsg);
+        if (!staleIfError) {
+            return new RssFeedOutput(false, error);
+        }
+        LOG.warn("Serving stale copy of {} fetched {}s ago: {}", feedUrl, age / 1000, error);
+        RssFeedOutput output = fromCache(cached, feedUrl, input, "stale-if-error", true);
+        output.setError(error);
+        return output;
+    }
+    
+    /**
+     * Fetch the feed, revalidating the cached copy with its validators
+     */
+    private CachedFeed fetchForCache(OkHttpClient client, Request request, CachedFeed cached, int maxRetries)
+            throws FetchFailedException {
+        Request.Builder conditional = request.newBuilder();
+        if (cached != null && cached.etag() != null) {
+            conditional.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            conditional.header("If-Modified-Since", cached.lastModified());
+        }
+        FetchedResponse response = fetchResponse(client, conditional.build(), maxRetries);
+        long now = System.currentTimeMillis();
+        if (response.notModified()) {
+            if (cached == null) {
+                throw new FetchFailedException("Feed returned 304 Not Modified to an unconditional request");
+            }
+            return cached.revalidated(response.etag(), response.lastModified(), now);
+        }
+        return new CachedFeed(response.body(), response.etag(), response.lastModified(), now);
+    }
+    
+    /**
+     * Background refresh of a stale cache entry; the entry is kept when the refresh fails
+     */
+    private void revalidate(OkHttpClient client, Request request, RssFeedInput input, String key, CachedFeed cached,
+                            Duration retention) {
+        String feedUrl = request.url().toString();
+        try {
+            checkRateLimit(feedUrl);
+            CachedFeed fetched = fetchForCache(client, request, cached, 1);
+            // A 304 response keeps the cached body, only new bodies need to be checked
+            if (fetched.body() != cached.body() && !parseRssFeed(fetched.body(), feedUrl, input).isSuccess()) {
+                LOG.warn("Keeping cached copy of {}, the refreshed feed could not be parsed", feedUrl);
+                return;
+            }
+            feedCache.put(key, fetched, retention);
+            LOG.debug("Refreshed cached copy of {}", feedUrl);
+        } catch (FetchFailedException | SecurityException e) {
+            LOG.warn("Background refresh of {} failed, keeping cached copy: {}", feedUrl, e.getMessage());
+        }
+    }
+    
+    private RssFeedOutput fromCache(CachedFeed cached, String feedUrl, RssFeedInput input, String status, boolean stale) {
+        RssFeedOutput output = parseRssFeed(cached.body(), feedUrl, input);
+        output.setFetchedAt(Instant.ofEpochMilli(cached.fetchedAtMillis()).toString());
+        output.setCacheStatus(status);
+        if (stale) {
+            output.setStale(true);
+        }
+        return output;
+    }
+    
+    /**
+     * Output for a feed that failed recently, returned without fetching
+     */
+    private RssFeedOutput negativeCacheHit(String feedUrl, NegativeCache.Failure failure) {
+        metrics.recordNegativeCacheHit();
+        LOG.debug("Feed {} failed recently ({}), not fetching before {}", feedUrl,
+            failure.failureClass().label(), failure.expiresAt());
+        RssFeedOutput output = new RssFeedOutput(false, failure.message() + " (cached " +
+            failure.failureClass().label() + " failure, retried after " + failure.expiresAt() + ")");
+        output.setCacheStatus("negative");
+        return output;
+    }
+    
+    private FetchFailedException recordFailure(Request request, FetchFailedException e) {
+        if (e.failureClass != null) {
+            recordFailure(request, e.failureClass, e.getMessage(), e.retryAfter);
+        }
+        return e;
+    }
+    
+    private void recordFailure(Request request, FailureClass failureClass, String message, Duration retryAfter) {
+        String feedUrl = request.url().toString();
+        negativeCache.record(failureKey(feedUrl, request.header("Authorization")), failureClass, message, retryAfter);
+        metrics.recordFailure(feedKey(feedUrl), failureClass, message);
+    }
+    
+    private void recordOutcome(String feedUrl, RssFeedInput input, RssFeedOutput output) {
+        if (output.isSuccess() && output.getError() == null) {
+            negativeCache.clear(failureKey(feedUrl, authorization(input)));
+            metrics.recordSuccess(feedKey(feedUrl));
+        }
+    }
+    
+    /**
+     * Failures are cached per credentials like feed copies, so a caller with wrong credentials does not block
+     * the feed for others
+     */
+    private static String failureKey(String feedUrl, String authorization) {
+        return FeedCache.key(feedKey(feedUrl), authorization);
+    }
+    
+    /**
+     * Failures are recorded for the request URL, which OkHttp normalizes
+     */
+    private static String feedKey(String feedUrl) {
+        HttpUrl url = HttpUrl.parse(feedUrl);
+        return url != null ? url.toString() : feedUrl;
+    }
+    
+    /**
+     * Wait time of a Retry-After header in seconds or as an HTTP date, or null
+     */
+    private static Duration retryAfter(Response response) {
+        String value = response.header("Retry-After");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Instant until = java.time.ZonedDateTime.parse(value.trim(),
+                    java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return Duration.between(Instant.now(), until);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+    
+    /**
+     * Pagination links come from the feed content, so they pass the same SSRF and rate limit checks as feedUrl
+     */
+    private boolean isAllowedPage(String pageUrl) {
+        try {
+            UrlValidator.validate(pageUrl);
+        } catch (RuntimeException e) {
+            LOG.warn("Not following page link {}: {}", pageUrl, e.getMessage());
+            return false;
+        }
+        return isWithinRateLimit(pageUrl);
+    }
+    
+    private boolean isWithinRateLimit(String pageUrl) {
+        try {
+            checkRateLimit(pageUrl);
+            return true;
+        } catch (RuntimeException e) {
+            LOG.warn("Not following page link {}: {}", pageUrl, e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * A speculative prefetch is not counted against the rate limit, since its page may not be used; it is
+     * skipped when this runtime already saw the host's limit reached
+     */
+    private boolean mayPrefetchPage(String pageUrl) {
+        try {
+            UrlValidator.validate(pageUrl);
+            return !rateLimiter.isExhausted(UrlValidator.hostOf(pageUrl));
+        } catch (RuntimeException e) {
+            LOG.debug("Not prefetching page link {}: {}", pageUrl, e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Start downloading a page in the background, or return null if the host has no free slot; a prefetch
+     * never waits in the host's queue, since the page is fetched the regular way when it is needed
+     */
+    private CompletableFuture<String> prefetch(OkHttpClient client, Request request) {
+        String host = request.url().host();
+        HostConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(host);
+        if (permit == null) {
+            LOG.debug("Not prefetching {}: no free slot for {}", request.url(), host);
+            return null;
+        }
+        CompletableFuture<String> future = new CompletableFuture<>();
+        long start = System.nanoTime();
+        Call call = client.newCall(request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                release(permit, FailureClass.ofException(e));
+                future.completeExceptionally(e);
+            }
+            
+            @Override
+            public void onResponse(Call successfulCall, Response response) {
+                latencyTracker.record(host, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                try (response) {
+                    String body = readBody(response);
+                    permit.success();
+                    future.complete(body);
+                } catch (FetchFailedException e) {
+                    release(permit, e.failureClass);
+                    future.completeExceptionally(e);
+                } catch (IOException e) {
+                    release(permit, FailureClass.ofException(e));
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((body, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Body of a prefetched page; error status codes fail the page, other failures are fetched again with retries
+     */
+    private String awaitPrefetch(CompletableFuture<String> prefetched, OkHttpClient client, Request request)
+            throws FetchFailedException {
+        // Covers the part of the prefetch the page still waits for
+        Span span = startAttemptSpan("rss.prefetch", request, 0);
+        try {
+            try {
+                return prefetched.get();
+            } finally {
+                span.end();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FetchFailedException failed) {
+                throw failed;
+            }
+            LOG.debug("Prefetch of {} failed, fetching again: {}", request.url(), e.getCause().getMessage());
+            return fetchBody(client, request, 3);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FetchFailedException("Interrupted while fetching " + request.url());
+        }
+    }
+    
+    /**
+     * Create and cache the HTTP client for the input's configuration ahead of the first fetch
+     */
+    public void prepareHttpClient(RssFeedInput input) {
+        getOrCreateHttpClient(input);
     }
     
     /**
      * Get or create HTTP client with caching for performance
      */
     private OkHttpClient getOrCreateHttpClient(RssFeedInput input) {
+        if (httpClient != null) {
+            return httpClient;
+        }
+
         // Create cache key based on configuration
-        String cacheKey = String.format("%s_%s_%s", 
+        String cacheKey = String.format("%s_%s_%s_%s", 
             input.getTimeoutSeconds() != null ? input.getTimeoutSeconds() : 30,
             input.getIgnoreTls() != null ? input.getIgnoreTls() : false,
+            Boolean.TRUE.equals(input.getAdaptiveTimeouts()),
             input.getUserAgent() != null ? input.getUserAgent() : "default");
         
         return clientCache.computeIfAbsent(cacheKey, k -> {
@@ -496,54 +1852,57 @@ public class RssFeedService {
         });
     }
     
+    /**
+     * HTTP clients cached per configuration, for introspection
+     */
+    public static List<OkHttpClient> cachedHttpClients() {
+        synchronized (clientCache) {
+            return new ArrayList<>(clientCache.values());
+        }
+    }
+    
+    /**
+     * Connection pool of hedged requests, for introspection
+     */
+    public static ConnectionPool hedgeConnectionPool() {
+        return HedgedCall.hedgeConnectionPool();
+    }
+    
+    /**
+     * Drop the cached HTTP clients and close their idle connections; calls in flight complete on their clients
+     *
+     * @return number of dropped clients
+     */
+    public static int flushHttpClients() {
+        List<OkHttpClient> clients;
+        synchronized (clientCache) {
+            clients = new ArrayList<>(clientCache.values());
+            clientCache.clear();
+        }
+        for (OkHttpClient client : clients) {
+            client.connectionPool().evictAll();
+        }
+        HedgedCall.hedgeConnectionPool().evictAll();
+        LOG.info("Flushed {} cached HTTP clients", clients.size());
+        return clients.size();
+    }
+    
+    /**
+     * Wait for a slot of the scheduling key, or null without a key; a full queue or timeout fails the fetch
+     * like an exceeded rate limit
+     */
+    private FetchScheduler.Slot schedule(String schedulingKey, RssFeedInput input) {
+        return schedulingKey != null ? scheduler.acquire(schedulingKey, FetchScheduler.Priority.of(input.getPriority())) : null;
+    }
+    
     /**
      * Check rate limiting for the given URL (both per-minute and per-hour)
      */
     private void checkRateLimit(String url) {
         try {
-            java.net.URL parsedUrl = new java.net.URL(url);
-            String host = parsedUrl.getHost();
-            long currentTime = System.currentTimeMillis();
-
-            // Check per-minute limit
-            AtomicInteger countMinute = requestCountsMinute.computeIfAbsent(host, k -> new AtomicInteger(0));
-            AtomicLong lastTimeMinute = lastRequestTimeMinute.computeIfAbsent(host, k -> new AtomicLong(0));
-
-            // Reset counter if more than a minute has passed
-            if (currentTime - lastTimeMinute.get() > 60000) { // 1 minute
-                countMinute.set(0);
-            }
-
-            // Check per-minute limit
-            if (countMinute.incrementAndGet() > MAX_REQUESTS_PER_MINUTE) {
-                throw new SecurityException("Rate limit exceeded: too many requests to " + host +
-                    " (" + countMinute.get() + " requests per minute, max: " + MAX_REQUESTS_PER_MINUTE + ")");
-            }
-
-            // Update last request time for minute window
-            lastTimeMinute.set(currentTime);
-
-            // Check per-hour limit
-            AtomicInteger countHour = requestCountsHour.computeIfAbsent(host, k -> new AtomicInteger(0));
-            AtomicLong lastTimeHour = lastRequestTimeHour.computeIfAbsent(host, k -> new AtomicLong(0));
-
-            // Reset counter if more than an hour has passed
-            if (currentTime - lastTimeHour.get() > 3600000) { // 1 hour
-                countHour.set(0);
-            }
-
-            // Check per-hour limit
-            if (countHour.incrementAndGet() > MAX_REQUESTS_PER_HOUR) {
-                throw new SecurityException("Rate limit exceeded: too many requests to " + host +
-                    " (" + countHour.get() + " requests per hour, max: " + MAX_REQUESTS_PER_HOUR + ")");
-            }
-
-            // Update last request time for hour window
-            lastTimeHour.set(currentTime);
-
-            LOG.debug("Rate limit check passed for {}: {} requests/min, {} requests/hour",
-                host, countMinute.get(), countHour.get());
-
+            String host = new java.net.URL(url).getHost();
+            rateLimiter.acquire(host);
+            LOG.debug("Rate limit check passed for {}: {}", host, rateLimiter.usage(host));
         } catch (java.net.MalformedURLException e) {
             LOG.warn("Could not parse URL for rate limiting: {}", url);
         }
@@ -0,0 +1,78 @@
+package io.camunda.connector.rss.service;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import okhttp3.Request;
+
+import java.util.List;
+
+/**
+ * OpenTelemetry tracing of the connector. Spans go to the OpenTelemetry SDK or agent the runtime registers as
+ * {@link GlobalOpenTelemetry}; without one they record nothing. The trace of the process is handed in as W3C
+ * traceparent and passed on to the feed servers in the same format.
+ */
+public final class Tracing {
+
+    public static final String INSTRUMENTATION_SCOPE = "io.camunda.connector.rss";
+
+    private static final String TRACEPARENT = "traceparent";
+
+    private static final TextMapGetter<String> TRACEPARENT_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(String carrier) {
+            return List.of(TRACEPARENT);
+        }
+
+        @Override
+        public String get(String carrier, String key) {
+            return TRACEPARENT.equals(key) ? carrier : null;
+        }
+    };
+
+    private Tracing() {
+    }
+
+    /**
+     * Tracer of the runtime's global OpenTelemetry instance
+     */
+    public static Tracer tracer() {
+        return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    /**
+     * Parent of a new span: the current span, else the remote parent of the traceparent, else none
+     */
+    public static Context parentContext(String traceparent) {
+        Context current = Context.current();
+        if (traceparent == null || Span.fromContext(current).getSpanContext().isValid()) {
+            return current;
+        }
+        return W3CTraceContextPropagator.getInstance().extract(current, traceparent, TRACEPARENT_GETTER);
+    }
+
+    /**
+     * The request with the span as parent for the server, or unchanged for a span that records nothing
+     */
+    public static Request withTraceContext(Request request, Span span) {
+        if (!span.getSpanContext().isValid()) {
+            return request;
+        }
+        Request.Builder builder = request.newBuilder();
+        W3CTraceContextPropagator.getInstance().inject(Context.root().with(span), builder,
+                (carrier, key, value) -> carrier.header(key, value));
+        return builder.build();
+    }
+
+    /**
+     * Mark the span as failed by the exception
+     */
+    public static Span recordFailure(Span span, Throwable e) {
+        return span.recordException(e)
+                .setStatus(StatusCode.ERROR, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+    }
+}
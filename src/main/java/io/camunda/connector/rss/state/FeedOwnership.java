@@ -0,0 +1,84 @@
+package io.camunda.connector.rss.state;
+
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Assigns each feed to one node of the cluster with a consistent hash ring, so background work for a feed
+ * runs on a single runtime and only about 1/N of the feeds move when a node joins or leaves. The nodes are
+ * listed in RSS_CONNECTOR_CLUSTER_NODES and this runtime is RSS_CONNECTOR_NODE_ID (default: HOSTNAME);
+ * without a node list every runtime owns every feed.
+ */
+public final class FeedOwnership {
+
+    static final int VIRTUAL_NODES = 128;
+
+    private static final FeedOwnership SHARED = fromEnvironment();
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final String localNode;
+
+    public FeedOwnership(Collection<String> nodes, String localNode) {
+        this.localNode = localNode;
+        for (String node : nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public static FeedOwnership shared() {
+        return SHARED;
+    }
+
+    /**
+     * Node that owns the feed, or null without a node list
+     */
+    public String owner(String feedUrl) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(feedUrl));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Whether this runtime owns the feed
+     */
+    public boolean isLocal(String feedUrl) {
+        String owner = owner(feedUrl);
+        return owner == null || owner.equals(localNode);
+    }
+
+    private static FeedOwnership fromEnvironment() {
+        String nodes = EnvironmentConfig.getString("RSS_CONNECTOR_CLUSTER_NODES", "");
+        List<String> nodeList = Arrays.stream(nodes.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .toList();
+        String localNode = EnvironmentConfig.getString("RSS_CONNECTOR_NODE_ID",
+                EnvironmentConfig.getString("HOSTNAME", ""));
+        return new FeedOwnership(nodeList, localNode);
+    }
+
+    /**
+     * 64-bit FNV-1a with a final mix, spreading similar URLs and node names over the ring
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
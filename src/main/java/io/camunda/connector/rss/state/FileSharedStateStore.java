@@ -0,0 +1,150 @@
+package io.camunda.connector.rss.state;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Store in a local directory shared by the runtimes of one machine, mainly for tests and single-host setups.
+ * Each value is a file holding its expiry time and encoded value, replaced atomically on writes; counters are
+ * updated under an exclusive file lock so concurrent processes do not lose increments. Expired files are
+ * removed when they are read; counters are expected to reuse their key across windows, as the rate limiter
+ * does, since an expired counter file is only reset by its next increment.
+ */
+public class FileSharedStateStore implements SharedStateStore {
+
+    private static final Pattern NAMESPACE = Pattern.compile("[a-z0-9-]+");
+    private static final int HEADER_BYTES = Long.BYTES;
+
+    // File locks are held per JVM, so threads and stores of this JVM are serialized by this monitor
+    private static final Object COUNTER_LOCK = new Object();
+
+    private final Path directory;
+
+    public FileSharedStateStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create state directory " + directory, e);
+        }
+    }
+
+    @Override
+    public <T> T get(String namespace, String key, StateCodec<T> codec) {
+        Path file = file(namespace, key);
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        if (content.length < HEADER_BYTES || buffer.getLong() <= System.currentTimeMillis()) {
+            deleteQuietly(file);
+            return null;
+        }
+        byte[] value = new byte[buffer.remaining()];
+        buffer.get(value);
+        return codec.decode(value);
+    }
+
+    @Override
+    public <T> void put(String namespace, String key, T value, StateCodec<T> codec, Duration ttl) {
+        Path file = file(namespace, key);
+        byte[] encoded = codec.encode(value);
+        ByteBuffer content = ByteBuffer.allocate(HEADER_BYTES + encoded.length);
+        content.putLong(expiresAt(ttl)).put(encoded);
+        Path part = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(part, content.array());
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(part);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void remove(String namespace, String key) {
+        deleteQuietly(file(namespace, key));
+    }
+
+    @Override
+    public long increment(String namespace, String key, Duration ttl) {
+        Path file = file(namespace, key);
+        synchronized (COUNTER_LOCK) {
+            return incrementLocked(file, ttl);
+        }
+    }
+
+    private long incrementLocked(Path file, Duration ttl) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                ByteBuffer counter = ByteBuffer.allocate(HEADER_BYTES + Long.BYTES);
+                long expiresAt = 0;
+                long count = 0;
+                if (channel.read(counter, 0) == counter.capacity()) {
+                    counter.flip();
+                    expiresAt = counter.getLong();
+                    count = counter.getLong();
+                }
+                if (expiresAt <= System.currentTimeMillis()) {
+                    expiresAt = expiresAt(ttl);
+                    count = 0;
+                }
+                count++;
+                counter.clear();
+                counter.putLong(expiresAt).putLong(count).flip();
+                channel.write(counter, 0);
+                return count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(String namespace, String key) {
+        if (!NAMESPACE.matcher(namespace).matches()) {
+            throw new IllegalArgumentException("Invalid state namespace: " + namespace);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(namespace).resolve(HexFormat.of().formatHex(digest, 0, 20));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return ttl != null ? System.currentTimeMillis() + ttl.toMillis() : Long.MAX_VALUE;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Removed by another process or retried on the next access
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.camunda.connector.rss.state;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-JVM store and the default. Each namespace is an LRU map bounded by its own entry limit;
+ * values are kept as objects, so no serialization takes place.
+ */
+public class InMemorySharedStateStore implements SharedStateStore {
+
+    private final int defaultMaxEntries;
+    private final Map<String, Integer> maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public InMemorySharedStateStore(int defaultMaxEntries, Map<String, Integer> maxEntries) {
+        this(defaultMaxEntries, maxEntries, System::currentTimeMillis);
+    }
+
+    InMemorySharedStateStore(int defaultMaxEntries, Map<String, Integer> maxEntries, LongSupplier clock) {
+        this.defaultMaxEntries = defaultMaxEntries;
+        this.maxEntries = Map.copyOf(maxEntries);
+        this.clock = clock;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String namespace, String key, StateCodec<T> codec) {
+        Region region = region(namespace);
+        synchronized (region) {
+            Entry entry = region.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= clock.getAsLong()) {
+                region.remove(key);
+                return null;
+            }
+            return (T) entry.value;
+        }
+    }
+
+    @Override
+    public <T> void put(String namespace, String key, T value, StateCodec<T> codec, Duration ttl) {
+        Region region = region(namespace);
+        synchronized (region) {
+            region.put(key, new Entry(value, expiresAt(ttl)));
+        }
+    }
+
+    @Override
+    public void remove(String namespace, String key) {
+        Region region = region(namespace);
+        synchronized (region) {
+            region.remove(key);
+        }
+    }
+
+    @Override
+    public long increment(String namespace, String key, Duration ttl) {
+        Region region = region(namespace);
+        synchronized (region) {
+            Entry entry = region.get(key);
+            if (entry == null || entry.expiresAt <= clock.getAsLong()) {
+                entry = new Entry(new long[1], expiresAt(ttl));
+                region.put(key, entry);
+            }
+            return ++((long[]) entry.value)[0];
+        }
+    }
+
+    private long expiresAt(Duration ttl) {
+        return ttl != null ? clock.getAsLong() + ttl.toMillis() : Long.MAX_VALUE;
+    }
+
+    private Region region(String namespace) {
+        return regions.computeIfAbsent(namespace, name -> new Region(maxEntries.getOrDefault(name, defaultMaxEntries)));
+    }
+
+    private static final class Region extends LinkedHashMap<String, Entry> {
+
+        private final int maxEntries;
+
+        private Region(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,34 @@
+package io.camunda.connector.rss.state;
+
+import java.time.Duration;
+
+/**
+ * State shared by the connector runtimes of a cluster: rate limit counters, cached feeds and delta
+ * snapshots. Values are namespaced by the feature that owns them. Implementations that keep values
+ * outside the JVM serialize them with the given codec; in-memory implementations may keep the objects.
+ *
+ * Custom implementations are registered through {@link java.util.ServiceLoader} and selected by class
+ * name with RSS_CONNECTOR_STATE_STORE, see {@link SharedStateStores}.
+ */
+public interface SharedStateStore {
+
+    /**
+     * The unexpired value of the key, or null
+     */
+    <T> T get(String namespace, String key, StateCodec<T> codec);
+
+    /**
+     * Store the value, replacing the previous one
+     *
+     * @param ttl time after which the value expires, or null to keep it until it is evicted
+     */
+    <T> void put(String namespace, String key, T value, StateCodec<T> codec, Duration ttl);
+
+    void remove(String namespace, String key);
+
+    /**
+     * Atomically increment a counter and return its new value. A missing or expired counter starts at
+     * zero and expires ttl after that first increment, which makes keys per time window fixed-window counters.
+     */
+    long increment(String namespace, String key, Duration ttl);
+}
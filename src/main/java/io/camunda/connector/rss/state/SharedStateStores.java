@@ -0,0 +1,74 @@
+package io.camunda.connector.rss.state;
+
+import io.camunda.connector.rss.cache.FeedCache;
+import io.camunda.connector.rss.delta.DeltaTracker;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Selects the shared state store of the runtime with RSS_CONNECTOR_STATE_STORE: memory (default),
+ * file (a directory set with RSS_CONNECTOR_STATE_DIR) or the class name of a {@link SharedStateStore}
+ * registered in META-INF/services.
+ */
+public final class SharedStateStores {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedStateStores.class);
+
+    public static final String MEMORY = "memory";
+    public static final String FILE = "file";
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final int CACHE_MAX_FEEDS = EnvironmentConfig.getInt("RSS_CONNECTOR_CACHE_MAX_FEEDS", 1000);
+    private static final int SNAPSHOT_MAX_FEEDS = EnvironmentConfig.getInt("RSS_CONNECTOR_SNAPSHOT_MAX_FEEDS", 10_000);
+
+    private static SharedStateStore shared;
+
+    private SharedStateStores() {
+    }
+
+    /**
+     * Store configured for the runtime, created on first use
+     */
+    public static synchronized SharedStateStore shared() {
+        if (shared == null) {
+            shared = create(EnvironmentConfig.getString("RSS_CONNECTOR_STATE_STORE", MEMORY),
+                    EnvironmentConfig.getString("RSS_CONNECTOR_STATE_DIR", null));
+        }
+        return shared;
+    }
+
+    static SharedStateStore create(String type, String directory) {
+        if (MEMORY.equalsIgnoreCase(type)) {
+            return inMemory();
+        }
+        if (FILE.equalsIgnoreCase(type)) {
+            if (directory == null || directory.isBlank()) {
+                throw new IllegalStateException("RSS_CONNECTOR_STATE_DIR is required for the file state store");
+            }
+            LOG.info("Keeping shared connector state in {}", directory);
+            return new FileSharedStateStore(Path.of(directory));
+        }
+        for (SharedStateStore store : ServiceLoader.load(SharedStateStore.class)) {
+            if (store.getClass().getName().equals(type)) {
+                LOG.info("Keeping shared connector state in {}", type);
+                return store;
+            }
+        }
+        throw new IllegalStateException("Unknown state store '" + type + "', expected 'memory', 'file' or the class " +
+                "name of a SharedStateStore registered in META-INF/services");
+    }
+
+    /**
+     * Per-JVM store with the feed count limits of the feed cache and the delta snapshots
+     */
+    public static SharedStateStore inMemory() {
+        return new InMemorySharedStateStore(DEFAULT_MAX_ENTRIES, Map.of(
+                FeedCache.NAMESPACE, CACHE_MAX_FEEDS,
+                DeltaTracker.NAMESPACE, SNAPSHOT_MAX_FEEDS));
+    }
+}
@@ -0,0 +1,79 @@
+package io.camunda.connector.rss.storage;
+
+import io.camunda.connector.api.document.Document;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.api.document.DocumentFactory;
+import io.camunda.connector.api.document.DocumentReference;
+import io.camunda.connector.rss.dto.RssDocumentReference;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Document store backed by the Camunda document store of the connector runtime.
+ * Content is streamed through a pipe so it never has to be fully buffered in memory.
+ */
+public class CamundaDocumentStore implements DocumentStore {
+
+    public static final String STORE_TYPE = "camunda";
+
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    private final DocumentFactory documentFactory;
+
+    public CamundaDocumentStore(DocumentFactory documentFactory) {
+        this.documentFactory = documentFactory;
+    }
+
+    @Override
+    public RssDocumentReference store(String fileName, String contentType, ContentWriter writer) throws IOException {
+        PipedInputStream in = new PipedInputStream(PIPE_BUFFER_SIZE);
+        PipedOutputStream pipe = new PipedOutputStream(in);
+        HashingOutputStream hashing = new HashingOutputStream(pipe);
+        AtomicReference<Exception> writeError = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            try (pipe) {
+                writer.writeTo(hashing);
+            } catch (Exception e) {
+                writeError.set(e);
+            }
+        }, "rss-document-writer");
+        producer.setDaemon(true);
+        producer.start();
+
+        Document document;
+        try (in) {
+            document = documentFactory.create(DocumentCreationRequest.from(in)
+                    .fileName(fileName)
+                    .contentType(contentType)
+                    .build());
+        } finally {
+            // Closing the reading side unblocks the producer if the store gave up early
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while storing document", e);
+            }
+        }
+
+        if (writeError.get() != null) {
+            throw new IOException("Failed to write document content", writeError.get());
+        }
+
+        DocumentReference documentReference = document.reference();
+        RssDocumentReference reference = new RssDocumentReference();
+        reference.setStore(STORE_TYPE);
+        if (documentReference instanceof DocumentReference.CamundaDocumentReference camundaReference) {
+            reference.setDocumentId(camundaReference.getDocumentId());
+        }
+        reference.setDocumentReference(documentReference);
+        reference.setContentType(contentType);
+        reference.setSize(hashing.getCount());
+        reference.setSha256(hashing.getSha256());
+        return reference;
+    }
+}
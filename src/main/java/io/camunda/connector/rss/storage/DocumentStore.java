@@ -0,0 +1,30 @@
+package io.camunda.connector.rss.storage;
+
+import io.camunda.connector.rss.dto.RssDocumentReference;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Pluggable document/blob store that large connector payloads are spilled to
+ */
+public interface DocumentStore {
+
+    /**
+     * Store a document whose content is streamed by the given writer
+     *
+     * @param fileName suggested file name of the document
+     * @param contentType MIME type of the content
+     * @param writer writes the content; the stream must not be closed by the writer
+     * @return reference to the stored document
+     */
+    RssDocumentReference store(String fileName, String contentType, ContentWriter writer) throws IOException;
+
+    /**
+     * Streams document content into the store
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
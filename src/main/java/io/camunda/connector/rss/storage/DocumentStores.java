@@ -0,0 +1,29 @@
+package io.camunda.connector.rss.storage;
+
+import io.camunda.connector.api.document.DocumentFactory;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+
+import java.nio.file.Path;
+
+/**
+ * Selects the document store used for spilled outputs based on environment configuration
+ */
+public final class DocumentStores {
+
+    private static final String STORE_TYPE = EnvironmentConfig.getString("RSS_CONNECTOR_SPILL_STORE", LocalFileDocumentStore.STORE_TYPE);
+    private static final Path SPILL_DIRECTORY = Path.of(EnvironmentConfig.getString("RSS_CONNECTOR_SPILL_DIR",
+            Path.of(System.getProperty("java.io.tmpdir"), "rss-connector-spill").toString()));
+
+    private DocumentStores() {
+    }
+
+    /**
+     * @param documentFactory document factory of the current job, used for the Camunda document store
+     */
+    public static DocumentStore fromEnvironment(DocumentFactory documentFactory) {
+        if (CamundaDocumentStore.STORE_TYPE.equalsIgnoreCase(STORE_TYPE)) {
+            return new CamundaDocumentStore(documentFactory);
+        }
+        return new LocalFileDocumentStore(SPILL_DIRECTORY);
+    }
+}
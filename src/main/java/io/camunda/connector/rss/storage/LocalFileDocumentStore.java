@@ -0,0 +1,64 @@
+package io.camunda.connector.rss.storage;
+
+import io.camunda.connector.rss.dto.RssDocumentReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Document store writing each document to a file in a local directory.
+ * Content is written to a temporary file first and moved into place once complete.
+ */
+public class LocalFileDocumentStore implements DocumentStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalFileDocumentStore.class);
+
+    public static final String STORE_TYPE = "local";
+
+    private final Path directory;
+
+    public LocalFileDocumentStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public RssDocumentReference store(String fileName, String contentType, ContentWriter writer) throws IOException {
+        Files.createDirectories(directory);
+        String documentId = UUID.randomUUID().toString();
+        Path target = directory.resolve(documentId + "-" + sanitize(fileName));
+        Path temp = directory.resolve(documentId + ".part");
+
+        HashingOutputStream hashing;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+            hashing = new HashingOutputStream(out);
+            writer.writeTo(hashing);
+            hashing.flush();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        LOG.debug("Stored document {} ({} bytes)", target, hashing.getCount());
+
+        RssDocumentReference reference = new RssDocumentReference();
+        reference.setStore(STORE_TYPE);
+        reference.setDocumentId(documentId);
+        reference.setUri(target.toUri().toString());
+        reference.setContentType(contentType);
+        reference.setSize(hashing.getCount());
+        reference.setSha256(hashing.getSha256());
+        return reference;
+    }
+
+    private static String sanitize(String fileName) {
+        return fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -0,0 +1,114 @@
+package io.camunda.connector.rss.storage;
+
+import io.camunda.connector.rss.dto.RssDocumentReference;
+import io.camunda.connector.rss.dto.RssEnclosure;
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import io.camunda.connector.rss.json.RssItemStreamWriter;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Moves the item payload of large outputs to a document store and leaves only feed metadata,
+ * counts and a document reference in the result returned to Zeebe
+ */
+public class OutputSpiller {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutputSpiller.class);
+
+    public static final String MODE_INLINE = "inline";
+    public static final String MODE_SPILL = "spill";
+    public static final String MODE_AUTO = "auto";
+
+    // Default inline/spill threshold for "auto" mode - configurable via environment variable
+    public static final long DEFAULT_THRESHOLD_BYTES = EnvironmentConfig.getLong("RSS_CONNECTOR_SPILL_THRESHOLD_BYTES", 1024 * 1024);
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final DocumentStore documentStore;
+
+    public OutputSpiller(DocumentStore documentStore) {
+        this.documentStore = documentStore;
+    }
+
+    /**
+     * Apply the output mode requested by the input, spilling the items if required
+     */
+    public RssFeedOutput apply(RssFeedOutput output, RssFeedInput input) {
+        String mode = input.getOutputMode() != null ? input.getOutputMode() : MODE_INLINE;
+        if (MODE_INLINE.equals(mode) || !output.isSuccess() || output.getItems() == null || output.getItems().isEmpty()) {
+            return output;
+        }
+
+        if (MODE_AUTO.equals(mode)) {
+            long threshold = input.getSpillThresholdBytes() != null ? input.getSpillThresholdBytes() : DEFAULT_THRESHOLD_BYTES;
+            long estimatedSize = estimateSize(output.getItems());
+            if (estimatedSize <= threshold) {
+                return output;
+            }
+            LOG.debug("Estimated item payload of {} bytes exceeds spill threshold of {} bytes", estimatedSize, threshold);
+        }
+
+        return spill(output, MODE_SPILL.equals(mode));
+    }
+
+    /**
+     * @param required whether the input asked for spilling; otherwise a failing store leaves the items inline
+     */
+    private RssFeedOutput spill(RssFeedOutput output, boolean required) {
+        List<RssItem> items = output.getItems();
+        try {
+            RssDocumentReference reference = documentStore.store("rss-items.json", CONTENT_TYPE,
+                    out -> RssItemStreamWriter.writeItems(out, items));
+            reference.setItemCount(items.size());
+
+            output.setItems(null);
+            output.setTotalItems(reference.getItemCount());
+            output.setItemsDocument(reference);
+
+            LOG.info("Spilled {} items ({} bytes) to {} document store", reference.getItemCount(),
+                    reference.getSize(), reference.getStore());
+            return output;
+        } catch (Exception e) {
+            if (!required) {
+                LOG.warn("Failed to spill items to document store, returning them inline: {}", e.getMessage(), e);
+                return output;
+            }
+            String errorMsg = "Failed to spill items to document store: " + e.getMessage();
+            LOG.error(errorMsg, e);
+            return new RssFeedOutput(false, errorMsg);
+        }
+    }
+
+    /**
+     * Cheap estimate of the JSON size of the items (characters plus field overhead)
+     */
+    static long estimateSize(List<RssItem> items) {
+        long size = 2;
+        for (RssItem item : items) {
+            size += 160; // field names, quotes and separators
+            size += length(item.getTitle()) + length(item.getDescription()) + length(item.getLink())
+                    + length(item.getGuid()) + length(item.getPubDate()) + length(item.getAuthor())
+                    + length(item.getContent()) + length(item.getComments());
+            if (item.getCategories() != null) {
+                for (String category : item.getCategories()) {
+                    size += length(category) + 3;
+                }
+            }
+            if (item.getEnclosures() != null) {
+                for (RssEnclosure enclosure : item.getEnclosures()) {
+                    size += 50 + length(enclosure.getUrl()) + length(enclosure.getType());
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
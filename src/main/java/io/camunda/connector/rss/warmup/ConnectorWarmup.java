@@ -0,0 +1,100 @@
+package io.camunda.connector.rss.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.service.EnvironmentConfig;
+import io.camunda.connector.rss.service.RssFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Takes the one-time costs of the first job off its critical path: creates the default HTTP client with its TLS
+ * setup, initializes the feed readers, ROME and the XML parser by parsing embedded sample feeds, and runs the Jackson
+ * (de)serializers of the input and output once. Started in the background when the connector is instantiated, at
+ * most once per JVM, unless RSS_CONNECTOR_WARMUP=false. {@link #main} runs it in the foreground, as training run
+ * for an AppCDS archive.
+ */
+public final class ConnectorWarmup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorWarmup.class);
+
+    // One sample per reader: RSS 2.0, Atom and JSON Feed have dedicated readers, RSS 1.0 (RDF) is read with ROME
+    static final List<String> SAMPLE_FEEDS = List.of("/warmup/sample-rss.xml", "/warmup/sample-atom.xml",
+            "/warmup/sample-feed.json", "/warmup/sample-rdf.xml");
+    static final String SAMPLE_FEED_URL = "https://warmup.invalid/feed.xml";
+    private static final String SAMPLE_INPUT = "{\"feedUrl\":\"" + SAMPLE_FEED_URL + "\",\"maxItems\":10," +
+            "\"guidBlacklist\":[\"item-0\"],\"includeKeywords\":[\"item\"]}";
+
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    private ConnectorWarmup() {
+    }
+
+    /**
+     * Warm up on a daemon thread, unless disabled or already started in this JVM
+     */
+    public static void startInBackground(RssFeedService service) {
+        if (!EnvironmentConfig.getBoolean("RSS_CONNECTOR_WARMUP", true) || !STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> run(service), "rss-connector-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Warm up in the calling thread
+     *
+     * @return whether all steps succeeded; failures are logged and never affect the connector
+     */
+    public static boolean run(RssFeedService service) {
+        long start = System.nanoTime();
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            RssFeedInput input = mapper.readValue(SAMPLE_INPUT, RssFeedInput.class);
+            service.prepareHttpClient(input);
+            int items = 0;
+            for (String sample : SAMPLE_FEEDS) {
+                RssFeedOutput output = service.parseRssFeed(readSample(sample), input);
+                if (!output.isSuccess()) {
+                    throw new IllegalStateException("Sample feed " + sample + " failed to parse: " + output.getError());
+                }
+                items += output.getTotalItems();
+                mapper.writeValueAsString(output);
+            }
+            LOG.info("Connector warm-up finished in {} ms ({} sample items)",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), items);
+            return true;
+        } catch (Exception | LinkageError e) {
+            LOG.warn("Connector warm-up failed, the first job will initialize lazily: {}", e.toString());
+            return false;
+        }
+    }
+
+    private static String readSample(String resource) throws IOException {
+        try (InputStream in = ConnectorWarmup.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing warm-up resource " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Training run for an AppCDS archive, see the appcds Maven profile
+     */
+    public static void main(String[] args) {
+        if (!run(new RssFeedService())) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.camunda.connector.rss.websub;
+
+import io.camunda.connector.rss.dto.RssFeedOutput;
+
+/**
+ * Transport-neutral HTTP response for a WebSub callback request, with the delivered content of a content
+ * distribution that is passed on to the process
+ */
+public record WebSubResponse(int status, String body, RssFeedOutput output) {
+
+    public WebSubResponse(int status, String body) {
+        this(status, body, null);
+    }
+
+    static WebSubResponse notFound() {
+        return new WebSubResponse(404, "");
+    }
+}
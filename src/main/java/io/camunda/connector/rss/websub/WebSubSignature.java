@@ -0,0 +1,80 @@
+package io.camunda.connector.rss.websub;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * HMAC signatures of WebSub content distributions (X-Hub-Signature header)
+ */
+public final class WebSubSignature {
+
+    public static final String HEADER = "X-Hub-Signature";
+
+    private WebSubSignature() {
+    }
+
+    /**
+     * Verify a "method=signature" header value against the body using constant-time comparison
+     */
+    public static boolean verify(String secret, String header, byte[] body) {
+        if (secret == null || header == null) {
+            return false;
+        }
+        int separator = header.indexOf('=');
+        if (separator <= 0) {
+            return false;
+        }
+        String algorithm = macAlgorithm(header.substring(0, separator).trim());
+        if (algorithm == null) {
+            return false;
+        }
+        try {
+            byte[] expected = hmac(algorithm, secret, body);
+            byte[] actual = HexFormat.of().parseHex(header.substring(separator + 1).trim().toLowerCase(Locale.ROOT));
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create a header value for the body, e.g. "sha256=..."
+     */
+    public static String sign(String method, String secret, byte[] body) {
+        String algorithm = macAlgorithm(method);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Unsupported signature method: " + method);
+        }
+        try {
+            return method + "=" + HexFormat.of().formatHex(hmac(algorithm, secret, body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to compute HMAC signature", e);
+        }
+    }
+
+    private static byte[] hmac(String algorithm, String secret, byte[] body) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(algorithm);
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), algorithm));
+        return mac.doFinal(body);
+    }
+
+    private static String macAlgorithm(String method) {
+        switch (method.toLowerCase(Locale.ROOT)) {
+            case "sha1":
+                return "HmacSHA1";
+            case "sha256":
+                return "HmacSHA256";
+            case "sha384":
+                return "HmacSHA384";
+            case "sha512":
+                return "HmacSHA512";
+            default:
+                return null;
+        }
+    }
+}
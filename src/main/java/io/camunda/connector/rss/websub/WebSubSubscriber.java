@@ -0,0 +1,367 @@
+package io.camunda.connector.rss.websub;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.service.RssFeedService;
+import io.camunda.connector.rss.service.UrlValidator;
+import io.camunda.connector.rss.state.FeedOwnership;
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStores;
+import okhttp3.FormBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSub (PubSubHubbub) subscriber used by {@link io.camunda.connector.rss.RssFeedPushConnector}.
+ *
+ * Subscribes to topics at a hub, answers intent verification requests, verifies HMAC signatures of content
+ * distributions and runs delivered documents through the same item conversion and filter pipeline as polled
+ * feeds. Subscriptions are kept in the shared state store under a stable id derived from the callback and topic,
+ * so after a restart the reactivated connector resumes a subscription with an unexpired lease instead of
+ * answering the hub with 404. Leases of the subscriptions activated in this runtime are renewed before they
+ * expire, by the runtime owning the topic when the cluster nodes are configured.
+ */
+public class WebSubSubscriber implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebSubSubscriber.class);
+
+    public static final String NAMESPACE = "websub-subscription";
+    public static final int DEFAULT_LEASE_SECONDS = 86400;
+    static final Duration RENEWAL_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static volatile WebSubSubscriber shared;
+
+    private final RssFeedService feedService;
+    private final OkHttpClient httpClient;
+    private final SharedStateStore store;
+    private final FeedOwnership ownership;
+
+    // Subscriptions activated in this runtime, with what is needed to request them again
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService renewalExecutor;
+
+    public WebSubSubscriber(RssFeedService feedService, OkHttpClient httpClient, SharedStateStore store,
+                            FeedOwnership ownership) {
+        this.feedService = feedService;
+        this.httpClient = httpClient;
+        this.store = store;
+        this.ownership = ownership;
+    }
+
+    /**
+     * Subscriber shared by all push connectors of the runtime, renewing leases in the background
+     */
+    public static WebSubSubscriber shared() {
+        WebSubSubscriber subscriber = shared;
+        if (subscriber == null) {
+            synchronized (WebSubSubscriber.class) {
+                subscriber = shared;
+                if (subscriber == null) {
+                    subscriber = new WebSubSubscriber(new RssFeedService(), new OkHttpClient(),
+                            SharedStateStores.shared(), FeedOwnership.shared());
+                    subscriber.startRenewal(RENEWAL_CHECK_INTERVAL);
+                    shared = subscriber;
+                }
+            }
+        }
+        return subscriber;
+    }
+
+    /**
+     * Stable id of the subscription of a topic delivered to a callback URL
+     */
+    public static String subscriptionId(String callbackUrl, String topicUrl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((callbackUrl + "\n" + topicUrl).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Subscribe the callback to the topic. A stored subscription of the same hub with an unexpired lease is
+     * resumed without contacting the hub; otherwise a subscription request is sent and the subscription becomes
+     * active once the hub has verified the intent through the callback.
+     */
+    public WebSubSubscription subscribe(String hubUrl, String topicUrl, String callbackUrl, RssFeedInput filters,
+                                        int leaseSeconds) throws IOException {
+        UrlValidator.validate(hubUrl);
+
+        String id = subscriptionId(callbackUrl, topicUrl);
+        registrations.put(id, new Registration(hubUrl, topicUrl, callbackUrl, leaseSeconds, filters));
+
+        WebSubSubscription stored = load(id);
+        if (stored != null && stored.getHubUrl().equals(hubUrl) && stored.isLive(Instant.now())) {
+            LOG.info("Resuming WebSub subscription for topic {} at hub {}, lease until {}",
+                    topicUrl, hubUrl, stored.getLeaseExpiresAt());
+            return stored;
+        }
+
+        WebSubSubscription subscription = new WebSubSubscription(id, hubUrl, topicUrl, callbackUrl,
+                randomHex(32), leaseSeconds);
+        save(subscription);
+        try {
+            sendHubRequest(subscription, "subscribe");
+        } catch (IOException | RuntimeException e) {
+            registrations.remove(id);
+            store.remove(NAMESPACE, id);
+            throw e;
+        }
+
+        LOG.info("Requested WebSub subscription for topic {} at hub {}", topicUrl, hubUrl);
+        return subscription;
+    }
+
+    /**
+     * Stop renewing the subscription in this runtime. It stays subscribed until its lease expires, so a
+     * connector reactivated after a restart resumes it.
+     */
+    public void release(String subscriptionId) {
+        registrations.remove(subscriptionId);
+    }
+
+    /**
+     * Ask the hub to end a subscription; it is removed once the hub verifies the unsubscription
+     */
+    public void unsubscribe(String subscriptionId) throws IOException {
+        registrations.remove(subscriptionId);
+        WebSubSubscription subscription = load(subscriptionId);
+        if (subscription == null) {
+            return;
+        }
+        subscription.setState(WebSubSubscription.State.PENDING_UNSUBSCRIBE);
+        save(subscription);
+        sendHubRequest(subscription, "unsubscribe");
+    }
+
+    /**
+     * Handle a verification of intent (GET on the callback URL)
+     */
+    public WebSubResponse handleVerification(String subscriptionId, Map<String, String> parameters) {
+        WebSubSubscription subscription = load(subscriptionId);
+        String mode = parameters.get("hub.mode");
+        if (subscription == null || mode == null ||
+            !subscription.getTopicUrl().equals(parameters.get("hub.topic"))) {
+            LOG.warn("Rejecting WebSub verification for unknown subscription or topic: {}", parameters.get("hub.topic"));
+            return WebSubResponse.notFound();
+        }
+
+        switch (mode) {
+            case "subscribe":
+                if (subscription.getState() == WebSubSubscription.State.PENDING_UNSUBSCRIBE ||
+                    subscription.getState() == WebSubSubscription.State.UNSUBSCRIBED) {
+                    return WebSubResponse.notFound();
+                }
+                subscription.setLeaseExpiresAt(Instant.now().plusSeconds(
+                        parseLease(parameters.get("hub.lease_seconds"), subscription.getRequestedLeaseSeconds())));
+                subscription.setState(WebSubSubscription.State.ACTIVE);
+                save(subscription);
+                LOG.info("WebSub subscription {} active until {}", subscription.getId(), subscription.getLeaseExpiresAt());
+                return new WebSubResponse(200, parameters.getOrDefault("hub.challenge", ""));
+            case "unsubscribe":
+                if (subscription.getState() != WebSubSubscription.State.PENDING_UNSUBSCRIBE) {
+                    return WebSubResponse.notFound();
+                }
+                store.remove(NAMESPACE, subscriptionId);
+                return new WebSubResponse(200, parameters.getOrDefault("hub.challenge", ""));
+            case "denied":
+                subscription.setState(WebSubSubscription.State.DENIED);
+                subscription.setDeniedReason(parameters.get("hub.reason"));
+                save(subscription);
+                LOG.warn("WebSub hub denied subscription for topic {}: {}", subscription.getTopicUrl(), parameters.get("hub.reason"));
+                return new WebSubResponse(200, "");
+            default:
+                return WebSubResponse.notFound();
+        }
+    }
+
+    /**
+     * Check a content distribution (POST on the callback URL) before it is processed. Content for unknown or
+     * inactive subscriptions is rejected; unsigned or wrongly signed content is acknowledged but ignored, as
+     * required by the WebSub specification.
+     *
+     * @return the response for the hub when the content is not to be processed, or null
+     */
+    public WebSubResponse checkContentDelivery(String subscriptionId, String signatureHeader, byte[] body) {
+        WebSubSubscription subscription = load(subscriptionId);
+        if (subscription == null || !registrations.containsKey(subscriptionId) ||
+            subscription.getState() != WebSubSubscription.State.ACTIVE) {
+            return WebSubResponse.notFound();
+        }
+        if (!WebSubSignature.verify(subscription.getSecret(), signatureHeader, body)) {
+            LOG.warn("Ignoring WebSub content for subscription {}: missing or invalid signature", subscriptionId);
+            return new WebSubResponse(202, "");
+        }
+        return null;
+    }
+
+    /**
+     * Handle a content distribution (POST on the callback URL) that passed {@link #checkContentDelivery}
+     *
+     * @return the response for the hub with the filtered content; content that cannot be parsed is acknowledged
+     * with 202 and an unsuccessful output
+     */
+    public WebSubResponse handleContentDelivery(String subscriptionId, String signatureHeader, byte[] body) {
+        WebSubResponse rejected = checkContentDelivery(subscriptionId, signatureHeader, body);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        Registration registration = registrations.get(subscriptionId);
+        RssFeedOutput output = feedService.parseRssFeed(new String(body, StandardCharsets.UTF_8), registration.filters());
+        if (!output.isSuccess()) {
+            LOG.warn("Failed to parse WebSub content for subscription {}: {}", subscriptionId, output.getError());
+            return new WebSubResponse(202, "", output);
+        }
+        return new WebSubResponse(200, "", output);
+    }
+
+    /**
+     * Request again the subscriptions activated in this runtime whose lease is about to expire, that the hub
+     * left unverified, or that expired from the store, unless another runtime owns the topic
+     *
+     * @return number of subscription requests sent
+     */
+    public int renewDueSubscriptions(Instant now) {
+        int renewed = 0;
+        for (Map.Entry<String, Registration> entry : registrations.entrySet()) {
+            Registration registration = entry.getValue();
+            if (!ownership.isLocal(registration.topicUrl())) {
+                continue;
+            }
+            WebSubSubscription subscription = load(entry.getKey());
+            if (subscription == null) {
+                subscription = new WebSubSubscription(entry.getKey(), registration.hubUrl(), registration.topicUrl(),
+                        registration.callbackUrl(), randomHex(32), registration.leaseSeconds());
+            } else if (!subscription.isRenewalDue(now) && !subscription.isRetryDue(now)) {
+                continue;
+            }
+            try {
+                subscription.setRequestedAt(now);
+                save(subscription);
+                sendHubRequest(subscription, "subscribe");
+                renewed++;
+                LOG.debug("Renewing WebSub lease for topic {}", subscription.getTopicUrl());
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Failed to renew WebSub lease for topic {}: {}", subscription.getTopicUrl(), e.getMessage());
+            }
+        }
+        return renewed;
+    }
+
+    /**
+     * Start periodic lease renewal on a background thread
+     */
+    public synchronized void startRenewal(Duration checkInterval) {
+        if (renewalExecutor != null) {
+            return;
+        }
+        renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "websub-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = checkInterval.toMillis();
+        renewalExecutor.scheduleWithFixedDelay(() -> renewDueSubscriptions(Instant.now()),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public WebSubSubscription getSubscription(String subscriptionId) {
+        return load(subscriptionId);
+    }
+
+    /**
+     * Subscriptions activated in this runtime that are still stored
+     */
+    public Collection<WebSubSubscription> getSubscriptions() {
+        return registrations.keySet().stream()
+                .map(this::load)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (renewalExecutor != null) {
+            renewalExecutor.shutdownNow();
+            renewalExecutor = null;
+        }
+    }
+
+    private WebSubSubscription load(String subscriptionId) {
+        return store.get(NAMESPACE, subscriptionId, WebSubSubscription.CODEC);
+    }
+
+    private void save(WebSubSubscription subscription) {
+        store.put(NAMESPACE, subscription.getId(), subscription, WebSubSubscription.CODEC,
+                subscription.retention(Instant.now()));
+    }
+
+    private void sendHubRequest(WebSubSubscription subscription, String mode) throws IOException {
+        FormBody.Builder form = new FormBody.Builder()
+                .add("hub.mode", mode)
+                .add("hub.topic", subscription.getTopicUrl())
+                .add("hub.callback", subscription.getCallbackUrl());
+        if ("subscribe".equals(mode)) {
+            form.add("hub.lease_seconds", String.valueOf(subscription.getRequestedLeaseSeconds()))
+                .add("hub.secret", subscription.getSecret());
+        }
+
+        Request request = new Request.Builder()
+                .url(subscription.getHubUrl())
+                .post(form.build())
+                .build();
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException(String.format("WebSub hub rejected %s request with status %d: %s",
+                        mode, response.code(), response.message()));
+            }
+        }
+    }
+
+    private static int parseLease(String value, int defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String randomHex(int bytes) {
+        byte[] buffer = new byte[bytes];
+        RANDOM.nextBytes(buffer);
+        return HexFormat.of().formatHex(buffer);
+    }
+
+    private record Registration(String hubUrl, String topicUrl, String callbackUrl, int leaseSeconds,
+                                RssFeedInput filters) {
+    }
+}
@@ -0,0 +1,181 @@
+package io.camunda.connector.rss.websub;
+
+import io.camunda.connector.rss.state.StateCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * State of a single WebSub subscription (topic at a hub) including its lease. Kept in the shared state store,
+ * so the secret and lease survive restarts and every runtime of a cluster can answer the hub.
+ */
+public class WebSubSubscription {
+
+    public enum State {
+        PENDING_SUBSCRIBE,
+        ACTIVE,
+        PENDING_UNSUBSCRIBE,
+        UNSUBSCRIBED,
+        DENIED
+    }
+
+    static final StateCodec<WebSubSubscription> CODEC = new StateCodec<>() {
+        @Override
+        public void write(WebSubSubscription value, DataOutput out) throws IOException {
+            StateCodec.writeString(out, value.id);
+            StateCodec.writeString(out, value.hubUrl);
+            StateCodec.writeString(out, value.topicUrl);
+            StateCodec.writeString(out, value.callbackUrl);
+            StateCodec.writeString(out, value.secret);
+            out.writeInt(value.requestedLeaseSeconds);
+            out.writeByte(value.state.ordinal());
+            out.writeLong(value.requestedAt.toEpochMilli());
+            out.writeLong(value.leaseExpiresAt != null ? value.leaseExpiresAt.toEpochMilli() : -1);
+            StateCodec.writeString(out, value.deniedReason);
+        }
+
+        @Override
+        public WebSubSubscription read(DataInput in) throws IOException {
+            WebSubSubscription subscription = new WebSubSubscription(StateCodec.readString(in),
+                    StateCodec.readString(in), StateCodec.readString(in), StateCodec.readString(in),
+                    StateCodec.readString(in), in.readInt());
+            subscription.state = State.values()[in.readByte()];
+            subscription.requestedAt = Instant.ofEpochMilli(in.readLong());
+            long leaseExpiresAt = in.readLong();
+            subscription.leaseExpiresAt = leaseExpiresAt >= 0 ? Instant.ofEpochMilli(leaseExpiresAt) : null;
+            subscription.deniedReason = StateCodec.readString(in);
+            return subscription;
+        }
+    };
+
+    // A subscription the hub has not verified yet is requested again after this time
+    static final Duration PENDING_RETRY = Duration.ofMinutes(1);
+
+    private final String id;
+    private final String hubUrl;
+    private final String topicUrl;
+    private final String callbackUrl;
+    private final String secret;
+    private final int requestedLeaseSeconds;
+
+    private volatile State state = State.PENDING_SUBSCRIBE;
+    private volatile Instant requestedAt = Instant.now();
+    private volatile Instant leaseExpiresAt;
+    private volatile String deniedReason;
+
+    public WebSubSubscription(String id, String hubUrl, String topicUrl, String callbackUrl,
+                              String secret, int requestedLeaseSeconds) {
+        this.id = id;
+        this.hubUrl = hubUrl;
+        this.topicUrl = topicUrl;
+        this.callbackUrl = callbackUrl;
+        this.secret = secret;
+        this.requestedLeaseSeconds = requestedLeaseSeconds;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getHubUrl() {
+        return hubUrl;
+    }
+
+    public String getTopicUrl() {
+        return topicUrl;
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    String getSecret() {
+        return secret;
+    }
+
+    public int getRequestedLeaseSeconds() {
+        return requestedLeaseSeconds;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    void setRequestedAt(Instant requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+
+    public Instant getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    void setLeaseExpiresAt(Instant leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public String getDeniedReason() {
+        return deniedReason;
+    }
+
+    void setDeniedReason(String deniedReason) {
+        this.deniedReason = deniedReason;
+    }
+
+    /**
+     * Whether the hub verified the subscription and its lease has not expired
+     */
+    boolean isLive(Instant now) {
+        return state == State.ACTIVE && leaseExpiresAt != null && leaseExpiresAt.isAfter(now);
+    }
+
+    /**
+     * A lease is due for renewal once less than a tenth of it (at least one minute) remains
+     */
+    boolean isRenewalDue(Instant now) {
+        if (state != State.ACTIVE || leaseExpiresAt == null) {
+            return false;
+        }
+        Duration remaining = Duration.between(now, leaseExpiresAt);
+        Duration margin = Duration.ofSeconds(Math.max(60, requestedLeaseSeconds / 10));
+        return remaining.compareTo(margin) <= 0;
+    }
+
+    /**
+     * Whether the hub left a subscription request unverified for so long that it is sent again
+     */
+    boolean isRetryDue(Instant now) {
+        return state == State.PENDING_SUBSCRIBE && !requestedAt.plus(PENDING_RETRY).isAfter(now);
+    }
+
+    /**
+     * How long the shared state store keeps the subscription: until its lease expires, a pending one for the
+     * requested lease
+     */
+    Duration retention(Instant now) {
+        Instant until = leaseExpiresAt != null && state == State.ACTIVE
+                ? leaseExpiresAt : requestedAt.plusSeconds(requestedLeaseSeconds);
+        return Duration.between(now, until).isNegative() ? Duration.ofMinutes(1) : Duration.between(now, until);
+    }
+
+    @Override
+    public String toString() {
+        return "WebSubSubscription{" +
+                "id='" + id + '\'' +
+                ", hubUrl='" + hubUrl + '\'' +
+                ", topicUrl='" + topicUrl + '\'' +
+                ", state=" + state +
+                ", leaseExpiresAt=" + leaseExpiresAt +
+                '}';
+    }
+}
@@ -1,8 +1,15 @@
 package io.camunda.connector.rss;
 
+import io.camunda.connector.api.outbound.JobContext;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.rss.dto.RssFeedInput;
 import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.service.RssFeedService;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -10,6 +17,9 @@ import org.mockito.MockitoAnnotations;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RssFeedConnectorTest {
@@ -119,4 +129,129 @@ class RssFeedConnectorTest {
         assertThat(output).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldThrowExceptionForInvalidOutputMode() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput();
+        input.setFeedUrl("https://example.com/feed.xml");
+        input.setOutputMode("blob");
+        
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+
+        // When & Then
+        assertThatThrownBy(() -> connector.execute(mockContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("outputMode must be 'inline', 'spill' or 'auto'");
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidOperation() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput();
+        input.setOperation("delete");
+        
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+
+        // When & Then
+        assertThatThrownBy(() -> connector.execute(mockContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("operation must be 'fetch', 'fetchOpml', 'queryArchive', 'searchArchive' or 'downloadEnclosures'");
+    }
+
+    @Test
+    void shouldThrowExceptionForSearchWithoutQuery() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput();
+        input.setOperation("searchArchive");
+        input.setQuery(" ");
+        
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+
+        // When & Then
+        assertThatThrownBy(() -> connector.execute(mockContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("query is required for searchArchive");
+    }
+
+    @Test
+    void shouldThrowExceptionForOpmlFetchWithoutOpml() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput();
+        input.setOperation("fetchOpml");
+        
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+
+        // When & Then
+        assertThatThrownBy(() -> connector.execute(mockContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("opml or opmlUrl is required for fetchOpml");
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownPriority() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput();
+        input.setFeedUrl("https://example.com/feed.xml");
+        input.setPriority("urgent");
+        
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+
+        // When & Then
+        assertThatThrownBy(() -> connector.execute(mockContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("priority must be 'high', 'normal' or 'low'");
+    }
+
+    @Test
+    void shouldRecordJobSpanInTheProcessTrace() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        JobContext job = mock(JobContext.class);
+        when(job.getProcessInstanceKey()).thenReturn(2251799813685249L);
+        when(job.getBpmnProcessId()).thenReturn("news-digest");
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+        when(mockContext.getJobContext()).thenReturn(job);
+        RssFeedService service = mock(RssFeedService.class);
+        when(service.fetchMergedFeeds(any(), any())).thenReturn(new RssFeedOutput(false, "HTTP request failed with status 503"));
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+        RssFeedConnector tracedConnector = new RssFeedConnector(service, tracerProvider.get("test"));
+
+        // When
+        tracedConnector.execute(mockContext);
+
+        // Then
+        assertThat(exporter.getFinishedSpanItems()).singleElement().satisfies(span -> {
+            assertThat(span.getName()).isEqualTo("rss.job");
+            assertThat(span.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+            assertThat(span.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(span.getAttributes().get(AttributeKey.longKey("camunda.process_instance_key")))
+                    .isEqualTo(2251799813685249L);
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("camunda.bpmn_process_id")))
+                    .isEqualTo("news-digest");
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("rss.operation"))).isEqualTo("fetch");
+            assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+            assertThat(span.getStatus().getDescription()).contains("503");
+        });
+    }
+
+    @Test
+    void shouldPassTheJobsTenantDownAsSchedulingKey() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        JobContext job = mock(JobContext.class);
+        when(job.getTenantId()).thenReturn("tenant-a");
+        when(mockContext.bindVariables(RssFeedInput.class)).thenReturn(input);
+        when(mockContext.getJobContext()).thenReturn(job);
+        RssFeedService service = mock(RssFeedService.class);
+        when(service.fetchMergedFeeds(any(), any())).thenReturn(new RssFeedOutput(false, "HTTP request failed with status 503"));
+
+        // When
+        new RssFeedConnector(service).execute(mockContext);
+
+        // Then
+        verify(service).fetchMergedFeeds(input, "tenant-a");
+    }
+}
@@ -0,0 +1,197 @@
+package io.camunda.connector.rss;
+
+import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.inbound.webhook.Part;
+import io.camunda.connector.api.inbound.webhook.WebhookHttpResponse;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.api.inbound.webhook.WebhookResult;
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssFeedPushInput;
+import io.camunda.connector.rss.service.RssFeedService;
+import io.camunda.connector.rss.websub.WebSubResponse;
+import io.camunda.connector.rss.websub.WebSubSubscriber;
+import io.camunda.connector.rss.websub.WebSubSubscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RssFeedPushConnectorTest {
+
+    private static final String FEED_URL = "https://example.com/feed.xml";
+    private static final String HUB_URL = "https://hub.example.com/";
+    private static final String CALLBACK = "https://connectors.example.com/inbound/news";
+
+    private WebSubSubscriber subscriber;
+    private RssFeedService feedService;
+    private InboundConnectorContext context;
+    private RssFeedPushConnector connector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        subscriber = mock(WebSubSubscriber.class);
+        feedService = mock(RssFeedService.class);
+        context = mock(InboundConnectorContext.class);
+        connector = new RssFeedPushConnector(subscriber, feedService);
+
+        String id = WebSubSubscriber.subscriptionId(CALLBACK, FEED_URL);
+        when(subscriber.subscribe(any(), any(), any(), any(), anyInt()))
+                .thenReturn(new WebSubSubscription(id, HUB_URL, FEED_URL, CALLBACK, "secret", 3600));
+    }
+
+    @Test
+    void shouldSubscribeToConfiguredHubOnActivation() throws Exception {
+        // Given
+        RssFeedPushInput input = new RssFeedPushInput(FEED_URL, CALLBACK);
+        input.setHubUrl(HUB_URL);
+        input.setLeaseSeconds(3600);
+        when(context.bindProperties(RssFeedPushInput.class)).thenReturn(input);
+
+        // When
+        connector.activate(context);
+
+        // Then
+        verify(subscriber).subscribe(eq(HUB_URL), eq(FEED_URL), eq(CALLBACK), any(RssFeedInput.class), eq(3600));
+        verify(context).reportHealth(any());
+    }
+
+    @Test
+    void shouldDiscoverHubFromFeedWhenNotConfigured() throws Exception {
+        // Given
+        RssFeedOutput discovered = new RssFeedOutput();
+        discovered.setSuccess(true);
+        discovered.setHubUrl(HUB_URL);
+        discovered.setSelfUrl(FEED_URL);
+        when(context.bindProperties(RssFeedPushInput.class)).thenReturn(new RssFeedPushInput(FEED_URL, CALLBACK));
+        when(feedService.fetchRssFeed(any())).thenReturn(discovered);
+
+        // When
+        connector.activate(context);
+
+        // Then
+        verify(subscriber).subscribe(eq(HUB_URL), eq(FEED_URL), eq(CALLBACK), any(RssFeedInput.class),
+                eq(WebSubSubscriber.DEFAULT_LEASE_SECONDS));
+    }
+
+    @Test
+    void shouldRejectActivationWithoutCallbackUrl() {
+        // Given
+        when(context.bindProperties(RssFeedPushInput.class)).thenReturn(new RssFeedPushInput(FEED_URL, null));
+
+        // When & Then
+        assertThatThrownBy(() -> connector.activate(context))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Callback URL");
+    }
+
+    @Test
+    void shouldAnswerHubVerificationAndCorrelatePushedContent() throws Exception {
+        // Given
+        RssFeedPushInput input = new RssFeedPushInput(FEED_URL, CALLBACK);
+        input.setHubUrl(HUB_URL);
+        when(context.bindProperties(RssFeedPushInput.class)).thenReturn(input);
+        connector.activate(context);
+
+        Map<String, String> params = Map.of("hub.mode", "subscribe", "hub.challenge", "token");
+        when(subscriber.handleVerification(any(), eq(params))).thenReturn(new WebSubResponse(200, "token"));
+        RssFeedOutput pushed = new RssFeedOutput();
+        pushed.setSuccess(true);
+        byte[] body = "<rss/>".getBytes(StandardCharsets.UTF_8);
+        when(subscriber.handleContentDelivery(any(), eq("sha256=abc"), eq(body)))
+                .thenReturn(new WebSubResponse(200, "", pushed));
+
+        // When
+        WebhookHttpResponse verification = connector.verify(payload("GET", Map.of(), params, new byte[0]));
+        WebhookHttpResponse notVerification = connector.verify(payload("POST", Map.of(), Map.of(), body));
+        WebhookResult result = connector.triggerWebhook(
+                payload("POST", Map.of("x-hub-signature", "sha256=abc"), Map.of(), body));
+
+        // Then
+        assertThat(verification.statusCode()).isEqualTo(200);
+        assertThat(verification.body()).isEqualTo("token");
+        assertThat(notVerification).isNull();
+        assertThat(result.request().body()).isSameAs(pushed);
+    }
+
+    @Test
+    void shouldAcknowledgeIgnoredContentWithoutCorrelation() {
+        // Given
+        when(subscriber.checkContentDelivery(any(), any(), any())).thenReturn(new WebSubResponse(202, ""));
+
+        // When
+        WebhookHttpResponse response = connector.verify(payload("POST", Map.of(), Map.of(), new byte[0]));
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void shouldAnswerVerificationSentWhileSubscribing() throws Exception {
+        // Given - the hub verifies the intent before it answers the subscription request
+        RssFeedPushInput input = new RssFeedPushInput(FEED_URL, CALLBACK);
+        input.setHubUrl(HUB_URL);
+        when(context.bindProperties(RssFeedPushInput.class)).thenReturn(input);
+        Map<String, String> params = Map.of("hub.mode", "subscribe", "hub.challenge", "token");
+        String id = WebSubSubscriber.subscriptionId(CALLBACK, FEED_URL);
+        when(subscriber.handleVerification(eq(id), eq(params))).thenReturn(new WebSubResponse(200, "token"));
+        WebhookHttpResponse[] verification = new WebhookHttpResponse[1];
+        when(subscriber.subscribe(any(), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            verification[0] = connector.verify(payload("GET", Map.of(), params, new byte[0]));
+            return new WebSubSubscription(id, HUB_URL, FEED_URL, CALLBACK, "secret", 3600);
+        });
+
+        // When
+        connector.activate(context);
+
+        // Then
+        assertThat(verification[0].statusCode()).isEqualTo(200);
+        assertThat(verification[0].body()).isEqualTo("token");
+    }
+
+    private static WebhookProcessingPayload payload(String method, Map<String, String> headers,
+                                                    Map<String, String> params, byte[] body) {
+        return new WebhookProcessingPayload() {
+            @Override
+            public String requestURL() {
+                return CALLBACK;
+            }
+
+            @Override
+            public String method() {
+                return method;
+            }
+
+            @Override
+            public Map<String, String> headers() {
+                return headers;
+            }
+
+            @Override
+            public Map<String, String> params() {
+                return params;
+            }
+
+            @Override
+            public byte[] rawBody() {
+                return body;
+            }
+
+            @Override
+            public List<Part> parts() {
+                return List.of();
+            }
+        };
+    }
+}
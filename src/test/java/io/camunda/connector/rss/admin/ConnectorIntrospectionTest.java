@@ -0,0 +1,109 @@
+package io.camunda.connector.rss.admin;
+
+import io.camunda.connector.rss.cache.FailureClass;
+import io.camunda.connector.rss.cache.NegativeCache;
+import io.camunda.connector.rss.hedge.HedgeBudget;
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.limit.HostRateLimiter;
+import io.camunda.connector.rss.metrics.ConnectorMetrics;
+import io.camunda.connector.rss.schedule.FetchScheduler;
+import io.camunda.connector.rss.state.InMemorySharedStateStore;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectorIntrospectionTest {
+
+    private final HostRateLimiter rateLimiter = new HostRateLimiter(new InMemorySharedStateStore(100, Map.of()), 2, 100);
+    private final HostConcurrencyLimiter concurrencyLimiter = new HostConcurrencyLimiter(4, 32, 0, 0);
+    private final HostLatencyTracker latencyTracker = new HostLatencyTracker();
+    private final NegativeCache negativeCache = new NegativeCache(100, System::currentTimeMillis);
+    private final ConnectorIntrospection introspection = new ConnectorIntrospection(
+            new FetchScheduler(8, 4, 10, 10, 1000), rateLimiter, concurrencyLimiter, latencyTracker,
+            new HedgeBudget(10, 10), negativeCache, new ConnectorMetrics());
+
+    @Test
+    void shouldSnapshotLimitsAndLatenciesPerHost() {
+        // Given
+        rateLimiter.acquire("fast.example.com");
+        rateLimiter.acquire("slow.example.com");
+        rateLimiter.acquire("slow.example.com");
+        HostConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire("slow.example.com");
+        for (int i = 0; i < HostLatencyTracker.MIN_SAMPLES; i++) {
+            latencyTracker.record("fast.example.com", 20);
+            latencyTracker.record("slow.example.com", 900);
+        }
+        latencyTracker.record("new.example.com", 5000);
+
+        // When
+        ConnectorStats stats = introspection.snapshot();
+        List<ConnectorStats.HostStats> slowest = introspection.slowestHosts(2);
+        permit.close();
+
+        // Then
+        assertThat(stats.hosts()).extracting(ConnectorStats.HostStats::host)
+                .containsExactlyInAnyOrder("fast.example.com", "slow.example.com", "new.example.com");
+        ConnectorStats.HostStats slow = introspection.host("slow.example.com");
+        assertThat(stats.hosts()).filteredOn(host -> host.host().equals("slow.example.com")).singleElement()
+                .satisfies(host -> {
+                    assertThat(host.requestsThisMinute()).isEqualTo(2);
+                    assertThat(host.requestsThisHour()).isEqualTo(2);
+                    assertThat(host.inFlight()).isEqualTo(1);
+                    assertThat(host.concurrencyLimit()).isEqualTo(4);
+                    assertThat(host.p95Millis()).isGreaterThanOrEqualTo(900);
+                });
+        assertThat(slow.inFlight()).isZero();
+        assertThat(slowest).extracting(ConnectorStats.HostStats::host)
+                .containsExactly("slow.example.com", "fast.example.com");
+        assertThat(stats.httpClients().connections()).isGreaterThanOrEqualTo(stats.httpClients().idleConnections());
+    }
+
+    @Test
+    void shouldResetAHostsLimitsAndFlushTheNegativeCache() {
+        // Given
+        rateLimiter.acquire("busy.example.com");
+        rateLimiter.acquire("busy.example.com");
+        assertThatThrownBy(() -> rateLimiter.acquire("busy.example.com")).isInstanceOf(SecurityException.class);
+        negativeCache.record("https://gone.example.com/feed.xml", FailureClass.GONE, "410", null);
+
+        // When
+        introspection.resetHost("busy.example.com");
+        rateLimiter.acquire("busy.example.com");
+        ConnectorIntrospection.FlushResult flushed = introspection.flushCaches();
+
+        // Then
+        assertThat(introspection.host("busy.example.com").requestsThisMinute()).isEqualTo(1);
+        assertThat(introspection.snapshot().rateLimitRejected()).isEqualTo(1);
+        assertThat(flushed.negativeCacheEntries()).isEqualTo(1);
+        assertThat(negativeCache.lookup("https://gone.example.com/feed.xml")).isNull();
+    }
+
+    @Test
+    void shouldExposeStatsAndOperationsOverJmx() throws Exception {
+        // Given
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(ConnectorAdmin.OBJECT_NAME);
+        new ConnectorAdmin(introspection).register(server, name);
+        for (int i = 0; i < HostLatencyTracker.MIN_SAMPLES; i++) {
+            latencyTracker.record("slow.example.com", 900);
+        }
+
+        // When
+        Object negativeEntries = server.getAttribute(name, "NegativeCacheEntries");
+        String[] slowest = (String[]) server.invoke(name, "slowestHosts", new Object[]{5}, new String[]{"int"});
+        Object flushed = server.invoke(name, "flushCaches", new Object[0], new String[0]);
+
+        // Then
+        assertThat(negativeEntries).isEqualTo(0);
+        assertThat(slowest).singleElement().asString().startsWith("slow.example.com: p95=");
+        assertThat(flushed).asString().startsWith("Flushed ");
+    }
+}
@@ -0,0 +1,185 @@
+package io.camunda.connector.rss.archive;
+
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedArchiveTest {
+
+    private static final String FEED_A = "https://a.example.com/feed.xml";
+    private static final String FEED_B = "https://b.example.com/feed.xml";
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldAppendNewItemsOnlyAndRoundTripThem() throws Exception {
+        try (FeedArchive archive = new FeedArchive(directory, FeedArchive.DEFAULT_SEGMENT_BYTES, Duration.ofDays(36500))) {
+            // Given
+            CompactItem item = CompactItem.of("Title", "Description", "https://a.example.com/posts/1", "guid-1",
+                    BASE.toEpochMilli(), "Author", List.of("News", "Tech"),
+                    List.of(CompactEnclosure.of("https://a.example.com/1.mp3", "audio/mpeg", 1234L, StringPool.SHARED)),
+                    "<p>Content</p>", "https://a.example.com/posts/1#comments", StringPool.SHARED);
+
+            // When
+            int first = archive.append(FEED_A, List.of(item));
+            int second = archive.append(FEED_A, List.of(item));
+            int otherFeed = archive.append(FEED_B, List.of(item));
+
+            // Then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(otherFeed).isEqualTo(1);
+            ArchivedItem archived = archive.findByGuid(FEED_A, "guid-1").orElseThrow();
+            assertThat(archived.feedUrl()).isEqualTo(FEED_A);
+            assertThat(archived.item().toRssItem()).usingRecursiveComparison().isEqualTo(item.toRssItem());
+        }
+    }
+
+    @Test
+    void shouldQueryTimeRangesAndFeedsAcrossSegments() throws Exception {
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(36500))) {
+            // Given - 200 hourly items per feed spread over many small segments
+            archive.append(FEED_A, hourlyItems("a", 200));
+            archive.append(FEED_B, hourlyItems("b", 200));
+
+            // When
+            List<ArchivedItem> day = archive.query(null, BASE.plus(Duration.ofHours(24)),
+                    BASE.plus(Duration.ofHours(47)), Integer.MAX_VALUE);
+            List<ArchivedItem> feedB = archive.query(List.of(FEED_B), BASE.plus(Duration.ofHours(100)), null, 5);
+
+            // Then
+            assertThat(archive.segmentCount()).isGreaterThan(5);
+            assertThat(day).hasSize(48);
+            assertThat(feedB).extracting(archived -> archived.item().guid())
+                    .containsExactly("b-199", "b-198", "b-197", "b-196", "b-195");
+        }
+    }
+
+    @Test
+    void shouldRestoreIndexesAndTruncateTornRecordOnReopen() throws Exception {
+        // Given
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(36500))) {
+            archive.append(FEED_A, hourlyItems("a", 100));
+        }
+        Path lastSegment;
+        try (var files = Files.list(directory)) {
+            lastSegment = files.filter(file -> file.toString().endsWith(".log")).sorted().reduce((a, b) -> b).orElseThrow();
+        }
+        Files.write(lastSegment, new byte[]{0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        // When
+        try (FeedArchive reopened = new FeedArchive(directory, 4096, Duration.ofDays(36500))) {
+            int appended = reopened.append(FEED_A, hourlyItems("a", 101));
+
+            // Then
+            assertThat(appended).isEqualTo(1);
+            assertThat(reopened.size()).isEqualTo(101);
+            assertThat(reopened.query(List.of(FEED_A), null, null, Integer.MAX_VALUE)).hasSize(101);
+            assertThat(reopened.findByGuid(FEED_A, "a-42")).isPresent();
+        }
+    }
+
+    @Test
+    void shouldDeleteSegmentsArchivedLongerAgoThanRetention() throws Exception {
+        AtomicLong clock = new AtomicLong(BASE.toEpochMilli());
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(7), clock::get)) {
+            // Given - 100 items archived now and 100 more two days later
+            archive.append(FEED_A, hourlyItems("a", 100));
+            clock.addAndGet(Duration.ofDays(2).toMillis());
+            archive.append(FEED_A, hourlyItems("a", 200).subList(100, 200));
+            int segmentsBefore = archive.segmentCount();
+
+            // When - eight days after the first batch was archived
+            int deleted = archive.applyRetention(BASE.plus(Duration.ofDays(8)));
+
+            // Then
+            assertThat(deleted).isGreaterThan(0);
+            assertThat(archive.segmentCount()).isEqualTo(segmentsBefore - deleted);
+            assertThat(archive.findByGuid(FEED_A, "a-0")).isEmpty();
+            assertThat(archive.findByGuid(FEED_A, "a-199")).isPresent();
+        }
+    }
+
+    @Test
+    void shouldSealAndDeleteActiveSegmentOlderThanRetention() throws Exception {
+        AtomicLong clock = new AtomicLong(BASE.toEpochMilli());
+        try (FeedArchive archive = new FeedArchive(directory, FeedArchive.DEFAULT_SEGMENT_BYTES, Duration.ofDays(7),
+                clock::get)) {
+            // Given - a single active segment
+            archive.append(FEED_A, hourlyItems("a", 24));
+
+            // When - eight days after it was archived
+            clock.addAndGet(Duration.ofDays(8).toMillis());
+            int deleted = archive.applyRetention(Instant.ofEpochMilli(clock.get()));
+            archive.append(FEED_A, hourlyItems("b", 1, Instant.ofEpochMilli(clock.get())));
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(archive.findByGuid(FEED_A, "a-23")).isEmpty();
+            assertThat(archive.findByGuid(FEED_A, "b-0")).isPresent();
+            assertThat(archive.segmentCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldKeepItemsPublishedBeforeTheRetentionPeriodWhileTheyAreStillInTheFeed() throws Exception {
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(7))) {
+            // Given - a feed whose items were published months ago
+            List<CompactItem> items = hourlyItems("a", 100, Instant.now().minus(Duration.ofDays(90)));
+            archive.append(FEED_A, items);
+
+            // When
+            int deleted = archive.applyRetention(Instant.now());
+            int appendedAgain = archive.append(FEED_A, items);
+
+            // Then
+            assertThat(deleted).isZero();
+            assertThat(appendedAgain).isZero();
+            assertThat(archive.findByGuid(FEED_A, "a-0")).isPresent();
+        }
+    }
+
+    @Test
+    void shouldReturnNewestItemsUpToLimit() throws Exception {
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(36500))) {
+            // Given
+            archive.append(FEED_A, hourlyItems("a", 300));
+
+            // When
+            List<ArchivedItem> newest = archive.query(null, null, null, 3);
+
+            // Then
+            assertThat(newest).extracting(item -> item.item().guid()).containsExactly("a-299", "a-298", "a-297");
+            assertThat(archive.query(null, null, null, 0)).isEmpty();
+        }
+    }
+
+    private static List<CompactItem> hourlyItems(String prefix, int count) {
+        return hourlyItems(prefix, count, BASE);
+    }
+
+    private static List<CompactItem> hourlyItems(String prefix, int count, Instant start) {
+        List<CompactItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(CompactItem.of("Item " + i, "Description of item " + i, "https://example.com/" + prefix + "/" + i,
+                    prefix + "-" + i, start.plus(Duration.ofHours(i)).toEpochMilli(), null, null, null, null, null,
+                    StringPool.SHARED));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,87 @@
+package io.camunda.connector.rss.cache;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCacheTest {
+
+    @Test
+    void shouldClassifyAgeAgainstPolicyWindows() {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setCacheMaxAgeSeconds(60);
+        input.setStaleWhileRevalidateSeconds(60);
+        input.setStaleIfErrorSeconds(600);
+
+        // When
+        CachePolicy policy = CachePolicy.of(input);
+
+        // Then
+        assertThat(policy.enabled()).isTrue();
+        assertThat(policy.classify(30_000)).isEqualTo(CachePolicy.Freshness.FRESH);
+        assertThat(policy.classify(90_000)).isEqualTo(CachePolicy.Freshness.STALE_WHILE_REVALIDATE);
+        assertThat(policy.classify(200_000)).isEqualTo(CachePolicy.Freshness.EXPIRED);
+        assertThat(policy.allowsStaleIfError(600_000)).isTrue();
+        assertThat(policy.allowsStaleIfError(700_000)).isFalse();
+        assertThat(CachePolicy.of(new RssFeedInput("https://example.com/feed.xml")).enabled()).isFalse();
+    }
+
+    @Test
+    void shouldKeepCopiesFetchedWithDifferentCredentialsApart() {
+        // Given
+        FeedCache cache = new FeedCache(2, Executors.newSingleThreadExecutor());
+        String anonymous = FeedCache.key("https://example.com/feed.xml", null);
+        String alice = FeedCache.key("https://example.com/feed.xml", "Bearer alice");
+        String bob = FeedCache.key("https://example.com/feed.xml", "Bearer bob");
+
+        // When
+        cache.put(alice, new CachedFeed("<rss/>", null, null, 1), null);
+        cache.put(bob, new CachedFeed("<rss/>", null, null, 2), null);
+        cache.put(anonymous, new CachedFeed("<rss/>", null, null, 3), null);
+
+        // Then
+        assertThat(alice).isNotEqualTo(bob).doesNotContain("alice");
+        assertThat(cache.get(alice)).isNull();
+        assertThat(cache.get(anonymous).fetchedAtMillis()).isEqualTo(3);
+        assertThat(cache.get(bob).fetchedAtMillis()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRunOneBackgroundRefreshPerFeedAtATime() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        FeedCache cache = new FeedCache(10, executor);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger refreshes = new AtomicInteger();
+        Runnable refresh = () -> {
+            refreshes.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // When
+        boolean first = cache.refreshAsync("feed", refresh);
+        boolean second = cache.refreshAsync("feed", refresh);
+        boolean other = cache.refreshAsync("other", refresh);
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(other).isTrue();
+        assertThat(refreshes).hasValue(2);
+    }
+}
@@ -0,0 +1,60 @@
+package io.camunda.connector.rss.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeCacheTest {
+
+    @Test
+    void shouldExpireFailuresAfterTheTtlOfTheirClass() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_000_000);
+        NegativeCache cache = new NegativeCache(100, clock::get);
+        cache.record("https://example.com/gone.xml", FailureClass.GONE, "HTTP request failed with status 410: Gone", null);
+        cache.record("https://example.com/slow.xml", FailureClass.TIMEOUT, "timeout", null);
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+
+        // Then
+        assertThat(cache.lookup("https://example.com/gone.xml").failureClass()).isEqualTo(FailureClass.GONE);
+        assertThat(cache.lookup("https://example.com/slow.xml")).isNull();
+        assertThat(cache.lookup("https://example.com/other.xml")).isNull();
+        clock.addAndGet(FailureClass.GONE.ttl().toMillis());
+        assertThat(cache.lookup("https://example.com/gone.xml")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldApplyHostWideFailuresToAllFeedsOfTheHost() {
+        // Given
+        AtomicLong clock = new AtomicLong(0);
+        NegativeCache cache = new NegativeCache(100, clock::get);
+
+        // When
+        cache.record("https://missing.example/a.xml", FailureClass.UNKNOWN_HOST, "missing.example", null);
+        cache.record("https://busy.example/a.xml", FailureClass.RATE_LIMITED, "429", Duration.ofSeconds(5));
+
+        // Then
+        assertThat(cache.lookup("https://missing.example/b.xml").failureClass()).isEqualTo(FailureClass.UNKNOWN_HOST);
+        assertThat(cache.lookup("http://missing.example/b.xml")).isNull();
+        assertThat(cache.lookup("https://busy.example/b.xml")).isNull();
+        assertThat(cache.lookup("https://busy.example/a.xml").expiresAtMillis()).isEqualTo(5000);
+    }
+
+    @Test
+    void shouldClassifyStatusCodesAndExceptions() {
+        // When & Then
+        assertThat(FailureClass.ofStatus(410)).isEqualTo(FailureClass.GONE);
+        assertThat(FailureClass.ofStatus(404)).isEqualTo(FailureClass.NOT_FOUND);
+        assertThat(FailureClass.ofStatus(403)).isEqualTo(FailureClass.CLIENT_ERROR);
+        assertThat(FailureClass.ofStatus(503)).isEqualTo(FailureClass.SERVER_ERROR);
+        assertThat(FailureClass.ofException(new java.net.UnknownHostException("x")).retryable()).isFalse();
+        assertThat(FailureClass.ofException(new java.net.SocketTimeoutException("x"))).isEqualTo(FailureClass.TIMEOUT);
+        assertThat(FailureClass.GONE.ttl()).isGreaterThan(FailureClass.TIMEOUT.ttl());
+    }
+}
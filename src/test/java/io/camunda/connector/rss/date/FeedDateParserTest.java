@@ -0,0 +1,87 @@
+package io.camunda.connector.rss.date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedDateParserTest {
+
+    private static final long EXPECTED = Instant.parse("2024-01-15T10:30:00Z").toEpochMilli();
+
+    private FeedDateParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new FeedDateParser();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Mon, 15 Jan 2024 10:30:00 GMT",
+            "Mon, 15 Jan 2024 10:30:00 +0000",
+            "Mon, 15 Jan 2024 05:30:00 EST",
+            "Mon, 15 Jan 2024 11:30:00 +01:00",
+            "15 Jan 2024 10:30 GMT",
+            "Monday, 15 January 2024 10:30:00 UT",
+            "Mon, 15 Jan 24 10:30:00 Z",
+            "  Mon,  15 Jan 2024\t10:30:00 GMT (Coordinated Universal Time)",
+            "Mon, 15 Jan 2024 11:30:00 CET",
+            "2024-01-15T10:30:00Z",
+            "2024-01-15T10:30:00.000Z",
+            "2024-01-15T12:30:00+02:00",
+            "2024-01-15T10:30:00",
+            "2024-01-15 10:30:00",
+            "2024-01-15T10:30Z",
+            "January 15, 2024 10:30 AM",
+            "20240115T103000Z"
+    })
+    void shouldParseCommonAndBrokenFormats(String text) {
+        // When
+        long millis = parser.parse(text);
+
+        // Then
+        assertThat(millis).as(text).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldParseDateOnlyAsMidnightUtc() {
+        // When & Then
+        assertThat(parser.parse("2024-01-15")).isEqualTo(Instant.parse("2024-01-15T00:00:00Z").toEpochMilli());
+        assertThat(parser.parse("15.01.2024")).isEqualTo(Instant.parse("2024-01-15T00:00:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldCountFailuresWithoutThrowing() {
+        // When
+        long garbage = parser.parse("not a date", "https://example.com/feed.xml");
+        long invalidDay = parser.parse("2024-02-30T10:30:00Z");
+        long empty = parser.parse("   ");
+
+        // Then
+        assertThat(garbage).isEqualTo(FeedDateParser.UNPARSEABLE);
+        assertThat(invalidDay).isEqualTo(FeedDateParser.UNPARSEABLE);
+        assertThat(empty).isEqualTo(FeedDateParser.UNPARSEABLE);
+        assertThat(parser.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRememberDetectedFormatPerFeed() {
+        // Given
+        String feed = "https://example.com/feed.xml";
+        parser.parse("January 15, 2024 10:30 AM", feed);
+
+        // When
+        long millis = parser.parse("January 16, 2024 10:30 AM", feed);
+
+        // Then
+        assertThat(millis).isEqualTo(EXPECTED + 86_400_000L);
+        assertThat(parser.getParsedCount()).isEqualTo(2);
+        // Only the first date had to walk the fallback chain
+        assertThat(parser.getFallbackParsedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package io.camunda.connector.rss.dedup;
+
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemDeduplicatorTest {
+
+    private final ItemDeduplicator deduplicator = new ItemDeduplicator();
+
+    @Test
+    void shouldCanonicalizeTrackingLinks() {
+        // When & Then
+        assertThat(LinkCanonicalizer.canonicalize("https://www.Example.com/news/story/?utm_source=rss&id=7&fbclid=x#top"))
+                .isEqualTo("example.com/news/story?id=7");
+        assertThat(LinkCanonicalizer.canonicalize("http://example.com:80/news/story?id=7"))
+                .isEqualTo("example.com/news/story?id=7");
+        assertThat(LinkCanonicalizer.canonicalize("https://example.com/a?b=2&a=1"))
+                .isEqualTo(LinkCanonicalizer.canonicalize("https://example.com/a?a=1&b=2"));
+        assertThat(LinkCanonicalizer.canonicalize("urn:uuid:1234")).isEqualTo("urn:uuid:1234");
+    }
+
+    @Test
+    void shouldKeepAmbiguousParametersUnlessConfigured() {
+        // Given
+        String link = "https://example.com/search?source=archive&ref=2024&ncid=rss";
+
+        // When & Then
+        assertThat(LinkCanonicalizer.canonicalize(link)).isEqualTo("example.com/search?ncid=rss&ref=2024&source=archive");
+        assertThat(LinkCanonicalizer.canonicalize(link, LinkCanonicalizer.parseNames(" NCID, ref ")))
+                .isEqualTo("example.com/search?source=archive");
+    }
+
+    @Test
+    void shouldRemoveLinkContentAndNearDuplicates() {
+        // Given
+        List<CompactItem> items = List.of(
+                item("Central bank raises interest rates by half a point", "The central bank raised rates on Tuesday.",
+                        "https://news.example.com/economy/rates?utm_source=rss"),
+                item("Rates go up again", "Other outlet, same link.", "https://news.example.com/economy/rates"),
+                item("Central bank raises interest rates by half a point", "The central bank raised rates on Tuesday.",
+                        "https://mirror.example.org/story/1"),
+                item("Central bank raises key interest rates by half a point", "The central bank raised rates on Tuesday.",
+                        "https://other.example.net/2024/rates-up"),
+                item("Local team wins the championship after a dramatic final",
+                        "Fans celebrated late into the night.", "https://sports.example.com/final"));
+
+        // When
+        ItemDeduplicator.DedupResult result = deduplicator.deduplicate(items);
+
+        // Then
+        assertThat(result.items()).extracting(CompactItem::link)
+                .containsExactly("https://news.example.com/economy/rates?utm_source=rss", "https://sports.example.com/final");
+        assertThat(result.linkDuplicates()).isEqualTo(1);
+        assertThat(result.contentDuplicates()).isEqualTo(1);
+        assertThat(result.nearDuplicates()).isEqualTo(1);
+        assertThat(result.removed()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepDistinctItemsWithTheSameShortTitle() {
+        // Given
+        List<CompactItem> items = List.of(
+                item("Daily update", null, "https://a.example.com/2024/05/01"),
+                item("Daily update", null, "https://a.example.com/2024/05/02"),
+                item("Podcast episode", null, "https://b.example.com/episodes/41"),
+                item("Podcast episode", null, "https://b.example.com/episodes/41?utm_source=rss"));
+
+        // When
+        ItemDeduplicator.DedupResult result = deduplicator.deduplicate(items);
+
+        // Then
+        assertThat(result.items()).extracting(CompactItem::link).containsExactly("https://a.example.com/2024/05/01",
+                "https://a.example.com/2024/05/02", "https://b.example.com/episodes/41");
+        assertThat(result.linkDuplicates()).isEqualTo(1);
+        assertThat(result.contentDuplicates()).isZero();
+    }
+
+    @Test
+    void shouldKeepDistinctStoriesInLargeBatches() {
+        // Given - thousands of distinct stories, each published again by another feed with a different prefix
+        Random random = new Random(42);
+        List<String> stories = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder story = new StringBuilder();
+            for (int word = 0; word < 12; word++) {
+                story.append(" w").append(random.nextInt(2000));
+            }
+            stories.add(story.toString());
+        }
+        List<CompactItem> items = new ArrayList<>();
+        for (int i = 0; i < stories.size(); i++) {
+            items.add(item("Breaking:" + stories.get(i), null, "https://a.example.com/" + i));
+        }
+        for (int i = 0; i < stories.size(); i++) {
+            items.add(item("Update:" + stories.get(i), null, "https://b.example.com/" + i));
+        }
+
+        // When
+        ItemDeduplicator.DedupResult result = deduplicator.deduplicate(items);
+
+        // Then
+        assertThat(result.items()).hasSize(5000);
+        assertThat(result.nearDuplicates()).isEqualTo(5000);
+    }
+
+    private static CompactItem item(String title, String description, String link) {
+        return CompactItem.of(title, description, link, link, CompactItem.NO_DATE, null, null, null, null, null,
+                StringPool.SHARED);
+    }
+}
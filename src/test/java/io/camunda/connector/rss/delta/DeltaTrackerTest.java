@@ -0,0 +1,83 @@
+package io.camunda.connector.rss.delta;
+
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaTrackerTest {
+
+    private static final String FEED = "https://example.com/feed.xml";
+
+    @Test
+    void shouldReportNewUpdatedAndRemovedItems() {
+        // Given
+        DeltaTracker tracker = new DeltaTracker(10);
+        List<CompactItem> first = List.of(item("1", "One", 1000), item("2", "Two", 2000), item("3", "Three", 3000));
+        List<CompactItem> second = List.of(item("2", "Two", 2000), item("3", "Three (corrected)", 3000), item("4", "Four", 4000));
+
+        // When
+        DeltaTracker.DeltaResult initial = tracker.diff(FEED, first, null, true, null, null, 1, "Feed");
+        DeltaTracker.DeltaResult next = tracker.diff(FEED, second, null, true, null, null, 2, "Feed");
+        DeltaTracker.DeltaResult unchanged = tracker.diff(FEED, second, null, true, null, null, 2, "Feed");
+
+        // Then
+        assertThat(initial.firstSnapshot()).isTrue();
+        assertThat(initial.newItems()).isEqualTo(3);
+        assertThat(initial.removedGuids()).isEmpty();
+        assertThat(next.firstSnapshot()).isFalse();
+        assertThat(next.changed()).extracting(CompactItem::guid).containsExactly("3", "4");
+        assertThat(next.newItems()).isEqualTo(1);
+        assertThat(next.updatedGuids()).containsExactly("3");
+        assertThat(next.removedGuids()).containsExactly("1");
+        assertThat(unchanged.changed()).isEmpty();
+        assertThat(unchanged.removedGuids()).isEmpty();
+    }
+
+    @Test
+    void shouldDetectChangedUpdatedDateAndEvictLeastRecentlyUsedFeeds() {
+        // Given
+        DeltaTracker tracker = new DeltaTracker(2);
+        List<CompactItem> items = List.of(item("1", "One", 1000));
+        tracker.diff(FEED, items, new long[]{5000}, false, "\"v1\"", null, 1, "Feed");
+
+        // When
+        DeltaTracker.DeltaResult updated = tracker.diff(FEED, items, new long[]{6000}, false, "\"v2\"", null, 2, "Feed");
+        tracker.diff("https://b.example.com/feed.xml", items, null, false, null, null, 3, "B");
+        tracker.diff("https://c.example.com/feed.xml", items, null, false, null, null, 4, "C");
+
+        // Then
+        assertThat(updated.updatedGuids()).containsExactly("1");
+        assertThat(updated.removedGuids()).isNull();
+        assertThat(tracker.snapshot(FEED)).isNull();
+        assertThat(tracker.snapshot("https://c.example.com/feed.xml").getBodyHash()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDeferSelectedChangesBeyondTheLimitAndRecordRejectedOnes() {
+        // Given
+        DeltaTracker tracker = new DeltaTracker(10);
+        List<CompactItem> items = List.of(item("1", "One", 1000), item("2", "Two", 2000), item("3", "Three", 3000));
+
+        // When - item 2 is not selected and at most one change is reported per call
+        DeltaTracker.DeltaResult first = tracker.diff(FEED, items, null, item -> !"2".equals(item.guid()), 1,
+                true, null, null, 1, "Feed");
+        DeltaTracker.DeltaResult second = tracker.diff(FEED, items, null, item -> !"2".equals(item.guid()), 1,
+                true, null, null, 1, "Feed");
+        DeltaTracker.DeltaResult third = tracker.diff(FEED, items, null, true, null, null, 1, "Feed");
+
+        // Then
+        assertThat(first.changed()).extracting(CompactItem::guid).containsExactly("1");
+        assertThat(second.changed()).extracting(CompactItem::guid).containsExactly("3");
+        assertThat(second.removedGuids()).isEmpty();
+        assertThat(third.changed()).isEmpty();
+    }
+
+    private static CompactItem item(String guid, String title, long pubDate) {
+        return CompactItem.of(title, "Description " + guid, "https://example.com/" + guid, guid, pubDate,
+                null, null, null, null, null, StringPool.SHARED);
+    }
+}
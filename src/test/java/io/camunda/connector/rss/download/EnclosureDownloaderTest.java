@@ -0,0 +1,167 @@
+package io.camunda.connector.rss.download;
+
+import io.camunda.connector.rss.dto.RssEnclosureDownload;
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnclosureDownloaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStreamEnclosuresToFilesWithTheirHashAndKeepThem() throws Exception {
+        byte[] audio = randomBytes(300_000);
+        try (MockWebServer server = new MockWebServer()) {
+            // Given
+            server.setDispatcher(serving(audio));
+            server.start();
+            String url = "http://downloads.test:" + server.getPort() + "/episodes/episode-1.mp3";
+            EnclosureDownloader downloader = new EnclosureDownloader(directory, 2, 0, 1_000_000);
+
+            // When
+            List<RssEnclosureDownload> first = downloader.downloadAll(client(), List.of(url), "test-agent", 0);
+            RssEnclosureDownload second = downloader.download(client(), url, "test-agent", 0);
+
+            // Then
+            RssEnclosureDownload download = first.get(0);
+            assertThat(download.getStatus()).isEqualTo(EnclosureDownloader.DOWNLOADED);
+            assertThat(download.getFile()).endsWith("-episode-1.mp3");
+            assertThat(Files.readAllBytes(Path.of(download.getFile()))).isEqualTo(audio);
+            assertThat(download.getSize()).isEqualTo(audio.length);
+            assertThat(download.getSha256()).isEqualTo(sha256(audio));
+            assertThat(second.getStatus()).isEqualTo(EnclosureDownloader.EXISTING);
+            assertThat(second.getSha256()).isEqualTo(download.getSha256());
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldResumePartialDownloadsWithRangeRequests() throws Exception {
+        byte[] audio = randomBytes(200_000);
+        try (MockWebServer server = new MockWebServer()) {
+            // Given - the first 50,000 bytes were downloaded before
+            server.setDispatcher(serving(audio));
+            server.start();
+            String url = "http://resume.test:" + server.getPort() + "/episode-2.mp3";
+            Path part = directory.resolve(EnclosureDownloader.fileName(url) + ".part");
+            Files.write(part, Arrays.copyOf(audio, 50_000));
+            EnclosureDownloader downloader = new EnclosureDownloader(directory, 1, 0, 1_000_000);
+
+            // When
+            RssEnclosureDownload download = downloader.download(client(), url, null, 0);
+
+            // Then
+            assertThat(server.takeRequest().getHeader("Range")).isEqualTo("bytes=50000-");
+            assertThat(download.getStatus()).isEqualTo(EnclosureDownloader.RESUMED);
+            assertThat(download.getSha256()).isEqualTo(sha256(audio));
+            assertThat(Files.readAllBytes(Path.of(download.getFile()))).isEqualTo(audio);
+            assertThat(part).doesNotExist();
+        }
+    }
+
+    @Test
+    void shouldLimitBandwidthAndSize() throws Exception {
+        byte[] audio = randomBytes(512 * 1024);
+        try (MockWebServer server = new MockWebServer()) {
+            // Given
+            server.setDispatcher(serving(audio));
+            server.start();
+            String base = "http://throttled.test:" + server.getPort();
+            EnclosureDownloader downloader = new EnclosureDownloader(directory, 2, 0, 600 * 1024);
+            EnclosureDownloader small = new EnclosureDownloader(directory.resolve("small"), 1, 0, 100_000);
+            long start = System.nanoTime();
+
+            // When
+            RssEnclosureDownload throttled = downloader.download(client(), base + "/slow.mp3", null, 128 * 1024);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            RssEnclosureDownload tooLarge = small.download(client(), base + "/large.mp3", null, 0);
+
+            // Then - the throttler allows a burst of 256 KiB before limiting
+            assertThat(throttled.getStatus()).isEqualTo(EnclosureDownloader.DOWNLOADED);
+            assertThat(elapsedMillis).isGreaterThan(1500);
+            assertThat(tooLarge.getStatus()).isEqualTo(EnclosureDownloader.FAILED);
+            assertThat(tooLarge.getError()).contains("maximum download size");
+            try (var files = Files.list(directory.resolve("small"))) {
+                assertThat(files).noneMatch(file -> file.getFileName().toString().endsWith(".part"));
+            }
+        }
+    }
+
+    @Test
+    void shouldHoldAHostSlotAndBackOffWhenTheHostIsOverloaded() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            // Given
+            server.enqueue(new MockResponse().setBody("audio"));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.start();
+            String base = "http://busy-downloads.test:" + server.getPort();
+            HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(4, 4, 10, 5_000);
+            HostLatencyTracker latencies = new HostLatencyTracker();
+            EnclosureDownloader downloader = new EnclosureDownloader(directory, 1, 0, 1_000_000, limiter, latencies);
+
+            // When
+            RssEnclosureDownload downloaded = downloader.download(client(), base + "/1.mp3", null, 0);
+            RssEnclosureDownload refused = downloader.download(client(), base + "/2.mp3", null, 0);
+
+            // Then
+            assertThat(downloaded.getStatus()).isEqualTo(EnclosureDownloader.DOWNLOADED);
+            assertThat(refused.getStatus()).isEqualTo(EnclosureDownloader.FAILED);
+            assertThat(limiter.inFlight("busy-downloads.test")).isZero();
+            assertThat(limiter.limit("busy-downloads.test")).isEqualTo(2);
+            assertThat(latencies.sampleCount("busy-downloads.test")).isEqualTo(2);
+        }
+    }
+
+    private static Dispatcher serving(byte[] content) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String range = request.getHeader("Range");
+                if (range != null) {
+                    int start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                    return new MockResponse().setResponseCode(206)
+                            .addHeader("Content-Range", "bytes " + start + "-" + (content.length - 1) + "/" + content.length)
+                            .setBody(new Buffer().write(content, start, content.length - start));
+                }
+                return new MockResponse().setBody(new Buffer().write(content));
+            }
+        };
+    }
+
+    private static OkHttpClient client() {
+        return new OkHttpClient.Builder()
+                .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                .build();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,141 @@
+package io.camunda.connector.rss.enclosure;
+
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.model.CompactEnclosure;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import io.camunda.connector.rss.state.InMemorySharedStateStore;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnclosureProberTest {
+
+    @Test
+    void shouldFillMissingTypesAndLengthsFromHeadAndRangeRequestsAndCacheThem() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            // Given - one server answering HEAD, one refusing it, one missing episode
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    String path = request.getPath();
+                    if (path.equals("/head.mp3") && request.getMethod().equals("HEAD")) {
+                        return new MockResponse().addHeader("Content-Type", "audio/mpeg; charset=binary")
+                                .addHeader("Content-Length", "12345");
+                    }
+                    if (path.equals("/range.m4a") && request.getMethod().equals("GET")
+                            && "bytes=0-0".equals(request.getHeader("Range"))) {
+                        return new MockResponse().setResponseCode(206).addHeader("Content-Type", "audio/mp4")
+                                .addHeader("Content-Range", "bytes 0-0/67890").setBody("x");
+                    }
+                    if (path.equals("/range.m4a")) {
+                        return new MockResponse().setResponseCode(405);
+                    }
+                    return new MockResponse().setResponseCode(404);
+                }
+            });
+            server.start();
+            String base = "http://enclosures.test:" + server.getPort();
+            EnclosureProber prober = new EnclosureProber(new InMemorySharedStateStore(100, Map.of()), 2, Duration.ofHours(1));
+            List<CompactItem> items = List.of(
+                    item(new CompactEnclosure(base + "/head.mp3", null, 0)),
+                    item(new CompactEnclosure(base + "/range.m4a", "audio", CompactEnclosure.NO_LENGTH),
+                            new CompactEnclosure(base + "/missing.mp3", "audio/mpeg", CompactEnclosure.NO_LENGTH)),
+                    item(new CompactEnclosure(base + "/complete.mp3", "audio/mpeg", 42)));
+
+            // When
+            List<CompactItem> enriched = prober.enrich(client(), items, "test-agent", Duration.ofSeconds(10));
+            int requests = server.getRequestCount();
+            List<CompactItem> cached = prober.enrich(client(), items, "test-agent", Duration.ofSeconds(10));
+
+            // Then
+            assertThat(enriched.get(0).enclosures()[0]).isEqualTo(new CompactEnclosure(base + "/head.mp3", "audio/mpeg", 12345));
+            assertThat(enriched.get(1).enclosures()[0]).isEqualTo(new CompactEnclosure(base + "/range.m4a", "audio/mp4", 67890));
+            assertThat(enriched.get(1).enclosures()[1].length()).isEqualTo(CompactEnclosure.NO_LENGTH);
+            assertThat(enriched.get(2)).isSameAs(items.get(2));
+            assertThat(server.takeRequest().getHeader("User-Agent")).isEqualTo("test-agent");
+            assertThat(requests).isEqualTo(4);
+            assertThat(server.getRequestCount()).isEqualTo(requests);
+            assertThat(cached.get(1).enclosures()[0]).isEqualTo(enriched.get(1).enclosures()[0]);
+        }
+    }
+
+    @Test
+    void shouldKeepOriginalValuesWhenTheBudgetRunsOut() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            // Given
+            server.enqueue(new MockResponse().addHeader("Content-Type", "audio/mpeg").addHeader("Content-Length", "1")
+                    .setHeadersDelay(3, TimeUnit.SECONDS));
+            server.start();
+            EnclosureProber prober = new EnclosureProber(new InMemorySharedStateStore(100, Map.of()), 2, Duration.ofHours(1));
+            List<CompactItem> items = List.of(
+                    item(new CompactEnclosure("http://slow-enclosures.test:" + server.getPort() + "/slow.mp3", null, 0)));
+            long start = System.nanoTime();
+
+            // When
+            List<CompactItem> enriched = prober.enrich(client(), items, null, Duration.ofMillis(200));
+
+            // Then
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+            assertThat(enriched.get(0).enclosures()[0].length()).isZero();
+        }
+    }
+
+    @Test
+    void shouldProbeWithinTheHostsConcurrencyLimit() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            // Given - a host limited to one request at a time
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(50);
+                    inFlight.decrementAndGet();
+                    return new MockResponse().addHeader("Content-Type", "audio/mpeg").addHeader("Content-Length", "1");
+                }
+            });
+            server.start();
+            String base = "http://limited-enclosures.test:" + server.getPort();
+            HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1, 1, 10, 5_000);
+            HostLatencyTracker latencies = new HostLatencyTracker();
+            EnclosureProber prober = new EnclosureProber(new InMemorySharedStateStore(100, Map.of()), 4,
+                    Duration.ofHours(1), limiter, latencies);
+
+            // When
+            Map<String, EnclosureMetadata> probed = prober.probe(client(),
+                    List.of(base + "/1.mp3", base + "/2.mp3", base + "/3.mp3"), null, Duration.ofSeconds(10));
+
+            // Then
+            assertThat(probed).hasSize(3);
+            assertThat(maxInFlight.get()).isEqualTo(1);
+            assertThat(limiter.inFlight("limited-enclosures.test")).isZero();
+            assertThat(latencies.sampleCount("limited-enclosures.test")).isEqualTo(3);
+        }
+    }
+
+    private static OkHttpClient client() {
+        return new OkHttpClient.Builder()
+                .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                .build();
+    }
+
+    private static CompactItem item(CompactEnclosure... enclosures) {
+        return CompactItem.of("Episode", null, "https://podcast.example.com/episode", null, CompactItem.NO_DATE,
+                null, null, List.of(enclosures), null, null, StringPool.SHARED);
+    }
+}
@@ -0,0 +1,63 @@
+package io.camunda.connector.rss.filter;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemFilterTest {
+
+    @Test
+    void shouldMatchKeywordsOnWordBoundariesIgnoringCase() {
+        // Given
+        AhoCorasick automaton = AhoCorasick.compile(List.of("AI", "machine learning", "he", "hers", "camunda"));
+
+        // When & Then
+        assertThat(automaton.matches("New AI model released")).isTrue();
+        assertThat(automaton.matches("She said nothing")).isFalse();
+        assertThat(automaton.matches("Advances in Machine Learning.")).isTrue();
+        assertThat(automaton.matches("ushers")).isFalse();
+        assertThat(automaton.matches("it is hers")).isTrue();
+        assertThat(automaton.matches("Camunda8 released")).isFalse();
+        assertThat(automaton.matches("<p>Camunda</p>")).isTrue();
+        assertThat(automaton.matches(null)).isFalse();
+    }
+
+    @Test
+    void shouldApplyIncludeAndExcludeFilters() {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setIncludeKeywords(List.of("camunda", "bpmn"));
+        input.setExcludeKeywords(List.of("sponsored"));
+        input.setExcludeCategories(List.of("Ads"));
+        ItemFilter filter = ItemFilter.of(input);
+
+        // When & Then
+        assertThat(filter.accept("Camunda 8.8 released", null, null, null)).isTrue();
+        assertThat(filter.accept("Release notes", null, "<p>New BPMN features</p>", List.of("News"))).isTrue();
+        assertThat(filter.accept("Weather", "Sunny", null, null)).isFalse();
+        assertThat(filter.accept("Camunda webinar", "Sponsored content", null, null)).isFalse();
+        assertThat(filter.accept("Camunda webinar", null, null, List.of(" ads "))).isFalse();
+    }
+
+    @Test
+    void shouldRequireIncludedCategoryAndReuseCompiledFilter() {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setIncludeCategories(List.of("Engineering"));
+        RssFeedInput sameFilters = new RssFeedInput("https://example.com/other.xml");
+        sameFilters.setIncludeCategories(List.of("Engineering"));
+
+        // When
+        ItemFilter filter = ItemFilter.of(input);
+
+        // Then
+        assertThat(filter.accept("Post", null, null, List.of("engineering", "Java"))).isTrue();
+        assertThat(filter.accept("Post", null, null, List.of("Marketing"))).isFalse();
+        assertThat(filter.accept("Post", null, null, null)).isFalse();
+        assertThat(ItemFilter.of(sameFilters)).isSameAs(filter);
+        assertThat(ItemFilter.of(new RssFeedInput("https://example.com/feed.xml"))).isNull();
+    }
+}
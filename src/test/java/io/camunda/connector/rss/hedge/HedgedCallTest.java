@@ -0,0 +1,152 @@
+package io.camunda.connector.rss.hedge;
+
+import io.camunda.connector.rss.latency.HostLatencyTracker;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedCallTest {
+
+    private final OkHttpClient client = new OkHttpClient.Builder().readTimeout(10, TimeUnit.SECONDS).build();
+
+    @Test
+    void shouldAnswerFromTheHedgeWhenTheFirstRequestStalls() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(stallFirstRequest(Duration.ofSeconds(5)));
+            HedgeBudget budget = new HedgeBudget(10, 10);
+            HostLatencyTracker latencies = new HostLatencyTracker();
+            Request request = new Request.Builder().url(server.url("/feed.xml")).build();
+
+            // When
+            long start = System.nanoTime();
+            String body = HedgedCall.execute(client, request, Duration.ofMillis(100), budget,
+                    latencies, response -> response.body().string());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Then
+            assertThat(body).isEqualTo("request 2");
+            assertThat(elapsedMillis).isLessThan(2000);
+            assertThat(budget.hedgesSent()).isEqualTo(1);
+            assertThat(budget.hedgesWon()).isEqualTo(1);
+            assertThat(server.getRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldHedgeWhileTheClientsDispatcherIsFullOfStalledCallsToTheHost() throws Exception {
+        // Given - five stalled calls to the host fill the client dispatcher's per-host limit
+        try (MockWebServer server = new MockWebServer()) {
+            AtomicInteger requests = new AtomicInteger();
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest recordedRequest) {
+                    int number = requests.incrementAndGet();
+                    MockResponse response = new MockResponse().setBody("request " + number);
+                    return number <= 6 ? response.setHeadersDelay(5, TimeUnit.SECONDS) : response;
+                }
+            });
+            List<Call> stalled = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Call call = client.newCall(new Request.Builder().url(server.url("/stalled/" + i)).build());
+                call.enqueue(new Callback() {
+                    @Override
+                    public void onFailure(Call failedCall, IOException e) {
+                    }
+
+                    @Override
+                    public void onResponse(Call successfulCall, Response response) {
+                        response.close();
+                    }
+                });
+                stalled.add(call);
+            }
+            while (requests.get() < 5) {
+                Thread.sleep(10);
+            }
+            HedgeBudget budget = new HedgeBudget(10, 10);
+            Request request = new Request.Builder().url(server.url("/feed.xml")).build();
+
+            // When - the primary attempt stalls as well
+            long start = System.nanoTime();
+            String body = HedgedCall.execute(client, request, Duration.ofMillis(100), budget, new HostLatencyTracker(),
+                    response -> response.body().string());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            stalled.forEach(Call::cancel);
+
+            // Then - neither attempt waited for the stalled calls
+            assertThat(body).isEqualTo("request 7");
+            assertThat(elapsedMillis).isLessThan(2000);
+            assertThat(client.dispatcher().queuedCallsCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldWaitForTheFirstRequestWhenTheBudgetIsSpent() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(stallFirstRequest(Duration.ofMillis(300)));
+            HedgeBudget budget = new HedgeBudget(0, 0);
+            Request request = new Request.Builder().url(server.url("/feed.xml")).build();
+
+            // When
+            String body = HedgedCall.execute(client, request, Duration.ofMillis(50), budget,
+                    new HostLatencyTracker(), response -> response.body().string());
+
+            // Then
+            assertThat(body).isEqualTo("request 1");
+            assertThat(budget.hedgesSent()).isZero();
+            assertThat(budget.hedgesDenied()).isEqualTo(1);
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldCapHedgesAtTheBudgetPercentage() {
+        // Given
+        HedgeBudget budget = new HedgeBudget(10, 10);
+        int hedges = 0;
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            budget.onRequest();
+            if (budget.tryAcquire()) {
+                hedges++;
+            }
+        }
+
+        // Then
+        assertThat(hedges).isBetween(100, 111);
+    }
+
+    private static Dispatcher stallFirstRequest(Duration stall) {
+        AtomicInteger requests = new AtomicInteger();
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest recordedRequest) {
+                int number = requests.incrementAndGet();
+                MockResponse response = new MockResponse().setBody("request " + number);
+                if (number == 1) {
+                    response.setHeadersDelay(stall.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                return response;
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package io.camunda.connector.rss.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.camunda.connector.rss.dto.RssEnclosure;
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RssJsonSerializationTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // Plain reflective bean (de)serialization as reference
+    private final ObjectMapper beanMapper = JsonMapper.builder().disable(MapperFeature.USE_ANNOTATIONS).build();
+
+    @Test
+    void shouldSerializeOutputLikeBeanSerialization() throws Exception {
+        // Given
+        RssFeedOutput output = sampleOutput(5);
+
+        // When
+        JsonNode handWritten = mapper.readTree(mapper.writeValueAsString(output));
+        JsonNode reflective = beanMapper.readTree(beanMapper.writeValueAsString(output));
+
+        // Then
+        assertThat(handWritten).isEqualTo(reflective);
+        assertThat(handWritten.get("items")).hasSize(5);
+        assertThat(handWritten.get("items").get(0).get("enclosures").get(0).get("type").asText()).isEqualTo("audio/mpeg");
+    }
+
+    @Test
+    void shouldStreamOutputFromIterator() throws Exception {
+        // Given
+        RssFeedOutput output = sampleOutput(3);
+        List<RssItem> items = output.getItems();
+        RssFeedOutput metadata = sampleOutput(0);
+        metadata.setFetchedAt(output.getFetchedAt());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int written = RssItemStreamWriter.writeOutput(out, metadata, items.iterator());
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        assertThat(mapper.readTree(out.toByteArray())).isEqualTo(mapper.readTree(mapper.writeValueAsString(output)));
+    }
+
+    @Test
+    void shouldDeserializeEveryInputField() throws Exception {
+        // Given - every field populated with a non-default value
+        RssFeedInput expected = new RssFeedInput();
+        List<Field> fields = new ArrayList<>();
+        for (Field field : RssFeedInput.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            field.set(expected, sampleValue(field));
+            fields.add(field);
+        }
+        String json = beanMapper.writeValueAsString(expected);
+
+        // When
+        RssFeedInput actual = mapper.readValue(json, RssFeedInput.class);
+
+        // Then
+        for (Field field : fields) {
+            assertThat(field.get(actual)).as(field.getName()).isEqualTo(field.get(expected));
+        }
+    }
+
+    @Test
+    void shouldKeepDefaultsAndCoerceStringValues() throws Exception {
+        // Given
+        String json = "{\"feedUrl\":\"https://example.com/feed.xml\",\"maxItems\":\"5\",\"ignoreTls\":\"true\"," +
+                "\"guidBlacklist\":\"single\",\"unknown\":{\"nested\":[1,2]}}";
+
+        // When
+        RssFeedInput input = mapper.readValue(json, RssFeedInput.class);
+
+        // Then
+        assertThat(input.getFeedUrl()).isEqualTo("https://example.com/feed.xml");
+        assertThat(input.getMaxItems()).isEqualTo(5);
+        assertThat(input.getIgnoreTls()).isTrue();
+        assertThat(input.getGuidBlacklist()).containsExactly("single");
+        assertThat(input.getTimeoutSeconds()).isEqualTo(30);
+        assertThat(input.getUserAgent()).isEqualTo("Camunda-RSS-Connector/1.0");
+    }
+
+    private static Object sampleValue(Field field) {
+        Class<?> type = field.getType();
+        if (type == String.class) {
+            return field.getName() + "-value";
+        }
+        if (type == Integer.class) {
+            return 4242;
+        }
+        if (type == Long.class) {
+            return 424242L;
+        }
+        if (type == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == List.class) {
+            return List.of(field.getName() + "-1", field.getName() + "-2");
+        }
+        throw new IllegalStateException("No sample value for input field type " + type);
+    }
+
+    static RssFeedOutput sampleOutput(int itemCount) {
+        RssFeedOutput output = new RssFeedOutput();
+        output.setFeedTitle("Sample Feed");
+        output.setFeedDescription("Sample description");
+        output.setFeedLink("https://example.com");
+        output.setFeedLanguage("en");
+        List<RssItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            RssItem item = new RssItem();
+            item.setTitle("Episode " + i);
+            item.setDescription("Description of episode " + i);
+            item.setLink("https://example.com/episodes/" + i);
+            item.setGuid("urn:episode:" + i);
+            item.setPubDate("2024-01-15T10:30:00Z");
+            item.setAuthor("Jane Doe");
+            item.setCategories(List.of("News", "Technology"));
+            item.setEnclosures(List.of(new RssEnclosure("https://cdn.example.com/" + i + ".mp3", "audio/mpeg", 1024000L)));
+            item.setContent("<p>Full content of episode " + i + "</p>");
+            items.add(item);
+        }
+        output.setItems(items);
+        return output;
+    }
+}
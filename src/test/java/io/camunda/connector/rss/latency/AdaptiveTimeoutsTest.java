@@ -0,0 +1,114 @@
+package io.camunda.connector.rss.latency;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveTimeoutsTest {
+
+    @Test
+    void shouldDeriveTimeoutsFromHistoryWithinBounds() {
+        // Given
+        HostLatencyTracker tracker = new HostLatencyTracker();
+        AdaptiveTimeouts timeouts = new AdaptiveTimeouts(tracker, 100, 200);
+        for (int i = 0; i < 100; i++) {
+            tracker.record("fast.example.com", HostLatencyTracker.Phase.CONNECT, 10);
+            tracker.record("fast.example.com", HostLatencyTracker.Phase.HEADERS, 50);
+            tracker.record("slow.example.com", HostLatencyTracker.Phase.HEADERS, 4000 + (i % 2) * 2000);
+        }
+
+        // When / Then
+        assertThat(timeouts.connectTimeout("fast.example.com", 30_000)).isEqualTo(100);
+        assertThat(timeouts.readTimeout("fast.example.com", 30_000)).isEqualTo(200);
+        assertThat(timeouts.readTimeout("slow.example.com", 30_000)).isBetween(12_000L, 14_000L);
+        assertThat(timeouts.readTimeout("slow.example.com", 10_000)).isEqualTo(10_000);
+        assertThat(timeouts.connectTimeout("unknown.example.com", 30_000)).isEqualTo(30_000);
+        assertThat(timeouts.readTimeout("fast.example.com", 0)).isZero();
+    }
+
+    @Test
+    void shouldApplyHostTimeoutsPerCallAndRecordConnectTimes() throws Exception {
+        // Given
+        HostLatencyTracker tracker = new HostLatencyTracker();
+        AdaptiveTimeouts timeouts = new AdaptiveTimeouts(tracker, 100, 300);
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            String host = server.url("/").host();
+            for (int i = 0; i < HostLatencyTracker.MIN_SAMPLES; i++) {
+                tracker.record(host, HostLatencyTracker.Phase.HEADERS, 20);
+            }
+            server.enqueue(new MockResponse().setBody("ok"));
+            server.enqueue(new MockResponse().setBody("late").setHeadersDelay(3, TimeUnit.SECONDS));
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .readTimeout(10, TimeUnit.SECONDS)
+                    .addInterceptor(timeouts.interceptor())
+                    .eventListenerFactory(timeouts.eventListenerFactory())
+                    .build();
+            Request request = new Request.Builder().url(server.url("/feed.xml")).build();
+
+            // When
+            try (Response response = client.newCall(request).execute()) {
+                assertThat(response.body().string()).isEqualTo("ok");
+            }
+            long start = System.nanoTime();
+
+            // Then
+            assertThatThrownBy(() -> client.newCall(request).execute())
+                    .isInstanceOf(SocketTimeoutException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2500);
+            assertThat(tracker.sampleCount(host, HostLatencyTracker.Phase.CONNECT)).isEqualTo(1);
+            assertThat(tracker.mean(host, HostLatencyTracker.Phase.CONNECT)).isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    void shouldBackOffWhenAHostSlowsDownAndRecoverOnItsNextResponse() throws Exception {
+        // Given - a fast host whose responses become slower than its derived read timeout
+        HostLatencyTracker tracker = new HostLatencyTracker();
+        AdaptiveTimeouts timeouts = new AdaptiveTimeouts(tracker, 100, 300);
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            String host = server.url("/").host();
+            for (int i = 0; i < HostLatencyTracker.MIN_SAMPLES; i++) {
+                tracker.record(host, HostLatencyTracker.Phase.HEADERS, 20);
+            }
+            server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+            server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+            server.enqueue(new MockResponse().setBody("fast"));
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .readTimeout(10, TimeUnit.SECONDS)
+                    .addInterceptor(timeouts.interceptor())
+                    .build();
+            Request request = new Request.Builder().url(server.url("/feed.xml")).build();
+
+            // When
+            assertThatThrownBy(() -> client.newCall(request).execute()).isInstanceOf(SocketTimeoutException.class);
+            long backedOff = timeouts.readTimeout(host, 10_000);
+            String slow;
+            try (Response response = client.newCall(request).execute()) {
+                slow = response.body().string();
+            }
+            String fast;
+            try (Response response = client.newCall(request).execute()) {
+                fast = response.body().string();
+            }
+
+            // Then - the timeout grew past the slower responses and stops backing off once the host answers
+            assertThat(backedOff).isGreaterThanOrEqualTo(600);
+            assertThat(tracker.sampleCount(host)).isEqualTo(HostLatencyTracker.MIN_SAMPLES + 1);
+            assertThat(slow).isEqualTo("slow");
+            assertThat(fast).isEqualTo("fast");
+            assertThat(timeouts.consecutiveTimeouts(host)).isZero();
+            assertThat(timeouts.readTimeout(host, 10_000)).isLessThan(backedOff);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.camunda.connector.rss.latency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostLatencyTrackerTest {
+
+    @Test
+    void shouldEstimatePercentilesPerHostWithinBucketPrecision() {
+        // Given
+        HostLatencyTracker tracker = new HostLatencyTracker();
+
+        // When
+        for (int i = 1; i <= 1000; i++) {
+            tracker.record("fast.example.com", i);
+            tracker.record("slow.example.com", 10 * i);
+        }
+
+        // Then
+        assertThat(tracker.percentile("fast.example.com", 0.95)).isBetween(950L, 1050L);
+        assertThat(tracker.percentile("fast.example.com", 0.5)).isBetween(500L, 550L);
+        assertThat(tracker.percentile("slow.example.com", 0.95)).isBetween(9500L, 10500L);
+        assertThat(tracker.percentile("unknown.example.com", 0.95)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRequireMinimumSamplesAndForgetOldWindows() {
+        // Given
+        HostLatencyTracker tracker = new HostLatencyTracker();
+        for (int i = 0; i < HostLatencyTracker.MIN_SAMPLES - 1; i++) {
+            tracker.record("feeds.example.com", 5000);
+        }
+        long beforeMinimum = tracker.percentile("feeds.example.com", 0.95);
+
+        // When
+        for (int i = 0; i < 2 * HostLatencyTracker.WINDOW_SAMPLES; i++) {
+            tracker.record("feeds.example.com", 100);
+        }
+
+        // Then
+        assertThat(beforeMinimum).isEqualTo(-1);
+        assertThat(tracker.percentile("feeds.example.com", 0.99)).isBetween(100L, 110L);
+        assertThat(tracker.sampleCount("feeds.example.com")).isBetween(HostLatencyTracker.WINDOW_SAMPLES, 2 * HostLatencyTracker.WINDOW_SAMPLES);
+    }
+}
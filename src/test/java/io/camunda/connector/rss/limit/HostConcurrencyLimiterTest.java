@@ -0,0 +1,90 @@
+package io.camunda.connector.rss.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HostConcurrencyLimiterTest {
+
+    @Test
+    void shouldGrowUsedLimitAdditivelyAndHalveOncePerWindowOnOverload() {
+        // Given
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(4, 32, 0, 0);
+
+        // When
+        for (int round = 0; round < 20; round++) {
+            List<HostConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            for (int i = 0; i < limiter.limit("feeds.example.com"); i++) {
+                permits.add(limiter.acquire("feeds.example.com"));
+            }
+            permits.forEach(HostConcurrencyLimiter.Permit::success);
+        }
+        int grown = limiter.limit("feeds.example.com");
+        List<HostConcurrencyLimiter.Permit> overloaded = new ArrayList<>();
+        for (int i = 0; i < grown; i++) {
+            overloaded.add(limiter.acquire("feeds.example.com"));
+        }
+        overloaded.forEach(HostConcurrencyLimiter.Permit::dropped);
+
+        // Then
+        assertThat(grown).isGreaterThan(4).isLessThanOrEqualTo(32);
+        assertThat(limiter.limit("feeds.example.com")).isEqualTo(grown / 2);
+        assertThat(limiter.inFlight("feeds.example.com")).isZero();
+        assertThat(limiter.limit("other.example.com")).isEqualTo(4);
+    }
+
+    @Test
+    void shouldQueueUpToTheQueueSizeAndTimeOut() throws Exception {
+        // Given
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1, 1, 1, 5_000);
+        HostConcurrencyLimiter.Permit first = limiter.acquire("feeds.example.com");
+        CompletableFuture<HostConcurrencyLimiter.Permit> waiting =
+                CompletableFuture.supplyAsync(() -> limiter.acquire("feeds.example.com"));
+        while (limiter.queued("feeds.example.com") == 0) {
+            Thread.sleep(5);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.acquire("feeds.example.com"))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("Concurrency limit exceeded");
+        first.close();
+        HostConcurrencyLimiter.Permit second = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.inFlight("feeds.example.com")).isEqualTo(1);
+
+        HostConcurrencyLimiter impatient = new HostConcurrencyLimiter(1, 1, 1, 50);
+        impatient.acquire("feeds.example.com");
+        assertThatThrownBy(() -> impatient.acquire("feeds.example.com"))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("within 50ms");
+        assertThat(limiter.rejected() + impatient.rejected()).isEqualTo(2);
+        second.close();
+    }
+
+    @Test
+    void shouldHandOutFreeSlotsWithoutQueueingAndBoundTheWait() {
+        // Given
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1, 1, 10, 5_000);
+        HostConcurrencyLimiter.Permit first = limiter.tryAcquire("feeds.example.com");
+
+        // When
+        HostConcurrencyLimiter.Permit second = limiter.tryAcquire("feeds.example.com");
+        long start = System.nanoTime();
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(second).isNull();
+        assertThatThrownBy(() -> limiter.acquire("feeds.example.com", 50))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("within 50ms");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+        first.close();
+        assertThat(limiter.inFlight("feeds.example.com")).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package io.camunda.connector.rss.limit;
+
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.StateCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HostRateLimiterTest {
+
+    @Test
+    void shouldReuseOneCounterPerHostAndWindowAcrossWindows() {
+        // Given
+        AtomicLong clock = new AtomicLong(Duration.ofDays(1).toMillis() + 30_000);
+        CounterStore store = new CounterStore(clock);
+        HostRateLimiter limiter = new HostRateLimiter(store, 2, 100, clock::get);
+
+        // When - two requests in each of five minutes
+        for (int minute = 0; minute < 5; minute++) {
+            limiter.acquire("feeds.test");
+            limiter.acquire("feeds.test");
+            clock.addAndGet(60_000);
+        }
+        clock.addAndGet(-60_000);
+
+        // Then - the minute counter starts over each minute and no per-window keys are left behind
+        assertThatThrownBy(() -> limiter.acquire("feeds.test")).isInstanceOf(SecurityException.class);
+        assertThat(limiter.usage("feeds.test").requestsThisHour()).isEqualTo(10);
+        assertThat(store.counters.keySet()).containsExactlyInAnyOrder("feeds.test|minute", "feeds.test|hour");
+    }
+
+    /**
+     * Counters with the store semantics of fixed windows: a counter starts over once its ttl has passed
+     */
+    private static final class CounterStore implements SharedStateStore {
+
+        private final AtomicLong clock;
+        private final Map<String, long[]> counters = new HashMap<>();
+
+        private CounterStore(AtomicLong clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public <T> T get(String namespace, String key, StateCodec<T> codec) {
+            return null;
+        }
+
+        @Override
+        public <T> void put(String namespace, String key, T value, StateCodec<T> codec, Duration ttl) {
+        }
+
+        @Override
+        public void remove(String namespace, String key) {
+            counters.remove(key);
+        }
+
+        @Override
+        public long increment(String namespace, String key, Duration ttl) {
+            long[] counter = counters.get(key);
+            if (counter == null || counter[0] <= clock.get()) {
+                counter = new long[] {clock.get() + ttl.toMillis(), 0};
+                counters.put(key, counter);
+            }
+            return ++counter[1];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.camunda.connector.rss.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactItemTest {
+
+    private final StringPool pool = new StringPool(100, 64);
+
+    @Test
+    void shouldRoundTripToPublicItemShape() {
+        // Given
+        CompactItem item = CompactItem.of("Title", "Description", "https://example.com/news/article-1",
+                "https://example.com/news/article-1", 1705314600000L, "Jane Doe", List.of("News"),
+                List.of(CompactEnclosure.of("https://cdn.example.com/a.mp3", "audio/mpeg", 42L, pool)),
+                "<p>content</p>", "https://example.com/comments", pool);
+
+        // When
+        RssItem rssItem = item.toRssItem();
+
+        // Then
+        assertThat(rssItem.getLink()).isEqualTo("https://example.com/news/article-1");
+        assertThat(rssItem.getGuid()).isEqualTo("https://example.com/news/article-1");
+        assertThat(rssItem.getPubDate()).isEqualTo("2024-01-15T10:30:00Z");
+        assertThat(rssItem.getCategories()).containsExactly("News");
+        assertThat(rssItem.getEnclosures().get(0).getLength()).isEqualTo(42L);
+        assertThat(item.guidIsLink()).isTrue();
+        assertThat(item.linkPrefix()).isEqualTo("https://example.com/news/");
+    }
+
+    @Test
+    void shouldDeduplicateSmallVocabularyStrings() {
+        // Given - equal but distinct string instances
+        String author1 = new String("Jane Doe");
+        String author2 = new String("Jane Doe");
+
+        // When
+        CompactItem first = CompactItem.of("A", null, "https://example.com/news/a", "1", CompactItem.NO_DATE,
+                author1, List.of(new String("Tech")), null, null, null, pool);
+        CompactItem second = CompactItem.of("B", null, "https://example.com/news/b", "2", CompactItem.NO_DATE,
+                author2, List.of(new String("Tech")), null, null, null, pool);
+
+        // Then
+        assertThat(first.author()).isSameAs(second.author());
+        assertThat(first.categories()[0]).isSameAs(second.categories()[0]);
+        assertThat(first.linkPrefix()).isSameAs(second.linkPrefix());
+        assertThat(first.pubDate()).isNull();
+        assertThat(first.toRssItem().getEnclosures()).isNull();
+    }
+
+    @Test
+    void shouldStopPoolingWhenPoolIsFull() {
+        // Given
+        StringPool smallPool = new StringPool(1, 64);
+        smallPool.dedupe("first");
+
+        // When
+        String value = new String("second");
+
+        // Then
+        assertThat(smallPool.dedupe(value)).isSameAs(value);
+        assertThat(smallPool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSerializeCompactListLikePlainList() throws Exception {
+        // Given
+        List<CompactItem> compactItems = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            compactItems.add(CompactItem.of("Item " + i, "d", "https://example.com/items?id=" + i, "guid-" + i,
+                    1705314600000L + i, "Author", List.of("A", "B"),
+                    List.of(CompactEnclosure.of("https://cdn.example.com/" + i, "image/png", null, pool)),
+                    null, null, pool));
+        }
+        CompactItemList compactList = new CompactItemList(compactItems);
+
+        RssFeedOutput compactOutput = new RssFeedOutput();
+        compactOutput.setItems(compactList);
+        RssFeedOutput plainOutput = new RssFeedOutput();
+        plainOutput.setItems(new ArrayList<>(compactList));
+        plainOutput.setFetchedAt(compactOutput.getFetchedAt());
+
+        // When
+        ObjectMapper mapper = new ObjectMapper();
+        String compactJson = mapper.writeValueAsString(compactOutput);
+        String plainJson = mapper.writeValueAsString(plainOutput);
+
+        // Then
+        assertThat(compactJson).isEqualTo(plainJson);
+        assertThat(compactOutput.getTotalItems()).isEqualTo(3);
+        assertThat(compactList.get(0).getLink()).isEqualTo("https://example.com/items?id=0");
+    }
+}
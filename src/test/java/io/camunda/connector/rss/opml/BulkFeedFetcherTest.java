@@ -0,0 +1,79 @@
+package io.camunda.connector.rss.opml;
+
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkFeedFetcherTest {
+
+    @Test
+    void shouldRespectGlobalAndPerHostConcurrency() {
+        // Given - 1,000 feeds on 20 hosts
+        List<String> feedUrls = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            feedUrls.add("https://host" + (i % 20) + ".example.com/feed/" + i);
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Map<String, AtomicInteger> inFlightByHost = new ConcurrentHashMap<>();
+        AtomicInteger maxInFlightPerHost = new AtomicInteger();
+        BulkFeedFetcher fetcher = new BulkFeedFetcher(feedUrl -> {
+            String host = feedUrl.substring(8, feedUrl.indexOf('/', 8));
+            AtomicInteger hostCount = inFlightByHost.computeIfAbsent(host, h -> new AtomicInteger());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            maxInFlightPerHost.accumulateAndGet(hostCount.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            hostCount.decrementAndGet();
+            inFlight.decrementAndGet();
+            RssFeedOutput output = new RssFeedOutput();
+            output.setFeedTitle(feedUrl);
+            return output;
+        }, 8, 2, Duration.ofSeconds(30));
+
+        // When
+        List<RssFeedOutput> outputs = fetcher.fetchAll(feedUrls);
+
+        // Then
+        assertThat(outputs).extracting(RssFeedOutput::getFeedTitle).containsExactlyElementsOf(feedUrls);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(8);
+        assertThat(maxInFlightPerHost.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldFailFeedsNotFetchedBeforeTheDeadline() {
+        // Given - the slow host blocks until it is cancelled
+        BulkFeedFetcher fetcher = new BulkFeedFetcher(feedUrl -> {
+            if (feedUrl.contains("slow")) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new RssFeedOutput();
+        }, 4, 1, Duration.ofMillis(300));
+
+        // When
+        long start = System.nanoTime();
+        List<RssFeedOutput> outputs = fetcher.fetchAll(List.of("https://fast.example.com/a",
+                "https://slow.example.com/a", "https://slow.example.com/b"));
+
+        // Then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+        assertThat(outputs.get(0).isSuccess()).isTrue();
+        assertThat(outputs.get(1).isSuccess()).isFalse();
+        assertThat(outputs.get(2).getError()).startsWith("Deadline of 0s exceeded");
+    }
+}
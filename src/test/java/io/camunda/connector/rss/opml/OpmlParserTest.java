@@ -0,0 +1,49 @@
+package io.camunda.connector.rss.opml;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpmlParserTest {
+
+    @Test
+    void shouldParseNestedFoldersAndSkipRepeatedFeeds() {
+        // Given
+        String opml = "<?xml version=\"1.0\"?><opml version=\"2.0\"><head><title>Subscriptions</title>" +
+                "<outline text=\"ignored head outline\" xmlUrl=\"https://head.example.com/feed\"/></head><body>" +
+                "<outline type=\"rss\" text=\"Top level\" xmlUrl=\"https://top.example.com/feed\"/>" +
+                "<outline text=\"Tech\">" +
+                "  <outline text=\"Java\" title=\"Java News\" xmlUrl=\" https://java.example.com/rss \"/>" +
+                "  <outline text=\"Cloud/Ops\">" +
+                "    <outline text=\"K8s\" xmlUrl=\"https://k8s.example.com/atom\"><outline text=\"child\"/></outline>" +
+                "  </outline>" +
+                "</outline>" +
+                "<outline text=\"Again\" xmlUrl=\"https://top.example.com/feed\"/>" +
+                "</body></opml>";
+
+        // When
+        List<OpmlOutline> outlines = OpmlParser.parse(new StringReader(opml));
+
+        // Then
+        assertThat(outlines).containsExactly(
+                new OpmlOutline("Top level", "https://top.example.com/feed", ""),
+                new OpmlOutline("Java News", "https://java.example.com/rss", "Tech"),
+                new OpmlOutline("K8s", "https://k8s.example.com/atom", "Tech/Cloud-Ops"));
+    }
+
+    @Test
+    void shouldRejectDoctypeDeclarations() {
+        // Given
+        String opml = "<?xml version=\"1.0\"?><!DOCTYPE opml [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>" +
+                "<opml><body><outline text=\"&xxe;\" xmlUrl=\"https://example.com/feed\"/></body></opml>";
+
+        // When & Then
+        assertThatThrownBy(() -> OpmlParser.parse(new StringReader(opml)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid OPML document");
+    }
+}
@@ -0,0 +1,80 @@
+package io.camunda.connector.rss.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedReaderTest {
+
+    @Test
+    void shouldSniffFormatFromTheFirstBytes() {
+        // Given
+        String rss = "\uFEFF<?xml version=\"1.0\"?>\n<!-- generated -->\n<rss version=\"2.0\"><channel/></rss>";
+        String atom = "<?xml version='1.0'?><feed xmlns='http://www.w3.org/2005/Atom'></feed>";
+        String json = "  {\"version\": \"https://jsonfeed.org/version/1.1\"}";
+        String rss091 = "<?xml version=\"1.0\"?><!DOCTYPE rss SYSTEM \"rss-0.91.dtd\"><rss version=\"0.91\"></rss>";
+        String rdf = "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"></rdf:RDF>";
+        String atom03 = "<feed version=\"0.3\" xmlns=\"http://purl.org/atom/ns#\"></feed>";
+
+        // When & Then
+        assertThat(FeedFormat.sniff(rss)).isEqualTo(FeedFormat.RSS2);
+        assertThat(FeedFormat.sniff(atom)).isEqualTo(FeedFormat.ATOM);
+        assertThat(FeedFormat.sniff(json)).isEqualTo(FeedFormat.JSON_FEED);
+        assertThat(FeedFormat.sniff(rss091)).isEqualTo(FeedFormat.OTHER);
+        assertThat(FeedFormat.sniff(rdf)).isEqualTo(FeedFormat.OTHER);
+        assertThat(FeedFormat.sniff(atom03)).isEqualTo(FeedFormat.OTHER);
+        assertThat(FeedFormat.sniff("<html><body/></html>")).isEqualTo(FeedFormat.OTHER);
+    }
+
+    @Test
+    void shouldMapRssItemsLikeRome() throws Exception {
+        // Given
+        String xml = "<rss version=\"2.0\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\"><channel><title>T</title>" +
+                "<item><title>Permalink</title><guid>https://example.com/1</guid>" +
+                "<pubDate>Mon, 15 Jan 2024 10:30:00 GMT</pubDate><dc:date>2024-01-16T10:30:00Z</dc:date>" +
+                "<author>a@example.com</author><dc:creator>Jane</dc:creator>" +
+                "<enclosure url=\"https://example.com/1.mp3\" type=\"audio/mpeg\"/></item>" +
+                "<item><title>No guid</title><link>https://example.com/2</link></item>" +
+                "</channel></rss>";
+
+        // When
+        ParsedFeed feed = Rss2Reader.read(xml, "https://example.com/feed.xml");
+
+        // Then
+        FeedEntry first = feed.entries().get(0);
+        assertThat(first.link()).isEqualTo("https://example.com/1");
+        assertThat(first.publishedMillis()).isEqualTo(Instant.parse("2024-01-16T10:30:00Z").toEpochMilli());
+        assertThat(first.author()).isEqualTo("Jane");
+        assertThat(first.enclosures().get(0).length()).isZero();
+        FeedEntry second = feed.entries().get(1);
+        assertThat(second.guid()).isEqualTo("https://example.com/2");
+        assertThat(second.author()).isEmpty();
+    }
+
+    @Test
+    void shouldLeaveAtomConstructsNeedingResolutionToRome() {
+        // Given
+        String xhtml = "<feed xmlns=\"http://www.w3.org/2005/Atom\"><entry><id>1</id>" +
+                "<content type=\"xhtml\"><div xmlns=\"http://www.w3.org/1999/xhtml\">Hi</div></content></entry></feed>";
+        String relative = "<feed xmlns=\"http://www.w3.org/2005/Atom\"><link rel=\"next\" href=\"?page=2\"/></feed>";
+
+        // When & Then
+        assertThatThrownBy(() -> AtomReader.read(xhtml, null)).isInstanceOf(UnsupportedFeedException.class);
+        assertThatThrownBy(() -> AtomReader.read(relative, null)).isInstanceOf(UnsupportedFeedException.class);
+    }
+
+    @Test
+    void shouldRejectJsonThatIsNotAJsonFeed() {
+        // Given
+        String json = "{\"version\": \"1\", \"items\": []}";
+
+        // When & Then
+        assertThatThrownBy(() -> JsonFeedReader.read(json, null))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unsupported JSON Feed version");
+    }
+}
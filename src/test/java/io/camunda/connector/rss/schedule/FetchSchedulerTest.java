@@ -0,0 +1,151 @@
+package io.camunda.connector.rss.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class FetchSchedulerTest {
+
+    @Test
+    void shouldShareSlotsFairlyBetweenTenantsAndByPriority() throws Exception {
+        // Given - one slot, held while the fetches queue up
+        FetchScheduler scheduler = new FetchScheduler(1, 1, 1000, 1000, 10_000);
+        FetchScheduler.Slot held = scheduler.acquire("other", FetchScheduler.Priority.NORMAL);
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(60);
+        List<Future<?>> fetches = new ArrayList<>();
+        try {
+            for (int i = 0; i < 40; i++) {
+                fetches.add(executor.submit(() -> run(scheduler, "bulk", FetchScheduler.Priority.NORMAL, started)));
+            }
+            for (int i = 0; i < 5; i++) {
+                fetches.add(executor.submit(() -> run(scheduler, "small", FetchScheduler.Priority.NORMAL, started)));
+            }
+            for (int i = 0; i < 10; i++) {
+                fetches.add(executor.submit(() -> run(scheduler, "urgent", FetchScheduler.Priority.HIGH, started)));
+            }
+            while (scheduler.queueDepth() < 55) {
+                Thread.sleep(5);
+            }
+            assertThat(scheduler.queueDepths()).containsEntry("bulk", 40).containsEntry("small", 5);
+
+            // When
+            held.close();
+            for (Future<?> fetch : fetches) {
+                fetch.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then - the bulk tenant does not delay the others
+        List<String> first = started.subList(0, 20);
+        assertThat(Collections.frequency(first, "small")).isEqualTo(5);
+        assertThat(Collections.frequency(first, "urgent")).isEqualTo(10);
+        assertThat(started).hasSize(55);
+        assertThat(scheduler.inFlight()).isZero();
+        assertThat(scheduler.queueDepth()).isZero();
+    }
+
+    @Test
+    void shouldBoundQueuesAndInFlightPerTenant() throws Exception {
+        // Given
+        FetchScheduler scheduler = new FetchScheduler(4, 1, 10, 1, 100);
+        FetchScheduler.Slot first = scheduler.acquire("tenant-a", FetchScheduler.Priority.NORMAL);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> queued = executor.submit(() -> scheduler.acquire("tenant-a", FetchScheduler.Priority.NORMAL));
+            while (scheduler.queueDepth() == 0) {
+                Thread.sleep(5);
+            }
+
+            // When / Then
+            assertThatThrownBy(() -> scheduler.acquire("tenant-a", FetchScheduler.Priority.LOW))
+                    .isInstanceOf(SecurityException.class)
+                    .hasMessageContaining("Fetch queue full");
+            try (FetchScheduler.Slot other = scheduler.acquire("tenant-b", FetchScheduler.Priority.NORMAL)) {
+                assertThat(scheduler.inFlight("tenant-b")).isEqualTo(1);
+            }
+            assertThat(scheduler.inFlight("tenant-a")).isEqualTo(1);
+            assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SecurityException.class)
+                    .hasMessageContaining("did not start within 100ms");
+            assertThat(scheduler.rejected()).isEqualTo(1);
+            assertThat(scheduler.queueDepth()).isZero();
+        } finally {
+            first.close();
+            executor.shutdownNow();
+        }
+        assertThat(scheduler.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldKeepQueueCapacityForTenantsWithoutWaitingFetches() throws Exception {
+        // Given - one slot held by a bursting tenant, a total queue of 8 with 2 reserved
+        FetchScheduler scheduler = new FetchScheduler(1, 1, 8, 8, 10_000);
+        FetchScheduler.Slot held = scheduler.acquire("bulk", FetchScheduler.Priority.NORMAL);
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<?>> bulk = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                bulk.add(executor.submit(() -> run(scheduler, "bulk", FetchScheduler.Priority.NORMAL, started)));
+            }
+            while (scheduler.queueDepth() + scheduler.rejected() < 8) {
+                Thread.sleep(5);
+            }
+
+            // When
+            Future<?> quiet = executor.submit(() -> run(scheduler, "quiet", FetchScheduler.Priority.NORMAL, started));
+            while (scheduler.queueDepth() < 7) {
+                Thread.sleep(5);
+            }
+            Throwable secondQuiet = catchThrowable(() -> scheduler.acquire("quiet", FetchScheduler.Priority.NORMAL));
+            held.close();
+            quiet.get(10, TimeUnit.SECONDS);
+            for (Future<?> fetch : bulk) {
+                try {
+                    fetch.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertThat(e).hasCauseInstanceOf(SecurityException.class);
+                }
+            }
+
+            // Then - the bursting tenant filled only the unreserved part of the queue
+            assertThat(secondQuiet).isInstanceOf(SecurityException.class).hasMessageContaining("Fetch queue full");
+            assertThat(scheduler.rejected()).isEqualTo(3);
+            assertThat(Collections.frequency(started, "bulk")).isEqualTo(6);
+            assertThat(started).contains("quiet");
+            assertThat(started.indexOf("quiet")).isLessThan(2);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(scheduler.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectUnknownPriorities() {
+        assertThat(FetchScheduler.Priority.of(null)).isEqualTo(FetchScheduler.Priority.NORMAL);
+        assertThat(FetchScheduler.Priority.of("High")).isEqualTo(FetchScheduler.Priority.HIGH);
+        assertThatThrownBy(() -> FetchScheduler.Priority.of("urgent"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("priority must be");
+    }
+
+    private static void run(FetchScheduler scheduler, String tenant, FetchScheduler.Priority priority, List<String> started) {
+        try (FetchScheduler.Slot slot = scheduler.acquire(tenant, priority)) {
+            started.add(tenant);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.camunda.connector.rss.search;
+
+import io.camunda.connector.rss.archive.FeedArchive;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextIndexTest {
+
+    private static final String FEED_A = "https://a.example.com/feed.xml";
+    private static final String FEED_B = "https://b.example.com/feed.xml";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldTokenizeWithoutMarkupEntitiesAndStopWords() {
+        // Given
+        List<String> terms = new ArrayList<>();
+
+        // When
+        Tokenizer.tokenize("<p class=\"lead\">The Kubernetes&nbsp;1.30 release &amp; what's NEW</p>", terms::add);
+
+        // Then
+        assertThat(terms).containsExactly("kubernetes", "30", "release", "whats", "new");
+    }
+
+    @Test
+    void shouldRoundTripDeltaEncodedPostings() {
+        // Given
+        PostingList list = new PostingList();
+        int[] documents = {0, 1, 127, 128, 20_000, 3_000_000};
+
+        // When
+        for (int document : documents) {
+            list.add(document, document % 7 + 1);
+        }
+
+        // Then
+        PostingList.Cursor cursor = list.cursor();
+        for (int document : documents) {
+            assertThat(cursor.next()).isTrue();
+            assertThat(cursor.document()).isEqualTo(document);
+            assertThat(cursor.frequency()).isEqualTo(document % 7 + 1);
+        }
+        assertThat(cursor.next()).isFalse();
+        assertThat(list.sizeInBytes()).isLessThan(documents.length * 8);
+    }
+
+    @Test
+    void shouldRankByBm25AndRestrictToFeeds() {
+        // Given
+        FullTextIndex index = new FullTextIndex();
+        index.add(1, FEED_A, item("Weekly digest", "Notes on databases, kubernetes and other topics"));
+        index.add(2, FEED_A, item("Kubernetes security release", "A kubernetes release fixes a security issue"));
+        index.add(3, FEED_B, item("Kubernetes operators", "Writing operators"));
+        index.add(4, FEED_B, item("Gardening tips", "Tomatoes need sun"));
+
+        // When
+        List<FullTextIndex.Hit> hits = index.search("Kubernetes security", null, 10);
+        List<FullTextIndex.Hit> feedB = index.search("kubernetes", List.of(FEED_B), 10);
+        List<FullTextIndex.Hit> top = index.search("kubernetes release", null, 1);
+
+        // Then
+        assertThat(hits).extracting(FullTextIndex.Hit::key).containsExactly(2L, 3L, 1L);
+        assertThat(feedB).extracting(FullTextIndex.Hit::key).containsExactly(3L);
+        assertThat(top).extracting(FullTextIndex.Hit::key).containsExactly(2L);
+        assertThat(index.search("the of and", null, 10)).isEmpty();
+        assertThat(index.search("zebra", null, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldBuildFromArchiveAndIndexNewlyArchivedItems() throws Exception {
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(36500))) {
+            // Given
+            archive.append(FEED_A, randomItems("a", 300, new Random(1)));
+            CompactItem needle = item("Quarterly report on solar adoption", "Solar panels are everywhere");
+
+            // When
+            FullTextIndex index = FullTextIndex.forArchive(archive);
+            int indexedOnBuild = index.documentCount();
+            archive.append(FEED_B, List.of(needle));
+
+            // Then
+            assertThat(indexedOnBuild).isEqualTo(300);
+            assertThat(FullTextIndex.forArchive(archive)).isSameAs(index);
+            List<FullTextIndex.Hit> hits = index.search("solar", null, 5);
+            assertThat(hits).hasSize(1);
+            assertThat(archive.findByKey(hits.get(0).key()).orElseThrow().item().title())
+                    .isEqualTo("Quarterly report on solar adoption");
+        }
+    }
+
+    @Test
+    void shouldRemoveItemsDeletedByArchiveRetention() throws Exception {
+        try (FeedArchive archive = new FeedArchive(directory, 4096, Duration.ofDays(7))) {
+            // Given - indexed items that age out of the archive
+            archive.append(FEED_A, List.of(dated("Solar tariffs announced", Instant.now().minus(Duration.ofDays(10)))));
+            archive.append(FEED_A, randomItems("a", 20, new Random(2)).stream()
+                    .map(item -> dated(item.title(), Instant.now().minus(Duration.ofDays(9)))).toList());
+            FullTextIndex index = FullTextIndex.forArchive(archive);
+            int indexedOnBuild = index.documentCount();
+
+            // When - eight days after they were archived
+            int deletedSegments = archive.applyRetention(Instant.now().plus(Duration.ofDays(8)));
+            archive.append(FEED_B, List.of(dated("Solar farm opens", Instant.now())));
+
+            // Then - only the recent item is found, with exactly one requested hit
+            assertThat(indexedOnBuild).isEqualTo(21);
+            assertThat(deletedSegments).isEqualTo(1);
+            List<FullTextIndex.Hit> hits = index.search("solar", null, 1);
+            assertThat(hits).hasSize(1);
+            assertThat(archive.findByKey(hits.get(0).key()).orElseThrow().item().title()).isEqualTo("Solar farm opens");
+            assertThat(index.documentCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldLeaveDeletedDocumentsOutOfTheDocumentFrequency() {
+        // Given
+        FullTextIndex index = new FullTextIndex();
+        for (int i = 0; i < 10; i++) {
+            index.add(i, FEED_A, item("Energy report " + i, i < 8 ? "coal" : "wind"));
+        }
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            index.remove(i);
+        }
+
+        // Then
+        assertThat(index.documentCount()).isEqualTo(5);
+        List<FullTextIndex.Hit> hits = index.search("coal", null, 10);
+        assertThat(hits).extracting(FullTextIndex.Hit::key).containsExactlyInAnyOrder(5L, 6L, 7L);
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.score()).isPositive());
+    }
+
+    @Test
+    void shouldCompactPostingsOnceMostDocumentsAreDeleted() {
+        // Given
+        FullTextIndex index = new FullTextIndex();
+        for (int i = 0; i < 10; i++) {
+            index.add(i, FEED_A, item("Energy report " + i, i < 3 ? "wind" : "coal"));
+        }
+        long bytesBefore = index.postingBytes();
+
+        // When
+        for (int i = 3; i < 10; i++) {
+            index.remove(i);
+        }
+
+        // Then
+        assertThat(index.documentCount()).isEqualTo(3);
+        assertThat(index.search("coal", null, 10)).isEmpty();
+        assertThat(index.search("wind", null, 10)).extracting(FullTextIndex.Hit::key).containsExactlyInAnyOrder(0L, 1L, 2L);
+        assertThat(index.postingBytes()).isLessThan(bytesBefore);
+    }
+
+    private static CompactItem dated(String title, Instant pubDate) {
+        return CompactItem.of(title, title, "https://example.com/" + title.hashCode(), null, pubDate.toEpochMilli(),
+                null, null, null, null, null, StringPool.SHARED);
+    }
+
+    private static CompactItem item(String title, String description) {
+        return CompactItem.of(title, description, "https://example.com/" + title.hashCode(), null, CompactItem.NO_DATE,
+                null, null, null, null, null, StringPool.SHARED);
+    }
+
+    private static List<CompactItem> randomItems(String prefix, int count, Random random) {
+        String[] words = {"cloud", "database", "release", "update", "market", "energy", "science", "policy"};
+        List<CompactItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 0; w < 12; w++) {
+                text.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            items.add(CompactItem.of(prefix + " item " + i, text.toString(), "https://example.com/" + prefix + "/" + i,
+                    prefix + "-" + i, CompactItem.NO_DATE, null, null, null, null, null, StringPool.SHARED));
+        }
+        return items;
+    }
+}
@@ -1,11 +1,34 @@
 package io.camunda.connector.rss.service;
 
+import io.camunda.connector.rss.dto.RssFeedFolder;
+import io.camunda.connector.rss.cache.FeedCache;
 import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.metrics.ConnectorMetrics;
 import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.limit.HostConcurrencyLimiter;
+import io.camunda.connector.rss.limit.HostRateLimiter;
+import io.camunda.connector.rss.dto.RssFeedStatus;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -84,4 +107,645 @@ class RssFeedServiceTest {
         assertThat(output.isSuccess()).isFalse();
         assertThat(output.getError()).isNotEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldDetectWebSubHubAndSelfLinksInRssFeed() {
+        // Given
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<rss version=\"2.0\" xmlns:atom=\"http://www.w3.org/2005/Atom\"><channel>" +
+                "<title>Hub Feed</title><link>https://example.com</link><description>d</description>" +
+                "<atom:link rel=\"hub\" href=\"https://pubsubhubbub.appspot.com/\"/>" +
+                "<atom:link rel=\"self\" href=\"https://example.com/feed.xml\"/>" +
+                "<item><title>Item</title><guid>1</guid></item>" +
+                "</channel></rss>";
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, new RssFeedInput("https://example.com/feed.xml"));
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getHubUrl()).isEqualTo("https://pubsubhubbub.appspot.com/");
+        assertThat(output.getSelfUrl()).isEqualTo("https://example.com/feed.xml");
+    }
+
+    @Test
+    void shouldDetectWebSubHubLinkInAtomFeed() {
+        // Given
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<feed xmlns=\"http://www.w3.org/2005/Atom\"><title>Atom Hub Feed</title><id>urn:feed</id>" +
+                "<updated>2024-01-15T10:30:00Z</updated>" +
+                "<link rel=\"hub\" href=\"https://hub.example.com/\"/>" +
+                "<link rel=\"self\" href=\"https://example.com/atom.xml\"/>" +
+                "<entry><title>Entry</title><id>urn:1</id><updated>2024-01-15T10:30:00Z</updated></entry>" +
+                "</feed>";
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, new RssFeedInput("https://example.com/atom.xml"));
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getHubUrl()).isEqualTo("https://hub.example.com/");
+        assertThat(output.getSelfUrl()).isEqualTo("https://example.com/atom.xml");
+    }
+
+    @Test
+    void shouldApplyNewerThanBlacklistAndMaxItemsFilters() {
+        // Given
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<rss version=\"2.0\"><channel><title>Filters</title><link>https://example.com</link><description>d</description>" +
+                "<item><title>New</title><link>https://example.com/a/1</link><guid>1</guid>" +
+                "<pubDate>Mon, 15 Jan 2024 10:30:00 GMT</pubDate><category>News</category></item>" +
+                "<item><title>Blacklisted</title><link>https://example.com/a/2</link><guid>2</guid>" +
+                "<pubDate>Mon, 15 Jan 2024 09:30:00 GMT</pubDate></item>" +
+                "<item><title>Old</title><link>https://example.com/a/3</link><guid>3</guid>" +
+                "<pubDate>Sun, 31 Dec 2023 10:30:00 GMT</pubDate></item>" +
+                "<item><title>Also New</title><link>https://example.com/a/4</link><guid>4</guid>" +
+                "<pubDate>Mon, 15 Jan 2024 08:30:00 GMT</pubDate></item>" +
+                "</channel></rss>";
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setNewerThan("2024-01-01T00:00:00Z");
+        input.setGuidBlacklist(java.util.List.of("2"));
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, input);
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getItems()).extracting("title").containsExactly("New", "Also New");
+        assertThat(output.getItems().get(0).getPubDate()).isEqualTo("2024-01-15T10:30:00Z");
+        assertThat(output.getItems().get(0).getCategories()).containsExactly("News");
+        assertThat(output.getItems().get(0).getLink()).isEqualTo("https://example.com/a/1");
+    }
+
+    @Test
+    void shouldRecoverDatesRomeCannotParse() {
+        // Given
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<rss version=\"2.0\"><channel><title>Dates</title><link>https://example.com</link><description>d</description>" +
+                "<item><title>Spelled out</title><guid>1</guid><pubDate>January 15, 2024 10:30 AM</pubDate></item>" +
+                "<item><title>Space separated</title><guid>2</guid><pubDate>2024-01-15 10:30:00</pubDate></item>" +
+                "<item><title>Garbage</title><guid>3</guid><pubDate>sometime last week</pubDate></item>" +
+                "</channel></rss>";
+        RssFeedInput input = new RssFeedInput("https://example.com/dates.xml");
+        input.setNewerThan("Mon, 01 Jan 2024 00:00:00 GMT");
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, input);
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getItems()).extracting("pubDate")
+                .containsExactly("2024-01-15T10:30:00Z", "2024-01-15T10:30:00Z", null);
+    }
+
+    @Test
+    void shouldParseRawDatesOfFeedsReadWithRome() {
+        // Given - RSS 1.0 is read with ROME
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\" xmlns=\"http://purl.org/rss/1.0/\"" +
+                " xmlns:dc=\"http://purl.org/dc/elements/1.1/\">" +
+                "<channel rdf:about=\"https://example.com\"><title>Dates</title><link>https://example.com</link>" +
+                "<description>d</description></channel>" +
+                "<item rdf:about=\"https://example.com/1\"><title>ISO</title><link>https://example.com/1</link>" +
+                "<dc:date>2024-01-15T10:30:00+01:00</dc:date></item>" +
+                "<item rdf:about=\"https://example.com/2\"><title>Space separated</title><link>https://example.com/2</link>" +
+                "<dc:date>2024-01-15 10:30:00</dc:date></item>" +
+                "</rdf:RDF>";
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, new RssFeedInput("https://example.com/rdf.xml"));
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getItems()).extracting("pubDate")
+                .containsExactly("2024-01-15T09:30:00Z", "2024-01-15T10:30:00Z");
+    }
+
+    @Test
+    void shouldMergeFeedsAndRemoveDuplicateStories() throws Exception {
+        // Given
+        String story = "<title>Central bank raises interest rates by half a point</title>" +
+                "<description>The central bank raised rates on Tuesday.</description>";
+        String first = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>First</title>" +
+                "<link>https://a.example.com</link><description>d</description>" +
+                "<item>" + story + "<link>https://a.example.com/rates?utm_source=rss</link></item>" +
+                "<item><title>Only in the first feed</title><link>https://a.example.com/other</link></item>" +
+                "</channel></rss>";
+        String second = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>Second</title>" +
+                "<link>https://b.example.com</link><description>d</description>" +
+                "<item>" + story + "<link>https://b.example.com/2024/rates</link></item>" +
+                "</channel></rss>";
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return switch (request.getPath()) {
+                        case "/first.xml" -> new MockResponse().setBody(first);
+                        case "/second.xml" -> new MockResponse().setBody(second);
+                        default -> new MockResponse().setResponseCode(404);
+                    };
+                }
+            });
+            server.start();
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            String baseUrl = "http://feeds.test:" + server.getPort();
+            RssFeedInput input = new RssFeedInput(baseUrl + "/first.xml");
+            input.setFeedUrls(List.of(baseUrl + "/second.xml", baseUrl + "/missing.xml"));
+            input.setDeduplicate(true);
+
+            // When
+            RssFeedOutput output = service.fetchMergedFeeds(input);
+
+            // Then
+            assertThat(output.isSuccess()).isTrue();
+            assertThat(output.getFeedTitle()).isEqualTo("First");
+            assertThat(output.getItems()).extracting("title")
+                    .containsExactly("Central bank raises interest rates by half a point", "Only in the first feed");
+            assertThat(output.getDuplicatesRemoved()).isEqualTo(1);
+            assertThat(output.getError()).contains("missing.xml");
+        }
+    }
+
+    @Test
+    void shouldFetchOpmlFeedsGroupedByFolder() throws Exception {
+        // Given
+        String feed = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>Feed</title>" +
+                "<link>https://example.com</link><description>d</description>" +
+                "<item><title>One</title><guid>1</guid></item><item><title>Two</title><guid>2</guid></item>" +
+                "</channel></rss>";
+        try (MockWebServer server = new MockWebServer()) {
+            String baseUrl = "http://opml.test:" + server.getPort();
+            String opml = "<opml version=\"2.0\"><body>" +
+                    "<outline text=\"News\"><outline text=\"A\" xmlUrl=\"" + baseUrl + "/a.xml\"/>" +
+                    "<outline text=\"Missing\" xmlUrl=\"" + baseUrl + "/missing.xml\"/></outline>" +
+                    "<outline text=\"B\" xmlUrl=\"" + baseUrl + "/b.xml\"/>" +
+                    "</body></opml>";
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return switch (request.getPath()) {
+                        case "/subscriptions.opml" -> new MockResponse().setBody(opml);
+                        case "/a.xml", "/b.xml" -> new MockResponse().setBody(feed);
+                        default -> new MockResponse().setResponseCode(404);
+                    };
+                }
+            });
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            RssFeedInput input = new RssFeedInput();
+            input.setOperation("fetchOpml");
+            input.setOpmlUrl(baseUrl + "/subscriptions.opml");
+
+            // When
+            RssFeedOutput output = service.fetchOpml(input);
+
+            // Then
+            assertThat(output.isSuccess()).isTrue();
+            assertThat(output.getTotalItems()).isEqualTo(4);
+            assertThat(output.getError()).isEqualTo("1 of 3 feeds failed");
+            assertThat(output.getFolders()).extracting(RssFeedFolder::getFolder).containsExactly("News", "");
+            RssFeedStatus missing = output.getFolders().get(0).getFeeds().get(1);
+            assertThat(missing.isSuccess()).isFalse();
+            assertThat(missing.getError()).contains("404");
+            RssFeedStatus b = output.getFolders().get(1).getFeeds().get(0);
+            assertThat(b.getTitle()).isEqualTo("B");
+            assertThat(b.getItemOffset()).isEqualTo(2);
+            assertThat(b.getItemCount()).isEqualTo(2);
+            assertThat(HostConcurrencyLimiter.shared().inFlight("opml.test")).isZero();
+        }
+    }
+
+    @Test
+    void shouldFollowPageLinksUntilAKnownItemIsReached() throws Exception {
+        // Given - page 3 has its pagination link after the entries, so it is only found by the full parse
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return switch (request.getPath()) {
+                        case "/feed" -> new MockResponse().setBody(atomPage("<link rel=\"next\" href=\"/feed?page=2\"/>", "", 1, 2));
+                        case "/feed?page=2" -> new MockResponse().setBody(atomPage("<link rel=\"prev-archive\" href=\"page3.xml\"/>", "", 3, 4));
+                        case "/page3.xml" -> new MockResponse().setBody(atomPage("", "<link rel=\"next\" href=\"/page4.xml\"/>", 5, 6));
+                        default -> new MockResponse().setBody(atomPage("", "", 7, 8));
+                    };
+                }
+            });
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            String baseUrl = "http://pages.test:" + server.getPort();
+            RssFeedInput input = new RssFeedInput(baseUrl + "/feed");
+            input.setFollowPages(true);
+            input.setMaxItems(100);
+            input.setGuidBlacklist(List.of("urn:item:6"));
+            RssFeedInput limited = new RssFeedInput(baseUrl + "/feed");
+            limited.setFollowPages(true);
+            limited.setMaxPages(2);
+            limited.setMaxItems(100);
+
+            // When
+            RssFeedOutput output = service.fetchRssFeed(input);
+            RssFeedOutput limitedOutput = service.fetchRssFeed(limited);
+
+            // Then
+            assertThat(output.isSuccess()).isTrue();
+            assertThat(output.getItems()).extracting("guid")
+                    .containsExactly("urn:item:1", "urn:item:2", "urn:item:3", "urn:item:4", "urn:item:5");
+            assertThat(output.getPagesFetched()).isEqualTo(3);
+            assertThat(output.getNextPageUrl()).isNull();
+            assertThat(limitedOutput.getItems()).hasSize(4);
+            assertThat(limitedOutput.getPagesFetched()).isEqualTo(2);
+            assertThat(limitedOutput.getNextPageUrl()).isEqualTo(baseUrl + "/page3.xml");
+            List<String> paths = new ArrayList<>();
+            for (int i = server.getRequestCount(); i > 0; i--) {
+                paths.add(server.takeRequest().getPath());
+            }
+            assertThat(paths).doesNotContain("/page4.xml");
+        }
+    }
+
+    @Test
+    void shouldNotCountUnusedPrefetchAgainstRateLimit() throws Exception {
+        // Given - the first page fills maxItems, so the prefetched second page is not used
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return "/feed".equals(request.getPath())
+                            ? new MockResponse().setBody(atomPage("<link rel=\"next\" href=\"/feed?page=2\"/>", "", 1, 2))
+                            : new MockResponse().setBody(atomPage("", "", 3, 4));
+                }
+            });
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            RssFeedInput input = new RssFeedInput("http://prefetch.test:" + server.getPort() + "/feed");
+            input.setFollowPages(true);
+            input.setMaxItems(2);
+
+            // When
+            RssFeedOutput output = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(output.getPagesFetched()).isEqualTo(1);
+            assertThat(HostRateLimiter.shared().usage("prefetch.test").requestsThisMinute()).isEqualTo(1);
+        }
+    }
+
+    private static String atomPage(String headerLinks, String trailingLinks, int firstItem, int lastItem) {
+        StringBuilder page = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<feed xmlns=\"http://www.w3.org/2005/Atom\"><title>Paged</title><id>urn:feed</id>" +
+                "<updated>2024-01-15T10:00:00Z</updated>" + headerLinks);
+        for (int i = firstItem; i <= lastItem; i++) {
+            page.append("<entry><title>Item ").append(i).append("</title><id>urn:item:").append(i)
+                    .append("</id><updated>2024-01-15T10:00:00Z</updated></entry>");
+        }
+        return page.append(trailingLinks).append("</feed>").toString();
+    }
+
+    @Test
+    void shouldReturnOnlyChangedItemsAndSkipUnchangedFeeds() throws Exception {
+        // Given
+        String first = rssFeed("<item><title>One</title><guid>1</guid></item><item><title>Two</title><guid>2</guid></item>");
+        String second = rssFeed("<item><title>Two (updated)</title><guid>2</guid></item><item><title>Three</title><guid>3</guid></item>");
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(first).setHeader("ETag", "\"v1\""));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            server.enqueue(new MockResponse().setBody(first));
+            server.enqueue(new MockResponse().setBody(second).setHeader("ETag", "\"v2\""));
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            RssFeedInput input = new RssFeedInput("http://delta.test:" + server.getPort() + "/feed.xml");
+            input.setDelta(true);
+            input.setIncludeRemoved(true);
+            input.setSnapshotKey("shouldReturnOnlyChangedItemsAndSkipUnchangedFeeds");
+
+            // When
+            RssFeedOutput initial = service.fetchRssFeed(input);
+            RssFeedOutput notModified = service.fetchRssFeed(input);
+            RssFeedOutput sameBody = service.fetchRssFeed(input);
+            RssFeedOutput changed = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(initial.getItems()).extracting("guid").containsExactly("1", "2");
+            assertThat(initial.getDelta().isFirstSnapshot()).isTrue();
+            server.takeRequest();
+            assertThat(server.takeRequest().getHeader("If-None-Match")).isEqualTo("\"v1\"");
+            assertThat(notModified.getItems()).isEmpty();
+            assertThat(notModified.getDelta().isNotModified()).isTrue();
+            assertThat(sameBody.getItems()).isEmpty();
+            assertThat(sameBody.getDelta().isNotModified()).isTrue();
+            assertThat(changed.getItems()).extracting("guid").containsExactly("2", "3");
+            assertThat(changed.getDelta().getNewItems()).isEqualTo(1);
+            assertThat(changed.getDelta().getUpdatedGuids()).containsExactly("2");
+            assertThat(changed.getDelta().getRemovedGuids()).containsExactly("1");
+        }
+    }
+
+    @Test
+    void shouldReportChangesBeyondMaxItemsOnTheNextDeltaAndNotReportFilteredItemsAsRemoved() throws Exception {
+        // Given - three new items with maxItems 2, one of them excluded by a keyword
+        String feed = rssFeed("<item><title>One</title><guid>1</guid></item><item><title>Sponsored</title><guid>2</guid></item>" +
+                "<item><title>Three</title><guid>3</guid></item><item><title>Four</title><guid>4</guid></item>");
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(feed));
+            server.enqueue(new MockResponse().setBody(feed + " "));
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            RssFeedInput input = new RssFeedInput("http://delta-capped.test:" + server.getPort() + "/feed.xml");
+            input.setDelta(true);
+            input.setIncludeRemoved(true);
+            input.setMaxItems(2);
+            input.setExcludeKeywords(List.of("Sponsored"));
+
+            // When
+            RssFeedOutput first = service.fetchRssFeed(input);
+            RssFeedOutput second = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(first.getItems()).extracting("guid").containsExactly("1", "3");
+            assertThat(second.getItems()).extracting("guid").containsExactly("4");
+            assertThat(second.getDelta().getNewItems()).isEqualTo(1);
+            assertThat(second.getDelta().getRemovedGuids()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldServeStaleCopyWhileRevalidatingInTheBackground() throws Exception {
+        // Given
+        String first = rssFeed("<item><title>One</title><guid>1</guid></item>");
+        String second = rssFeed("<item><title>Two</title><guid>2</guid></item>");
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(first));
+            server.enqueue(new MockResponse().setBody(second).setHeader("ETag", "\"v2\""));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            String feedUrl = "http://swr.test:" + server.getPort() + "/feed.xml";
+            RssFeedInput input = new RssFeedInput(feedUrl);
+            input.setCacheMaxAgeSeconds(0);
+            input.setStaleWhileRevalidateSeconds(600);
+
+            // When
+            RssFeedOutput miss = service.fetchRssFeed(input);
+            Thread.sleep(5);
+            RssFeedOutput stale = service.fetchRssFeed(input);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!FeedCache.shared().get(feedUrl).body().contains("Two") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(5);
+            RssFeedOutput refreshed = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(miss.getCacheStatus()).isEqualTo("miss");
+            assertThat(miss.getStale()).isNull();
+            assertThat(stale.getCacheStatus()).isEqualTo("stale");
+            assertThat(stale.getStale()).isTrue();
+            assertThat(stale.getItems()).extracting("guid").containsExactly("1");
+            assertThat(refreshed.getItems()).extracting("guid").containsExactly("2");
+        }
+    }
+
+    @Test
+    void shouldServeStaleCopyWhenTheFeedFails() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(rssFeed("<item><title>One</title><guid>1</guid></item>")));
+            server.enqueue(new MockResponse().setResponseCode(503).setStatus("HTTP/1.1 503 Service Unavailable"));
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            RssFeedInput input = new RssFeedInput("http://stale-if-error.test:" + server.getPort() + "/feed.xml");
+            input.setCacheMaxAgeSeconds(0);
+            input.setStaleIfErrorSeconds(600);
+
+            // When
+            RssFeedOutput miss = service.fetchRssFeed(input);
+            Thread.sleep(5);
+            RssFeedOutput stale = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(stale.isSuccess()).isTrue();
+            assertThat(stale.getCacheStatus()).isEqualTo("stale-if-error");
+            assertThat(stale.getStale()).isTrue();
+            assertThat(stale.getError()).contains("503");
+            assertThat(stale.getItems()).extracting("guid").containsExactly("1");
+            assertThat(stale.getFetchedAt()).isEqualTo(miss.getFetchedAt());
+            assertThat(server.getRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldServeRecentFailuresFromTheNegativeCache() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(410).setStatus("HTTP/1.1 410 Gone"));
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            String feedUrl = "http://gone.test:" + server.getPort() + "/feed.xml";
+            RssFeedInput input = new RssFeedInput(feedUrl);
+
+            // When
+            RssFeedOutput first = service.fetchRssFeed(input);
+            RssFeedOutput second = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(first.isSuccess()).isFalse();
+            assertThat(first.getError()).contains("410");
+            assertThat(second.isSuccess()).isFalse();
+            assertThat(second.getCacheStatus()).isEqualTo("negative");
+            assertThat(second.getError()).contains("410").contains("gone");
+            assertThat(server.getRequestCount()).isEqualTo(1);
+            assertThat(ConnectorMetrics.shared().permanentFailures())
+                    .anySatisfy(failure -> {
+                        assertThat(failure.feedUrl()).isEqualTo(feedUrl);
+                        assertThat(failure.failureClass()).isEqualTo("gone");
+                    });
+        }
+    }
+
+    @Test
+    void shouldNotServeAnotherCallersAuthorizationFailureFromTheNegativeCache() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(401));
+            server.enqueue(new MockResponse().setBody(rssFeed("<item><title>A</title><guid>a</guid></item>")));
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build());
+            String feedUrl = "http://private.test:" + server.getPort() + "/feed.xml";
+            RssFeedInput wrongToken = new RssFeedInput(feedUrl);
+            wrongToken.setAuthType("bearer");
+            wrongToken.setAuthToken("expired");
+            RssFeedInput validToken = new RssFeedInput(feedUrl);
+            validToken.setAuthType("bearer");
+            validToken.setAuthToken("valid");
+
+            // When
+            RssFeedOutput rejected = service.fetchRssFeed(wrongToken);
+            RssFeedOutput accepted = service.fetchRssFeed(validToken);
+            RssFeedOutput cached = service.fetchRssFeed(wrongToken);
+
+            // Then
+            assertThat(rejected.getError()).contains("401");
+            assertThat(accepted.isSuccess()).isTrue();
+            assertThat(cached.getCacheStatus()).isEqualTo("negative");
+            assertThat(server.getRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldFailFastForHostsThatDoNotResolve() {
+        // Given
+        AtomicInteger lookups = new AtomicInteger();
+        RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                .dns(hostname -> {
+                    lookups.incrementAndGet();
+                    throw new UnknownHostException(hostname);
+                })
+                .build());
+
+        // When
+        long start = System.nanoTime();
+        RssFeedOutput first = service.fetchRssFeed(new RssFeedInput("https://unresolved.test/a.xml"));
+        RssFeedOutput otherFeed = service.fetchRssFeed(new RssFeedInput("https://unresolved.test/b.xml"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(first.getError()).contains("after 1 attempts");
+        assertThat(otherFeed.getCacheStatus()).isEqualTo("negative");
+        assertThat(lookups).hasValue(1);
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+
+    private static String rssFeed(String items) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>Delta</title>" +
+                "<link>https://example.com</link><description>d</description>" + items + "</channel></rss>";
+    }
+
+    @Test
+    void shouldCountOnlyItemsMatchingKeywordFiltersForMaxItems() {
+        // Given
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<rss version=\"2.0\"><channel><title>Keywords</title><link>https://example.com</link><description>d</description>" +
+                "<item><title>Weather today</title><guid>1</guid></item>" +
+                "<item><title>Camunda release</title><guid>2</guid></item>" +
+                "<item><title>Sports</title><guid>3</guid><description>Nothing about processes</description></item>" +
+                "<item><title>Modeling tips</title><guid>4</guid><description>Using BPMN gateways</description></item>" +
+                "<item><title>Camunda webinar</title><guid>5</guid><category>Sponsored</category></item>" +
+                "<item><title>More BPMN</title><guid>6</guid></item>" +
+                "</channel></rss>";
+        RssFeedInput input = new RssFeedInput("https://example.com/keywords.xml");
+        input.setMaxItems(2);
+        input.setIncludeKeywords(List.of("camunda", "bpmn"));
+        input.setExcludeCategories(List.of("sponsored"));
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, input);
+
+        // Then
+        assertThat(output.getItems()).extracting("guid").containsExactly("2", "4");
+    }
+
+    @Test
+    void shouldParseJsonFeed() {
+        // Given
+        String json = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"JSON Feed\"," +
+                "\"home_page_url\": \"https://example.com/\", \"feed_url\": \"https://example.com/feed.json\"," +
+                "\"hubs\": [{\"type\": \"WebSub\", \"url\": \"https://hub.example.com/\"}]," +
+                "\"items\": [" +
+                "{\"id\": \"1\", \"url\": \"https://example.com/1\", \"title\": \"Camunda 8.8\"," +
+                "\"content_html\": \"<p>Released</p>\", \"date_published\": \"2024-01-15T10:30:00Z\"," +
+                "\"authors\": [{\"name\": \"Jane\"}], \"tags\": [\"release\"]," +
+                "\"attachments\": [{\"url\": \"https://example.com/1.mp3\", \"mime_type\": \"audio/mpeg\", \"size_in_bytes\": 42}]}," +
+                "{\"id\": 2, \"url\": \"https://example.com/2\", \"title\": \"Weather\", \"content_text\": \"Sunny\"}" +
+                "], \"authors\": [{\"name\": \"Editorial\"}]}";
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.json");
+        input.setIncludeKeywords(List.of("camunda", "sunny"));
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(json, input);
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getFeedTitle()).isEqualTo("JSON Feed");
+        assertThat(output.getFeedLink()).isEqualTo("https://example.com/");
+        assertThat(output.getHubUrl()).isEqualTo("https://hub.example.com/");
+        assertThat(output.getSelfUrl()).isEqualTo("https://example.com/feed.json");
+        assertThat(output.getItems()).extracting("guid").containsExactly("1", "2");
+        assertThat(output.getItems()).extracting("author").containsExactly("Jane", "Editorial");
+        assertThat(output.getItems().get(0).getPubDate()).isEqualTo("2024-01-15T10:30:00Z");
+        assertThat(output.getItems().get(0).getContent()).isEqualTo("<p>Released</p>");
+        assertThat(output.getItems().get(0).getCategories()).containsExactly("release");
+        assertThat(output.getItems().get(0).getEnclosures().get(0).getLength()).isEqualTo(42L);
+        assertThat(output.getItems().get(1).getContent()).isEqualTo("Sunny");
+    }
+
+    @Test
+    void shouldFallBackToRomeForDocumentsTheDedicatedReadersDoNotSupport() {
+        // Given an HTML entity the StAX reader rejects and ROME's XML healer repairs
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<rss version=\"2.0\"><channel><title>Entities</title><link>https://example.com</link><description>d</description>" +
+                "<item><title>Caf&eacute;&nbsp;news</title><guid>1</guid></item>" +
+                "</channel></rss>";
+
+        // When
+        RssFeedOutput output = rssFeedService.parseRssFeed(xml, new RssFeedInput("https://example.com/entities.xml"));
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getItems()).extracting("title").containsExactly("Caf\u00e9\u00a0news");
+    }
+
+    @Test
+    void shouldTraceEachPhaseOfAFetchInTheCallersTrace() throws Exception {
+        // Given
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+            server.enqueue(new MockResponse().setBody(rssFeed("<item><title>A</title><guid>a</guid></item>")));
+            InMemorySpanExporter exporter = InMemorySpanExporter.create();
+            SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+            RssFeedService service = new RssFeedService(new OkHttpClient.Builder()
+                    .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                    .build(), null, tracerProvider.get("test"));
+            RssFeedInput input = new RssFeedInput("http://traced.test:" + server.getPort() + "/feed.xml");
+            input.setTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+            // When
+            RssFeedOutput output = service.fetchRssFeed(input);
+
+            // Then
+            assertThat(output.isSuccess()).isTrue();
+            List<SpanData> spans = exporter.getFinishedSpanItems();
+            assertThat(spans).extracting(SpanData::getName).containsExactly("rss.validate_url", "rss.rate_limit",
+                    "rss.http_attempt", "rss.http_attempt", "rss.parse", "rss.filter", "rss.fetch");
+            assertThat(spans).extracting(SpanData::getTraceId).containsOnly("4bf92f3577b34da6a3ce929d0e0e4736");
+            SpanData fetch = spans.get(6);
+            assertThat(fetch.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(spans.subList(0, 6)).extracting(SpanData::getParentSpanId).containsOnly(fetch.getSpanId());
+            assertThat(fetch.getAttributes().get(AttributeKey.stringKey("server.address"))).isEqualTo("traced.test");
+            assertThat(fetch.getAttributes().get(AttributeKey.longKey("rss.items"))).isEqualTo(1L);
+            assertThat(spans.get(2).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+            assertThat(spans.get(2).getAttributes().get(AttributeKey.longKey("rss.retry.backoff_ms"))).isEqualTo(1000L);
+            assertThat(spans.get(3).getAttributes().get(AttributeKey.longKey("http.response.status_code"))).isEqualTo(200L);
+            assertThat(spans.get(3).getAttributes().get(AttributeKey.longKey("http.request.resend_count"))).isEqualTo(1L);
+            assertThat(spans.get(3).getAttributes().get(AttributeKey.longKey("http.response.body.size"))).isPositive();
+            assertThat(spans.get(4).getAttributes().get(AttributeKey.stringKey("rss.format"))).isEqualTo("RSS2");
+            assertThat(spans.get(4).getAttributes().get(AttributeKey.longKey("rss.entries"))).isEqualTo(1L);
+
+            // The second attempt carries its own span as parent to the server
+            server.takeRequest();
+            assertThat(server.takeRequest().getHeader("traceparent"))
+                    .isEqualTo("00-4bf92f3577b34da6a3ce929d0e0e4736-" + spans.get(3).getSpanId() + "-01");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.camunda.connector.rss.state;
+
+import io.camunda.connector.rss.cache.CachedFeed;
+import io.camunda.connector.rss.cache.FeedCache;
+import io.camunda.connector.rss.delta.DeltaTracker;
+import io.camunda.connector.rss.model.CompactItem;
+import io.camunda.connector.rss.model.StringPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedStateStoreTest {
+
+    @Test
+    void shouldBoundNamespacesAndExpireValuesInMemory() {
+        // Given
+        AtomicLong clock = new AtomicLong(0);
+        InMemorySharedStateStore store = new InMemorySharedStateStore(10, Map.of("small", 1), clock::get);
+
+        // When
+        store.put("small", "a", "A", null, null);
+        store.put("small", "b", "B", null, null);
+        store.put("large", "a", "A", null, Duration.ofSeconds(1));
+        store.put("large", "b", "B", null, null);
+        long first = store.increment("counter", "window", Duration.ofMinutes(1));
+        long second = store.increment("counter", "window", Duration.ofMinutes(1));
+        clock.set(Duration.ofMinutes(1).toMillis());
+
+        // Then
+        assertThat(store.<String>get("small", "a", null)).isNull();
+        assertThat(store.<String>get("small", "b", null)).isEqualTo("B");
+        assertThat(store.<String>get("large", "a", null)).isNull();
+        assertThat(store.<String>get("large", "b", null)).isEqualTo("B");
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(store.increment("counter", "window", Duration.ofMinutes(1))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareStateBetweenRuntimesThroughFiles(@TempDir Path directory) throws Exception {
+        // Given
+        SharedStateStore runtimeA = new FileSharedStateStore(directory);
+        SharedStateStore runtimeB = new FileSharedStateStore(directory);
+        FeedCache cacheA = new FeedCache(runtimeA, Executors.newSingleThreadExecutor());
+        FeedCache cacheB = new FeedCache(runtimeB, Executors.newSingleThreadExecutor());
+        DeltaTracker trackerA = new DeltaTracker(runtimeA);
+        DeltaTracker trackerB = new DeltaTracker(runtimeB);
+        List<CompactItem> items = List.of(CompactItem.of("One", "First", "https://example.com/1", "1",
+                CompactItem.NO_DATE, null, null, null, null, null, StringPool.SHARED));
+
+        // When
+        cacheA.put("https://example.com/feed.xml", new CachedFeed("<rss>ü</rss>", "\"v1\"", null, 42), Duration.ofHours(1));
+        trackerA.diff("https://example.com/feed.xml", items, null, true, "\"v1\"", null, 7, "Feed");
+        DeltaTracker.DeltaResult seenByB = trackerB.diff("https://example.com/feed.xml", items, null, true, null, null, 7, "Feed");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Long>> increments = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            SharedStateStore store = i % 2 == 0 ? runtimeA : runtimeB;
+            increments.add(executor.submit(() -> store.increment("rate-limit", "feeds.test|minute", Duration.ofMinutes(2))));
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Future<Long> increment : increments) {
+            counts.merge(increment.get(), 1, Integer::sum);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(cacheB.get("https://example.com/feed.xml")).isEqualTo(new CachedFeed("<rss>ü</rss>", "\"v1\"", null, 42));
+        assertThat(seenByB.firstSnapshot()).isFalse();
+        assertThat(seenByB.changed()).isEmpty();
+        assertThat(counts).hasSize(200).containsKeys(1L, 200L);
+        assertThat(runtimeA.increment("rate-limit", "feeds.test|minute", Duration.ofMinutes(2))).isEqualTo(201);
+    }
+
+    @Test
+    void shouldAssignEachFeedToOneNodeAndMoveFewFeedsWhenANodeLeaves() {
+        // Given
+        FeedOwnership three = new FeedOwnership(List.of("node-a", "node-b", "node-c"), "node-a");
+        FeedOwnership two = new FeedOwnership(List.of("node-a", "node-b"), "node-a");
+        Map<String, Integer> perNode = new HashMap<>();
+        int moved = 0;
+
+        // When
+        for (int i = 0; i < 3000; i++) {
+            String feedUrl = "https://feeds" + i % 50 + ".example.com/feed-" + i + ".xml";
+            String owner = three.owner(feedUrl);
+            perNode.merge(owner, 1, Integer::sum);
+            if (!owner.equals("node-c") && !owner.equals(two.owner(feedUrl))) {
+                moved++;
+            }
+        }
+
+        // Then
+        assertThat(perNode.values()).allSatisfy(count -> assertThat(count).isBetween(700, 1300));
+        assertThat(moved).isZero();
+        assertThat(new FeedOwnership(List.of(), "node-a").isLocal("https://example.com/feed.xml")).isTrue();
+    }
+}
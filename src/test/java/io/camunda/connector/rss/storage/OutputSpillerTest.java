@@ -0,0 +1,141 @@
+package io.camunda.connector.rss.storage;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.dto.RssFeedOutput;
+import io.camunda.connector.rss.dto.RssItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutputSpillerTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldKeepItemsInlineByDefault() {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+
+        // When
+        RssFeedOutput output = spiller().apply(outputWithItems(3, 10), input);
+
+        // Then
+        assertThat(output.getItems()).hasSize(3);
+        assertThat(output.getItemsDocument()).isNull();
+    }
+
+    @Test
+    void shouldSpillItemsToLocalFile() throws Exception {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setOutputMode(OutputSpiller.MODE_SPILL);
+
+        // When
+        RssFeedOutput output = spiller().apply(outputWithItems(3, 10), input);
+
+        // Then
+        assertThat(output.isSuccess()).isTrue();
+        assertThat(output.getItems()).isNull();
+        assertThat(output.getTotalItems()).isEqualTo(3);
+        assertThat(output.getFeedTitle()).isEqualTo("Feed");
+        assertThat(output.getItemsDocument().getStore()).isEqualTo(LocalFileDocumentStore.STORE_TYPE);
+        assertThat(output.getItemsDocument().getItemCount()).isEqualTo(3);
+        assertThat(output.getItemsDocument().getSha256()).hasSize(64);
+
+        Path file = Path.of(URI.create(output.getItemsDocument().getUri()));
+        assertThat(Files.size(file)).isEqualTo(output.getItemsDocument().getSize());
+        List<Map<String, Object>> items = new ObjectMapper().readValue(file.toFile(), new TypeReference<>() {});
+        assertThat(items).hasSize(3);
+        assertThat(items.get(0)).containsEntry("title", "Item 0");
+        assertThat(spillDirectory.toFile().list()).noneMatch(name -> name.endsWith(".part"));
+    }
+
+    @Test
+    void shouldSpillOnlyAboveThresholdInAutoMode() {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setOutputMode(OutputSpiller.MODE_AUTO);
+        input.setSpillThresholdBytes(10_000L);
+
+        // When
+        RssFeedOutput small = spiller().apply(outputWithItems(2, 100), input);
+        RssFeedOutput large = spiller().apply(outputWithItems(20, 5_000), input);
+
+        // Then
+        assertThat(small.getItems()).hasSize(2);
+        assertThat(small.getItemsDocument()).isNull();
+        assertThat(large.getItems()).isNull();
+        assertThat(large.getTotalItems()).isEqualTo(20);
+        assertThat(large.getItemsDocument().getSize()).isGreaterThan(100_000L);
+    }
+
+    @Test
+    void shouldKeepItemsInlineInAutoModeAndFailInSpillModeWhenTheStoreFails() {
+        // Given
+        OutputSpiller spiller = new OutputSpiller((fileName, contentType, writer) -> {
+            throw new IOException("store unavailable");
+        });
+        RssFeedInput auto = new RssFeedInput("https://example.com/feed.xml");
+        auto.setOutputMode(OutputSpiller.MODE_AUTO);
+        auto.setSpillThresholdBytes(10L);
+        RssFeedInput spill = new RssFeedInput("https://example.com/feed.xml");
+        spill.setOutputMode(OutputSpiller.MODE_SPILL);
+
+        // When
+        RssFeedOutput inline = spiller.apply(outputWithItems(3, 100), auto);
+        RssFeedOutput failed = spiller.apply(outputWithItems(3, 100), spill);
+
+        // Then
+        assertThat(inline.isSuccess()).isTrue();
+        assertThat(inline.getItems()).hasSize(3);
+        assertThat(inline.getItemsDocument()).isNull();
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getError()).contains("store unavailable");
+    }
+
+    @Test
+    void shouldNotSpillFailedOutput() {
+        // Given
+        RssFeedInput input = new RssFeedInput("https://example.com/feed.xml");
+        input.setOutputMode(OutputSpiller.MODE_SPILL);
+        RssFeedOutput failed = new RssFeedOutput(false, "boom");
+
+        // When
+        RssFeedOutput output = spiller().apply(failed, input);
+
+        // Then
+        assertThat(output).isSameAs(failed);
+        assertThat(output.getItemsDocument()).isNull();
+    }
+
+    private OutputSpiller spiller() {
+        return new OutputSpiller(new LocalFileDocumentStore(spillDirectory));
+    }
+
+    private static RssFeedOutput outputWithItems(int count, int contentLength) {
+        RssFeedOutput output = new RssFeedOutput();
+        output.setFeedTitle("Feed");
+        List<RssItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RssItem item = new RssItem();
+            item.setTitle("Item " + i);
+            item.setGuid("guid-" + i);
+            item.setContent("x".repeat(contentLength));
+            items.add(item);
+        }
+        output.setItems(items);
+        return output;
+    }
+}
@@ -0,0 +1,68 @@
+package io.camunda.connector.rss.warmup;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.reader.FeedFormat;
+import io.camunda.connector.rss.service.RssFeedService;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectorWarmupTest {
+
+    @Test
+    void shouldParseEmbeddedSamplesAndPrepareTheDefaultClient() throws Exception {
+        // Given
+        RssFeedService service = spy(new RssFeedService());
+
+        // When
+        boolean warmedUp = ConnectorWarmup.run(service);
+
+        // Then
+        assertThat(warmedUp).isTrue();
+        verify(service).prepareHttpClient(any(RssFeedInput.class));
+        verify(service, times(ConnectorWarmup.SAMPLE_FEEDS.size())).parseRssFeed(anyString(), any(RssFeedInput.class));
+        for (String sample : ConnectorWarmup.SAMPLE_FEEDS) {
+            try (InputStream in = ConnectorWarmup.class.getResourceAsStream(sample)) {
+                assertThat(in).as(sample).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    void shouldExerciseEveryFeedReaderIncludingRome() throws Exception {
+        // Given
+        Set<FeedFormat> formats = EnumSet.noneOf(FeedFormat.class);
+
+        // When
+        for (String sample : ConnectorWarmup.SAMPLE_FEEDS) {
+            try (InputStream in = ConnectorWarmup.class.getResourceAsStream(sample)) {
+                formats.add(FeedFormat.sniff(new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+        }
+
+        // Then - OTHER is the format read with ROME
+        assertThat(formats).containsExactlyInAnyOrder(FeedFormat.values());
+    }
+
+    @Test
+    void shouldReportFailuresWithoutThrowing() {
+        // Given
+        RssFeedService service = mock(RssFeedService.class);
+        when(service.parseRssFeed(anyString(), any(RssFeedInput.class))).thenThrow(new IllegalStateException("broken"));
+
+        // When / Then
+        assertThat(ConnectorWarmup.run(service)).isFalse();
+    }
+}
@@ -0,0 +1,223 @@
+package io.camunda.connector.rss.websub;
+
+import io.camunda.connector.rss.dto.RssFeedInput;
+import io.camunda.connector.rss.service.RssFeedService;
+import io.camunda.connector.rss.state.FeedOwnership;
+import io.camunda.connector.rss.state.SharedStateStore;
+import io.camunda.connector.rss.state.SharedStateStores;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests of the WebSub subscriber against a local stand-in hub
+ */
+class WebSubSubscriberTest {
+
+    private static final String TOPIC = "https://example.com/feed.xml";
+    private static final String CALLBACK = "https://connectors.example.com/inbound/news";
+
+    private static final String FEED = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<rss version=\"2.0\"><channel><title>Pushed</title><link>https://example.com</link>" +
+            "<description>Pushed feed</description>" +
+            "<item><title>First</title><link>https://example.com/1</link><guid>1</guid></item>" +
+            "<item><title>Second</title><link>https://example.com/2</link><guid>2</guid></item>" +
+            "</channel></rss>";
+
+    private MockWebServer hub;
+    private OkHttpClient subscriberClient;
+    private final SharedStateStore store = SharedStateStores.inMemory();
+    private WebSubSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        hub = new MockWebServer();
+        hub.start();
+
+        // Resolve the hub's public-looking host name to the local stand-in hub
+        subscriberClient = new OkHttpClient.Builder()
+                .dns(hostname -> List.of(InetAddress.getLoopbackAddress()))
+                .build();
+        subscriber = newSubscriber();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        subscriber.close();
+        hub.shutdown();
+    }
+
+    @Test
+    void shouldSubscribeVerifyAndReceiveSignedContent() throws Exception {
+        // Given
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        RssFeedInput filters = new RssFeedInput(TOPIC);
+        filters.setMaxItems(1);
+
+        // When - subscribe and let the hub verify the intent
+        WebSubSubscription subscription = subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, filters, 3600);
+        Map<String, String> form = recordedForm();
+        WebSubResponse verification = verify(subscription.getId(), form, "subscribe");
+
+        // Then
+        assertThat(form.get("hub.mode")).isEqualTo("subscribe");
+        assertThat(form.get("hub.topic")).isEqualTo(TOPIC);
+        assertThat(form.get("hub.callback")).isEqualTo(CALLBACK);
+        assertThat(form.get("hub.lease_seconds")).isEqualTo("3600");
+        assertThat(verification).isEqualTo(new WebSubResponse(200, "challenge-token"));
+        assertThat(subscriber.getSubscription(subscription.getId()).getState()).isEqualTo(WebSubSubscription.State.ACTIVE);
+        assertThat(subscriber.getSubscription(subscription.getId()).getLeaseExpiresAt()).isAfter(Instant.now());
+
+        // When - the hub distributes signed content
+        byte[] body = FEED.getBytes(StandardCharsets.UTF_8);
+        WebSubResponse delivery = subscriber.handleContentDelivery(subscription.getId(),
+                WebSubSignature.sign("sha256", form.get("hub.secret"), body), body);
+
+        // Then - content passes through the regular filter pipeline
+        assertThat(delivery.status()).isEqualTo(200);
+        assertThat(delivery.output().getFeedTitle()).isEqualTo("Pushed");
+        assertThat(delivery.output().getItems()).hasSize(1);
+    }
+
+    @Test
+    void shouldIgnoreContentWithInvalidSignature() throws Exception {
+        // Given
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        WebSubSubscription subscription = subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, new RssFeedInput(TOPIC), 3600);
+        verify(subscription.getId(), recordedForm(), "subscribe");
+        byte[] body = FEED.getBytes(StandardCharsets.UTF_8);
+
+        // When
+        WebSubResponse unsigned = subscriber.handleContentDelivery(subscription.getId(), null, body);
+        WebSubResponse forged = subscriber.handleContentDelivery(subscription.getId(),
+                WebSubSignature.sign("sha256", "wrong-secret", body), body);
+
+        // Then
+        assertThat(unsigned).isEqualTo(new WebSubResponse(202, ""));
+        assertThat(forged).isEqualTo(new WebSubResponse(202, ""));
+    }
+
+    @Test
+    void shouldResumeStoredSubscriptionAfterRestart() throws Exception {
+        // Given
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        WebSubSubscription subscription = subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, new RssFeedInput(TOPIC), 3600);
+        Map<String, String> form = recordedForm();
+        verify(subscription.getId(), form, "subscribe");
+        subscriber.release(subscription.getId());
+        subscriber.close();
+
+        // When - a new runtime sharing the store reactivates the connector
+        subscriber = newSubscriber();
+        WebSubSubscription resumed = subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, new RssFeedInput(TOPIC), 3600);
+        byte[] body = FEED.getBytes(StandardCharsets.UTF_8);
+        WebSubResponse delivery = subscriber.handleContentDelivery(resumed.getId(),
+                WebSubSignature.sign("sha256", form.get("hub.secret"), body), body);
+
+        // Then - no new request to the hub, and content signed with the original secret is accepted
+        assertThat(resumed.getId()).isEqualTo(subscription.getId());
+        assertThat(resumed.getState()).isEqualTo(WebSubSubscription.State.ACTIVE);
+        assertThat(hub.getRequestCount()).isEqualTo(1);
+        assertThat(delivery.status()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldRejectVerificationForUnknownTopic() throws Exception {
+        // Given
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        WebSubSubscription subscription = subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, new RssFeedInput(TOPIC), 3600);
+        Map<String, String> form = recordedForm();
+        form.put("hub.topic", "https://example.com/other.xml");
+
+        // When
+        WebSubResponse response = verify(subscription.getId(), form, "subscribe");
+
+        // Then
+        assertThat(response.status()).isEqualTo(404);
+    }
+
+    @Test
+    void shouldRenewLeaseBeforeExpiryAndRetryUnverifiedSubscriptions() throws Exception {
+        // Given
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        hub.enqueue(new MockResponse().setResponseCode(202));
+        WebSubSubscription subscription = subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, new RssFeedInput(TOPIC), 3600);
+        recordedForm();
+
+        // When - the hub has not verified the intent
+        int retried = subscriber.renewDueSubscriptions(Instant.now().plus(WebSubSubscription.PENDING_RETRY));
+        verify(subscription.getId(), recordedForm(), "subscribe");
+        int notYetDue = subscriber.renewDueSubscriptions(Instant.now());
+        int due = subscriber.renewDueSubscriptions(
+                subscriber.getSubscription(subscription.getId()).getLeaseExpiresAt().minusSeconds(30));
+
+        // Then
+        assertThat(retried).isEqualTo(1);
+        assertThat(notYetDue).isZero();
+        assertThat(due).isEqualTo(1);
+        assertThat(recordedForm().get("hub.mode")).isEqualTo("subscribe");
+    }
+
+    @Test
+    void shouldFailWhenHubRejectsSubscription() {
+        // Given
+        hub.enqueue(new MockResponse().setResponseCode(400));
+
+        // When & Then
+        assertThatThrownBy(() -> subscriber.subscribe(hubUrl(), TOPIC, CALLBACK, new RssFeedInput(TOPIC), 3600))
+                .hasMessageContaining("status 400");
+        assertThat(subscriber.getSubscriptions()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectPrivateHubUrl() {
+        // When & Then
+        assertThatThrownBy(() -> subscriber.subscribe("http://127.0.0.1:" + hub.getPort() + "/hub", TOPIC, CALLBACK,
+                new RssFeedInput(TOPIC), 3600))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    private WebSubSubscriber newSubscriber() {
+        return new WebSubSubscriber(new RssFeedService(), subscriberClient, store, new FeedOwnership(List.of(), ""));
+    }
+
+    private String hubUrl() {
+        return "http://hub.test:" + hub.getPort() + "/hub";
+    }
+
+    private Map<String, String> recordedForm() throws InterruptedException {
+        RecordedRequest request = hub.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        Map<String, String> form = new HashMap<>();
+        for (String pair : request.getBody().readUtf8().split("&")) {
+            String[] parts = pair.split("=", 2);
+            form.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8), URLDecoder.decode(parts[1], StandardCharsets.UTF_8));
+        }
+        return form;
+    }
+
+    private WebSubResponse verify(String subscriptionId, Map<String, String> form, String mode) {
+        return subscriber.handleVerification(subscriptionId, Map.of(
+                "hub.mode", mode,
+                "hub.topic", form.get("hub.topic"),
+                "hub.challenge", "challenge-token",
+                "hub.lease_seconds", "3600"));
+    }
+}